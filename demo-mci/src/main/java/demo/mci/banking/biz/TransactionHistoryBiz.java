@@ -7,11 +7,10 @@ import demo.mci.common.DemoMessageCodes;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
+import springware.mci.common.layout.RecordStream;
 import springware.mci.server.core.MessageContext;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 거래내역조회 비즈니스 로직
@@ -63,11 +62,14 @@ public class TransactionHistoryBiz extends AbstractBankBiz {
         response.setField("rspCode", DemoConstants.RSP_SUCCESS);
         response.setField("recordCount", transactions.size());
 
-        // 반복부 데이터 변환
-        List<Map<String, Object>> records = transactions.stream()
-                .map(TransactionRepository.Transaction::toMap)
-                .collect(Collectors.toList());
-        response.setField("records", records);
+        // 반복부는 인코딩 시 거래 객체에서 응답 버퍼로 바로 기록 (레코드 맵 생성 없음)
+        response.setField("records", RecordStream.of(transactions, (tx, record) -> record
+                .set("txDate", tx.getTxDate())
+                .set("txTime", tx.getTxTime())
+                .set("txType", tx.getTxType())
+                .set("amount", tx.getAmount())
+                .set("balance", tx.getBalance())
+                .set("memo", tx.getMemo())));
 
         log.info("Found {} transactions for account: {}", transactions.size(), maskAccount(accountNo));
         return response;
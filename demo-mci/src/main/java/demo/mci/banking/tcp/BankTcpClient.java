@@ -5,12 +5,14 @@ import demo.mci.common.DemoLayoutRegistry;
 import demo.mci.common.DemoMessageCodes;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.config.ClientConfig;
+import springware.mci.client.core.CorrelationKeyExtractor;
 import springware.mci.client.tcp.TcpClient;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.protocol.LengthFieldType;
 import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
 
 import java.util.List;
 import java.util.Map;
@@ -26,6 +28,25 @@ public class BankTcpClient {
     private final AtomicLong sequenceNo = new AtomicLong(0);
 
     public BankTcpClient(String host, int port) {
+        this(host, port, IoTransport.AUTO);
+    }
+
+    /**
+     * @param host        서버 호스트
+     * @param port        서버 포트
+     * @param ioTransport I/O 전송 구현 (NIO, EPOLL 등)
+     */
+    public BankTcpClient(String host, int port, IoTransport ioTransport) {
+        this(host, port, ioTransport, false);
+    }
+
+    /**
+     * @param host               서버 호스트
+     * @param port               서버 포트
+     * @param ioTransport        I/O 전송 구현 (NIO, EPOLL 등)
+     * @param flushConsolidation 요청 플러시 통합 사용 여부
+     */
+    public BankTcpClient(String host, int port, IoTransport ioTransport, boolean flushConsolidation) {
         // 레이아웃 등록
         DemoLayoutRegistry registry = new DemoLayoutRegistry();
         LayoutManager layoutManager = registry.getLayoutManager();
@@ -47,6 +68,10 @@ public class BankTcpClient {
                 .protocolConfig(protocolConfig)
                 .connectTimeout(DemoConstants.CONNECT_TIMEOUT)
                 .readTimeout(DemoConstants.READ_TIMEOUT)
+                // 서버가 요청의 거래일련번호를 응답에 그대로 돌려주므로 이를 기준으로 응답 매칭
+                .correlationKeyExtractor(CorrelationKeyExtractor.field("seqNo"))
+                .ioTransport(ioTransport)
+                .flushConsolidation(flushConsolidation)
                 .build();
 
         client = new TcpClient(config, layoutManager, new springware.mci.common.logging.DefaultMessageLogger());
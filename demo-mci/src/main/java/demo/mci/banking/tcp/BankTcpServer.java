@@ -3,16 +3,20 @@ package demo.mci.banking.tcp;
 import demo.mci.banking.biz.*;
 import demo.mci.common.DemoConstants;
 import demo.mci.common.DemoLayoutRegistry;
+import demo.mci.common.DemoMessageCodes;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.protocol.LengthFieldType;
 import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
 import springware.mci.server.biz.Biz;
 import springware.mci.server.biz.BizRegistry;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.MessageContext;
+import springware.mci.server.dispatch.DispatchConfig;
+import springware.mci.server.dispatch.LaneConfig;
 import springware.mci.server.tcp.TcpServer;
 
 /**
@@ -26,6 +30,23 @@ public class BankTcpServer {
     private final BizRegistry bizRegistry;
 
     public BankTcpServer(int port) {
+        this(port, IoTransport.AUTO);
+    }
+
+    /**
+     * @param port        바인딩 포트
+     * @param ioTransport I/O 전송 구현 (NIO, EPOLL 등)
+     */
+    public BankTcpServer(int port, IoTransport ioTransport) {
+        this(port, ioTransport, false);
+    }
+
+    /**
+     * @param port               바인딩 포트
+     * @param ioTransport        I/O 전송 구현 (NIO, EPOLL 등)
+     * @param flushConsolidation 응답 플러시 통합 사용 여부
+     */
+    public BankTcpServer(int port, IoTransport ioTransport, boolean flushConsolidation) {
         // 레이아웃 등록
         DemoLayoutRegistry registry = new DemoLayoutRegistry();
         LayoutManager layoutManager = registry.getLayoutManager();
@@ -39,11 +60,22 @@ public class BankTcpServer {
                 .initialBytesToStrip(4)
                 .build();
 
+        // 핸들러 실행 설정 (업무 Biz는 스레드 풀, 하트비트/에코는 이벤트 루프에서 바로 처리)
+        // 클라이언트가 seqNo로 응답을 매칭하므로 응답 순서가 바뀌어도 된다.
+        DispatchConfig dispatchConfig = DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(0, 1024))
+                .lane(DemoMessageCodes.HEARTBEAT_REQ, LaneConfig.inline())
+                .lane(DemoMessageCodes.ECHO_REQ, LaneConfig.inline())
+                .build();
+
         // 서버 설정
         ServerConfig config = ServerConfig.builder()
                 .serverId("bank-tcp-server")
                 .port(port)
                 .protocolConfig(protocolConfig)
+                .ioTransport(ioTransport)
+                .dispatchConfig(dispatchConfig)
+                .flushConsolidation(flushConsolidation)
                 .build();
 
         server = new TcpServer(config, layoutManager, new springware.mci.common.logging.DefaultMessageLogger());
@@ -104,6 +136,7 @@ public class BankTcpServer {
 
         response.setField("msgCode", request.getMessageCode().substring(0, 3) + "2");
         response.setField("rspCode", DemoConstants.RSP_SYSTEM_ERROR);
+        response.setField("seqNo", request.getString("seqNo"));
         return response;
     }
 
@@ -145,6 +178,7 @@ public class BankTcpServer {
 
             response.setField("msgCode", request.getMessageCode().substring(0, 3) + "2");
             response.setField("rspCode", DemoConstants.RSP_SYSTEM_ERROR);
+            response.setField("seqNo", request.getString("seqNo"));
             return response;
         }
 
@@ -5,6 +5,7 @@ import demo.mci.common.DemoLayoutRegistry;
 import demo.mci.common.DemoMessageCodes;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.config.ClientConfig;
+import springware.mci.client.core.CorrelationKeyExtractor;
 import springware.mci.client.tcp.TcpClient;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
@@ -47,6 +48,8 @@ public class CardTcpClient {
                 .protocolConfig(protocolConfig)
                 .connectTimeout(DemoConstants.CONNECT_TIMEOUT)
                 .readTimeout(DemoConstants.READ_TIMEOUT)
+                // 서버가 요청의 거래일련번호를 응답에 그대로 돌려주므로 이를 기준으로 응답 매칭
+                .correlationKeyExtractor(CorrelationKeyExtractor.field("seqNo"))
                 .build();
 
         client = new TcpClient(config, layoutManager, new springware.mci.common.logging.DefaultMessageLogger());
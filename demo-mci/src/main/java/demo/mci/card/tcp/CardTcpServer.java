@@ -102,6 +102,7 @@ public class CardTcpServer {
         String msgCode = request.getMessageCode();
         response.setField("msgCode", msgCode != null && msgCode.length() >= 3 ? msgCode.substring(0, 3) + "2" : "ERR2");
         response.setField("rspCode", DemoConstants.RSP_SYSTEM_ERROR);
+        response.setField("seqNo", request.getString("seqNo"));
         return response;
     }
 
@@ -144,6 +145,7 @@ public class CardTcpServer {
             String msgCode = request.getMessageCode();
             response.setField("msgCode", msgCode != null && msgCode.length() >= 3 ? msgCode.substring(0, 3) + "2" : "ERR2");
             response.setField("rspCode", DemoConstants.RSP_SYSTEM_ERROR);
+            response.setField("seqNo", request.getString("seqNo"));
             return response;
         }
 
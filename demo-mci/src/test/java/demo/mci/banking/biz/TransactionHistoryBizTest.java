@@ -6,7 +6,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import springware.mci.common.core.Message;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.layout.RecordStream;
+import springware.mci.common.layout.YamlLayoutLoader;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -160,6 +165,25 @@ class TransactionHistoryBizTest {
         assertThat(firstDate.compareTo(lastDate)).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    @DisplayName("스트리밍 반복부 인코딩 결과가 레코드 맵 목록과 동일")
+    void streamingRecordsEncodeSameAsMaps() {
+        // given
+        MessageLayout layout = new YamlLayoutLoader().loadFromClasspath("/layouts/TXH2.yaml");
+        Message response = biz.execute(createRequest("1234567890123456789", "20240101", "20240115"), null);
+        assertThat((Object) response.getField("records")).isInstanceOf(RecordStream.class);
+
+        // when
+        byte[] streamed = layout.encode(response, StandardCharsets.UTF_8);
+        response.setField("records", new ArrayList<>(response.<List<Map<String, Object>>>getField("records")));
+        byte[] fromMaps = layout.encode(response, StandardCharsets.UTF_8);
+
+        // then
+        assertThat(streamed).isEqualTo(fromMaps);
+        assertThat(layout.decode(streamed, StandardCharsets.UTF_8).<List<?>>getField("records"))
+                .hasSize(((Number) response.getField("recordCount")).intValue());
+    }
+
     private Message createRequest(String accountNo, String fromDate, String toDate) {
         Message request = Message.builder()
                 .messageCode(DemoMessageCodes.TX_HISTORY_REQ)
@@ -10,6 +10,12 @@ import springware.mci.common.core.Message;
 
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -323,4 +329,27 @@ class ClientServerIntegrationTest {
         // 6. 에코 확인
         assertThat(client.echo("Transaction Complete").getString("echoData")).isEqualTo("Transaction Complete");
     }
+
+    // ==================== Multiplexing Tests ====================
+
+    @Test
+    @Order(50)
+    @DisplayName("하나의 연결에서 동시 요청 시 각 응답이 자신의 요청에 매칭")
+    void concurrentRequests_matchedBySeqNo() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Message>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                String data = "concurrent-" + i;
+                futures.add(executor.submit(() -> client.echo(data)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                Message response = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(response.getString("echoData")).isEqualTo("concurrent-" + i);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,275 @@
+package springware.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사전 파싱된 날짜/시간 표현식
+ *
+ * {@link DateUtils#evaluateDateExpression(String)}와 같은 결과를 내지만, 표현식은 생성 시 한 번만 파싱하고
+ * 평가 결과는 시계 구간(DATE는 하루, TIME/DATETIME은 1초)마다 한 번만 포맷하여 캐시한다.
+ * 구간 안에서의 평가는 시계 조회와 캐시 비교만 수행한다.
+ * <pre>
+ * DateExpression expression = DateExpression.parse("${DATE:yyyyMMdd:-1d}");
+ * String yesterday = expression.evaluate();
+ * </pre>
+ */
+public final class DateExpression {
+
+    private static final Pattern ARITHMETIC_PATTERN = Pattern.compile("([+-])(\\d+)([dMy])");
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /**
+     * 평가 단위
+     */
+    private enum Unit {
+        /**
+         * 표현식이 아닌 고정 문자열
+         */
+        LITERAL,
+        /**
+         * 날짜 (하루 단위 캐시)
+         */
+        DATE,
+        /**
+         * 시각/일시 (초 단위 캐시)
+         */
+        SECOND,
+        /**
+         * 초 미만 필드가 있는 시각/일시 (밀리초 단위 캐시)
+         */
+        MILLI
+    }
+
+    private final String expression;
+    private final Unit unit;
+    private final boolean timeOnly;
+    private final DateTimeFormatter formatter;
+
+    /**
+     * 날짜 연산 (일 단위 d, 월 단위 M, 년 단위 y, 월초 F, 월말 L, 없으면 0)
+     */
+    private final char adjustUnit;
+    private final int adjustAmount;
+
+    private final Clock clock;
+
+    private volatile Tick tick;
+
+    private DateExpression(String expression, Unit unit, boolean timeOnly, String pattern, char adjustUnit,
+                           int adjustAmount, Clock clock) {
+        this.expression = expression;
+        this.unit = unit;
+        this.timeOnly = timeOnly;
+        this.formatter = pattern != null ? DateUtils.getFormatter(pattern) : null;
+        this.adjustUnit = adjustUnit;
+        this.adjustAmount = adjustAmount;
+        this.clock = clock;
+        if (unit == Unit.LITERAL) {
+            this.tick = new Tick(Long.MIN_VALUE, Long.MAX_VALUE, expression);
+        }
+    }
+
+    /**
+     * 표현식 파싱 (시스템 기본 시간대)
+     *
+     * @param expression 날짜/시간 표현식 (형식이 맞지 않으면 원본 문자열을 그대로 반환하는 평가기)
+     * @return 평가기 (expression이 null이면 null)
+     * @throws IllegalArgumentException 포맷 패턴이 잘못된 경우
+     */
+    public static DateExpression parse(String expression) {
+        return parse(expression, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 표현식 파싱
+     *
+     * @param expression 날짜/시간 표현식
+     * @param clock      기준 시계
+     * @return 평가기 (expression이 null이면 null)
+     * @throws IllegalArgumentException 포맷 패턴이 잘못된 경우
+     */
+    public static DateExpression parse(String expression, Clock clock) {
+        if (expression == null) {
+            return null;
+        }
+        Matcher matcher = expression.startsWith("${") ? DateUtils.DATE_EXPRESSION_PATTERN.matcher(expression) : null;
+        if (matcher == null || !matcher.matches()) {
+            return new DateExpression(expression, Unit.LITERAL, false, null, '0', 0, clock);
+        }
+
+        String type = matcher.group(1);
+        String pattern = matcher.group(2);
+        String modifier = matcher.group(3);
+        boolean hasModifier = modifier != null && !modifier.isEmpty();
+
+        if ("TIME".equals(type) || ("DATETIME".equals(type) && !hasModifier)) {
+            Unit unit = hasSubSecondField(pattern) ? Unit.MILLI : Unit.SECOND;
+            return new DateExpression(expression, unit, "TIME".equals(type), pattern, '0', 0, clock);
+        }
+
+        // DATE 및 연산자가 있는 DATETIME (DateUtils와 동일하게 날짜 기준으로 평가)
+        char adjustUnit = '0';
+        int adjustAmount = 0;
+        if (hasModifier) {
+            String lower = modifier.toLowerCase();
+            Matcher arithmetic = ARITHMETIC_PATTERN.matcher(modifier);
+            if ("DATE".equals(type) && "firstdayofmonth".equals(lower)) {
+                adjustUnit = 'F';
+            } else if ("DATE".equals(type) && "lastdayofmonth".equals(lower)) {
+                adjustUnit = 'L';
+            } else if (arithmetic.matches()) {
+                adjustUnit = arithmetic.group(3).charAt(0);
+                adjustAmount = Integer.parseInt(arithmetic.group(2));
+                if ("-".equals(arithmetic.group(1))) {
+                    adjustAmount = -adjustAmount;
+                }
+            }
+        }
+        return new DateExpression(expression, Unit.DATE, false, pattern, adjustUnit, adjustAmount, clock);
+    }
+
+    /**
+     * 원본 표현식
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 표현식 평가
+     */
+    public String evaluate() {
+        return current().value;
+    }
+
+    /**
+     * 평가 결과를 대상 배열에 복사 (ASCII 결과이고 길이가 같은 경우만)
+     *
+     * 캐시된 바이트를 그대로 복사하므로 ASCII 호환 문자셋에서만 사용한다.
+     *
+     * @return 복사했으면 true (false면 {@link #evaluate()} 결과로 인코딩해야 함)
+     */
+    public boolean copyAscii(byte[] dst, int pos, int length) {
+        byte[] bytes = current().ascii;
+        if (bytes == null || bytes.length != length) {
+            return false;
+        }
+        System.arraycopy(bytes, 0, dst, pos, length);
+        return true;
+    }
+
+    private Tick current() {
+        Tick current = this.tick;
+        if (unit == Unit.LITERAL) {
+            return current;
+        }
+        long now = clock.millis();
+        if (current == null || now < current.from || now >= current.until) {
+            current = refresh(now);
+            this.tick = current;
+        }
+        return current;
+    }
+
+    private Tick refresh(long now) {
+        ZoneId zone = clock.getZone();
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zone);
+        switch (unit) {
+            case DATE: {
+                LocalDate today = dateTime.toLocalDate();
+                long from = today.atStartOfDay(zone).toInstant().toEpochMilli();
+                long until = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+                return new Tick(from, until, adjust(today).format(formatter));
+            }
+            case SECOND: {
+                long from = Math.floorDiv(now, MILLIS_PER_SECOND) * MILLIS_PER_SECOND;
+                return new Tick(from, from + MILLIS_PER_SECOND, format(dateTime));
+            }
+            default:
+                return new Tick(now, now + 1, format(dateTime));
+        }
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return timeOnly ? dateTime.toLocalTime().format(formatter) : dateTime.format(formatter);
+    }
+
+    private LocalDate adjust(LocalDate date) {
+        switch (adjustUnit) {
+            case 'd':
+                return date.plusDays(adjustAmount);
+            case 'M':
+                return date.plusMonths(adjustAmount);
+            case 'y':
+                return date.plusYears(adjustAmount);
+            case 'F':
+                return date.with(TemporalAdjusters.firstDayOfMonth());
+            case 'L':
+                return date.with(TemporalAdjusters.lastDayOfMonth());
+            default:
+                return date;
+        }
+    }
+
+    /**
+     * 포맷 패턴에 초 미만 필드(S, n, N, A)가 있는지 확인 (작은따옴표 안의 문자는 제외)
+     */
+    private static boolean hasSubSecondField(String pattern) {
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && (c == 'S' || c == 'n' || c == 'N' || c == 'A')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * 캐시 구간과 평가 결과
+     */
+    private static final class Tick {
+
+        private final long from;
+        private final long until;
+        private final String value;
+
+        /**
+         * ASCII 바이트 (ASCII가 아닌 문자가 있으면 null)
+         */
+        private final byte[] ascii;
+
+        private Tick(long from, long until, String value) {
+            this.from = from;
+            this.until = until;
+            this.value = value;
+            this.ascii = isAscii(value) ? value.getBytes(StandardCharsets.US_ASCII) : null;
+        }
+
+        private static boolean isAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -22,7 +22,7 @@ public final class DateUtils {
     public static final String PATTERN_DATETIME_MILLIS = "yyyyMMddHHmmssSSS";
 
     // 날짜 연산 패턴: ${DATE:yyyyMMdd:-1d}
-    private static final Pattern DATE_EXPRESSION_PATTERN =
+    static final Pattern DATE_EXPRESSION_PATTERN =
         Pattern.compile("\\$\\{(DATE|TIME|DATETIME):([^:}]+)(?::([^}]+))?\\}");
 
     private DateUtils() {
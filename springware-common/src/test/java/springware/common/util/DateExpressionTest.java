@@ -0,0 +1,129 @@
+package springware.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사전 파싱 날짜 표현식 테스트
+ */
+@DisplayName("날짜 표현식 테스트")
+class DateExpressionTest {
+
+    private static final ZoneId ZONE = ZoneOffset.ofHours(9);
+
+    /**
+     * 시각을 직접 옮길 수 있는 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        private void set(LocalDateTime dateTime) {
+            this.instant = dateTime.atZone(ZONE).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 연산과 월초/월말 평가")
+    void evaluateDate() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 3, 1, 10, 0));
+
+        assertThat(DateExpression.parse("${DATE:yyyyMMdd}", clock).evaluate()).isEqualTo("20240301");
+        assertThat(DateExpression.parse("${DATE:yyyyMMdd:-1d}", clock).evaluate()).isEqualTo("20240229");
+        assertThat(DateExpression.parse("${DATE:yyyyMMdd:+1M}", clock).evaluate()).isEqualTo("20240401");
+        assertThat(DateExpression.parse("${DATE:yyyy-MM-dd:-1y}", clock).evaluate()).isEqualTo("2023-03-01");
+        assertThat(DateExpression.parse("${DATE:yyyyMMdd:lastDayOfMonth}", clock).evaluate()).isEqualTo("20240331");
+        assertThat(DateExpression.parse("${DATE:yyyyMMdd:unknown}", clock).evaluate()).isEqualTo("20240301");
+        assertThat(DateExpression.parse("${DATETIME:yyyyMMddHHmmss}", clock).evaluate()).isEqualTo("20240301100000");
+        assertThat(DateExpression.parse("${TIME:HHmmss}", clock).evaluate()).isEqualTo("100000");
+    }
+
+    @Test
+    @DisplayName("표현식이 아니면 원본 문자열, null이면 null")
+    void literal() {
+        assertThat(DateExpression.parse("ABC").evaluate()).isEqualTo("ABC");
+        assertThat(DateExpression.parse("${TODAY}").evaluate()).isEqualTo("${TODAY}");
+        assertThat(DateExpression.parse(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("DateUtils 평가 결과와 동일")
+    void sameAsDateUtils() {
+        for (String expression : new String[]{"${DATE:yyyyMMdd}", "${DATE:yyyyMMdd:+3d}",
+                "${DATE:yyyyMMdd:firstDayOfMonth}", "${DATETIME:yyyyMMdd:-1d}"}) {
+            assertThat(DateExpression.parse(expression).evaluate())
+                    .isEqualTo(DateUtils.evaluateDateExpression(expression));
+        }
+    }
+
+    @Test
+    @DisplayName("구간이 바뀔 때만 다시 포맷 (DATE는 하루, TIME은 1초)")
+    void cachedPerTick() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 3, 1, 23, 59, 59));
+        DateExpression date = DateExpression.parse("${DATE:yyyyMMdd}", clock);
+        DateExpression time = DateExpression.parse("${TIME:HHmmss}", clock);
+
+        String today = date.evaluate();
+        String now = time.evaluate();
+        assertThat(date.evaluate()).isSameAs(today);
+        assertThat(time.evaluate()).isSameAs(now);
+
+        clock.set(LocalDateTime.of(2024, 3, 1, 23, 59, 59, 900_000_000));
+        assertThat(time.evaluate()).isSameAs(now);
+
+        clock.set(LocalDateTime.of(2024, 3, 2, 0, 0, 0));
+        assertThat(date.evaluate()).isEqualTo("20240302");
+        assertThat(time.evaluate()).isEqualTo("000000");
+
+        // 시계가 뒤로 가도 해당 구간 값으로 평가
+        clock.set(LocalDateTime.of(2024, 3, 1, 12, 0, 0));
+        assertThat(date.evaluate()).isEqualTo("20240301");
+    }
+
+    @Test
+    @DisplayName("ASCII 결과는 길이가 같을 때만 바이트 복사")
+    void copyAscii() {
+        MutableClock clock = new MutableClock(LocalDateTime.of(2024, 3, 1, 10, 0));
+        DateExpression date = DateExpression.parse("${DATE:yyyyMMdd}", clock);
+        byte[] dst = new byte[10];
+
+        assertThat(date.copyAscii(dst, 1, 8)).isTrue();
+        assertThat(new String(dst, 1, 8)).isEqualTo("20240301");
+        assertThat(date.copyAscii(dst, 0, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 포맷 패턴은 파싱 시 예외")
+    void invalidPattern() {
+        assertThatThrownBy(() -> DateExpression.parse("${DATE:yyyyMMdd{}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package springware.mci.bench;
+
+import demo.mci.common.DemoLayoutRegistry;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.LayoutManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 메시지/레이아웃
+ *
+ * 데모 YAML 레이아웃(TRF1 이체 요청, TXH2 거래내역 응답)과 같은 구성의 메시지를 만든다.
+ */
+public final class BenchMessages {
+
+    public static final String TRANSFER = "TRF1";
+    public static final String TX_HISTORY = "TXH2";
+
+    private BenchMessages() {
+    }
+
+    /**
+     * 데모 레이아웃이 등록된 레이아웃 관리자
+     */
+    public static LayoutManager demoLayouts() {
+        return new DemoLayoutRegistry().getLayoutManager();
+    }
+
+    /**
+     * 이체 요청 메시지 (TRF1, 고정 길이)
+     */
+    public static Message transfer() {
+        Message message = Message.builder().messageCode(TRANSFER).build();
+        message.setField("msgCode", TRANSFER);
+        message.setField("orgCode", "001");
+        message.setField("txDate", "20240115");
+        message.setField("txTime", "143022");
+        message.setField("seqNo", "0000012345");
+        message.setField("fromAccount", "1101234567890");
+        message.setField("toAccount", "2209876543210");
+        message.setField("amount", 1500000L);
+        message.setField("memo", "rent");
+        return message;
+    }
+
+    /**
+     * 거래내역 응답 메시지 (TXH2, 반복부 포함)
+     *
+     * @param recordCount 반복 건수
+     */
+    public static Message transactionHistory(int recordCount) {
+        Message message = Message.builder().messageCode(TX_HISTORY).build();
+        message.setField("msgCode", TX_HISTORY);
+        message.setField("orgCode", "001");
+        message.setField("txDate", "20240115");
+        message.setField("txTime", "143022");
+        message.setField("seqNo", "0000012345");
+        message.setField("rspCode", "0000");
+        message.setField("accountNo", "1101234567890");
+        message.setField("recordCount", recordCount);
+
+        List<Map<String, Object>> records = new ArrayList<>(recordCount);
+        long balance = 10_000_000L;
+        for (int i = 0; i < recordCount; i++) {
+            long amount = 1000L * (i + 1);
+            boolean deposit = i % 2 == 0;
+            balance += deposit ? amount : -amount;
+
+            Map<String, Object> record = new HashMap<>();
+            record.put("txDate", "20240115");
+            record.put("txTime", String.format("%06d", 90000 + i % 60000));
+            record.put("txType", deposit ? "1" : "2");
+            record.put("amount", amount);
+            record.put("balance", balance);
+            record.put("memo", deposit ? "DEP" : "WDR");
+            records.add(record);
+        }
+        message.setField("records", records);
+        return message;
+    }
+}
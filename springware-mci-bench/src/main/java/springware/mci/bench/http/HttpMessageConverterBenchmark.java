@@ -0,0 +1,61 @@
+package springware.mci.bench.http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.BenchMessages;
+import springware.mci.common.core.Message;
+import springware.mci.common.http.HttpMessageConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP JSON 변환 벤치마크
+ *
+ * 고정 길이 이체 요청(TRF1)과 50건 거래내역 응답(TXH2)을 JSON으로 직렬화/역직렬화한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar HttpMessageConverterBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpMessageConverterBenchmark {
+
+    @Param({BenchMessages.TRANSFER, BenchMessages.TX_HISTORY})
+    private String messageCode;
+
+    private HttpMessageConverter converter;
+    private Message message;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new HttpMessageConverter();
+        message = BenchMessages.TRANSFER.equals(messageCode)
+                ? BenchMessages.transfer()
+                : BenchMessages.transactionHistory(50);
+        json = converter.toJson(message);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return converter.toJson(message);
+    }
+
+    @Benchmark
+    public Message fromJson() {
+        return converter.fromJson(json);
+    }
+}
@@ -0,0 +1,187 @@
+package springware.mci.bench.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.layout.generated.Trf1Codec;
+import springware.mci.bench.layout.generated.Trf1Message;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.FieldType;
+import springware.mci.common.layout.LayoutCodec;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.layout.RuntimeLayoutCodecs;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 길이 레이아웃 인코딩/디코딩 벤치마크
+ *
+ * 기존 문자열 기반 코덱(LegacyLayoutCodec), CompiledLayout 기반 MessageLayout,
+ * LayoutCodecGenerator로 생성한 전용 코덱(Trf1Codec, 범용/타입 지정 메시지),
+ * RuntimeLayoutCodecs로 실행 중 정의한 히든 클래스 코덱을 비교한다.
+ * 레이아웃은 데모 이체 요청(TRF1, 135바이트)과 동일한 구성이다.
+ * stamped 계열은 거래일자/시각을 비워 두어 날짜 표현식으로 채우는 경우이다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar LayoutCodecBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LayoutCodecBenchmark {
+
+    @Param({"UTF-8", "EUC-KR"})
+    private String charsetName;
+
+    private Charset charset;
+    private MessageLayout layout;
+    private Message message;
+    private Message stamped;
+    private byte[] encoded;
+    private byte[] target;
+    private ByteBuf directBuffer;
+    private Trf1Codec generated;
+    private Trf1Message typed;
+    private LayoutCodec runtime;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        charset = Charset.forName(charsetName);
+        layout = MessageLayout.builder("TRF1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("orgCode", 3))
+                .field(FieldDefinition.builder().name("txDate").length(8).type(FieldType.DATE)
+                        .expression("${DATE:yyyyMMdd}").build())
+                .field(FieldDefinition.builder().name("txTime").length(6).type(FieldType.TIME)
+                        .expression("${TIME:HHmmss}").build())
+                .field("seqNo", 10, FieldType.NUMERIC_STRING)
+                .field(FieldDefinition.builder().name("rspCode").length(4).defaultValue("0000").build())
+                .field(FieldDefinition.string("filler", 15))
+                .field(FieldDefinition.masked("fromAccount", 20, FieldType.STRING))
+                .field(FieldDefinition.masked("toAccount", 20, FieldType.STRING))
+                .field(FieldDefinition.number("amount", 15))
+                .field(FieldDefinition.string("memo", 30))
+                .build();
+
+        message = Message.builder().messageCode("TRF1").build();
+        message.setField("msgCode", "TRF1");
+        message.setField("orgCode", "001");
+        message.setField("txDate", "20240115");
+        message.setField("txTime", "143022");
+        message.setField("seqNo", "0000012345");
+        message.setField("fromAccount", "1101234567890");
+        message.setField("toAccount", "2209876543210");
+        message.setField("amount", 1500000L);
+        message.setField("memo", "rent");
+
+        stamped = Message.builder().messageCode("TRF1").build();
+        stamped.getFields().putAll(message.getFields());
+        stamped.getFields().remove("txDate");
+        stamped.getFields().remove("txTime");
+
+        encoded = LegacyLayoutCodec.encode(layout, message, charset);
+        target = new byte[layout.getTotalLength()];
+        directBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(layout.getTotalLength());
+        generated = new Trf1Codec();
+        typed = Trf1Message.from(message);
+        runtime = RuntimeLayoutCodecs.define(layout);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        directBuffer.release();
+    }
+
+    @Benchmark
+    public byte[] encodeLegacy() {
+        return LegacyLayoutCodec.encode(layout, message, charset);
+    }
+
+    @Benchmark
+    public byte[] encodeCompiled() {
+        return layout.encode(message, charset);
+    }
+
+    @Benchmark
+    public byte[] encodeCompiledIntoArray() {
+        layout.encode(message, target, 0, charset);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] encodeLegacyStamped() {
+        return LegacyLayoutCodec.encode(layout, stamped, charset);
+    }
+
+    @Benchmark
+    public byte[] encodeCompiledStampedIntoArray() {
+        layout.encode(stamped, target, 0, charset);
+        return target;
+    }
+
+    @Benchmark
+    public ByteBuf encodeCompiledIntoDirectBuffer() {
+        directBuffer.clear();
+        layout.encode(message, directBuffer, charset);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public byte[] encodeGeneratedIntoArray() {
+        generated.encode(message, target, 0, charset);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] encodeGeneratedTypedIntoArray() {
+        generated.encode(typed, target, 0, charset);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] encodeRuntimeIntoArray() {
+        runtime.encode(message, target, 0, charset);
+        return target;
+    }
+
+    @Benchmark
+    public Message decodeLegacy() {
+        return LegacyLayoutCodec.decode(layout, encoded, charset);
+    }
+
+    @Benchmark
+    public Message decodeCompiled() {
+        return layout.decode(encoded, charset);
+    }
+
+    @Benchmark
+    public Message decodeGenerated() {
+        return generated.decode(encoded, 0, encoded.length, charset);
+    }
+
+    @Benchmark
+    public Trf1Message decodeGeneratedTyped() {
+        return generated.decodeTyped(encoded, charset);
+    }
+
+    @Benchmark
+    public Message decodeRuntime() {
+        return runtime.decode(encoded, 0, encoded.length, charset);
+    }
+}
@@ -0,0 +1,119 @@
+package springware.mci.bench.layout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.LayoutBundle;
+import springware.mci.common.layout.LayoutBundleCompiler;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.YamlLayoutLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 레이아웃 기동 로드 벤치마크 (YAML 디렉토리 vs 바이너리 번들)
+ *
+ * 필드 17개(반복부 포함)짜리 레이아웃을 지정한 개수만큼 생성해 두고, 새 JVM에서 처음 한 번
+ * 로드하는 시간(SingleShotTime, 포크마다 1회)을 비교한다. 기동 시점의 비용이므로 워밍업은 하지 않는다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar LayoutLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class LayoutLoadBenchmark {
+
+    @Param({"1000"})
+    private int layouts;
+
+    private Path directory;
+    private Path bundle;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("layout-bench");
+        for (int i = 0; i < layouts; i++) {
+            String id = String.format("L%03d", i);
+            Files.writeString(directory.resolve(id + ".yaml"), yaml(id), StandardCharsets.UTF_8);
+        }
+        // 번들 컴파일은 빌드 시점 작업이므로 측정에서 제외
+        bundle = Files.createTempFile("layout-bench", LayoutBundle.FILE_EXTENSION);
+        LayoutBundleCompiler.compile(directory, bundle);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(bundle);
+    }
+
+    @Benchmark
+    public LayoutManager loadYaml() {
+        LayoutManager manager = new DefaultLayoutManager();
+        new YamlLayoutLoader().loadAndRegister(directory, manager);
+        return manager;
+    }
+
+    @Benchmark
+    public LayoutManager loadBundle() {
+        LayoutManager manager = new DefaultLayoutManager();
+        LayoutBundle.loadAndRegister(bundle, manager);
+        return manager;
+    }
+
+    /**
+     * 데모 거래내역 응답과 비슷한 구성의 레이아웃 YAML
+     */
+    private static String yaml(String id) {
+        return "id: " + id + "\n"
+                + "description: 벤치마크 레이아웃 " + id + "\n"
+                + "fields:\n"
+                + field("msgCode", 4, "S")
+                + field("orgCode", 3, "S")
+                + "  - name: txDate\n    length: 8\n    type: D\n    expression: \"${DATE:yyyyMMdd}\"\n"
+                + "  - name: txTime\n    length: 6\n    type: T\n    expression: \"${TIME:HHmmss}\"\n"
+                + field("seqNo", 10, "NS")
+                + "  - name: rspCode\n    length: 4\n    type: S\n    defaultValue: \"0000\"\n"
+                + field("filler", 15, "S")
+                + "  - name: accountNo\n    length: 20\n    type: S\n    masked: true\n"
+                + field("customerName", 20, "S")
+                + "  - name: balance\n    length: 15\n    type: A\n    decimalPlaces: 2\n"
+                + field("branchCode", 4, "S")
+                + field("recordCount", 3, "N")
+                + "  - name: records\n    repeatCountField: recordCount\n    children:\n"
+                + childField("txDate", 8, "D")
+                + childField("txType", 2, "S")
+                + childField("amount", 15, "N")
+                + childField("memo", 24, "S");
+    }
+
+    private static String field(String name, int length, String type) {
+        return "  - name: " + name + "\n    length: " + length + "\n    type: " + type + "\n";
+    }
+
+    private static String childField(String name, int length, String type) {
+        return "      - name: " + name + "\n        length: " + length + "\n        type: " + type + "\n";
+    }
+}
@@ -0,0 +1,117 @@
+package springware.mci.bench.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.common.util.DateUtils;
+import springware.common.util.StringUtils;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.MessageLayout;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 기존 문자열 기반 레이아웃 코덱 (비교 기준)
+ *
+ * CompiledLayout 도입 전 MessageLayout.encodeSimple/decodeSimple 구현을 그대로 보존한 것으로,
+ * 벤치마크에서 비교 기준으로만 사용한다.
+ */
+@Slf4j
+public final class LegacyLayoutCodec {
+
+    private LegacyLayoutCodec() {
+    }
+
+    /**
+     * 단순 인코딩 (반복부 없는 경우)
+     */
+    public static byte[] encode(MessageLayout layout, Message message, Charset charset) {
+        byte[] result = new byte[layout.getTotalLength()];
+        Arrays.fill(result, (byte) ' ');
+
+        for (FieldDefinition field : layout.getFields()) {
+            Object value = message.getField(field.getName());
+            String strValue = formatFieldValue(field, value);
+            byte[] fieldBytes = strValue.getBytes(charset);
+
+            if (fieldBytes.length > field.getLength()) {
+                fieldBytes = StringUtils.truncateByBytes(strValue, field.getLength(), charset).getBytes(charset);
+            }
+
+            System.arraycopy(fieldBytes, 0, result, field.getOffset(), fieldBytes.length);
+        }
+
+        return result;
+    }
+
+    /**
+     * 단순 디코딩 (반복부 없는 경우)
+     */
+    public static Message decode(MessageLayout layout, byte[] data, Charset charset) {
+        Message message = Message.builder()
+                .messageCode(layout.getLayoutId())
+                .messageType(MessageType.REQUEST)
+                .build();
+
+        for (FieldDefinition field : layout.getFields()) {
+            String rawValue = new String(data, field.getOffset(), field.getLength(), charset);
+            message.setField(field.getName(), parseFieldValue(field, rawValue));
+        }
+
+        message.setRawData(data);
+        return message;
+    }
+
+    private static String formatFieldValue(FieldDefinition field, Object value) {
+        String strValue;
+        if (value == null && field.getExpression() != null) {
+            strValue = DateUtils.evaluateDateExpression(field.getExpression());
+        } else if (value == null) {
+            strValue = field.getDefaultValue() != null ? field.getDefaultValue() : "";
+        } else {
+            strValue = value.toString();
+        }
+
+        if (field.getType().isRightAligned()) {
+            return StringUtils.leftPad(strValue, field.getLength(), '0');
+        } else {
+            return StringUtils.rightPad(strValue, field.getLength(), ' ');
+        }
+    }
+
+    private static Object parseFieldValue(FieldDefinition field, String rawValue) {
+        String trimmed = rawValue.trim();
+
+        switch (field.getType()) {
+            case NUMBER:
+                if (trimmed.isEmpty()) {
+                    return 0L;
+                }
+                try {
+                    return Long.parseLong(trimmed);
+                } catch (NumberFormatException e) {
+                    log.warn("Failed to parse number field {}: {}", field.getName(), rawValue);
+                    return 0L;
+                }
+
+            case AMOUNT:
+                if (trimmed.isEmpty()) {
+                    return 0.0;
+                }
+                try {
+                    long longValue = Long.parseLong(trimmed);
+                    if (field.getDecimalPlaces() > 0) {
+                        return longValue / Math.pow(10, field.getDecimalPlaces());
+                    }
+                    return (double) longValue;
+                } catch (NumberFormatException e) {
+                    log.warn("Failed to parse amount field {}: {}", field.getName(), rawValue);
+                    return 0.0;
+                }
+
+            default:
+                return trimmed;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package springware.mci.bench.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.BenchMessages;
+import springware.mci.bench.layout.generated.Txh2Codec;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.layout.RecordCursor;
+import springware.mci.common.layout.RecordList;
+import springware.mci.common.layout.RecordStream;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복부 레이아웃 인코딩/디코딩 벤치마크
+ *
+ * 데모 거래내역 응답(TXH2, 73바이트 + 건수 * 49바이트)을 반복 건수별로 측정한다.
+ * generated 계열은 LayoutCodecGenerator로 생성한 전용 코덱(Txh2Codec)이다.
+ * FromItems/Sum 계열은 도메인 객체 → 응답 인코딩, 응답 → 금액 합계까지를 측정하여
+ * 레코드 맵 목록 방식과 스트리밍 방식(RecordStream, RecordCursor)을 비교한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar RepeatingLayoutBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepeatingLayoutBenchmark {
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    @Param({"1", "50", "500"})
+    private int records;
+
+    private MessageLayout layout;
+    private Message message;
+    private byte[] encoded;
+    private ByteBuf encodedBuffer;
+    private ByteBuf directBuffer;
+    private Txh2Codec generated;
+    private byte[] target;
+    private List<Transaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        layout = BenchMessages.demoLayouts().getLayout(BenchMessages.TX_HISTORY);
+        message = BenchMessages.transactionHistory(records);
+        encoded = layout.encode(message, CHARSET);
+        encodedBuffer = Unpooled.directBuffer(encoded.length).writeBytes(encoded);
+        directBuffer = PooledByteBufAllocator.DEFAULT.directBuffer(encoded.length);
+        generated = new Txh2Codec();
+        target = new byte[encoded.length];
+        transactions = new ArrayList<>(records);
+        for (Map<String, Object> record : message.<List<Map<String, Object>>>getField("records")) {
+            transactions.add(new Transaction(record));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encodedBuffer.release();
+        directBuffer.release();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return layout.encode(message, CHARSET);
+    }
+
+    @Benchmark
+    public ByteBuf encodeIntoDirectBuffer() {
+        directBuffer.clear();
+        layout.encode(message, directBuffer, CHARSET);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public Message decode() {
+        return layout.decode(encoded, CHARSET);
+    }
+
+    @Benchmark
+    public Message decodeDirectBuffer() {
+        return layout.decode(encodedBuffer, CHARSET);
+    }
+
+    @Benchmark
+    public byte[] encodeGeneratedIntoArray() {
+        generated.encode(message, target, 0, CHARSET);
+        return target;
+    }
+
+    @Benchmark
+    public Message decodeGenerated() {
+        return generated.decode(encoded, 0, encoded.length, CHARSET);
+    }
+
+    @Benchmark
+    public byte[] encodeFromItemsViaMaps() {
+        List<Map<String, Object>> maps = new ArrayList<>(transactions.size());
+        for (Transaction tx : transactions) {
+            maps.add(tx.toMap());
+        }
+        message.setField("records", maps);
+        return layout.encode(message, CHARSET);
+    }
+
+    @Benchmark
+    public byte[] encodeFromItemsStreaming() {
+        message.setField("records", RecordStream.of(transactions, (tx, record) -> record
+                .set("txDate", tx.txDate)
+                .set("txTime", tx.txTime)
+                .set("txType", tx.txType)
+                .set("amount", tx.amount)
+                .set("balance", tx.balance)
+                .set("memo", tx.memo)));
+        return layout.encode(message, CHARSET);
+    }
+
+    @Benchmark
+    public long decodeSum() {
+        List<Map<String, Object>> decoded = layout.decode(encoded, CHARSET).getField("records");
+        long total = 0;
+        for (Map<String, Object> record : decoded) {
+            total += (Long) record.get("amount");
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long decodeLazyCursorSum() {
+        RecordCursor cursor = layout.decodeLazy(encoded, CHARSET).<RecordList>getField("records").cursor();
+        long total = 0;
+        while (cursor.next()) {
+            total += cursor.getLong("amount");
+        }
+        return total;
+    }
+
+    /**
+     * 응답으로 변환할 도메인 객체
+     */
+    private static final class Transaction {
+
+        private final String txDate;
+        private final String txTime;
+        private final String txType;
+        private final Long amount;
+        private final Long balance;
+        private final String memo;
+
+        private Transaction(Map<String, Object> record) {
+            this.txDate = (String) record.get("txDate");
+            this.txTime = (String) record.get("txTime");
+            this.txType = (String) record.get("txType");
+            this.amount = (Long) record.get("amount");
+            this.balance = (Long) record.get("balance");
+            this.memo = (String) record.get("memo");
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("txDate", txDate);
+            map.put("txTime", txTime);
+            map.put("txType", txType);
+            map.put("amount", amount);
+            map.put("balance", balance);
+            map.put("memo", memo);
+            return map;
+        }
+    }
+}
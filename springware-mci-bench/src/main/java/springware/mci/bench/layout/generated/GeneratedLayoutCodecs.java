@@ -0,0 +1,41 @@
+package springware.mci.bench.layout.generated;
+
+import springware.mci.common.layout.LayoutCodec;
+import springware.mci.common.layout.LayoutManager;
+
+import java.util.List;
+
+/**
+ * 생성된 레이아웃 전용 코덱 목록
+ *
+ * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.
+ */
+public final class GeneratedLayoutCodecs {
+
+    private GeneratedLayoutCodecs() {
+    }
+
+    /**
+     * 생성된 코덱 목록
+     */
+    public static List<LayoutCodec> codecs() {
+        return List.of(
+                new Trf1Codec(),
+                new Txh2Codec());
+    }
+
+    /**
+     * 레이아웃 매니저에 등록된 레이아웃에 코덱 연결
+     *
+     * @return 연결된 코덱 수 (레이아웃이 없거나 시그니처가 다르면 제외)
+     */
+    public static int registerAll(LayoutManager layoutManager) {
+        int registered = 0;
+        for (LayoutCodec codec : codecs()) {
+            if (layoutManager.hasLayout(codec.getLayoutId()) && layoutManager.registerCodec(codec)) {
+                registered++;
+            }
+        }
+        return registered;
+    }
+}
@@ -0,0 +1,142 @@
+package springware.mci.bench.layout.generated;
+
+import springware.common.util.DateExpression;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+import springware.mci.common.exception.LayoutException;
+import springware.mci.common.layout.LayoutCodec;
+import springware.mci.common.layout.LayoutCodecSupport;
+
+import java.nio.charset.Charset;
+
+/**
+ * TRF1 레이아웃 전용 코덱
+ *
+ * 필드 오프셋/길이를 상수로 펼친 인코딩/디코딩이며, 결과는 MessageLayout 기본 경로와 같다.
+ * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.
+ */
+public final class Trf1Codec implements LayoutCodec {
+
+    public static final String LAYOUT_ID = "TRF1";
+    public static final String SIGNATURE = "c8c01c92";
+
+    /**
+     * 반복부를 제외한 길이 (바이트)
+     */
+    public static final int FIXED_LENGTH = 135;
+
+    /**
+     * 날짜/시간 표현식 평가기 (클래스 로딩 시 파싱)
+     */
+    private static final DateExpression TXDATE_EXPRESSION = DateExpression.parse("${DATE:yyyyMMdd}");
+    private static final DateExpression TXTIME_EXPRESSION = DateExpression.parse("${TIME:HHmmss}");
+
+    @Override
+    public String getLayoutId() {
+        return LAYOUT_ID;
+    }
+
+    @Override
+    public String getSignature() {
+        return SIGNATURE;
+    }
+
+    @Override
+    public int getEncodedLength(Message message) {
+        return FIXED_LENGTH;
+    }
+
+    public int getEncodedLength(Trf1Message message) {
+        return FIXED_LENGTH;
+    }
+
+    @Override
+    public int encode(Message message, byte[] dst, int offset, Charset charset) {
+        int length = getEncodedLength(message);
+        if (offset < 0 || offset + length > dst.length) {
+            throw new LayoutException(String.format("Buffer too small: offset %d + layout length %d > %d",
+                    offset, length, dst.length));
+        }
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.encodeValue(message.getField("msgCode"), dst, offset, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("orgCode"), dst, offset + 4, 3, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("txDate"), dst, offset + 7, 8, false, TXDATE_EXPRESSION, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("txTime"), dst, offset + 15, 6, false, TXTIME_EXPRESSION, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("seqNo"), dst, offset + 21, 10, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("rspCode"), dst, offset + 31, 4, false, null, "0000", charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("filler"), dst, offset + 35, 15, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("fromAccount"), dst, offset + 50, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("toAccount"), dst, offset + 70, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("amount"), dst, offset + 90, 15, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("memo"), dst, offset + 105, 30, false, null, null, charset, ascii);
+        return length;
+    }
+
+    public int encode(Trf1Message message, byte[] dst, int offset, Charset charset) {
+        int length = getEncodedLength(message);
+        if (offset < 0 || offset + length > dst.length) {
+            throw new LayoutException(String.format("Buffer too small: offset %d + layout length %d > %d",
+                    offset, length, dst.length));
+        }
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.encodeValue(message.getMsgCode(), dst, offset, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getOrgCode(), dst, offset + 4, 3, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getTxDate(), dst, offset + 7, 8, false, TXDATE_EXPRESSION, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getTxTime(), dst, offset + 15, 6, false, TXTIME_EXPRESSION, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getSeqNo(), dst, offset + 21, 10, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getRspCode(), dst, offset + 31, 4, false, null, "0000", charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getFiller(), dst, offset + 35, 15, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getFromAccount(), dst, offset + 50, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getToAccount(), dst, offset + 70, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getAmount(), dst, offset + 90, 15, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getMemo(), dst, offset + 105, 30, false, null, null, charset, ascii);
+        return length;
+    }
+
+    public byte[] encode(Trf1Message message, Charset charset) {
+        byte[] result = new byte[getEncodedLength(message)];
+        encode(message, result, 0, charset);
+        return result;
+    }
+
+    @Override
+    public Message decode(byte[] src, int offset, int length, Charset charset) {
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.checkLength(length, FIXED_LENGTH);
+        Message message = Message.builder().messageCode(LAYOUT_ID).messageType(MessageType.REQUEST).build();
+        message.setField("msgCode", LayoutCodecSupport.decodeString(src, offset, 4, charset, ascii));
+        message.setField("orgCode", LayoutCodecSupport.decodeString(src, offset + 4, 3, charset, ascii));
+        message.setField("txDate", LayoutCodecSupport.decodeString(src, offset + 7, 8, charset, ascii));
+        message.setField("txTime", LayoutCodecSupport.decodeString(src, offset + 15, 6, charset, ascii));
+        message.setField("seqNo", LayoutCodecSupport.decodeString(src, offset + 21, 10, charset, ascii));
+        message.setField("rspCode", LayoutCodecSupport.decodeString(src, offset + 31, 4, charset, ascii));
+        message.setField("filler", LayoutCodecSupport.decodeString(src, offset + 35, 15, charset, ascii));
+        message.setField("fromAccount", LayoutCodecSupport.decodeString(src, offset + 50, 20, charset, ascii));
+        message.setField("toAccount", LayoutCodecSupport.decodeString(src, offset + 70, 20, charset, ascii));
+        message.setField("amount", LayoutCodecSupport.decodeNumber(src, offset + 90, 15, charset, ascii, "amount"));
+        message.setField("memo", LayoutCodecSupport.decodeString(src, offset + 105, 30, charset, ascii));
+        return message;
+    }
+
+    public Trf1Message decodeTyped(byte[] src, int offset, int length, Charset charset) {
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.checkLength(length, FIXED_LENGTH);
+        Trf1Message message = new Trf1Message();
+        message.setMsgCode(LayoutCodecSupport.decodeString(src, offset, 4, charset, ascii));
+        message.setOrgCode(LayoutCodecSupport.decodeString(src, offset + 4, 3, charset, ascii));
+        message.setTxDate(LayoutCodecSupport.decodeString(src, offset + 7, 8, charset, ascii));
+        message.setTxTime(LayoutCodecSupport.decodeString(src, offset + 15, 6, charset, ascii));
+        message.setSeqNo(LayoutCodecSupport.decodeString(src, offset + 21, 10, charset, ascii));
+        message.setRspCode(LayoutCodecSupport.decodeString(src, offset + 31, 4, charset, ascii));
+        message.setFiller(LayoutCodecSupport.decodeString(src, offset + 35, 15, charset, ascii));
+        message.setFromAccount(LayoutCodecSupport.decodeString(src, offset + 50, 20, charset, ascii));
+        message.setToAccount(LayoutCodecSupport.decodeString(src, offset + 70, 20, charset, ascii));
+        message.setAmount(LayoutCodecSupport.decodeNumber(src, offset + 90, 15, charset, ascii, "amount"));
+        message.setMemo(LayoutCodecSupport.decodeString(src, offset + 105, 30, charset, ascii));
+        return message;
+    }
+
+    public Trf1Message decodeTyped(byte[] src, Charset charset) {
+        return decodeTyped(src, 0, src.length, charset);
+    }
+}
@@ -0,0 +1,217 @@
+package springware.mci.bench.layout.generated;
+
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.LayoutCodecSupport;
+
+/**
+ * TRF1 레이아웃 메시지 (이체 요청)
+ *
+ * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.
+ */
+public class Trf1Message {
+
+    public static final String LAYOUT_ID = "TRF1";
+
+    /**
+     * msgCode (S, 4바이트)
+     */
+    private String msgCode;
+
+    /**
+     * orgCode (S, 3바이트)
+     */
+    private String orgCode;
+
+    /**
+     * txDate (D, 8바이트)
+     */
+    private String txDate;
+
+    /**
+     * txTime (T, 6바이트)
+     */
+    private String txTime;
+
+    /**
+     * seqNo (NS, 10바이트)
+     */
+    private String seqNo;
+
+    /**
+     * rspCode (S, 4바이트)
+     */
+    private String rspCode;
+
+    /**
+     * filler (S, 15바이트)
+     */
+    private String filler;
+
+    /**
+     * 출금계좌 (S, 20바이트)
+     */
+    private String fromAccount;
+
+    /**
+     * 입금계좌 (S, 20바이트)
+     */
+    private String toAccount;
+
+    /**
+     * 이체금액 (N, 15바이트)
+     */
+    private Long amount;
+
+    /**
+     * 적요 (S, 30바이트)
+     */
+    private String memo;
+
+    public String getMsgCode() {
+        return msgCode;
+    }
+
+    public void setMsgCode(String msgCode) {
+        this.msgCode = msgCode;
+    }
+
+    public String getOrgCode() {
+        return orgCode;
+    }
+
+    public void setOrgCode(String orgCode) {
+        this.orgCode = orgCode;
+    }
+
+    public String getTxDate() {
+        return txDate;
+    }
+
+    public void setTxDate(String txDate) {
+        this.txDate = txDate;
+    }
+
+    public String getTxTime() {
+        return txTime;
+    }
+
+    public void setTxTime(String txTime) {
+        this.txTime = txTime;
+    }
+
+    public String getSeqNo() {
+        return seqNo;
+    }
+
+    public void setSeqNo(String seqNo) {
+        this.seqNo = seqNo;
+    }
+
+    public String getRspCode() {
+        return rspCode;
+    }
+
+    public void setRspCode(String rspCode) {
+        this.rspCode = rspCode;
+    }
+
+    public String getFiller() {
+        return filler;
+    }
+
+    public void setFiller(String filler) {
+        this.filler = filler;
+    }
+
+    public String getFromAccount() {
+        return fromAccount;
+    }
+
+    public void setFromAccount(String fromAccount) {
+        this.fromAccount = fromAccount;
+    }
+
+    public String getToAccount() {
+        return toAccount;
+    }
+
+    public void setToAccount(String toAccount) {
+        this.toAccount = toAccount;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Long amount) {
+        this.amount = amount;
+    }
+
+    public String getMemo() {
+        return memo;
+    }
+
+    public void setMemo(String memo) {
+        this.memo = memo;
+    }
+
+    /**
+     * 범용 메시지에서 변환
+     */
+    public static Trf1Message from(Message message) {
+        Trf1Message typed = new Trf1Message();
+        typed.msgCode = LayoutCodecSupport.asString(message.getField("msgCode"));
+        typed.orgCode = LayoutCodecSupport.asString(message.getField("orgCode"));
+        typed.txDate = LayoutCodecSupport.asString(message.getField("txDate"));
+        typed.txTime = LayoutCodecSupport.asString(message.getField("txTime"));
+        typed.seqNo = LayoutCodecSupport.asString(message.getField("seqNo"));
+        typed.rspCode = LayoutCodecSupport.asString(message.getField("rspCode"));
+        typed.filler = LayoutCodecSupport.asString(message.getField("filler"));
+        typed.fromAccount = LayoutCodecSupport.asString(message.getField("fromAccount"));
+        typed.toAccount = LayoutCodecSupport.asString(message.getField("toAccount"));
+        typed.amount = LayoutCodecSupport.asLong(message.getField("amount"));
+        typed.memo = LayoutCodecSupport.asString(message.getField("memo"));
+        return typed;
+    }
+
+    /**
+     * 범용 메시지로 변환 (값이 있는 필드만 설정)
+     */
+    public Message toMessage() {
+        Message message = Message.builder().messageCode(LAYOUT_ID).build();
+        if (msgCode != null) {
+            message.setField("msgCode", msgCode);
+        }
+        if (orgCode != null) {
+            message.setField("orgCode", orgCode);
+        }
+        if (txDate != null) {
+            message.setField("txDate", txDate);
+        }
+        if (txTime != null) {
+            message.setField("txTime", txTime);
+        }
+        if (seqNo != null) {
+            message.setField("seqNo", seqNo);
+        }
+        if (rspCode != null) {
+            message.setField("rspCode", rspCode);
+        }
+        if (filler != null) {
+            message.setField("filler", filler);
+        }
+        if (fromAccount != null) {
+            message.setField("fromAccount", fromAccount);
+        }
+        if (toAccount != null) {
+            message.setField("toAccount", toAccount);
+        }
+        if (amount != null) {
+            message.setField("amount", amount);
+        }
+        if (memo != null) {
+            message.setField("memo", memo);
+        }
+        return message;
+    }
+}
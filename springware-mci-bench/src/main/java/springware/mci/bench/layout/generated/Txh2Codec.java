@@ -0,0 +1,237 @@
+package springware.mci.bench.layout.generated;
+
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+import springware.mci.common.exception.LayoutException;
+import springware.mci.common.layout.LayoutCodec;
+import springware.mci.common.layout.LayoutCodecSupport;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TXH2 레이아웃 전용 코덱
+ *
+ * 필드 오프셋/길이를 상수로 펼친 인코딩/디코딩이며, 결과는 MessageLayout 기본 경로와 같다.
+ * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.
+ */
+public final class Txh2Codec implements LayoutCodec {
+
+    public static final String LAYOUT_ID = "TXH2";
+    public static final String SIGNATURE = "8a03f1e2";
+
+    /**
+     * 반복부를 제외한 길이 (바이트)
+     */
+    public static final int FIXED_LENGTH = 73;
+    public static final int RECORDS_RECORD_LENGTH = 49;
+
+    @Override
+    public String getLayoutId() {
+        return LAYOUT_ID;
+    }
+
+    @Override
+    public String getSignature() {
+        return SIGNATURE;
+    }
+
+    @Override
+    public int getEncodedLength(Message message) {
+        return FIXED_LENGTH
+                + LayoutCodecSupport.repeatCount(message.getField("recordCount")) * RECORDS_RECORD_LENGTH;
+    }
+
+    public int getEncodedLength(Txh2Message message) {
+        return FIXED_LENGTH
+                + LayoutCodecSupport.repeatCount(message.getRecordCount()) * RECORDS_RECORD_LENGTH;
+    }
+
+    @Override
+    public int encode(Message message, byte[] dst, int offset, Charset charset) {
+        int length = getEncodedLength(message);
+        if (offset < 0 || offset + length > dst.length) {
+            throw new LayoutException(String.format("Buffer too small: offset %d + layout length %d > %d",
+                    offset, length, dst.length));
+        }
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.encodeValue(message.getField("msgCode"), dst, offset, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("orgCode"), dst, offset + 4, 3, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("txDate"), dst, offset + 7, 8, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("txTime"), dst, offset + 15, 6, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("seqNo"), dst, offset + 21, 10, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("rspCode"), dst, offset + 31, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("filler"), dst, offset + 35, 15, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("accountNo"), dst, offset + 50, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getField("recordCount"), dst, offset + 70, 3, true, null, null, charset, ascii);
+
+        // records 반복부
+        int pos = offset + 73;
+        int recordsCount = LayoutCodecSupport.repeatCount(message.getField("recordCount"));
+        List<?> recordsList = (List<?>) message.getField("records");
+        if (recordsList != null) {
+            for (int r = 0; r < recordsCount && r < recordsList.size(); r++) {
+                Map<?, ?> record = (Map<?, ?>) recordsList.get(r);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "txDate"), dst, pos, 8, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "txTime"), dst, pos + 8, 6, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "txType"), dst, pos + 14, 1, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "amount"), dst, pos + 15, 15, true, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "balance"), dst, pos + 30, 15, true, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(LayoutCodecSupport.recordValue(record, "memo"), dst, pos + 45, 4, false, null, null, charset, ascii);
+                pos += RECORDS_RECORD_LENGTH;
+            }
+        }
+
+        // 건수보다 레코드가 적으면 남은 영역은 공백
+        Arrays.fill(dst, pos, offset + length, (byte) ' ');
+        return length;
+    }
+
+    public int encode(Txh2Message message, byte[] dst, int offset, Charset charset) {
+        int length = getEncodedLength(message);
+        if (offset < 0 || offset + length > dst.length) {
+            throw new LayoutException(String.format("Buffer too small: offset %d + layout length %d > %d",
+                    offset, length, dst.length));
+        }
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        LayoutCodecSupport.encodeValue(message.getMsgCode(), dst, offset, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getOrgCode(), dst, offset + 4, 3, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getTxDate(), dst, offset + 7, 8, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getTxTime(), dst, offset + 15, 6, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getSeqNo(), dst, offset + 21, 10, true, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getRspCode(), dst, offset + 31, 4, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getFiller(), dst, offset + 35, 15, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getAccountNo(), dst, offset + 50, 20, false, null, null, charset, ascii);
+        LayoutCodecSupport.encodeValue(message.getRecordCount(), dst, offset + 70, 3, true, null, null, charset, ascii);
+
+        // records 반복부
+        int pos = offset + 73;
+        int recordsCount = LayoutCodecSupport.repeatCount(message.getRecordCount());
+        List<Txh2Message.RecordsItem> recordsList = message.getRecords();
+        if (recordsList != null) {
+            for (int r = 0; r < recordsCount && r < recordsList.size(); r++) {
+                Txh2Message.RecordsItem record = recordsList.get(r);
+                LayoutCodecSupport.encodeValue(record != null ? record.getTxDate() : null, dst, pos, 8, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(record != null ? record.getTxTime() : null, dst, pos + 8, 6, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(record != null ? record.getTxType() : null, dst, pos + 14, 1, false, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(record != null ? record.getAmount() : null, dst, pos + 15, 15, true, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(record != null ? record.getBalance() : null, dst, pos + 30, 15, true, null, null, charset, ascii);
+                LayoutCodecSupport.encodeValue(record != null ? record.getMemo() : null, dst, pos + 45, 4, false, null, null, charset, ascii);
+                pos += RECORDS_RECORD_LENGTH;
+            }
+        }
+
+        // 건수보다 레코드가 적으면 남은 영역은 공백
+        Arrays.fill(dst, pos, offset + length, (byte) ' ');
+        return length;
+    }
+
+    public byte[] encode(Txh2Message message, Charset charset) {
+        byte[] result = new byte[getEncodedLength(message)];
+        encode(message, result, 0, charset);
+        return result;
+    }
+
+    @Override
+    public Message decode(byte[] src, int offset, int length, Charset charset) {
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        int end = offset + length;
+        Message message = Message.builder().messageCode(LAYOUT_ID).messageType(MessageType.REQUEST).build();
+        LayoutCodecSupport.checkField(offset, 4, end, offset, "msgCode");
+        message.setField("msgCode", LayoutCodecSupport.decodeString(src, offset, 4, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 4, 3, end, offset, "orgCode");
+        message.setField("orgCode", LayoutCodecSupport.decodeString(src, offset + 4, 3, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 7, 8, end, offset, "txDate");
+        message.setField("txDate", LayoutCodecSupport.decodeString(src, offset + 7, 8, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 15, 6, end, offset, "txTime");
+        message.setField("txTime", LayoutCodecSupport.decodeString(src, offset + 15, 6, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 21, 10, end, offset, "seqNo");
+        message.setField("seqNo", LayoutCodecSupport.decodeString(src, offset + 21, 10, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 31, 4, end, offset, "rspCode");
+        message.setField("rspCode", LayoutCodecSupport.decodeString(src, offset + 31, 4, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 35, 15, end, offset, "filler");
+        message.setField("filler", LayoutCodecSupport.decodeString(src, offset + 35, 15, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 50, 20, end, offset, "accountNo");
+        message.setField("accountNo", LayoutCodecSupport.decodeString(src, offset + 50, 20, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 70, 3, end, offset, "recordCount");
+        message.setField("recordCount", LayoutCodecSupport.decodeNumber(src, offset + 70, 3, charset, ascii, "recordCount"));
+
+        // records 반복부
+        int pos = offset + 73;
+        int recordsCount = LayoutCodecSupport.repeatCount(message.getField("recordCount"));
+        List<Map<String, Object>> recordsList = new ArrayList<>();
+        for (int r = 0; r < recordsCount; r++) {
+            if (pos + RECORDS_RECORD_LENGTH > end) {
+                LayoutCodecSupport.warnInsufficientRecords(r + 1, recordsCount);
+                break;
+            }
+            Map<String, Object> record = new LinkedHashMap<>(12);
+            record.put("txDate", LayoutCodecSupport.decodeString(src, pos, 8, charset, ascii));
+            record.put("txTime", LayoutCodecSupport.decodeString(src, pos + 8, 6, charset, ascii));
+            record.put("txType", LayoutCodecSupport.decodeString(src, pos + 14, 1, charset, ascii));
+            record.put("amount", LayoutCodecSupport.decodeNumber(src, pos + 15, 15, charset, ascii, "amount"));
+            record.put("balance", LayoutCodecSupport.decodeNumber(src, pos + 30, 15, charset, ascii, "balance"));
+            record.put("memo", LayoutCodecSupport.decodeString(src, pos + 45, 4, charset, ascii));
+            recordsList.add(record);
+            pos += RECORDS_RECORD_LENGTH;
+        }
+        message.setField("records", recordsList);
+
+        return message;
+    }
+
+    public Txh2Message decodeTyped(byte[] src, int offset, int length, Charset charset) {
+        boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);
+        int end = offset + length;
+        Txh2Message message = new Txh2Message();
+        LayoutCodecSupport.checkField(offset, 4, end, offset, "msgCode");
+        message.setMsgCode(LayoutCodecSupport.decodeString(src, offset, 4, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 4, 3, end, offset, "orgCode");
+        message.setOrgCode(LayoutCodecSupport.decodeString(src, offset + 4, 3, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 7, 8, end, offset, "txDate");
+        message.setTxDate(LayoutCodecSupport.decodeString(src, offset + 7, 8, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 15, 6, end, offset, "txTime");
+        message.setTxTime(LayoutCodecSupport.decodeString(src, offset + 15, 6, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 21, 10, end, offset, "seqNo");
+        message.setSeqNo(LayoutCodecSupport.decodeString(src, offset + 21, 10, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 31, 4, end, offset, "rspCode");
+        message.setRspCode(LayoutCodecSupport.decodeString(src, offset + 31, 4, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 35, 15, end, offset, "filler");
+        message.setFiller(LayoutCodecSupport.decodeString(src, offset + 35, 15, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 50, 20, end, offset, "accountNo");
+        message.setAccountNo(LayoutCodecSupport.decodeString(src, offset + 50, 20, charset, ascii));
+        LayoutCodecSupport.checkField(offset + 70, 3, end, offset, "recordCount");
+        message.setRecordCount(LayoutCodecSupport.decodeNumber(src, offset + 70, 3, charset, ascii, "recordCount"));
+
+        // records 반복부
+        int pos = offset + 73;
+        int recordsCount = LayoutCodecSupport.repeatCount(message.getRecordCount());
+        List<Txh2Message.RecordsItem> recordsList = new ArrayList<>();
+        for (int r = 0; r < recordsCount; r++) {
+            if (pos + RECORDS_RECORD_LENGTH > end) {
+                LayoutCodecSupport.warnInsufficientRecords(r + 1, recordsCount);
+                break;
+            }
+            Txh2Message.RecordsItem record = new Txh2Message.RecordsItem();
+            record.setTxDate(LayoutCodecSupport.decodeString(src, pos, 8, charset, ascii));
+            record.setTxTime(LayoutCodecSupport.decodeString(src, pos + 8, 6, charset, ascii));
+            record.setTxType(LayoutCodecSupport.decodeString(src, pos + 14, 1, charset, ascii));
+            record.setAmount(LayoutCodecSupport.decodeNumber(src, pos + 15, 15, charset, ascii, "amount"));
+            record.setBalance(LayoutCodecSupport.decodeNumber(src, pos + 30, 15, charset, ascii, "balance"));
+            record.setMemo(LayoutCodecSupport.decodeString(src, pos + 45, 4, charset, ascii));
+            recordsList.add(record);
+            pos += RECORDS_RECORD_LENGTH;
+        }
+        message.setRecords(recordsList);
+
+        return message;
+    }
+
+    public Txh2Message decodeTyped(byte[] src, Charset charset) {
+        return decodeTyped(src, 0, src.length, charset);
+    }
+}
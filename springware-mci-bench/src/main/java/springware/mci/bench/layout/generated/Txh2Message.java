@@ -0,0 +1,337 @@
+package springware.mci.bench.layout.generated;
+
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.LayoutCodecSupport;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TXH2 레이아웃 메시지 (거래내역조회 응답)
+ *
+ * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.
+ */
+public class Txh2Message {
+
+    public static final String LAYOUT_ID = "TXH2";
+
+    /**
+     * msgCode (S, 4바이트)
+     */
+    private String msgCode;
+
+    /**
+     * orgCode (S, 3바이트)
+     */
+    private String orgCode;
+
+    /**
+     * txDate (D, 8바이트)
+     */
+    private String txDate;
+
+    /**
+     * txTime (T, 6바이트)
+     */
+    private String txTime;
+
+    /**
+     * seqNo (NS, 10바이트)
+     */
+    private String seqNo;
+
+    /**
+     * rspCode (S, 4바이트)
+     */
+    private String rspCode;
+
+    /**
+     * filler (S, 15바이트)
+     */
+    private String filler;
+
+    /**
+     * 계좌번호 (S, 20바이트)
+     */
+    private String accountNo;
+
+    /**
+     * 거래건수 (N, 3바이트)
+     */
+    private Long recordCount;
+
+    /**
+     * 거래내역 목록 (반복부, 건수: recordCount)
+     */
+    private List<RecordsItem> records;
+
+    public String getMsgCode() {
+        return msgCode;
+    }
+
+    public void setMsgCode(String msgCode) {
+        this.msgCode = msgCode;
+    }
+
+    public String getOrgCode() {
+        return orgCode;
+    }
+
+    public void setOrgCode(String orgCode) {
+        this.orgCode = orgCode;
+    }
+
+    public String getTxDate() {
+        return txDate;
+    }
+
+    public void setTxDate(String txDate) {
+        this.txDate = txDate;
+    }
+
+    public String getTxTime() {
+        return txTime;
+    }
+
+    public void setTxTime(String txTime) {
+        this.txTime = txTime;
+    }
+
+    public String getSeqNo() {
+        return seqNo;
+    }
+
+    public void setSeqNo(String seqNo) {
+        this.seqNo = seqNo;
+    }
+
+    public String getRspCode() {
+        return rspCode;
+    }
+
+    public void setRspCode(String rspCode) {
+        this.rspCode = rspCode;
+    }
+
+    public String getFiller() {
+        return filler;
+    }
+
+    public void setFiller(String filler) {
+        this.filler = filler;
+    }
+
+    public String getAccountNo() {
+        return accountNo;
+    }
+
+    public void setAccountNo(String accountNo) {
+        this.accountNo = accountNo;
+    }
+
+    public Long getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(Long recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public List<RecordsItem> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<RecordsItem> records) {
+        this.records = records;
+    }
+
+    /**
+     * 범용 메시지에서 변환
+     */
+    public static Txh2Message from(Message message) {
+        Txh2Message typed = new Txh2Message();
+        typed.msgCode = LayoutCodecSupport.asString(message.getField("msgCode"));
+        typed.orgCode = LayoutCodecSupport.asString(message.getField("orgCode"));
+        typed.txDate = LayoutCodecSupport.asString(message.getField("txDate"));
+        typed.txTime = LayoutCodecSupport.asString(message.getField("txTime"));
+        typed.seqNo = LayoutCodecSupport.asString(message.getField("seqNo"));
+        typed.rspCode = LayoutCodecSupport.asString(message.getField("rspCode"));
+        typed.filler = LayoutCodecSupport.asString(message.getField("filler"));
+        typed.accountNo = LayoutCodecSupport.asString(message.getField("accountNo"));
+        typed.recordCount = LayoutCodecSupport.asLong(message.getField("recordCount"));
+        typed.records = RecordsItem.fromList(message.getField("records"));
+        return typed;
+    }
+
+    /**
+     * 범용 메시지로 변환 (값이 있는 필드만 설정)
+     */
+    public Message toMessage() {
+        Message message = Message.builder().messageCode(LAYOUT_ID).build();
+        if (msgCode != null) {
+            message.setField("msgCode", msgCode);
+        }
+        if (orgCode != null) {
+            message.setField("orgCode", orgCode);
+        }
+        if (txDate != null) {
+            message.setField("txDate", txDate);
+        }
+        if (txTime != null) {
+            message.setField("txTime", txTime);
+        }
+        if (seqNo != null) {
+            message.setField("seqNo", seqNo);
+        }
+        if (rspCode != null) {
+            message.setField("rspCode", rspCode);
+        }
+        if (filler != null) {
+            message.setField("filler", filler);
+        }
+        if (accountNo != null) {
+            message.setField("accountNo", accountNo);
+        }
+        if (recordCount != null) {
+            message.setField("recordCount", recordCount);
+        }
+        if (records != null) {
+            message.setField("records", RecordsItem.toMaps(records));
+        }
+        return message;
+    }
+
+    /**
+     * records 반복부 레코드
+     */
+    public static class RecordsItem {
+
+        /**
+         * 거래일자 (D, 8바이트)
+         */
+        private String txDate;
+
+        /**
+         * 거래시간 (T, 6바이트)
+         */
+        private String txTime;
+
+        /**
+         * 거래구분 (1:입금, 2:출금) (S, 1바이트)
+         */
+        private String txType;
+
+        /**
+         * 거래금액 (N, 15바이트)
+         */
+        private Long amount;
+
+        /**
+         * 거래후잔액 (N, 15바이트)
+         */
+        private Long balance;
+
+        /**
+         * 적요코드 (S, 4바이트)
+         */
+        private String memo;
+
+        public String getTxDate() {
+            return txDate;
+        }
+
+        public void setTxDate(String txDate) {
+            this.txDate = txDate;
+        }
+
+        public String getTxTime() {
+            return txTime;
+        }
+
+        public void setTxTime(String txTime) {
+            this.txTime = txTime;
+        }
+
+        public String getTxType() {
+            return txType;
+        }
+
+        public void setTxType(String txType) {
+            this.txType = txType;
+        }
+
+        public Long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Long amount) {
+            this.amount = amount;
+        }
+
+        public Long getBalance() {
+            return balance;
+        }
+
+        public void setBalance(Long balance) {
+            this.balance = balance;
+        }
+
+        public String getMemo() {
+            return memo;
+        }
+
+        public void setMemo(String memo) {
+            this.memo = memo;
+        }
+
+        static List<RecordsItem> fromList(Object value) {
+            if (!(value instanceof List)) {
+                return null;
+            }
+            List<RecordsItem> items = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                Map<?, ?> record = (Map<?, ?>) element;
+                RecordsItem typed = new RecordsItem();
+                typed.txDate = LayoutCodecSupport.asString(LayoutCodecSupport.recordValue(record, "txDate"));
+                typed.txTime = LayoutCodecSupport.asString(LayoutCodecSupport.recordValue(record, "txTime"));
+                typed.txType = LayoutCodecSupport.asString(LayoutCodecSupport.recordValue(record, "txType"));
+                typed.amount = LayoutCodecSupport.asLong(LayoutCodecSupport.recordValue(record, "amount"));
+                typed.balance = LayoutCodecSupport.asLong(LayoutCodecSupport.recordValue(record, "balance"));
+                typed.memo = LayoutCodecSupport.asString(LayoutCodecSupport.recordValue(record, "memo"));
+                items.add(typed);
+            }
+            return items;
+        }
+
+        static List<Map<String, Object>> toMaps(List<RecordsItem> items) {
+            List<Map<String, Object>> records = new ArrayList<>(items.size());
+            for (RecordsItem typed : items) {
+                Map<String, Object> record = new LinkedHashMap<>();
+                if (typed != null) {
+                    if (typed.txDate != null) {
+                        record.put("txDate", typed.txDate);
+                    }
+                    if (typed.txTime != null) {
+                        record.put("txTime", typed.txTime);
+                    }
+                    if (typed.txType != null) {
+                        record.put("txType", typed.txType);
+                    }
+                    if (typed.amount != null) {
+                        record.put("amount", typed.amount);
+                    }
+                    if (typed.balance != null) {
+                        record.put("balance", typed.balance);
+                    }
+                    if (typed.memo != null) {
+                        record.put("memo", typed.memo);
+                    }
+                }
+                records.add(record);
+            }
+            return records;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package springware.mci.bench.load;
+
+import demo.mci.common.DemoConstants;
+import demo.mci.common.DemoMessageCodes;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 데모 서버용 요청 메시지 생성
+ *
+ * 거래일련번호(seqNo)는 모든 연결에서 유일하게 발급하여 응답 매칭 키로 사용한다.
+ * 이체는 두 계좌 사이를 번갈아 송금하여 잔액이 한쪽으로 소진되지 않게 한다.
+ */
+public class DemoRequests {
+
+    private static final String ACCOUNT_A = "1234567890123456789";
+    private static final String ACCOUNT_B = "9876543210987654321";
+    private static final String CUSTOMER_ID = "CUST001";
+
+    private final AtomicLong sequenceNo = new AtomicLong();
+
+    /**
+     * 메시지 코드에 해당하는 요청 생성
+     *
+     * @param messageCode BAL1, TRF1, TXH1, CRD1
+     */
+    public Message create(String messageCode) {
+        long seq = sequenceNo.incrementAndGet();
+        boolean bank = !DemoMessageCodes.CARD_LIST_REQ.equals(messageCode);
+
+        Message request = Message.builder()
+                .messageCode(messageCode)
+                .messageType(MessageType.REQUEST)
+                .build();
+        request.setField("msgCode", messageCode);
+        request.setField("orgCode", bank ? DemoConstants.ORG_CODE_BANK : DemoConstants.ORG_CODE_CARD);
+        request.setField("seqNo", String.format("%010d", seq % 10_000_000_000L));
+
+        switch (messageCode) {
+            case DemoMessageCodes.BALANCE_INQUIRY_REQ:
+                request.setField("accountNo", ACCOUNT_A);
+                break;
+            case DemoMessageCodes.TRANSFER_REQ:
+                boolean forward = (seq & 1) == 0;
+                request.setField("fromAccount", forward ? ACCOUNT_A : ACCOUNT_B);
+                request.setField("toAccount", forward ? ACCOUNT_B : ACCOUNT_A);
+                request.setField("amount", 1L);
+                request.setField("memo", "LoadGen");
+                break;
+            case DemoMessageCodes.TX_HISTORY_REQ:
+                request.setField("accountNo", ACCOUNT_A);
+                request.setField("fromDate", "20240101");
+                request.setField("toDate", "20241231");
+                break;
+            case DemoMessageCodes.CARD_LIST_REQ:
+                request.setField("customerId", CUSTOMER_ID);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported message code: " + messageCode);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package springware.mci.bench.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 코드별 지연시간 기록기
+ *
+ * 지연시간은 마이크로초 단위 HdrHistogram(유효숫자 3자리)에 기록한다.
+ * 과부하에서 가장 느린 요청은 타임아웃으로 끝나므로, 타임아웃/전송 실패도 실패 시점까지의
+ * 지연시간을 같은 히스토그램에 기록하여 백분위에서 빠지지 않게 하고 오류 건수와 오류 전용
+ * 히스토그램에도 따로 기록한다. 응답코드가 정상이 아닌 응답은 지연시간을 기록하되 실패 건수로도 센다.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    public LatencyRecorder(List<String> messageCodes) {
+        for (String code : messageCodes) {
+            entries.put(code, new Entry());
+        }
+    }
+
+    /**
+     * 응답 기록
+     *
+     * @param latencyNanos 의도한 송신 시각부터 응답 수신까지의 시간
+     * @param success      응답코드 정상 여부
+     */
+    public void recordResponse(String messageCode, long latencyNanos, boolean success) {
+        Entry entry = entries.get(messageCode);
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        entry.histogram.recordValue(Math.max(micros, 1));
+        if (!success) {
+            entry.failures.increment();
+        }
+    }
+
+    /**
+     * 타임아웃/전송 실패 기록
+     *
+     * @param latencyNanos 의도한 송신 시각부터 실패 통지까지의 시간
+     */
+    public void recordError(String messageCode, long latencyNanos) {
+        Entry entry = entries.get(messageCode);
+        long micros = Math.max(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS), 1);
+        entry.histogram.recordValue(micros);
+        entry.errorHistogram.recordValue(micros);
+    }
+
+    /**
+     * 요약 출력 (백분위 단위: 밀리초, 타임아웃/전송 실패 포함)
+     *
+     * 오류가 있는 메시지 코드는 오류 요청만의 지연시간 분포를 한 줄 더 출력한다.
+     */
+    public void printSummary(PrintStream out, double elapsedSeconds) {
+        out.printf("%-6s %9s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "code", "count", "rps", "errors", "rspFail",
+                "p50", "p90", "p99", "p99.9", "p99.99", "max");
+        entries.forEach((code, entry) -> {
+            Histogram h = entry.histogram;
+            Histogram errors = entry.errorHistogram;
+            out.printf("%-6s %9d %9.1f %7d %7d", code, h.getTotalCount(),
+                    h.getTotalCount() / elapsedSeconds, errors.getTotalCount(), entry.failures.sum());
+            printPercentiles(out, h);
+            if (errors.getTotalCount() > 0) {
+                out.printf("%-6s %9d %9.1f %7s %7s", "  err", errors.getTotalCount(),
+                        errors.getTotalCount() / elapsedSeconds, "", "");
+                printPercentiles(out, errors);
+            }
+        });
+    }
+
+    private static void printPercentiles(PrintStream out, Histogram h) {
+        for (double p : PERCENTILES) {
+            out.printf(" %9.3f", h.getValueAtPercentile(p) / 1000.0);
+        }
+        out.printf(" %9.3f%n", h.getMaxValue() / 1000.0);
+    }
+
+    /**
+     * 메시지 코드별 히스토그램을 &lt;코드&gt;.hgrm 파일로 저장 (단위: 밀리초)
+     * 오류가 있는 코드는 오류 요청만의 분포를 &lt;코드&gt;.errors.hgrm으로 함께 저장한다.
+     *
+     * HdrHistogram 플로터 등에서 바로 읽을 수 있는 백분위 분포 형식이다.
+     */
+    public void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            writeHistogram(e.getValue().histogram, dir.resolve(e.getKey() + ".hgrm"));
+            if (e.getValue().errorHistogram.getTotalCount() > 0) {
+                writeHistogram(e.getValue().errorHistogram, dir.resolve(e.getKey() + ".errors.hgrm"));
+            }
+        }
+    }
+
+    private static void writeHistogram(Histogram histogram, Path file) throws IOException {
+        try (PrintStream ps = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(ps, 1000.0);
+        }
+    }
+
+    private static class Entry {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final ConcurrentHistogram errorHistogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,252 @@
+package springware.mci.bench.load;
+
+import demo.mci.banking.biz.BankBizRegistry;
+import demo.mci.banking.tcp.BankTcpServer;
+import demo.mci.card.http.CardHttpServer;
+import demo.mci.common.DemoConstants;
+import demo.mci.common.DemoLayoutRegistry;
+import demo.mci.common.DemoMessageCodes;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.core.CorrelationKeyExtractor;
+import springware.mci.client.core.MciClient;
+import springware.mci.client.http.HttpClient;
+import springware.mci.client.pool.PoolConfig;
+import springware.mci.client.pool.PooledMciClient;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.client.tcp.UdpClient;
+import springware.mci.common.core.TransportType;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.logging.LogLevel;
+import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.server.biz.Biz;
+import springware.mci.server.biz.BizRegistry;
+import springware.mci.server.config.ServerConfig;
+import springware.mci.server.tcp.UdpServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 생성기 클라이언트 유형
+ *
+ * 유형별로 사용할 MciClient 구현, 대상 데모 서버, 지원 메시지 코드를 정의한다.
+ */
+public enum LoadClientType {
+
+    /**
+     * 연결마다 TcpClient 하나 (BankTcpServer)
+     */
+    TCP(DemoConstants.DEFAULT_TCP_PORT, "BAL1=70,TRF1=20,TXH1=10", false) {
+        @Override
+        List<MciClient> createClients(LoadGeneratorConfig config, LayoutManager layoutManager) {
+            List<MciClient> clients = new ArrayList<>();
+            for (int i = 0; i < config.getConnections(); i++) {
+                clients.add(new TcpClient(bankTcpConfig(config, "load-tcp-" + i), layoutManager,
+                        new DefaultMessageLogger()));
+            }
+            return clients;
+        }
+
+        @Override
+        AutoCloseable startServer(int port) {
+            return startBankTcpServer(port);
+        }
+    },
+
+    /**
+     * 연결 풀을 공유하는 PooledMciClient (BankTcpServer)
+     */
+    POOLED(DemoConstants.DEFAULT_TCP_PORT, "BAL1=70,TRF1=20,TXH1=10", true) {
+        @Override
+        List<MciClient> createClients(LoadGeneratorConfig config, LayoutManager layoutManager) {
+            PoolConfig poolConfig = PoolConfig.builder()
+                    .minSize(config.getConnections())
+                    .maxSize(config.getConnections())
+                    .acquireTimeout(config.getTimeoutMillis())
+                    .validateOnAcquire(false)
+                    .build();
+            return List.of(new PooledMciClient(bankTcpConfig(config, "load-pooled"), poolConfig,
+                    layoutManager, new DefaultMessageLogger()));
+        }
+
+        @Override
+        AutoCloseable startServer(int port) {
+            return startBankTcpServer(port);
+        }
+    },
+
+    /**
+     * 연결마다 UdpClient 하나 (코어 UdpServer + 은행 Biz)
+     */
+    UDP(DemoConstants.DEFAULT_UDP_PORT, "BAL1=70,TRF1=20,TXH1=10", false) {
+        @Override
+        List<MciClient> createClients(LoadGeneratorConfig config, LayoutManager layoutManager) {
+            List<MciClient> clients = new ArrayList<>();
+            for (int i = 0; i < config.getConnections(); i++) {
+                ClientConfig clientConfig = ClientConfig.builder()
+                        .clientId("load-udp-" + i)
+                        .host(config.getHost())
+                        .port(config.getEffectivePort())
+                        .transportType(TransportType.UDP)
+                        .readTimeout(config.getTimeoutMillis())
+                        .retryEnabled(false)
+                        .correlationKeyExtractor(CorrelationKeyExtractor.field("seqNo"))
+                        .logLevel(LogLevel.NONE)
+                        .build();
+                clients.add(new UdpClient(clientConfig, layoutManager, new DefaultMessageLogger()));
+            }
+            return clients;
+        }
+
+        @Override
+        AutoCloseable startServer(int port) {
+            // 데모 모듈에는 UDP 서버가 없으므로 코어 UdpServer에 은행 Biz를 연결한다.
+            ServerConfig serverConfig = ServerConfig.builder()
+                    .serverId("load-udp-server")
+                    .port(port)
+                    .transportType(TransportType.UDP)
+                    .logLevel(LogLevel.NONE)
+                    .build();
+            UdpServer server = new UdpServer(serverConfig, new DemoLayoutRegistry().getLayoutManager(),
+                    new DefaultMessageLogger());
+            BizRegistry bizRegistry = new BankBizRegistry().getBizRegistry();
+            server.setDefaultHandler((request, context) -> {
+                Biz biz = bizRegistry.getBiz(request.getMessageCode());
+                if (biz == null) {
+                    throw new IllegalStateException("No Biz for " + request.getMessageCode());
+                }
+                return biz.execute(request, context);
+            });
+            server.start();
+            return server::stop;
+        }
+    },
+
+    /**
+     * 연결마다 HttpClient 하나 (CardHttpServer)
+     */
+    HTTP(DemoConstants.DEFAULT_CARD_HTTP_PORT, "CRD1=100", false) {
+        @Override
+        List<MciClient> createClients(LoadGeneratorConfig config, LayoutManager layoutManager) {
+            List<MciClient> clients = new ArrayList<>();
+            for (int i = 0; i < config.getConnections(); i++) {
+                ClientConfig clientConfig = ClientConfig.builder()
+                        .clientId("load-http-" + i)
+                        .host(config.getHost())
+                        .port(config.getEffectivePort())
+                        .transportType(TransportType.HTTP)
+                        .readTimeout(config.getTimeoutMillis())
+                        .retryEnabled(false)
+                        .logLevel(LogLevel.NONE)
+                        .build();
+                HttpClient client = new HttpClient(clientConfig, layoutManager, new DefaultMessageLogger());
+                client.registerEndpoints(Map.of(DemoMessageCodes.CARD_LIST_REQ, "/api/cards"));
+                clients.add(client);
+            }
+            return clients;
+        }
+
+        @Override
+        AutoCloseable startServer(int port) {
+            CardHttpServer server = new CardHttpServer(port);
+            server.start();
+            return server::stop;
+        }
+    };
+
+    private static final Set<String> BANK_CODES = Set.of(
+            DemoMessageCodes.BALANCE_INQUIRY_REQ,
+            DemoMessageCodes.TRANSFER_REQ,
+            DemoMessageCodes.TX_HISTORY_REQ);
+
+    private static final Set<String> CARD_CODES = Set.of(DemoMessageCodes.CARD_LIST_REQ);
+
+    private final int defaultPort;
+    private final String defaultMix;
+    private final boolean blocking;
+
+    LoadClientType(int defaultPort, String defaultMix, boolean blocking) {
+        this.defaultPort = defaultPort;
+        this.defaultMix = defaultMix;
+        this.blocking = blocking;
+    }
+
+    /**
+     * 부하용 클라이언트 생성 (연결 전)
+     */
+    abstract List<MciClient> createClients(LoadGeneratorConfig config, LayoutManager layoutManager);
+
+    /**
+     * 내장 데모 서버 시작
+     *
+     * @return 서버 종료 핸들
+     */
+    abstract AutoCloseable startServer(int port) throws Exception;
+
+    public int getDefaultPort() {
+        return defaultPort;
+    }
+
+    public String getDefaultMix() {
+        return defaultMix;
+    }
+
+    /**
+     * sendAsync가 호출 스레드를 막는지 여부 (풀 클라이언트는 연결 획득을 기다림)
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    /**
+     * 대상 서버가 처리하는 메시지 코드인지 확인
+     */
+    public boolean supports(String messageCode) {
+        return this == HTTP ? CARD_CODES.contains(messageCode) : BANK_CODES.contains(messageCode);
+    }
+
+    public static LoadClientType of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown client type: " + name + " (tcp|pooled|udp|http)");
+        }
+    }
+
+    /**
+     * BankTcpServer와 같은 프로토콜 설정 (4바이트 바이너리 길이 필드)
+     *
+     * 서버가 요청을 스레드 풀에서 처리하므로 응답 순서가 바뀔 수 있어 seqNo로 매칭한다.
+     */
+    private static ClientConfig bankTcpConfig(LoadGeneratorConfig config, String clientId) {
+        ProtocolConfig protocolConfig = ProtocolConfig.builder()
+                .lengthFieldOffset(0)
+                .lengthFieldLength(4)
+                .lengthFieldType(LengthFieldType.BINARY_BIG_ENDIAN)
+                .lengthIncludesHeader(false)
+                .initialBytesToStrip(4)
+                .build();
+
+        return ClientConfig.builder()
+                .clientId(clientId)
+                .host(config.getHost())
+                .port(config.getEffectivePort())
+                .protocolConfig(protocolConfig)
+                .readTimeout(config.getTimeoutMillis())
+                .retryEnabled(false)
+                .correlationKeyExtractor(CorrelationKeyExtractor.field("seqNo"))
+                .logLevel(LogLevel.NONE)
+                .build();
+    }
+
+    private static AutoCloseable startBankTcpServer(int port) {
+        BankTcpServer server = new BankTcpServer(port);
+        server.start();
+        return server::stop;
+    }
+}
@@ -0,0 +1,169 @@
+package springware.mci.bench.load;
+
+import demo.mci.common.DemoConstants;
+import demo.mci.common.DemoLayoutRegistry;
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.client.core.MciClient;
+import springware.mci.common.core.Message;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 데모 서버 대상 개방형(open-loop) 부하 생성기
+ *
+ * 요청은 응답과 무관하게 고정 도착률(--rate)로 예약되고, 지연시간은 실제 송신 시각이 아니라
+ * 예약된(의도한) 송신 시각부터 잰다. 서버가 밀려 송신이 늦어져도 그 대기 시간이 지연시간에
+ * 포함되므로 coordinated omission으로 꼬리 지연이 가려지지 않는다.
+ *
+ * 실행:
+ * <pre>
+ * java -cp springware-mci-bench/target/benchmarks.jar springware.mci.bench.load.LoadGenerator \
+ *     --client tcp --embedded --rate 2000 --duration 30 --mix BAL1=70,TRF1=20,TXH1=10 \
+ *     --connections 4 --output target/load
+ * </pre>
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private final LoadGeneratorConfig config;
+    private final MessageMix mix;
+    private final DemoRequests requests = new DemoRequests();
+    private final LatencyRecorder recorder;
+
+    public LoadGenerator(LoadGeneratorConfig config) {
+        this.config = config;
+        this.mix = config.getEffectiveMix();
+        this.recorder = new LatencyRecorder(mix.getCodes());
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @return 메시지 코드별 지연시간 기록
+     */
+    public LatencyRecorder run() throws Exception {
+        AutoCloseable server = config.isEmbedded()
+                ? config.getClientType().startServer(config.getEffectivePort())
+                : null;
+        List<MciClient> clients = config.getClientType()
+                .createClients(config, new DemoLayoutRegistry().getLayoutManager());
+        ExecutorService sender = config.getClientType().isBlocking()
+                ? Executors.newFixedThreadPool(config.getConcurrency(), daemonThreads())
+                : null;
+        try {
+            for (MciClient client : clients) {
+                client.connect();
+            }
+            generate(clients, sender);
+        } finally {
+            if (sender != null) {
+                sender.shutdownNow();
+            }
+            for (MciClient client : clients) {
+                client.close();
+            }
+            if (server != null) {
+                server.close();
+            }
+        }
+        return recorder;
+    }
+
+    private void generate(List<MciClient> clients, ExecutorService sender) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(config.getConcurrency());
+        double intervalNanos = (double) TimeUnit.SECONDS.toNanos(1) / config.getRate();
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            // 동시 처리 한도에 걸려 기다린 시간도 의도한 송신 시각 기준으로 지연시간에 포함된다.
+            inFlight.acquire();
+            String messageCode = mix.next();
+            boolean measured = intended >= measureStart;
+            MciClient client = clients.get((int) (i % clients.size()));
+            send(client, sender, requests.create(messageCode)).whenComplete((response, error) -> {
+                long latency = System.nanoTime() - intended;
+                inFlight.release();
+                if (!measured) {
+                    return;
+                }
+                if (error != null) {
+                    // 타임아웃된 요청이 꼬리 지연에서 빠지지 않도록 실패까지 걸린 시간도 기록
+                    recorder.recordError(messageCode, latency);
+                } else {
+                    recorder.recordResponse(messageCode, latency,
+                            DemoConstants.RSP_SUCCESS.equals(response.getString("rspCode")));
+                }
+            });
+        }
+
+        // 남은 요청이 끝날 때까지 대기
+        if (!inFlight.tryAcquire(config.getConcurrency(), config.getTimeoutMillis() * 2L, TimeUnit.MILLISECONDS)) {
+            log.warn("In-flight requests did not complete before shutdown");
+        }
+    }
+
+    private CompletableFuture<Message> send(MciClient client, ExecutorService sender, Message request) {
+        try {
+            if (sender != null) {
+                return CompletableFuture.supplyAsync(() -> client.send(request, config.getTimeoutMillis()), sender);
+            }
+            return client.sendAsync(request, config.getTimeoutMillis());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-sender");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorConfig config;
+        try {
+            config = LoadGeneratorConfig.fromArgs(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: LoadGenerator [--client tcp|pooled|udp|http] [--host H] [--port P] [--embedded]"
+                    + " [--rate N] [--duration S] [--warmup S] [--mix BAL1=70,TRF1=20,TXH1=10]"
+                    + " [--connections N] [--concurrency N] [--timeout MS] [--output DIR]");
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf("client=%s target=%s:%d%s rate=%d/s duration=%ds warmup=%ds mix=%s connections=%d concurrency=%d%n",
+                config.getClientType().name().toLowerCase(), config.getHost(), config.getEffectivePort(),
+                config.isEmbedded() ? " (embedded)" : "", config.getRate(), config.getDurationSeconds(),
+                config.getWarmupSeconds(), config.getEffectiveMix(), config.getConnections(),
+                config.getConcurrency());
+
+        LatencyRecorder recorder = new LoadGenerator(config).run();
+        recorder.printSummary(System.out, config.getDurationSeconds());
+        if (config.getOutputDir() != null) {
+            recorder.writeHistograms(config.getOutputDir());
+            System.out.println("Histograms written to " + config.getOutputDir().toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package springware.mci.bench.load;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 부하 생성기 설정
+ */
+@Getter
+@Builder
+public class LoadGeneratorConfig {
+
+    /**
+     * 클라이언트 유형
+     */
+    @Builder.Default
+    private final LoadClientType clientType = LoadClientType.TCP;
+
+    /**
+     * 대상 호스트
+     */
+    @Builder.Default
+    private final String host = "localhost";
+
+    /**
+     * 대상 포트 (0이면 클라이언트 유형의 기본 포트)
+     */
+    @Builder.Default
+    private final int port = 0;
+
+    /**
+     * 같은 JVM에 데모 서버를 띄워서 측정할지 여부
+     */
+    @Builder.Default
+    private final boolean embedded = false;
+
+    /**
+     * 초당 요청 수 (개방형 도착률)
+     */
+    @Builder.Default
+    private final int rate = 1000;
+
+    /**
+     * 측정 시간 (초)
+     */
+    @Builder.Default
+    private final int durationSeconds = 30;
+
+    /**
+     * 워밍업 시간 (초, 히스토그램에 기록하지 않음)
+     */
+    @Builder.Default
+    private final int warmupSeconds = 5;
+
+    /**
+     * 메시지 코드 구성
+     */
+    private final MessageMix mix;
+
+    /**
+     * 클라이언트 연결 수 (풀 클라이언트는 풀 최대 크기)
+     */
+    @Builder.Default
+    private final int connections = 1;
+
+    /**
+     * 최대 동시 처리 요청 수
+     */
+    @Builder.Default
+    private final int concurrency = 256;
+
+    /**
+     * 응답 타임아웃 (밀리초)
+     */
+    @Builder.Default
+    private final int timeoutMillis = 5000;
+
+    /**
+     * 히스토그램(.hgrm) 출력 디렉터리 (null이면 파일로 남기지 않음)
+     */
+    private final Path outputDir;
+
+    /**
+     * 대상 포트 (지정하지 않으면 클라이언트 유형의 기본 포트)
+     */
+    public int getEffectivePort() {
+        return port > 0 ? port : clientType.getDefaultPort();
+    }
+
+    /**
+     * 메시지 구성 (지정하지 않으면 클라이언트 유형의 기본 구성)
+     */
+    public MessageMix getEffectiveMix() {
+        return mix != null ? mix : MessageMix.parse(clientType.getDefaultMix());
+    }
+
+    /**
+     * 명령행 인자 파싱
+     *
+     * --client tcp|pooled|udp|http --host H --port P --embedded --rate N --duration S
+     * --warmup S --mix BAL1=70,TRF1=20,TXH1=10 --connections N --concurrency N
+     * --timeout MS --output DIR
+     */
+    public static LoadGeneratorConfig fromArgs(String[] args) {
+        LoadGeneratorConfigBuilder builder = builder();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--embedded".equals(option)) {
+                builder.embedded(true);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option: " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--client":
+                    builder.clientType(LoadClientType.of(value));
+                    break;
+                case "--host":
+                    builder.host(value);
+                    break;
+                case "--port":
+                    builder.port(Integer.parseInt(value));
+                    break;
+                case "--rate":
+                    builder.rate(Integer.parseInt(value));
+                    break;
+                case "--duration":
+                    builder.durationSeconds(Integer.parseInt(value));
+                    break;
+                case "--warmup":
+                    builder.warmupSeconds(Integer.parseInt(value));
+                    break;
+                case "--mix":
+                    builder.mix(MessageMix.parse(value));
+                    break;
+                case "--connections":
+                    builder.connections(Integer.parseInt(value));
+                    break;
+                case "--concurrency":
+                    builder.concurrency(Integer.parseInt(value));
+                    break;
+                case "--timeout":
+                    builder.timeoutMillis(Integer.parseInt(value));
+                    break;
+                case "--output":
+                    builder.outputDir(Paths.get(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        LoadGeneratorConfig config = builder.build();
+        config.validate();
+        return config;
+    }
+
+    /**
+     * 설정 검증
+     */
+    public void validate() {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("warmup must not be negative");
+        }
+        if (connections <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("connections and concurrency must be positive");
+        }
+        for (String code : getEffectiveMix().getCodes()) {
+            if (!clientType.supports(code)) {
+                throw new IllegalArgumentException(
+                        "Message code " + code + " is not served by " + clientType.name().toLowerCase() + " target");
+            }
+        }
+    }
+}
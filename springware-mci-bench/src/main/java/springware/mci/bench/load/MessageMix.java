@@ -0,0 +1,93 @@
+package springware.mci.bench.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가중치 기반 메시지 코드 구성
+ *
+ * "BAL1=70,TRF1=20,TXH1=10" 형식을 파싱하여 가중치 비율대로 메시지 코드를 고른다.
+ */
+public class MessageMix {
+
+    private final Map<String, Integer> weights;
+    private final String[] codes;
+    private final int[] cumulative;
+    private final int total;
+
+    public MessageMix(Map<String, Integer> weights) {
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Message mix is empty");
+        }
+        this.weights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        this.codes = new String[weights.size()];
+        this.cumulative = new int[weights.size()];
+
+        int sum = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : this.weights.entrySet()) {
+            if (entry.getValue() <= 0) {
+                throw new IllegalArgumentException("Weight must be positive: " + entry.getKey());
+            }
+            sum += entry.getValue();
+            codes[i] = entry.getKey();
+            cumulative[i] = sum;
+            i++;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * "코드=가중치,..." 형식 파싱 (가중치 생략 시 1)
+     */
+    public static MessageMix parse(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String item = part.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            int eq = item.indexOf('=');
+            String code = eq < 0 ? item : item.substring(0, eq).trim();
+            int weight = eq < 0 ? 1 : Integer.parseInt(item.substring(eq + 1).trim());
+            weights.merge(code, weight, Integer::sum);
+        }
+        return new MessageMix(weights);
+    }
+
+    /**
+     * 가중치 비율에 따라 다음 메시지 코드 선택
+     */
+    public String next() {
+        int r = ThreadLocalRandom.current().nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return codes[i];
+            }
+        }
+        return codes[codes.length - 1];
+    }
+
+    /**
+     * 구성된 메시지 코드 목록
+     */
+    public List<String> getCodes() {
+        return new ArrayList<>(weights.keySet());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        weights.forEach((code, weight) -> {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(code).append('=').append(weight);
+        });
+        return sb.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package springware.mci.bench.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.BenchMessages;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.logging.LogLevel;
+import springware.mci.common.logging.MaskingRule;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마스킹 및 상세 로깅 벤치마크
+ *
+ * 상세 로깅은 BENCH_MESSAGE_LOG 로거(NOP 어펜더)로 보내 출력 비용 없이
+ * 필드 포맷팅과 마스킹 비용만 측정한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar MessageLoggingBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageLoggingBenchmark {
+
+    private final MaskingRule cardRule = MaskingRule.cardNumber("cardNo");
+    private final MaskingRule accountRule = MaskingRule.accountNumber("accountNo");
+    private final MaskingRule ssnRule = MaskingRule.ssn("ssn");
+
+    private DefaultMessageLogger logger;
+    private Message transfer;
+    private MessageLayout transferLayout;
+    private Message history;
+    private MessageLayout historyLayout;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        logger = new DefaultMessageLogger("BENCH_MESSAGE_LOG");
+        logger.setLogLevel(LogLevel.DETAIL_MASKED);
+        logger.registerDefaultMaskingRules();
+
+        LayoutManager layouts = BenchMessages.demoLayouts();
+        transfer = BenchMessages.transfer();
+        transferLayout = layouts.getLayout(BenchMessages.TRANSFER);
+        history = BenchMessages.transactionHistory(50);
+        historyLayout = layouts.getLayout(BenchMessages.TX_HISTORY);
+    }
+
+    @Benchmark
+    public String maskCardNumber() {
+        return cardRule.apply("1234567812345678");
+    }
+
+    @Benchmark
+    public String maskAccountNumber() {
+        return accountRule.apply("1101234567890");
+    }
+
+    @Benchmark
+    public String maskSsn() {
+        return ssnRule.apply("9001011234567");
+    }
+
+    @Benchmark
+    public void logDetailFixed() {
+        logger.logDetail("SEND", transfer, transferLayout);
+    }
+
+    @Benchmark
+    public void logDetailRepeating() {
+        logger.logDetail("RECV", history, historyLayout);
+    }
+}
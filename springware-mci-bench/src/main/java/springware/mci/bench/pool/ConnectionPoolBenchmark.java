@@ -0,0 +1,111 @@
+package springware.mci.bench.pool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import springware.mci.bench.BenchMessages;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.pool.ConnectionPool;
+import springware.mci.client.pool.PoolConfig;
+import springware.mci.client.pool.TcpConnectionPool;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.logging.LogLevel;
+import springware.mci.server.config.ServerConfig;
+import springware.mci.server.tcp.TcpServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 풀 경합 벤치마크
+ *
+ * 64개 스레드가 연결을 획득하고 짧은 작업 후 반환하는 비용을 측정한다.
+ * legacy는 단일 LinkedBlockingQueue 기반 기존 구현(LegacyConnectionPool),
+ * bag은 ConcurrentBag 기반 TcpConnectionPool이다. 연결 수가 스레드 수보다 적으면 대기/전달 경로를,
+ * 같으면 스레드 로컬 재사용 경로를 주로 측정한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar ConnectionPoolBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class ConnectionPoolBenchmark {
+
+    @Param({"legacy", "bag"})
+    private String pool;
+
+    @Param({"8", "64"})
+    private int maxSize;
+
+    /**
+     * 연결을 잡고 있는 동안의 작업량 (Blackhole.consumeCPU 토큰)
+     */
+    @Param({"100"})
+    private int work;
+
+    private TcpServer server;
+    private ConnectionPool<TcpClient> connections;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        server = new TcpServer(ServerConfig.builder()
+                .host("127.0.0.1")
+                .port(port)
+                .logLevel(LogLevel.NONE)
+                .build(), BenchMessages.demoLayouts(), new DefaultMessageLogger());
+        server.start();
+
+        ClientConfig clientConfig = ClientConfig.builder()
+                .host("127.0.0.1")
+                .port(port)
+                .logLevel(LogLevel.NONE)
+                .retryEnabled(false)
+                .build();
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(maxSize)
+                .maxSize(maxSize)
+                .build();
+        connections = "legacy".equals(pool)
+                ? new LegacyConnectionPool(clientConfig, poolConfig)
+                : new TcpConnectionPool(clientConfig, poolConfig);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connections.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public void acquireRelease() {
+        TcpClient client = connections.acquire();
+        try {
+            Blackhole.consumeCPU(work);
+        } finally {
+            connections.release(client);
+        }
+    }
+}
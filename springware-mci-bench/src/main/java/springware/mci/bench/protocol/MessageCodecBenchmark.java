@@ -0,0 +1,92 @@
+package springware.mci.bench.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.BenchMessages;
+import springware.mci.common.core.Message;
+import springware.mci.common.protocol.DefaultMessageCodec;
+import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.ProtocolConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 길이 필드 타입별 DefaultMessageCodec 벤치마크
+ *
+ * 데모 이체 요청(TRF1)을 배열/풀링 버퍼로 인코딩하고, 프레임을 다시 메시지로 디코딩한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar MessageCodecBenchmark -prof gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+    @Param({"NUMERIC_STRING", "BINARY_BIG_ENDIAN", "BINARY_LITTLE_ENDIAN", "BCD", "NONE"})
+    private LengthFieldType lengthFieldType;
+
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
+    private DefaultMessageCodec codec;
+    private Message message;
+    private byte[] frame;
+    private ByteBuf frameBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProtocolConfig config = ProtocolConfig.builder()
+                .lengthFieldType(lengthFieldType)
+                .lengthFieldLength(4)
+                .build();
+        codec = new DefaultMessageCodec(config, BenchMessages.demoLayouts());
+        message = BenchMessages.transfer();
+        frame = codec.encode(message);
+        frameBuffer = Unpooled.directBuffer(frame.length).writeBytes(frame);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        frameBuffer.release();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(message);
+    }
+
+    @Benchmark
+    public int encodeIntoPooledBuffer() {
+        ByteBuf buf = codec.encode(message, allocator);
+        int length = buf.readableBytes();
+        buf.release();
+        return length;
+    }
+
+    @Benchmark
+    public Message decode() {
+        return codec.decode(frame);
+    }
+
+    @Benchmark
+    public Message decodeDirectBuffer() {
+        return codec.decode(frameBuffer);
+    }
+}
@@ -0,0 +1,80 @@
+package springware.mci.bench.transport;
+
+import demo.mci.banking.tcp.BankTcpClient;
+import demo.mci.banking.tcp.BankTcpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.common.core.Message;
+import springware.mci.common.transport.IoTransport;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데모 BankTcpServer 플러시 통합 벤치마크
+ *
+ * 16개 스레드가 하나의 연결로 요청을 동시에 보내(파이프라이닝) 메시지마다 flush하는 경우와
+ * 클라이언트/서버 양쪽에서 flush를 통합하는 경우의 처리량과 지연 분포를 비교한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar BankTcpFlushBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(16)
+@Fork(1)
+public class BankTcpFlushBenchmark {
+
+    private static final String ACCOUNT_NO = "1234567890123456789";
+
+    @Param({"false", "true"})
+    private boolean flushConsolidation;
+
+    private BankTcpServer server;
+    private BankTcpClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        server = new BankTcpServer(port, IoTransport.AUTO, flushConsolidation);
+        server.start();
+
+        client = new BankTcpClient("localhost", port, IoTransport.AUTO, flushConsolidation);
+        client.connect();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.disconnect();
+        server.stop();
+    }
+
+    @Benchmark
+    public Message balanceInquiry() {
+        return client.balanceInquiry(ACCOUNT_NO);
+    }
+
+    @Benchmark
+    public Message echo() {
+        return client.echo("benchmark");
+    }
+}
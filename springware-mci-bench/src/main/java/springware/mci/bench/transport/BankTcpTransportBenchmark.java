@@ -0,0 +1,81 @@
+package springware.mci.bench.transport;
+
+import demo.mci.banking.tcp.BankTcpClient;
+import demo.mci.banking.tcp.BankTcpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.common.core.Message;
+import springware.mci.common.transport.IoTransport;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데모 BankTcpServer 전송 구현별 벤치마크
+ *
+ * 서버와 클라이언트를 같은 전송 구현(NIO/EPOLL)으로 띄우고, 하나의 연결에서 여러 스레드가
+ * 잔액조회/에코 요청을 동시에 보내 처리량과 지연 분포(SampleTime 백분위)를 측정한다.
+ * EPOLL을 사용할 수 없는 환경에서는 NIO로 대체되므로 두 결과가 같게 나온다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar BankTcpTransportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+public class BankTcpTransportBenchmark {
+
+    private static final String ACCOUNT_NO = "1234567890123456789";
+
+    @Param({"NIO", "EPOLL"})
+    private IoTransport transport;
+
+    private BankTcpServer server;
+    private BankTcpClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        server = new BankTcpServer(port, transport);
+        server.start();
+
+        client = new BankTcpClient("localhost", port, transport);
+        client.connect();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.disconnect();
+        server.stop();
+    }
+
+    @Benchmark
+    public Message balanceInquiry() {
+        return client.balanceInquiry(ACCOUNT_NO);
+    }
+
+    @Benchmark
+    public Message echo() {
+        return client.echo("benchmark");
+    }
+}
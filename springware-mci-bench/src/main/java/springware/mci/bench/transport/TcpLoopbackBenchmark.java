@@ -0,0 +1,92 @@
+package springware.mci.bench.transport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import springware.mci.bench.BenchMessages;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.logging.LogLevel;
+import springware.mci.server.config.ServerConfig;
+import springware.mci.server.tcp.TcpServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코어 TcpServer/TcpClient 루프백 왕복 벤치마크
+ *
+ * 같은 JVM에서 기본 프로토콜 설정(4자리 숫자 길이 필드)으로 서버와 클라이언트를 띄우고,
+ * 서버는 요청을 그대로 응답한다. 메시지 로깅은 끄고 프레임/코덱/전송 비용만 측정한다.
+ *
+ * 실행: java -jar springware-mci-bench/target/benchmarks.jar TcpLoopbackBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class TcpLoopbackBenchmark {
+
+    @Param({BenchMessages.TRANSFER, BenchMessages.TX_HISTORY})
+    private String messageCode;
+
+    private TcpServer server;
+    private TcpClient client;
+    private Message request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        LayoutManager layouts = BenchMessages.demoLayouts();
+
+        server = new TcpServer(ServerConfig.builder()
+                .host("127.0.0.1")
+                .port(port)
+                .logLevel(LogLevel.NONE)
+                .build(), layouts, new DefaultMessageLogger());
+        server.registerHandler(messageCode, (message, context) -> message);
+        server.start();
+
+        client = new TcpClient(ClientConfig.builder()
+                .host("127.0.0.1")
+                .port(port)
+                .logLevel(LogLevel.NONE)
+                .retryEnabled(false)
+                .build(), layouts, new DefaultMessageLogger());
+        client.connect();
+
+        request = BenchMessages.TRANSFER.equals(messageCode)
+                ? BenchMessages.transfer()
+                : BenchMessages.transactionHistory(50);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.disconnect();
+        server.stop();
+    }
+
+    @Benchmark
+    public Message roundTrip() {
+        return client.send(request);
+    }
+}
@@ -0,0 +1,238 @@
+package springware.mci.client.balancer;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.client.circuitbreaker.CircuitBreaker;
+import springware.mci.client.circuitbreaker.CircuitBreakerOpenException;
+import springware.mci.client.circuitbreaker.CircuitBreakerState;
+import springware.mci.client.config.Endpoint;
+import springware.mci.client.healthcheck.HealthChecker;
+import springware.mci.client.pool.PooledMciClient;
+import springware.mci.client.tcp.TcpClient;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 분산 대상 엔드포인트 상태
+ *
+ * 엔드포인트별 연결 풀, 서킷 브레이커, 헬스 체커(선택)와 선택 전략이 참고하는 처리 중 요청 수,
+ * 지연시간 EWMA, 선택 비중을 가진다. 서킷이 열려 있거나 헬스 체커가 불건전으로 판단하면 제외되고,
+ * 서킷이 HALF_OPEN이면 최소 비중으로 시험 요청만 받으며, 다시 CLOSED가 되면 재투입 구간 동안
+ * 비중을 점차 늘린다.
+ */
+@Slf4j
+public final class BalancedEndpoint {
+
+    /**
+     * 시험/재투입 시작 시 선택 비중
+     */
+    static final double MIN_WEIGHT = 0.1;
+
+    private final Endpoint endpoint;
+    private final PooledMciClient client;
+    private final CircuitBreaker circuitBreaker;
+    private final HealthChecker healthChecker;
+    private final long readmissionNanos;
+    private final long decayNanos;
+
+    final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicBoolean ejected = new AtomicBoolean(false);
+    private volatile boolean probing;
+    private volatile boolean rampingUp;
+    private volatile long admittedAt;
+
+    private volatile double latencyEwma;
+    private long lastLatencySample;
+
+    BalancedEndpoint(Endpoint endpoint, PooledMciClient client, CircuitBreaker circuitBreaker,
+                     HealthChecker healthChecker, LoadBalancerConfig config) {
+        this.endpoint = endpoint;
+        this.client = client;
+        this.circuitBreaker = circuitBreaker;
+        this.healthChecker = healthChecker;
+        this.readmissionNanos = TimeUnit.MILLISECONDS.toNanos(config.getReadmissionWindow());
+        this.decayNanos = TimeUnit.MILLISECONDS.toNanos(config.getEwmaDecayTime());
+    }
+
+    /**
+     * 현재 상태 갱신
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 선택 가능하면 true
+     */
+    boolean refresh(long now) {
+        boolean breakerEnabled = circuitBreaker.getConfig().isEnabled();
+        CircuitBreakerState state = breakerEnabled ? circuitBreaker.getState() : CircuitBreakerState.CLOSED;
+        boolean healthy = healthChecker == null || healthChecker.isHealthy();
+
+        if (!healthy || (state == CircuitBreakerState.OPEN && circuitBreaker.getRemainingOpenTime() > 0)) {
+            probing = false;
+            if (ejected.compareAndSet(false, true)) {
+                log.warn("Endpoint {} ejected: {}", endpoint, healthy ? "circuit breaker open" : "unhealthy");
+            }
+            return false;
+        }
+
+        if (state != CircuitBreakerState.CLOSED) {
+            // 열림 시간 경과 또는 HALF_OPEN: 서킷 브레이커가 허용하는 시험 요청만
+            probing = true;
+            ejected.set(true);
+            return true;
+        }
+
+        probing = false;
+        if (ejected.compareAndSet(true, false)) {
+            admittedAt = now;
+            rampingUp = readmissionNanos > 0;
+            log.info("Endpoint {} re-admitted", endpoint);
+        }
+        return true;
+    }
+
+    /**
+     * 선택 비중 (0.1 ~ 1.0, 1 미만이면 그 확률로만 후보에 포함)
+     */
+    public double getWeight() {
+        return getWeight(System.nanoTime());
+    }
+
+    double getWeight(long now) {
+        if (probing) {
+            return MIN_WEIGHT;
+        }
+        if (!rampingUp) {
+            return 1.0;
+        }
+        long elapsed = now - admittedAt;
+        if (elapsed >= readmissionNanos) {
+            rampingUp = false;
+            return 1.0;
+        }
+        return MIN_WEIGHT + (1.0 - MIN_WEIGHT) * elapsed / readmissionNanos;
+    }
+
+    /**
+     * 요청용 연결 획득 (서킷 브레이커 확인 후 풀에서 획득)
+     *
+     * @throws CircuitBreakerOpenException 서킷 브레이커가 요청을 허용하지 않는 경우
+     */
+    TcpClient acquire() {
+        boolean breakerEnabled = circuitBreaker.getConfig().isEnabled();
+        if (breakerEnabled && !circuitBreaker.allowRequest()) {
+            throw new CircuitBreakerOpenException(
+                    String.format("CircuitBreaker is OPEN for %s, remaining time: %dms",
+                            endpoint, circuitBreaker.getRemainingOpenTime()),
+                    circuitBreaker.getState(),
+                    circuitBreaker.getRemainingOpenTime());
+        }
+
+        TcpClient connection;
+        try {
+            connection = client.getPool().acquire();
+        } catch (RuntimeException e) {
+            if (breakerEnabled) {
+                circuitBreaker.onFailure(e);
+            }
+            throw e;
+        }
+        outstanding.incrementAndGet();
+        return connection;
+    }
+
+    /**
+     * 요청 완료 후 연결 반환 및 결과 기록
+     *
+     * @param connection 획득한 연결
+     * @param start      요청 시작 시각 (System.nanoTime)
+     * @param error      실패 원인 (성공이면 null)
+     */
+    void release(TcpClient connection, long start, Throwable error) {
+        outstanding.decrementAndGet();
+        client.getPool().release(connection);
+
+        boolean breakerEnabled = circuitBreaker.getConfig().isEnabled();
+        if (error == null) {
+            long now = System.nanoTime();
+            recordLatency(now - start, now);
+            if (breakerEnabled) {
+                circuitBreaker.onSuccess();
+            }
+        } else if (breakerEnabled) {
+            circuitBreaker.onFailure(error);
+        }
+    }
+
+    /**
+     * 지연시간 EWMA 갱신 (peak EWMA: 더 느린 값은 바로 반영하고, 빠른 값은 경과 시간에 따라 서서히 반영)
+     */
+    synchronized void recordLatency(long nanos, long now) {
+        double current = latencyEwma;
+        if (current == 0 || nanos > current) {
+            latencyEwma = nanos;
+        } else {
+            double decay = Math.exp(-(double) Math.max(now - lastLatencySample, 0L) / decayNanos);
+            latencyEwma = current * decay + nanos * (1 - decay);
+        }
+        lastLatencySample = now;
+    }
+
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 처리 중 요청 수
+     */
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    /**
+     * 지연시간 EWMA (나노초, 측정 전이면 0)
+     */
+    public double getLatencyEwma() {
+        return latencyEwma;
+    }
+
+    /**
+     * 선택 대상에서 제외(또는 시험 중)인지 여부
+     */
+    public boolean isEjected() {
+        return ejected.get();
+    }
+
+    public PooledMciClient getClient() {
+        return client;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 헬스 체커 (헬스 체크를 사용하지 않으면 null)
+     */
+    public HealthChecker getHealthChecker() {
+        return healthChecker;
+    }
+
+    /**
+     * 헬스 체커 중지 및 연결 풀 종료
+     */
+    void close() {
+        if (healthChecker != null) {
+            healthChecker.stop();
+        }
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(outstanding=%d, ewma=%.1fus, weight=%.2f, circuit=%s, ejected=%s)",
+                endpoint, outstanding.get(), latencyEwma / 1000.0, getWeight(), circuitBreaker.getState(),
+                ejected.get());
+    }
+}
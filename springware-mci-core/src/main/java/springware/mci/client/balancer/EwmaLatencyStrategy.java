@@ -0,0 +1,15 @@
+package springware.mci.client.balancer;
+
+/**
+ * 지연시간 가중 선택 (peak EWMA)
+ *
+ * 두 후보 중 지연시간 EWMA × (처리 중 요청 + 1)이 작은 쪽을 고른다. 무작위 두 후보를 비교하므로
+ * 느렸던 엔드포인트도 가끔 선택되어 지연시간이 다시 측정된다. 측정값이 없으면 비용 0으로 먼저 선택된다.
+ */
+final class EwmaLatencyStrategy extends PowerOfTwoChoicesStrategy {
+
+    @Override
+    double cost(BalancedEndpoint endpoint) {
+        return endpoint.getLatencyEwma() * (endpoint.getOutstanding() + 1);
+    }
+}
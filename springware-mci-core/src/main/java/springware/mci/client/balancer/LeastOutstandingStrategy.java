@@ -0,0 +1,30 @@
+package springware.mci.client.balancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 처리 중 요청 최소 선택
+ *
+ * 같은 값이면 한쪽으로 몰리지 않도록 무작위 위치부터 훑는다.
+ */
+final class LeastOutstandingStrategy implements LoadBalanceStrategy {
+
+    @Override
+    public BalancedEndpoint select(List<BalancedEndpoint> candidates) {
+        int size = candidates.size();
+        int start = size > 1 ? ThreadLocalRandom.current().nextInt(size) : 0;
+
+        BalancedEndpoint best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            BalancedEndpoint candidate = candidates.get((start + i) % size);
+            int outstanding = candidate.getOutstanding();
+            if (outstanding < bestOutstanding) {
+                best = candidate;
+                bestOutstanding = outstanding;
+            }
+        }
+        return best;
+    }
+}
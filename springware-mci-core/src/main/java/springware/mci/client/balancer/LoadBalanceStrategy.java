@@ -0,0 +1,48 @@
+package springware.mci.client.balancer;
+
+import java.util.List;
+
+/**
+ * 엔드포인트 선택 전략
+ *
+ * 요청마다 호출되므로 구현은 잠금 없이 동작해야 한다.
+ */
+@FunctionalInterface
+public interface LoadBalanceStrategy {
+
+    /**
+     * 요청을 보낼 엔드포인트 선택
+     *
+     * @param candidates 선택 가능한 엔드포인트 (비어 있지 않음)
+     * @return 선택한 엔드포인트
+     */
+    BalancedEndpoint select(List<BalancedEndpoint> candidates);
+
+    /**
+     * 순서대로 돌아가며 선택
+     */
+    static LoadBalanceStrategy roundRobin() {
+        return new RoundRobinStrategy();
+    }
+
+    /**
+     * 처리 중 요청이 가장 적은 엔드포인트 선택
+     */
+    static LoadBalanceStrategy leastOutstanding() {
+        return new LeastOutstandingStrategy();
+    }
+
+    /**
+     * 무작위로 두 개를 골라 처리 중 요청이 적은 쪽 선택
+     */
+    static LoadBalanceStrategy powerOfTwoChoices() {
+        return new PowerOfTwoChoicesStrategy();
+    }
+
+    /**
+     * 무작위로 두 개를 골라 지연시간 EWMA × (처리 중 요청 + 1)이 작은 쪽 선택
+     */
+    static LoadBalanceStrategy ewmaLatency() {
+        return new EwmaLatencyStrategy();
+    }
+}
@@ -0,0 +1,359 @@
+package springware.mci.client.balancer;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.client.circuitbreaker.CircuitBreaker;
+import springware.mci.client.circuitbreaker.CircuitBreakerConfig;
+import springware.mci.client.circuitbreaker.CircuitBreakerOpenException;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.config.Endpoint;
+import springware.mci.client.core.MciClient;
+import springware.mci.client.healthcheck.HealthCheckConfig;
+import springware.mci.client.healthcheck.HealthChecker;
+import springware.mci.client.pool.PooledMciClient;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.logging.MessageLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 다중 엔드포인트 부하 분산 MCI 클라이언트
+ *
+ * {@link ClientConfig#getEndpoints()}의 엔드포인트마다 연결 풀(PooledMciClient)과 서킷 브레이커를 두고,
+ * 요청마다 {@link LoadBalanceStrategy}로 엔드포인트를 선택한다.
+ * 서킷이 열렸거나 헬스 체커(ClientConfig의 healthCheckConfig가 활성화된 경우)가 불건전으로 판단한
+ * 엔드포인트는 제외하고, 복구되면 {@link LoadBalancerConfig#getReadmissionWindow()} 동안 비중을 늘려 재투입한다.
+ * 연결 획득 실패나 서킷 열림처럼 요청을 보내기 전에 실패하면 다른 엔드포인트로 넘어간다.
+ * <pre>
+ * ClientConfig config = ClientConfig.builder()
+ *         .clientId("partner")
+ *         .endpoints(List.of(Endpoint.of("10.0.0.1", 9001), Endpoint.of("10.0.0.2", 9001)))
+ *         .build();
+ * LoadBalancedMciClient client = new LoadBalancedMciClient(config, LoadBalancerConfig.builder()
+ *         .strategy(LoadBalanceStrategy.ewmaLatency())
+ *         .build(), layoutManager, messageLogger);
+ * </pre>
+ */
+@Slf4j
+public class LoadBalancedMciClient implements MciClient {
+
+    private final ClientConfig config;
+    private final LoadBalancerConfig balancerConfig;
+    private final LoadBalanceStrategy strategy;
+    private final List<BalancedEndpoint> endpoints;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public LoadBalancedMciClient(ClientConfig clientConfig, LoadBalancerConfig balancerConfig,
+                                 LayoutManager layoutManager, MessageLogger messageLogger) {
+        balancerConfig.validate();
+        validateHealthCheck(clientConfig, balancerConfig);
+        this.config = clientConfig;
+        this.balancerConfig = balancerConfig;
+        this.strategy = balancerConfig.getStrategy();
+
+        String baseId = clientConfig.getClientId() != null ? clientConfig.getClientId() : "mci-client";
+        List<BalancedEndpoint> created = new ArrayList<>();
+        for (Endpoint endpoint : clientConfig.resolveEndpoints()) {
+            created.add(createEndpoint(baseId + "@" + endpoint, endpoint, layoutManager, messageLogger));
+        }
+        this.endpoints = Collections.unmodifiableList(created);
+        log.info("LoadBalancedMciClient initialized with {} endpoints: {}", endpoints.size(),
+                clientConfig.resolveEndpoints());
+    }
+
+    public LoadBalancedMciClient(ClientConfig clientConfig, LoadBalancerConfig balancerConfig) {
+        this(clientConfig, balancerConfig, null, null);
+    }
+
+    public LoadBalancedMciClient(ClientConfig clientConfig) {
+        this(clientConfig, LoadBalancerConfig.defaultConfig());
+    }
+
+    /**
+     * 연관 키로 응답을 매칭하는 경우 기본 헬스 체크 메시지(PING)에는 키가 없어 등록 단계에서 실패하므로
+     * 모든 엔드포인트가 불건전으로 제외된다. 키를 담은 하트비트 메시지 공급자를 요구한다.
+     */
+    private static void validateHealthCheck(ClientConfig clientConfig, LoadBalancerConfig balancerConfig) {
+        HealthCheckConfig hcConfig = clientConfig.getHealthCheckConfig();
+        if (hcConfig != null && hcConfig.isEnabled() && clientConfig.getCorrelationKeyExtractor() != null
+                && balancerConfig.getHeartbeatMessageSupplier() == null) {
+            throw new IllegalArgumentException(
+                    "heartbeatMessageSupplier is required when health check is enabled with a correlationKeyExtractor");
+        }
+    }
+
+    private BalancedEndpoint createEndpoint(String id, Endpoint endpoint,
+                                            LayoutManager layoutManager, MessageLogger messageLogger) {
+        ClientConfig endpointConfig = config.toBuilder()
+                .clientId(id)
+                .host(endpoint.host())
+                .port(endpoint.port())
+                .endpoints(null)
+                .build();
+        PooledMciClient client = new PooledMciClient(endpointConfig, balancerConfig.getPoolConfig(),
+                layoutManager, messageLogger);
+
+        CircuitBreakerConfig cbConfig = config.getCircuitBreakerConfig();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(id,
+                cbConfig != null ? cbConfig : CircuitBreakerConfig.defaultConfig());
+
+        HealthChecker healthChecker = null;
+        HealthCheckConfig hcConfig = config.getHealthCheckConfig();
+        if (hcConfig != null && hcConfig.isEnabled()) {
+            MciClient probe = new HealthProbe(client);
+            healthChecker = balancerConfig.getHeartbeatMessageSupplier() != null
+                    ? new HealthChecker(id, probe, hcConfig, balancerConfig.getHeartbeatMessageSupplier())
+                    : new HealthChecker(id, probe, hcConfig);
+            healthChecker.start();
+        }
+
+        return new BalancedEndpoint(endpoint, client, circuitBreaker, healthChecker, balancerConfig);
+    }
+
+    @Override
+    public void connect() {
+        // 엔드포인트별 풀은 생성 시 이미 초기화됨
+        log.debug("LoadBalancedMciClient is ready (pools already initialized)");
+    }
+
+    @Override
+    public void disconnect() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (BalancedEndpoint endpoint : endpoints) {
+            endpoint.close();
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        for (BalancedEndpoint endpoint : endpoints) {
+            if (endpoint.getClient().isConnected()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Message send(Message message) {
+        Lease lease = lease();
+        try {
+            Message response = lease.connection().send(message);
+            lease.complete(null);
+            return response;
+        } catch (RuntimeException e) {
+            lease.complete(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Message send(Message message, long timeoutMillis) {
+        Lease lease = lease();
+        try {
+            Message response = lease.connection().send(message, timeoutMillis);
+            lease.complete(null);
+            return response;
+        } catch (RuntimeException e) {
+            lease.complete(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Message> sendAsync(Message message) {
+        Lease lease = lease();
+        try {
+            return lease.connection().sendAsync(message)
+                    .whenComplete((response, error) -> lease.complete(error));
+        } catch (RuntimeException e) {
+            lease.complete(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Message> sendAsync(Message message, long timeoutMillis) {
+        Lease lease = lease();
+        try {
+            return lease.connection().sendAsync(message, timeoutMillis)
+                    .whenComplete((response, error) -> lease.complete(error));
+        } catch (RuntimeException e) {
+            lease.complete(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void sendOneWay(Message message) {
+        Lease lease = lease();
+        try {
+            lease.connection().sendOneWay(message);
+            lease.complete(null);
+        } catch (RuntimeException e) {
+            lease.complete(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 엔드포인트 선택 후 연결 획득 (요청 전 실패는 다른 엔드포인트로 재시도)
+     */
+    private Lease lease() {
+        if (closed.get()) {
+            throw new ConnectionException("LoadBalancedMciClient is closed");
+        }
+
+        List<BalancedEndpoint> tried = null;
+        RuntimeException lastFailure = null;
+        for (;;) {
+            BalancedEndpoint endpoint = select(tried);
+            if (endpoint == null) {
+                throw new ConnectionException("No available endpoint: " + endpoints, lastFailure);
+            }
+
+            try {
+                TcpClient connection = endpoint.acquire();
+                return new Lease(endpoint, connection, System.nanoTime());
+            } catch (ConnectionException | CircuitBreakerOpenException e) {
+                if (!balancerConfig.isFailoverEnabled()) {
+                    throw e;
+                }
+                lastFailure = e;
+                if (tried == null) {
+                    tried = new ArrayList<>(endpoints.size());
+                }
+                tried.add(endpoint);
+                log.debug("Endpoint {} unavailable, failing over: {}", endpoint.getEndpoint(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 선택 가능한 엔드포인트 중 전략으로 선택
+     *
+     * 재투입 중인 엔드포인트는 비중만큼의 확률로만 후보에 넣는다. 그래서 걸러진 후보가 없으면
+     * 선택 가능한 전체에서 고른다.
+     *
+     * @param tried 이번 요청에서 이미 실패한 엔드포인트 (null 가능)
+     * @return 선택한 엔드포인트 (없으면 null)
+     */
+    private BalancedEndpoint select(List<BalancedEndpoint> tried) {
+        long now = System.nanoTime();
+        List<BalancedEndpoint> available = new ArrayList<>(endpoints.size());
+        List<BalancedEndpoint> admitted = new ArrayList<>(endpoints.size());
+        for (BalancedEndpoint endpoint : endpoints) {
+            if ((tried != null && tried.contains(endpoint)) || !endpoint.refresh(now)) {
+                continue;
+            }
+            available.add(endpoint);
+            double weight = endpoint.getWeight(now);
+            if (weight >= 1.0 || ThreadLocalRandom.current().nextDouble() < weight) {
+                admitted.add(endpoint);
+            }
+        }
+
+        if (available.isEmpty()) {
+            return null;
+        }
+        return strategy.select(admitted.isEmpty() ? available : admitted);
+    }
+
+    @Override
+    public ClientConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public void close() {
+        disconnect();
+    }
+
+    /**
+     * 엔드포인트 상태 목록
+     */
+    public List<BalancedEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * 부하 분산 상태 정보
+     */
+    public String getStats() {
+        return "LoadBalancer" + endpoints;
+    }
+
+    /**
+     * 요청 하나가 사용하는 엔드포인트와 연결
+     */
+    private record Lease(BalancedEndpoint endpoint, TcpClient connection, long start) {
+
+        void complete(Throwable error) {
+            endpoint.release(connection, start, error);
+        }
+    }
+
+    /**
+     * 헬스 체커용 클라이언트
+     * 헬스 체커의 자동 재연결이 엔드포인트 풀을 닫지 않도록 연결/해제는 무시한다 (풀이 스스로 복구).
+     */
+    private static final class HealthProbe implements MciClient {
+
+        private final PooledMciClient client;
+
+        private HealthProbe(PooledMciClient client) {
+            this.client = client;
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void disconnect() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return client.isConnected();
+        }
+
+        @Override
+        public Message send(Message message) {
+            return client.send(message);
+        }
+
+        @Override
+        public Message send(Message message, long timeoutMillis) {
+            return client.send(message, timeoutMillis);
+        }
+
+        @Override
+        public CompletableFuture<Message> sendAsync(Message message) {
+            return client.sendAsync(message);
+        }
+
+        @Override
+        public void sendOneWay(Message message) {
+            client.sendOneWay(message);
+        }
+
+        @Override
+        public ClientConfig getConfig() {
+            return client.getConfig();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
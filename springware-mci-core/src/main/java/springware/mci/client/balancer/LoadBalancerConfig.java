@@ -0,0 +1,82 @@
+package springware.mci.client.balancer;
+
+import lombok.Builder;
+import lombok.Getter;
+import springware.mci.client.pool.PoolConfig;
+import springware.mci.common.core.Message;
+
+import java.util.function.Supplier;
+
+/**
+ * 다중 엔드포인트 부하 분산 설정
+ */
+@Getter
+@Builder
+public class LoadBalancerConfig {
+
+    /**
+     * 엔드포인트 선택 전략
+     */
+    @Builder.Default
+    private final LoadBalanceStrategy strategy = LoadBalanceStrategy.roundRobin();
+
+    /**
+     * 엔드포인트별 연결 풀 설정
+     * 장애 엔드포인트에서 오래 기다리지 않도록 기본 획득 타임아웃을 5초로 둔다.
+     */
+    @Builder.Default
+    private final PoolConfig poolConfig = PoolConfig.builder().acquireTimeout(5000).build();
+
+    /**
+     * 재투입 구간 (밀리초)
+     * 제외되었던 엔드포인트는 이 시간 동안 선택 비중을 10%에서 100%까지 선형으로 늘린다.
+     */
+    @Builder.Default
+    private final long readmissionWindow = 30000;
+
+    /**
+     * 지연시간 EWMA 감쇠 시간 상수 (밀리초)
+     */
+    @Builder.Default
+    private final long ewmaDecayTime = 10000;
+
+    /**
+     * 연결 획득 실패/서킷 열림 시 다른 엔드포인트로 재시도 여부
+     * 요청을 보내기 전 실패만 재시도하므로 같은 요청이 두 번 처리되지 않는다.
+     */
+    @Builder.Default
+    private final boolean failoverEnabled = true;
+
+    /**
+     * 헬스 체크 하트비트 메시지 (null이면 HealthChecker 기본 PING)
+     * ClientConfig의 healthCheckConfig가 활성화된 경우에만 사용한다.
+     * correlationKeyExtractor를 사용하면 연관 키를 담은 메시지를 반환해야 하며 생략할 수 없다.
+     */
+    private final Supplier<Message> heartbeatMessageSupplier;
+
+    /**
+     * 기본 설정
+     */
+    public static LoadBalancerConfig defaultConfig() {
+        return LoadBalancerConfig.builder().build();
+    }
+
+    /**
+     * 설정 유효성 검증
+     */
+    public void validate() {
+        if (strategy == null) {
+            throw new IllegalArgumentException("strategy must not be null");
+        }
+        if (poolConfig == null) {
+            throw new IllegalArgumentException("poolConfig must not be null");
+        }
+        if (readmissionWindow < 0) {
+            throw new IllegalArgumentException("readmissionWindow must be non-negative");
+        }
+        if (ewmaDecayTime <= 0) {
+            throw new IllegalArgumentException("ewmaDecayTime must be positive");
+        }
+        poolConfig.validate();
+    }
+}
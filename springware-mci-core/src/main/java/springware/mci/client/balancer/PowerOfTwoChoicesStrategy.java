@@ -0,0 +1,38 @@
+package springware.mci.client.balancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 두 후보 중 처리 중 요청이 적은 쪽 선택 (power of two choices)
+ *
+ * 전체를 훑지 않고도 최소 선택에 가까운 분산을 얻고, 동시에 같은 엔드포인트로 몰리는 현상을 줄인다.
+ */
+class PowerOfTwoChoicesStrategy implements LoadBalanceStrategy {
+
+    @Override
+    public BalancedEndpoint select(List<BalancedEndpoint> candidates) {
+        int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        BalancedEndpoint a = candidates.get(first);
+        BalancedEndpoint b = candidates.get(second);
+        return cost(b) < cost(a) ? b : a;
+    }
+
+    /**
+     * 비교 비용 (작을수록 선택)
+     */
+    double cost(BalancedEndpoint endpoint) {
+        return endpoint.getOutstanding();
+    }
+}
@@ -0,0 +1,18 @@
+package springware.mci.client.balancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 라운드 로빈 선택
+ */
+final class RoundRobinStrategy implements LoadBalanceStrategy {
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Override
+    public BalancedEndpoint select(List<BalancedEndpoint> candidates) {
+        int index = (next.getAndIncrement() & Integer.MAX_VALUE) % candidates.size();
+        return candidates.get(index);
+    }
+}
@@ -3,20 +3,25 @@ package springware.mci.client.config;
 import lombok.Builder;
 import lombok.Getter;
 import springware.mci.client.circuitbreaker.CircuitBreakerConfig;
+import springware.mci.client.core.CorrelationKeyExtractor;
 import springware.mci.client.healthcheck.HealthCheckConfig;
 import springware.mci.common.core.TransportType;
 import springware.mci.common.logging.LogLevel;
+import springware.mci.common.metrics.MetricsRegistry;
 import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
+import springware.mci.common.transport.TransportResources;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 클라이언트 설정
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ClientConfig {
 
     /**
@@ -34,6 +39,11 @@ public class ClientConfig {
      */
     private final int port;
 
+    /**
+     * 다중 엔드포인트 (LoadBalancedMciClient용, 비어 있으면 host/port 하나만 사용)
+     */
+    private final List<Endpoint> endpoints;
+
     /**
      * 전송 프로토콜
      */
@@ -118,6 +128,37 @@ public class ClientConfig {
     @Builder.Default
     private final boolean tcpNoDelay = true;
 
+    /**
+     * TCP_QUICKACK 사용 여부 (epoll 전용, 지연 ACK 비활성화)
+     */
+    @Builder.Default
+    private final boolean tcpQuickAck = false;
+
+    /**
+     * 플러시 통합 사용 여부 (TCP 전용)
+     * 메시지마다 flush하지 않고 읽기 완료 시점 또는 아래 조건에서 한 번에 flush하여 시스템 콜 수를 줄인다.
+     */
+    @Builder.Default
+    private final boolean flushConsolidation = false;
+
+    /**
+     * 즉시 flush할 대기 메시지 수 (플러시 통합 사용 시)
+     */
+    @Builder.Default
+    private final int flushMaxPendingWrites = 64;
+
+    /**
+     * 읽기 처리 밖에서 발생한 flush의 최대 지연 (마이크로초, 0이면 이벤트 루프 다음 작업에서 flush)
+     */
+    @Builder.Default
+    private final long flushMaxDelayMicros = 0;
+
+    /**
+     * I/O 전송 구현 (공유 전송 자원 선택에 사용, transportResources 지정 시 무시)
+     */
+    @Builder.Default
+    private final IoTransport ioTransport = IoTransport.AUTO;
+
     /**
      * 프로토콜 설정
      */
@@ -130,6 +171,29 @@ public class ClientConfig {
     @Builder.Default
     private final Charset charset = StandardCharsets.UTF_8;
 
+    /**
+     * 지연 디코딩 사용 여부 (필드를 처음 조회할 때 디코딩)
+     */
+    @Builder.Default
+    private final boolean lazyDecode = false;
+
+    /**
+     * 요청-응답 연관 키 추출기 (null이면 송신 순서대로 응답 매칭)
+     */
+    private final CorrelationKeyExtractor correlationKeyExtractor;
+
+    /**
+     * 전송 자원 (이벤트 루프 그룹, 할당기, 타이머; null이면 공유 자원 사용)
+     * 지정한 자원은 클라이언트가 연결 중에만 참조하며, 생성한 쪽에서 release() 해야 한다.
+     */
+    private final TransportResources transportResources;
+
+    /**
+     * 메트릭 레지스트리 (null이면 메트릭을 기록하지 않음)
+     * clientId(없으면 "mci-client") 이름으로 메시지 코드별 지연시간, 처리 중 요청 수, 오류 건수를 기록한다.
+     */
+    private final MetricsRegistry metricsRegistry;
+
     /**
      * 로깅 레벨
      */
@@ -137,7 +201,7 @@ public class ClientConfig {
     private final LogLevel logLevel = LogLevel.DETAIL_MASKED;
 
     /**
-     * 레이아웃 파일 경로
+     * 레이아웃 파일 경로 (YAML 디렉토리 또는 .mlb 번들 파일)
      */
     private final String layoutPath;
 
@@ -335,6 +399,16 @@ public class ClientConfig {
                 .build();
     }
 
+    /**
+     * 연결 대상 엔드포인트 목록 (endpoints가 비어 있으면 host/port)
+     */
+    public List<Endpoint> resolveEndpoints() {
+        if (endpoints != null && !endpoints.isEmpty()) {
+            return List.copyOf(endpoints);
+        }
+        return List.of(Endpoint.of(host, port));
+    }
+
     /**
      * 설정 유효성 검증
      */
@@ -351,5 +425,11 @@ public class ClientConfig {
         if (readTimeout <= 0) {
             throw new IllegalArgumentException("Read timeout must be positive");
         }
+        if (flushMaxPendingWrites < 1) {
+            throw new IllegalArgumentException("Flush max pending writes must be at least 1");
+        }
+        if (flushMaxDelayMicros < 0) {
+            throw new IllegalArgumentException("Flush max delay must be non-negative");
+        }
     }
 }
@@ -0,0 +1,43 @@
+package springware.mci.client.config;
+
+/**
+ * 서버 엔드포인트 (호스트, 포트)
+ *
+ * @param host 서버 호스트
+ * @param port 서버 포트
+ */
+public record Endpoint(String host, int port) {
+
+    public Endpoint {
+        if (host == null || host.isEmpty()) {
+            throw new IllegalArgumentException("Host must not be empty");
+        }
+        if (port <= 0 || port > 65535) {
+            throw new IllegalArgumentException("Port must be between 1 and 65535");
+        }
+    }
+
+    public static Endpoint of(String host, int port) {
+        return new Endpoint(host, port);
+    }
+
+    /**
+     * "host:port" 형식 파싱
+     */
+    public static Endpoint parse(String value) {
+        int separator = value != null ? value.lastIndexOf(':') : -1;
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new IllegalArgumentException("Endpoint must be host:port: " + value);
+        }
+        try {
+            return new Endpoint(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid endpoint port: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return host + ":" + port;
+    }
+}
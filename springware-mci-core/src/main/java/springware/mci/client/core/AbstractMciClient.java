@@ -1,5 +1,6 @@
 package springware.mci.client.core;
 
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.circuitbreaker.CircuitBreaker;
 import springware.mci.client.circuitbreaker.CircuitBreakerConfig;
@@ -11,14 +12,21 @@ import springware.mci.common.core.Message;
 import springware.mci.common.exception.ConnectionException;
 import springware.mci.common.exception.TimeoutException;
 import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.LayoutBundle;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.layout.YamlLayoutLoader;
 import springware.mci.common.logging.DefaultMessageLogger;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.transport.TransportResources;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -28,11 +36,23 @@ import java.util.function.Supplier;
 @Slf4j
 public abstract class AbstractMciClient implements MciClient {
 
+    /**
+     * doConnectAsync() 기본 구현의 연결 스레드 (유휴 시 종료되는 데몬 스레드)
+     */
+    private static final Executor CONNECT_EXECUTOR = Executors.newCachedThreadPool(
+            new DefaultThreadFactory("mci-connect", true));
+
     protected final ClientConfig config;
     protected final LayoutManager layoutManager;
     protected final MessageLogger messageLogger;
     protected final AtomicReference<ConnectionState> state = new AtomicReference<>(ConnectionState.DISCONNECTED);
     protected final CircuitBreaker circuitBreaker;
+    protected final MciMetrics metrics;
+
+    /**
+     * 연결 중 사용하는 전송 자원 (연결 시 획득, 연결 해제 시 반환)
+     */
+    private TransportResources transport;
 
     protected AbstractMciClient(ClientConfig config) {
         this(config, new DefaultLayoutManager(), new DefaultMessageLogger());
@@ -50,6 +70,11 @@ public abstract class AbstractMciClient implements MciClient {
                 cbConfig != null ? cbConfig : CircuitBreakerConfig.defaultConfig()
         );
 
+        // 메트릭 기록기 초기화
+        this.metrics = config.getMetricsRegistry() != null
+                ? config.getMetricsRegistry().metrics(config.getClientId() != null ? config.getClientId() : "mci-client")
+                : MciMetrics.NOOP;
+
         // 설정 검증
         config.validate();
 
@@ -63,13 +88,14 @@ public abstract class AbstractMciClient implements MciClient {
     }
 
     /**
-     * 레이아웃 파일 로드
+     * 레이아웃 파일 로드 (YAML 디렉토리 또는 .mlb 번들 파일)
      */
     protected void loadLayouts(String layoutPath) {
         try {
             Path path = Paths.get(layoutPath);
-            YamlLayoutLoader loader = new YamlLayoutLoader();
-            int count = loader.loadAndRegister(path, layoutManager);
+            int count = LayoutBundle.isBundleFile(path)
+                    ? LayoutBundle.loadAndRegister(path, layoutManager)
+                    : new YamlLayoutLoader().loadAndRegister(path, layoutManager);
             log.info("Loaded {} layouts from {}", count, layoutPath);
         } catch (Exception e) {
             log.warn("Failed to load layouts from {}: {}", layoutPath, e.getMessage());
@@ -104,6 +130,7 @@ public abstract class AbstractMciClient implements MciClient {
         } catch (Exception e) {
             // 연결 실패시 서킷 브레이커에 알림
             circuitBreaker.onFailure(e);
+            releaseTransport();
             throw e;
         }
     }
@@ -175,14 +202,17 @@ public abstract class AbstractMciClient implements MciClient {
 
     @Override
     public void disconnect() {
-        if (state.get() == ConnectionState.DISCONNECTED) {
-            return;
+        // 상태 변경을 전송 자원 획득(transport())과 같은 락으로 직렬화하여 반환 후 다시 획득되지 않도록 한다
+        synchronized (this) {
+            if (state.get() == ConnectionState.DISCONNECTED) {
+                return;
+            }
+            state.set(ConnectionState.DISCONNECTING);
         }
-
-        state.set(ConnectionState.DISCONNECTING);
         try {
             doDisconnect();
         } finally {
+            releaseTransport();
             state.set(ConnectionState.DISCONNECTED);
             log.info("Disconnected from {}:{}", config.getHost(), config.getPort());
         }
@@ -203,7 +233,7 @@ public abstract class AbstractMciClient implements MciClient {
         ensureConnected();
 
         try {
-            CompletableFuture<Message> future = sendAsync(message);
+            CompletableFuture<Message> future = sendAsync(message, timeoutMillis);
             return future.get(timeoutMillis, java.util.concurrent.TimeUnit.MILLISECONDS);
         } catch (java.util.concurrent.TimeoutException e) {
             throw new TimeoutException(timeoutMillis);
@@ -231,6 +261,19 @@ public abstract class AbstractMciClient implements MciClient {
         disconnect();
     }
 
+    /**
+     * 요청 메트릭 추적
+     * 처리 중 요청 수를 늘리고, 응답 Future 완료 시 종단 간 지연시간(실패/타임아웃이면 오류)을 기록한다.
+     */
+    protected void trackRequest(Message request, CompletableFuture<Message> future) {
+        if (!metrics.isEnabled()) {
+            return;
+        }
+        String messageCode = request.getMessageCode();
+        long start = metrics.requestStarted();
+        future.whenComplete((response, error) -> metrics.requestCompleted(messageCode, start, error == null));
+    }
+
     /**
      * 연결 상태 확인
      */
@@ -242,6 +285,8 @@ public abstract class AbstractMciClient implements MciClient {
 
     /**
      * 재연결 시도
+     * 이벤트 루프 스레드에서 호출되므로 대기는 전송 자원의 타이머로, 연결은 doConnectAsync()로 수행한다.
+     * 타이머는 JVM 전체가 공유하므로 타이머 스레드에서는 연결 완료를 기다리지 않는다.
      */
     protected void tryReconnect() {
         if (!state.compareAndSet(ConnectionState.CONNECTED, ConnectionState.RECONNECTING) &&
@@ -249,20 +294,104 @@ public abstract class AbstractMciClient implements MciClient {
             return;
         }
 
-        for (int i = 0; i < config.getReconnectAttempts(); i++) {
-            try {
-                Thread.sleep(config.getReconnectDelay());
-                doConnect();
-                state.set(ConnectionState.CONNECTED);
-                log.info("Reconnected to {}:{} (attempt {})", config.getHost(), config.getPort(), i + 1);
+        if (config.getReconnectAttempts() <= 0) {
+            state.compareAndSet(ConnectionState.RECONNECTING, ConnectionState.FAILED);
+            return;
+        }
+        scheduleReconnect(1);
+    }
+
+    private void scheduleReconnect(int attempt) {
+        TransportResources resources = reconnectTransport();
+        if (resources == null) {
+            // 대기 전 연결 해제된 경우
+            return;
+        }
+        resources.timer().newTimeout(timeout -> reconnect(attempt),
+                config.getReconnectDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 재연결 중인 경우에만 전송 자원 조회 (상태 확인과 획득을 같은 락에서 수행)
+     *
+     * @return 전송 자원 (재연결 중이 아니면 null)
+     */
+    private synchronized TransportResources reconnectTransport() {
+        return state.get() == ConnectionState.RECONNECTING ? transport() : null;
+    }
+
+    private void reconnect(int attempt) {
+        if (state.get() != ConnectionState.RECONNECTING) {
+            // 대기 중 연결 해제된 경우
+            return;
+        }
+
+        CompletableFuture<Void> connected;
+        try {
+            connected = doConnectAsync();
+        } catch (Exception e) {
+            connected = CompletableFuture.failedFuture(e);
+        }
+        connected.whenComplete((ignored, error) -> {
+            if (error == null) {
+                if (state.compareAndSet(ConnectionState.RECONNECTING, ConnectionState.CONNECTED)) {
+                    log.info("Reconnected to {}:{} (attempt {})", config.getHost(), config.getPort(), attempt);
+                } else {
+                    // 연결하는 사이 연결 해제된 경우 새 연결을 대기 없이 정리하고 전송 자원 반환
+                    discardConnection();
+                    releaseTransportIfDisconnected();
+                }
+                return;
+            }
+
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            log.warn("Reconnection attempt {} failed: {}", attempt, cause.getMessage());
+            if (state.get() != ConnectionState.RECONNECTING) {
+                // 연결하는 사이 연결 해제된 경우
                 return;
-            } catch (Exception e) {
-                log.warn("Reconnection attempt {} failed: {}", i + 1, e.getMessage());
             }
+            if (attempt < config.getReconnectAttempts()) {
+                scheduleReconnect(attempt + 1);
+            } else if (state.compareAndSet(ConnectionState.RECONNECTING, ConnectionState.FAILED)) {
+                log.error("All reconnection attempts failed");
+            }
+        });
+    }
+
+    /**
+     * 전송 자원 조회 (없으면 설정된 자원 또는 공유 자원을 획득)
+     * 연결 해제가 시작된 후에는 자원을 다시 획득하지 않는다.
+     *
+     * @throws ConnectionException 연결 해제 중이거나 해제된 경우
+     */
+    protected synchronized TransportResources transport() {
+        if (transport == null) {
+            ConnectionState current = state.get();
+            if (current == ConnectionState.DISCONNECTING || current == ConnectionState.DISCONNECTED) {
+                throw new ConnectionException("Client is disconnected");
+            }
+            TransportResources configured = config.getTransportResources();
+            transport = configured != null
+                    ? configured.retain()
+                    : TransportResources.shared(config.getIoTransport());
         }
+        return transport;
+    }
 
-        state.set(ConnectionState.FAILED);
-        log.error("All reconnection attempts failed");
+    private synchronized void releaseTransport() {
+        if (transport != null) {
+            transport.release();
+            transport = null;
+        }
+    }
+
+    /**
+     * 연결 해제된 경우에만 전송 자원 반환 (그 사이 다시 연결한 경우 자원 유지)
+     */
+    private synchronized void releaseTransportIfDisconnected() {
+        if (state.get() == ConnectionState.DISCONNECTED) {
+            releaseTransport();
+        }
     }
 
     /**
@@ -279,6 +408,13 @@ public abstract class AbstractMciClient implements MciClient {
         return messageLogger;
     }
 
+    /**
+     * 메트릭 기록기 조회 (메트릭 레지스트리가 없으면 NOOP)
+     */
+    public MciMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * 서킷 브레이커 조회
      */
@@ -318,11 +454,31 @@ public abstract class AbstractMciClient implements MciClient {
      */
     protected abstract void doConnect();
 
+    /**
+     * 비동기 연결 (재연결에 사용)
+     *
+     * 기본 구현은 doConnect()를 별도 스레드에서 실행한다.
+     * 연결 완료를 기다리지 않고 연결할 수 있는 구현은 재정의한다.
+     */
+    protected CompletableFuture<Void> doConnectAsync() {
+        return CompletableFuture.runAsync(this::doConnect, CONNECT_EXECUTOR);
+    }
+
     /**
      * 실제 연결 해제 수행
      */
     protected abstract void doDisconnect();
 
+    /**
+     * 재연결하는 사이 연결 해제된 경우 새 연결 정리
+     *
+     * 이벤트 루프 스레드에서 호출될 수 있으므로 연결 종료를 기다리지 않아야 한다.
+     * 기본 구현은 doDisconnect()를 호출한다.
+     */
+    protected void discardConnection() {
+        doDisconnect();
+    }
+
     /**
      * 단방향 메시지 전송 수행
      */
@@ -0,0 +1,60 @@
+package springware.mci.client.core;
+
+import springware.mci.common.core.Message;
+
+/**
+ * 요청-응답 연관 키 추출기
+ *
+ * 하나의 연결에서 여러 요청을 동시에 처리할 때, 요청과 응답에서 같은 값을 갖는 키를 추출하여
+ * 응답을 해당 요청에 매칭한다. (예: 공통 헤더의 거래일련번호 seqNo)
+ */
+@FunctionalInterface
+public interface CorrelationKeyExtractor {
+
+    /**
+     * 연관 키 추출
+     *
+     * @param message 요청 또는 응답 메시지
+     * @return 연관 키 (없으면 null)
+     */
+    String extract(Message message);
+
+    /**
+     * 필드 값 기반 추출기
+     *
+     * 앞뒤 공백을 제거하고, 숫자로만 된 값은 앞의 0을 제거하여 비교한다.
+     * N 타입 필드는 응답에서 Long으로, NS 타입 필드는 제로 패딩된 문자열로 디코딩되므로
+     * 요청에 "0000000123", "123", 123L 중 어느 형태로 설정해도 같은 키가 된다.
+     * 그 밖의 문자열 필드는 전문에 기록되는 형태 그대로(공백 제외) 비교한다.
+     *
+     * @param fieldName 필드명
+     * @return 추출기
+     */
+    static CorrelationKeyExtractor field(String fieldName) {
+        return message -> {
+            String value = message.getString(fieldName);
+            if (value == null) {
+                return null;
+            }
+            String trimmed = value.trim();
+            return trimmed.isEmpty() ? null : normalizeNumber(trimmed);
+        };
+    }
+
+    /**
+     * 숫자로만 된 값의 앞자리 0 제거 (그 외 값은 그대로 반환)
+     */
+    private static String normalizeNumber(String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return value;
+            }
+            if (c == '0' && start == i && i < value.length() - 1) {
+                start++;
+            }
+        }
+        return value.substring(start);
+    }
+}
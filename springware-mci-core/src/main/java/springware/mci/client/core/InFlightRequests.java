@@ -0,0 +1,175 @@
+package springware.mci.client.core;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.exception.TimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 대기 중인 요청 테이블
+ *
+ * 연관 키 추출기가 설정된 경우 키 기반으로 O(1) 매칭하여 하나의 연결에서 다수 요청을 동시에 처리하고,
+ * 설정되지 않은 경우 송신 순서대로(FIFO) 응답을 매칭한다.
+ * FIFO 매칭에서는 타임아웃된 요청의 늦은 응답이나 디코딩에 실패한 응답이 이후 모든 매칭을 어긋나게 하므로
+ * 호출자는 이 경우 연결을 종료해야 한다. (타임아웃은 등록 시 전달한 작업으로 통지)
+ * 요청별 타임아웃은 채널의 이벤트 루프에 스케줄링되며, 완료/실패/타임아웃 시 테이블에서 제거된다.
+ */
+@Slf4j
+public class InFlightRequests {
+
+    /**
+     * 연관 키 추출기 (null이면 FIFO 매칭)
+     */
+    private final CorrelationKeyExtractor extractor;
+
+    private final Map<String, Pending> byKey = new ConcurrentHashMap<>();
+    private final Queue<Pending> fifo = new ConcurrentLinkedQueue<>();
+
+    public InFlightRequests(CorrelationKeyExtractor extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * 키 기반 매칭 여부
+     * false인 경우 등록 순서와 송신 순서가 같아야 하므로 호출자가 등록과 송신을 직렬화해야 한다.
+     */
+    public boolean isKeyed() {
+        return extractor != null;
+    }
+
+    /**
+     * 요청 등록
+     *
+     * @param request       요청 메시지
+     * @param timeoutMillis 응답 대기 타임아웃 (0 이하이면 타임아웃 없음)
+     * @param executor      타임아웃을 스케줄링할 이벤트 루프
+     * @return 응답 Future
+     * @throws ProtocolException 연관 키가 없거나 이미 대기 중인 키인 경우
+     */
+    public CompletableFuture<Message> register(Message request, long timeoutMillis, EventExecutor executor) {
+        return register(request, timeoutMillis, executor, null);
+    }
+
+    /**
+     * 요청 등록
+     *
+     * @param request       요청 메시지
+     * @param timeoutMillis 응답 대기 타임아웃 (0 이하이면 타임아웃 없음)
+     * @param executor      타임아웃을 스케줄링할 이벤트 루프
+     * @param onFifoTimeout FIFO 매칭에서 타임아웃 시 이벤트 루프에서 실행할 작업 (예: 연결 종료, null 허용)
+     * @return 응답 Future
+     * @throws ProtocolException 연관 키가 없거나 이미 대기 중인 키인 경우
+     */
+    public CompletableFuture<Message> register(Message request, long timeoutMillis, EventExecutor executor,
+                                               Runnable onFifoTimeout) {
+        Pending pending;
+        if (extractor != null) {
+            String key = extractor.extract(request);
+            if (key == null) {
+                throw new ProtocolException("Correlation key not found in request: " + request.getMessageCode());
+            }
+            pending = new Pending(key);
+            if (byKey.putIfAbsent(key, pending) != null) {
+                throw new ProtocolException("Duplicate correlation key in flight: " + key);
+            }
+        } else {
+            pending = new Pending(null);
+            fifo.add(pending);
+        }
+
+        if (timeoutMillis > 0) {
+            pending.timeout = executor.schedule(() -> {
+                // FIFO 매칭은 늦게 도착할 응답이 다음 요청에 매칭되지 않도록 호출자가 연결을 종료해야 한다
+                if (pending.completeExceptionally(new TimeoutException(timeoutMillis))
+                        && pending.key == null && onFifoTimeout != null) {
+                    onFifoTimeout.run();
+                }
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        // 어떤 경로로 완료되든 테이블에서 제거
+        pending.whenComplete((response, error) -> remove(pending));
+        return pending;
+    }
+
+    /**
+     * 수신 응답을 대기 중인 요청에 전달
+     *
+     * @param response 응답 메시지
+     * @return 매칭된 요청이 있으면 true
+     */
+    public boolean complete(Message response) {
+        Pending pending;
+        if (extractor != null) {
+            String key = extractor.extract(response);
+            pending = key != null ? byKey.remove(key) : null;
+            if (pending == null) {
+                log.warn("No in-flight request for correlation key {} ({})", key, response.getMessageCode());
+                return false;
+            }
+        } else {
+            pending = fifo.poll();
+            if (pending == null) {
+                log.warn("No in-flight request for response {}", response.getMessageCode());
+                return false;
+            }
+            pending.dequeued = true;
+        }
+        return pending.complete(response);
+    }
+
+    /**
+     * 대기 중인 모든 요청 실패 처리
+     */
+    public void failAll(Throwable cause) {
+        List<Pending> all = new ArrayList<>(byKey.values());
+        all.addAll(fifo);
+        byKey.clear();
+        fifo.clear();
+        for (Pending pending : all) {
+            pending.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 대기 중인 요청 수
+     */
+    public int size() {
+        return extractor != null ? byKey.size() : fifo.size();
+    }
+
+    private void remove(Pending pending) {
+        if (pending.timeout != null) {
+            pending.timeout.cancel(false);
+        }
+        if (pending.key != null) {
+            byKey.remove(pending.key, pending);
+        } else if (!pending.dequeued) {
+            fifo.remove(pending);
+        }
+    }
+
+    /**
+     * 대기 중인 요청
+     */
+    private static final class Pending extends CompletableFuture<Message> {
+
+        private final String key;
+        private volatile ScheduledFuture<?> timeout;
+        private volatile boolean dequeued;
+
+        private Pending(String key) {
+            this.key = key;
+        }
+    }
+}
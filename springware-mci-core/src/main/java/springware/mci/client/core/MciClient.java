@@ -37,6 +37,8 @@ public interface MciClient extends AutoCloseable {
 
     /**
      * 동기 메시지 전송 (커스텀 타임아웃)
+     * 가상 스레드(Java 21)에서 호출하면 응답 대기 중 캐리어 스레드를 반환하므로
+     * 많은 수의 동시 호출을 플랫폼 스레드 없이 유지할 수 있다.
      *
      * @param message       전송할 메시지
      * @param timeoutMillis 응답 대기 타임아웃 (밀리초)
@@ -52,6 +54,18 @@ public interface MciClient extends AutoCloseable {
      */
     CompletableFuture<Message> sendAsync(Message message);
 
+    /**
+     * 비동기 메시지 전송 (응답 대기 타임아웃 지정)
+     * 기본 구현은 sendAsync(message)에 위임한다.
+     *
+     * @param message       전송할 메시지
+     * @param timeoutMillis 응답 대기 타임아웃 (밀리초)
+     * @return 응답 Future
+     */
+    default CompletableFuture<Message> sendAsync(Message message, long timeoutMillis) {
+        return sendAsync(message);
+    }
+
     /**
      * 단방향 메시지 전송 (응답 없음)
      *
@@ -9,6 +9,7 @@ import springware.mci.common.exception.ConnectionException;
 import springware.mci.common.http.HttpMessageConverter;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MetricStage;
 
 import javax.net.ssl.*;
 import java.io.FileInputStream;
@@ -193,8 +194,10 @@ public class HttpClient extends AbstractMciClient {
 
         try {
             // Message를 JSON으로 변환
+            long encodeStart = metrics.now();
             String jsonBody = messageConverter.toJson(message);
             byte[] bodyBytes = jsonBody.getBytes(config.getCharset());
+            metrics.record(message.getMessageCode(), MetricStage.ENCODE, metrics.now() - encodeStart);
 
             // HTTP 요청 빌드
             HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
@@ -218,8 +221,10 @@ public class HttpClient extends AbstractMciClient {
             log.debug("Sending HTTP request to {}: {}", url, message.getMessageId());
 
             // 비동기 전송
-            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            CompletableFuture<Message> future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
                     .thenApply(response -> processResponse(message, response));
+            trackRequest(message, future);
+            return future;
 
         } catch (Exception e) {
             CompletableFuture<Message> future = new CompletableFuture<>();
@@ -250,7 +255,9 @@ public class HttpClient extends AbstractMciClient {
 
             if (statusCode >= 200 && statusCode < 300) {
                 // JSON 응답을 Message로 변환
+                long decodeStart = metrics.now();
                 Message responseMessage = messageConverter.fromJson(body, request.getMessageCode(), MessageType.RESPONSE);
+                metrics.record(request.getMessageCode(), MetricStage.DECODE, metrics.now() - decodeStart);
 
                 // 수신 로깅
                 byte[] responseBytes = body.getBytes(config.getCharset());
@@ -276,6 +283,7 @@ public class HttpClient extends AbstractMciClient {
             }
 
         } catch (Exception e) {
+            metrics.recordError(request.getMessageCode(), MetricStage.DECODE);
             log.error("Failed to process HTTP response", e);
 
             Message errorResponse = Message.builder()
@@ -0,0 +1,149 @@
+package springware.mci.client.pool;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적응형 연결 풀 목표 크기 계산기
+ *
+ * 구간마다 연결 획득 대기 시간과 연결 점유 시간을 모아 다음과 같이 목표 크기를 정한다.
+ * <ul>
+ *   <li>수요: 리틀의 법칙으로 구한 평균 사용 중 연결 수 (획득률 × 평균 점유 시간)에 여유분을 더한 값.
+ *       점유 시간은 반납할 때 기록되므로 현재 사용 중인 연결 수보다 작게 잡지 않는다.</li>
+ *   <li>증가: 대기 시간 p99가 목표를 넘거나 대기 스레드가 있으면 1 또는 수요까지 늘림</li>
+ *   <li>감소: 대기 없이 수요가 목표 크기보다 작으면 비율만큼 줄이되 수요 아래로는 줄이지 않음</li>
+ * </ul>
+ * 기록은 여러 스레드에서, {@link #resize(int, int, long)}는 유지 스레드 하나에서만 호출한다.
+ */
+final class AdaptivePoolSizer {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    /**
+     * 대기 시간 판단 백분위
+     */
+    private static final double WAIT_PERCENTILE = 99.0;
+
+    /**
+     * 수요 대비 여유분 비율
+     */
+    private static final double DEMAND_HEADROOM = 1.2;
+
+    /**
+     * 감소 시 곱하는 비율
+     */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetWaitNanos;
+
+    private final Recorder acquireWait = new Recorder(SIGNIFICANT_DIGITS);
+    private final Recorder holdTime = new Recorder(SIGNIFICANT_DIGITS);
+    private Histogram waitInterval;
+    private Histogram holdInterval;
+    private long lastResize;
+
+    private volatile int targetSize;
+    private volatile long demand;
+    private volatile long acquireWaitP99;
+    private volatile long grows;
+    private volatile long shrinks;
+
+    AdaptivePoolSizer(PoolConfig config, long now) {
+        this.minSize = Math.max(config.getMinSize(), 1);
+        this.maxSize = config.getMaxSize();
+        this.targetWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getTargetAcquireWait());
+        this.targetSize = minSize;
+        this.lastResize = now;
+    }
+
+    /**
+     * 연결 획득 대기 시간 기록
+     */
+    void recordAcquireWait(long nanos) {
+        acquireWait.recordValue(Math.max(nanos, 0L));
+    }
+
+    /**
+     * 연결 점유 시간(획득~반납) 기록
+     */
+    void recordHoldTime(long nanos) {
+        holdTime.recordValue(Math.max(nanos, 0L));
+    }
+
+    /**
+     * 직전 구간 관측치로 목표 크기 재계산
+     *
+     * @param waiting 현재 대기 스레드 수
+     * @param inUse   현재 사용 중인 연결 수
+     * @param now     현재 시각 (System.nanoTime)
+     * @return 새 목표 크기
+     */
+    int resize(int waiting, int inUse, long now) {
+        waitInterval = acquireWait.getIntervalHistogram(waitInterval);
+        holdInterval = holdTime.getIntervalHistogram(holdInterval);
+        long elapsed = Math.max(now - lastResize, 1L);
+        lastResize = now;
+
+        // L = λW: 구간 동안 반납 건수 / 구간 길이 × 평균 점유 시간
+        double average = holdInterval.getTotalCount() * holdInterval.getMean() / elapsed;
+        int required = (int) Math.min(Math.max(Math.ceil(average * DEMAND_HEADROOM), inUse), maxSize);
+        long waitP99 = waitInterval.getTotalCount() > 0 ? waitInterval.getValueAtPercentile(WAIT_PERCENTILE) : 0L;
+        demand = required;
+        acquireWaitP99 = waitP99;
+
+        int current = targetSize;
+        int next = current;
+        if (waitP99 > targetWaitNanos || waiting > 0) {
+            next = Math.min(maxSize, Math.max(current + 1, required));
+        } else if (required < current) {
+            next = Math.max(minSize, Math.max(required, (int) (current * BACKOFF_RATIO)));
+        }
+
+        if (next > current) {
+            grows++;
+        } else if (next < current) {
+            shrinks++;
+        }
+        targetSize = next;
+        return next;
+    }
+
+    /**
+     * 현재 목표 크기
+     */
+    int getTargetSize() {
+        return targetSize;
+    }
+
+    /**
+     * 직전 구간 수요 추정치 (여유분 포함 연결 수)
+     */
+    long getDemand() {
+        return demand;
+    }
+
+    /**
+     * 직전 구간 획득 대기 시간 p99 (나노초)
+     */
+    long getAcquireWaitP99() {
+        return acquireWaitP99;
+    }
+
+    /**
+     * 목표 크기 증가 횟수
+     */
+    long getGrows() {
+        return grows;
+    }
+
+    /**
+     * 목표 크기 감소 횟수
+     */
+    long getShrinks() {
+        return shrinks;
+    }
+}
@@ -0,0 +1,247 @@
+package springware.mci.client.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 잠금 없는 연결 보관소 (HikariCP ConcurrentBag 방식)
+ *
+ * 항목은 공유 목록(CopyOnWriteArrayList)에 한 번 등록되고 상태 값의 CAS로만 대여/반납된다.
+ * 반납한 항목은 반납한 스레드의 로컬 목록에도 약한 참조로 기록되어, 같은 스레드가 다시 빌릴 때
+ * 공유 목록을 훑지 않고 바로 가져간다. 대기자가 있으면 반납/추가된 항목을 SynchronousQueue로 직접 넘겨준다.
+ *
+ * @param <T> 보관 항목 타입
+ */
+final class ConcurrentBag<T extends ConcurrentBag.Entry> implements AutoCloseable {
+
+    /**
+     * 스레드 로컬 목록 최대 크기
+     */
+    private static final int THREAD_LIST_SIZE = 16;
+
+    /**
+     * 보관 항목 상태
+     */
+    abstract static class Entry {
+
+        static final int NOT_IN_USE = 0;
+        static final int IN_USE = 1;
+        static final int REMOVED = -1;
+        static final int RESERVED = -2;
+
+        private static final AtomicIntegerFieldUpdater<Entry> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+        private volatile int state;
+
+        final int getState() {
+            return state;
+        }
+
+        final boolean compareAndSetState(int expect, int update) {
+            return STATE.compareAndSet(this, expect, update);
+        }
+
+        final void setState(int update) {
+            state = update;
+        }
+    }
+
+    /**
+     * 항목이 부족할 때 호출되는 리스너
+     */
+    @FunctionalInterface
+    interface Listener {
+
+        /**
+         * 새 항목 생성 요청
+         *
+         * @param waiting 현재 대기 중인 스레드 수
+         */
+        void addBagItem(int waiting);
+    }
+
+    private final CopyOnWriteArrayList<T> sharedList = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<List<WeakReference<T>>> threadList =
+            ThreadLocal.withInitial(() -> new ArrayList<>(THREAD_LIST_SIZE));
+    private final SynchronousQueue<T> handoffQueue = new SynchronousQueue<>(true);
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Listener listener;
+
+    private volatile boolean closed;
+
+    ConcurrentBag(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 항목 대여
+     *
+     * @return 대여한 항목 (타임아웃이면 null)
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    T borrow(long timeout, TimeUnit unit) throws InterruptedException {
+        // 1. 이 스레드가 최근 반납한 항목
+        List<WeakReference<T>> local = threadList.get();
+        for (int i = local.size() - 1; i >= 0; i--) {
+            T entry = local.remove(i).get();
+            if (entry != null && entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+                return entry;
+            }
+        }
+
+        // 2. 공유 목록
+        int waiting = waiters.incrementAndGet();
+        try {
+            for (T entry : sharedList) {
+                if (entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+                    // 다른 대기자의 몫을 가져왔을 수 있으므로 보충 요청
+                    if (waiting > 1) {
+                        listener.addBagItem(waiting - 1);
+                    }
+                    return entry;
+                }
+            }
+
+            listener.addBagItem(waiting);
+
+            // 3. 반납/생성되는 항목을 넘겨받을 때까지 대기
+            long remaining = unit.toNanos(timeout);
+            while (remaining > 0 && !closed) {
+                long start = System.nanoTime();
+                T entry = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (entry == null || entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+                    return entry;
+                }
+                remaining -= System.nanoTime() - start;
+            }
+            return null;
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * 항목 반납
+     */
+    void requite(T entry) {
+        entry.setState(Entry.NOT_IN_USE);
+
+        for (int i = 0; waiters.get() > 0; i++) {
+            if (entry.getState() != Entry.NOT_IN_USE || handoffQueue.offer(entry)) {
+                return;
+            } else if ((i & 0xff) == 0xff) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+            } else {
+                Thread.yield();
+            }
+        }
+
+        List<WeakReference<T>> local = threadList.get();
+        if (local.size() < THREAD_LIST_SIZE) {
+            local.add(new WeakReference<>(entry));
+        }
+    }
+
+    /**
+     * 새 항목 추가 (대기자가 있으면 바로 넘겨줌)
+     */
+    void add(T entry) {
+        if (closed) {
+            throw new IllegalStateException("ConcurrentBag has been closed");
+        }
+        sharedList.add(entry);
+
+        while (waiters.get() > 0 && entry.getState() == Entry.NOT_IN_USE && !handoffQueue.offer(entry)) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * 항목 제거 (대여 중이거나 예약된 항목만)
+     *
+     * @return 제거했으면 true
+     */
+    boolean remove(T entry) {
+        if (!entry.compareAndSetState(Entry.IN_USE, Entry.REMOVED)
+                && !entry.compareAndSetState(Entry.RESERVED, Entry.REMOVED) && !closed) {
+            return false;
+        }
+        entry.setState(Entry.REMOVED);
+        return sharedList.remove(entry);
+    }
+
+    /**
+     * 유휴 항목 예약 (예약된 항목은 대여되지 않음)
+     */
+    boolean reserve(T entry) {
+        return entry.compareAndSetState(Entry.NOT_IN_USE, Entry.RESERVED);
+    }
+
+    /**
+     * 예약 해제
+     */
+    void unreserve(T entry) {
+        if (entry.compareAndSetState(Entry.RESERVED, Entry.NOT_IN_USE)) {
+            while (waiters.get() > 0 && entry.getState() == Entry.NOT_IN_USE && !handoffQueue.offer(entry)) {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * 지정 상태의 항목 목록 (스냅샷)
+     */
+    List<T> values(int state) {
+        List<T> result = new ArrayList<>();
+        for (T entry : sharedList) {
+            if (entry.getState() == state) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전체 항목 목록 (스냅샷)
+     */
+    List<T> values() {
+        return new ArrayList<>(sharedList);
+    }
+
+    /**
+     * 지정 상태의 항목 수
+     */
+    int getCount(int state) {
+        int count = 0;
+        for (T entry : sharedList) {
+            if (entry.getState() == state) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 대기 중인 스레드 수
+     */
+    int getWaitingThreadCount() {
+        return waiters.get();
+    }
+
+    int size() {
+        return sharedList.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -2,6 +2,9 @@ package springware.mci.client.pool;
 
 import lombok.Builder;
 import lombok.Getter;
+import springware.mci.common.core.Message;
+
+import java.util.function.Supplier;
 
 /**
  * 연결 풀 설정
@@ -29,7 +32,8 @@ public class PoolConfig {
     private final long acquireTimeout = 30000;
 
     /**
-     * 유휴 연결 최대 유지 시간 (밀리초)
+     * 유휴 연결 최대 유지 시간 (밀리초, 0 이하면 제거하지 않음)
+     * 최소 연결 수를 넘는 유휴 연결만 제거한다.
      */
     @Builder.Default
     private final long maxIdleTime = 300000;
@@ -41,11 +45,53 @@ public class PoolConfig {
     private final boolean validateOnAcquire = true;
 
     /**
-     * 연결 유효성 검증 간격 (밀리초)
+     * 유휴 연결 백그라운드 검증 간격 (밀리초, 0 이하면 검증하지 않음)
      */
     @Builder.Default
     private final long validationInterval = 30000;
 
+    /**
+     * 백그라운드 검증 시 보낼 하트비트 메시지 (null이면 연결 상태만 확인)
+     */
+    private final Supplier<Message> heartbeatMessageSupplier;
+
+    /**
+     * 하트비트 응답 대기 타임아웃 (밀리초)
+     */
+    @Builder.Default
+    private final long validationTimeout = 5000;
+
+    /**
+     * 적응형 크기 조절 사용 여부
+     * 사용하면 minSize~maxSize 사이의 목표 크기까지만 연결을 만들고, 관측한 획득 대기 시간과
+     * 사용 중 연결 수에 따라 목표 크기를 조절한다.
+     */
+    @Builder.Default
+    private final boolean adaptiveSizing = false;
+
+    /**
+     * 적응형 크기 조절: 목표 획득 대기 시간 (밀리초, 대기 시간 p99가 이를 넘으면 목표 크기 증가)
+     */
+    @Builder.Default
+    private final long targetAcquireWait = 10;
+
+    /**
+     * 적응형 크기 조절: 목표 크기 재계산 간격 (밀리초)
+     */
+    @Builder.Default
+    private final long sizingInterval = 1000;
+
+    /**
+     * 유지 작업(유휴 제거, 검증, 최소 연결 보충) 실행 간격 (밀리초, 0이면 실행하지 않음)
+     * 검증 간격을 기준으로 하고, 검증을 끄면 유휴 최대 시간을 사용한다.
+     */
+    public long getHousekeepingInterval() {
+        if (validationInterval > 0) {
+            return maxIdleTime > 0 ? Math.min(validationInterval, maxIdleTime) : validationInterval;
+        }
+        return Math.max(maxIdleTime, 0);
+    }
+
     /**
      * 기본 설정
      */
@@ -69,5 +115,14 @@ public class PoolConfig {
         if (acquireTimeout < 0) {
             throw new IllegalArgumentException("acquireTimeout must be non-negative");
         }
+        if (adaptiveSizing && sizingInterval <= 0) {
+            throw new IllegalArgumentException("sizingInterval must be positive");
+        }
+        if (adaptiveSizing && targetAcquireWait < 0) {
+            throw new IllegalArgumentException("targetAcquireWait must be non-negative");
+        }
+        if (validationTimeout <= 0) {
+            throw new IllegalArgumentException("validationTimeout must be positive");
+        }
     }
 }
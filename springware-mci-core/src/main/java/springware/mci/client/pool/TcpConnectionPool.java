@@ -1,44 +1,140 @@
 package springware.mci.client.pool;
 
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.config.ClientConfig;
 import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.core.Message;
 import springware.mci.common.exception.ConnectionException;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.logging.MessageLogger;
-
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.transport.TransportResources;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TCP 연결 풀 구현
+ *
+ * 유휴 연결은 {@link ConcurrentBag}에 보관하여 잠금 없이 대여/반납한다.
+ * 연결이 부족하면 생성 스레드에 생성을 요청하고 호출 스레드는 반납/생성되는 연결을 넘겨받을 때까지
+ * 대기하므로, 연결 생성 중에도 다른 스레드의 반납 연결을 먼저 받을 수 있다.
+ * 최대 연결 수는 생성 전에 CAS로 자리를 예약하여 동시 요청에서도 넘지 않는다.
+ *
+ * 유지 스레드는 {@link PoolConfig#getHousekeepingInterval()}마다 유휴 연결을 예약해 두고
+ * 최대 유휴 시간이 지난 연결을 최소 연결 수까지 제거하고, 검증 간격이 지난 연결은 하트비트로 확인하며,
+ * 모자란 최소 연결을 미리 생성한다. 연결 획득 대기/생성 시간은 클라이언트 메트릭에
+ * {@value #METRIC_CODE} 코드로 기록한다.
+ *
+ * {@link PoolConfig#isAdaptiveSizing()}을 켜면 {@link AdaptivePoolSizer}가 정한 목표 크기까지만 연결을 만들고,
+ * 목표가 줄면 남는 유휴 연결을 닫는다. 목표 크기와 판단 근거는 pool.* 게이지로 노출한다.
  */
 @Slf4j
 public class TcpConnectionPool implements ConnectionPool<TcpClient> {
 
+    /**
+     * 풀 메트릭을 기록하는 메시지 코드
+     */
+    public static final String METRIC_CODE = "POOL";
+
     private final ClientConfig clientConfig;
     private final PoolConfig poolConfig;
     private final LayoutManager layoutManager;
     private final MessageLogger messageLogger;
 
-    private final BlockingQueue<TcpClient> availableConnections;
+    /**
+     * 풀 수명 동안 유지하는 전송 자원 참조
+     * 연결이 모두 반환되어도 이벤트 루프 그룹이 종료/재생성되지 않도록 한다.
+     */
+    private final TransportResources transport;
+
+    private final ConcurrentBag<PoolEntry> bag;
+
+    /**
+     * 클라이언트 → 풀 항목 (반납 시 조회)
+     */
+    private final Map<TcpClient, PoolEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 전체 연결 수 (생성 중인 연결 포함)
+     */
     private final AtomicInteger totalConnections = new AtomicInteger(0);
-    private final AtomicInteger activeConnections = new AtomicInteger(0);
+
+    /**
+     * 생성 요청 후 아직 완료되지 않은 연결 수
+     */
+    private final AtomicInteger pendingConnections = new AtomicInteger(0);
+
+    private final ExecutorService connectionCreator;
+    private final ScheduledExecutorService housekeeper;
+    private final MciMetrics metrics;
+
+    /**
+     * 적응형 크기 조절기 (사용하지 않으면 null)
+     */
+    private final AdaptivePoolSizer sizer;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
+    /**
+     * 마지막 연결 생성 실패 원인 (획득 실패 예외의 원인으로 사용)
+     */
+    private volatile Throwable lastCreateFailure;
+
     public TcpConnectionPool(ClientConfig clientConfig, PoolConfig poolConfig,
                              LayoutManager layoutManager, MessageLogger messageLogger) {
         this.clientConfig = clientConfig;
         this.poolConfig = poolConfig;
         this.layoutManager = layoutManager;
         this.messageLogger = messageLogger;
-        this.availableConnections = new LinkedBlockingQueue<>(poolConfig.getMaxSize());
 
         poolConfig.validate();
+        this.bag = new ConcurrentBag<>(this::addConnections);
+        String poolName = clientConfig.getClientId() != null ? clientConfig.getClientId() : "mci";
+        this.connectionCreator = Executors.newSingleThreadExecutor(
+                new DefaultThreadFactory(poolName + "-pool-creator", true));
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(
+                new DefaultThreadFactory(poolName + "-pool-housekeeper", true));
+        this.metrics = clientConfig.getMetricsRegistry() != null
+                ? clientConfig.getMetricsRegistry().metrics(
+                        clientConfig.getClientId() != null ? clientConfig.getClientId() : "mci-client")
+                : MciMetrics.NOOP;
+        this.sizer = poolConfig.isAdaptiveSizing() ? new AdaptivePoolSizer(poolConfig, System.nanoTime()) : null;
+        this.transport = clientConfig.getTransportResources() != null
+                ? clientConfig.getTransportResources().retain()
+                : TransportResources.shared(clientConfig.getIoTransport());
         initializePool();
+        registerGauges();
+
+        long interval = poolConfig.getHousekeepingInterval();
+        if (interval > 0) {
+            housekeeper.scheduleWithFixedDelay(this::housekeep, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        if (sizer != null) {
+            housekeeper.scheduleWithFixedDelay(this::resize, poolConfig.getSizingInterval(),
+                    poolConfig.getSizingInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void registerGauges() {
+        metrics.gauge("pool.size", totalConnections::get);
+        metrics.gauge("pool.waiting", bag::getWaitingThreadCount);
+        if (sizer != null) {
+            metrics.gauge("pool.targetSize", sizer::getTargetSize);
+            metrics.gauge("pool.demand", sizer::getDemand);
+            metrics.gauge("pool.acquireWaitP99Us", () -> TimeUnit.NANOSECONDS.toMicros(sizer.getAcquireWaitP99()));
+            metrics.gauge("pool.grows", sizer::getGrows);
+            metrics.gauge("pool.shrinks", sizer::getShrinks);
+        }
     }
 
     public TcpConnectionPool(ClientConfig clientConfig, PoolConfig poolConfig) {
@@ -56,12 +152,12 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
         log.info("Initializing connection pool: minSize={}, maxSize={}",
                 poolConfig.getMinSize(), poolConfig.getMaxSize());
 
-        for (int i = 0; i < poolConfig.getMinSize(); i++) {
+        for (int i = 0; i < poolConfig.getMinSize() && reserveSlot(poolConfig.getMaxSize()); i++) {
             try {
-                TcpClient client = createConnection();
-                availableConnections.offer(client);
+                bag.add(createEntry());
                 log.debug("Pre-created connection {}/{}", i + 1, poolConfig.getMinSize());
             } catch (Exception e) {
+                totalConnections.decrementAndGet();
                 log.warn("Failed to pre-create connection {}: {}", i + 1, e.getMessage());
             }
         }
@@ -70,9 +166,105 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
     }
 
     /**
-     * 새 연결 생성
+     * 지정 연결 수 이내에서 연결 자리 예약
+     *
+     * @param limit 전체 연결 수 상한 (최대 연결 수 이하)
+     * @return 예약했으면 true
+     */
+    private boolean reserveSlot(int limit) {
+        for (;;) {
+            int total = totalConnections.get();
+            if (total >= limit) {
+                return false;
+            }
+            if (totalConnections.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 대기자 수만큼 연결 생성 요청 (생성 스레드에서 비동기 생성)
+     */
+    private void addConnections(int waiting) {
+        for (;;) {
+            int pending = pendingConnections.get();
+            if (pending >= waiting || closed.get()) {
+                return;
+            }
+            if (!pendingConnections.compareAndSet(pending, pending + 1)) {
+                continue;
+            }
+            if (!reserveSlot(sizeLimit())) {
+                pendingConnections.decrementAndGet();
+                return;
+            }
+            if (!submitCreation()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 수요에 따라 만들 수 있는 연결 수 상한 (적응형이면 목표 크기)
      */
-    private TcpClient createConnection() {
+    private int sizeLimit() {
+        return sizer != null ? sizer.getTargetSize() : poolConfig.getMaxSize();
+    }
+
+    /**
+     * 최소 연결 수까지 미리 생성 요청
+     */
+    private void fillPool() {
+        while (!closed.get() && reserveSlot(poolConfig.getMinSize())) {
+            pendingConnections.incrementAndGet();
+            if (!submitCreation()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 예약한 자리의 연결 생성을 생성 스레드에 제출
+     *
+     * @return 제출했으면 true (풀 종료로 거부되면 예약을 되돌리고 false)
+     */
+    private boolean submitCreation() {
+        try {
+            connectionCreator.execute(this::createPendingConnection);
+            return true;
+        } catch (RejectedExecutionException e) {
+            totalConnections.decrementAndGet();
+            pendingConnections.decrementAndGet();
+            return false;
+        }
+    }
+
+    private void createPendingConnection() {
+        PoolEntry entry;
+        try {
+            entry = createEntry();
+        } catch (Exception e) {
+            totalConnections.decrementAndGet();
+            pendingConnections.decrementAndGet();
+            lastCreateFailure = e;
+            log.warn("Failed to create new connection: {}", e.getMessage());
+            return;
+        }
+
+        // 넘겨주기 전에 줄여야 연결을 받은 스레드의 다음 획득 요청이 생성 중인 것으로 오인되지 않음
+        pendingConnections.decrementAndGet();
+        if (closed.get()) {
+            discard(entry);
+            return;
+        }
+        bag.add(entry);
+    }
+
+    /**
+     * 새 연결 생성 (자리는 호출자가 예약)
+     */
+    private PoolEntry createEntry() {
         TcpClient client;
         if (layoutManager != null && messageLogger != null) {
             client = new TcpClient(clientConfig, layoutManager, messageLogger);
@@ -80,11 +272,20 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
             client = new TcpClient(clientConfig);
         }
 
-        client.connect();
-        totalConnections.incrementAndGet();
+        long start = metrics.now();
+        try {
+            client.connect();
+        } catch (RuntimeException e) {
+            metrics.recordError(METRIC_CODE, MetricStage.POOL_CREATE);
+            throw e;
+        }
+        metrics.record(METRIC_CODE, MetricStage.POOL_CREATE, metrics.now() - start);
+
+        PoolEntry entry = new PoolEntry(client);
+        entries.put(client, entry);
         log.debug("Created new connection, total: {}", totalConnections.get());
 
-        return client;
+        return entry;
     }
 
     @Override
@@ -98,57 +299,47 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
             throw new ConnectionException("Connection pool is closed");
         }
 
-        TcpClient client = null;
-
-        // 1. 먼저 가용 연결에서 획득 시도
-        client = availableConnections.poll();
-
-        if (client != null) {
-            // 연결 유효성 검증
-            if (poolConfig.isValidateOnAcquire() && !isConnectionValid(client)) {
-                log.debug("Invalid connection found, creating new one");
-                closeConnection(client);
-                client = null;
-            }
-        }
-
-        // 2. 가용 연결이 없으면 새로 생성 (최대 크기 이내)
-        if (client == null && totalConnections.get() < poolConfig.getMaxSize()) {
-            try {
-                client = createConnection();
-            } catch (Exception e) {
-                log.warn("Failed to create new connection: {}", e.getMessage());
-            }
-        }
-
-        // 3. 여전히 없으면 대기
-        if (client == null) {
-            try {
-                log.debug("Waiting for available connection (timeout: {}ms)", timeoutMillis);
-                client = availableConnections.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            do {
+                PoolEntry entry = bag.borrow(remaining, TimeUnit.NANOSECONDS);
+                if (entry == null) {
+                    break;
+                }
 
-                if (client != null && poolConfig.isValidateOnAcquire() && !isConnectionValid(client)) {
-                    closeConnection(client);
-                    client = null;
+                // 연결 유효성 검증
+                if (poolConfig.isValidateOnAcquire() && !isConnectionValid(entry.client)) {
+                    log.debug("Invalid connection found, creating new one");
+                    discard(entry);
+                    fillPool();
+                    continue;
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new ConnectionException("Interrupted while waiting for connection", e);
-            }
-        }
 
-        if (client == null) {
-            throw new ConnectionException(
-                    String.format("Failed to acquire connection within %dms (pool: %d/%d, active: %d)",
-                            timeoutMillis, totalConnections.get(), poolConfig.getMaxSize(),
-                            activeConnections.get()));
+                long acquired = System.nanoTime();
+                metrics.record(METRIC_CODE, MetricStage.POOL_ACQUIRE, acquired - start);
+                if (sizer != null) {
+                    sizer.recordAcquireWait(acquired - start);
+                    entry.borrowedAt = acquired;
+                }
+                if (log.isDebugEnabled()) {
+                    log.debug("Connection acquired, active: {}, available: {}",
+                            getActiveCount(), getAvailableCount());
+                }
+                return entry.client;
+            } while ((remaining = deadline - System.nanoTime()) > 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.recordError(METRIC_CODE, MetricStage.POOL_ACQUIRE);
+            throw new ConnectionException("Interrupted while waiting for connection", e);
         }
 
-        activeConnections.incrementAndGet();
-        log.debug("Connection acquired, active: {}, available: {}",
-                activeConnections.get(), availableConnections.size());
-
-        return client;
+        metrics.recordError(METRIC_CODE, MetricStage.POOL_ACQUIRE);
+        throw new ConnectionException(
+                String.format("Failed to acquire connection within %dms (pool: %d/%d, active: %d)",
+                        timeoutMillis, totalConnections.get(), poolConfig.getMaxSize(), getActiveCount()),
+                lastCreateFailure);
     }
 
     @Override
@@ -157,25 +348,37 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
             return;
         }
 
-        if (closed.get()) {
-            closeConnection(client);
+        PoolEntry entry = entries.get(client);
+        if (entry == null || entry.getState() != ConcurrentBag.Entry.IN_USE) {
+            log.warn("Ignoring release of a connection not borrowed from this pool");
             return;
         }
 
-        activeConnections.decrementAndGet();
+        if (closed.get() || !isConnectionValid(client)) {
+            discard(entry);
+            // 대기자가 있으면 끊어진 연결 대신 새 연결 생성
+            int waiting = bag.getWaitingThreadCount();
+            if (waiting > 0) {
+                addConnections(waiting);
+            }
+            fillPool();
+            return;
+        }
 
-        // 연결이 유효하면 풀에 반환
-        if (isConnectionValid(client)) {
-            boolean offered = availableConnections.offer(client);
-            if (!offered) {
-                // 풀이 가득 찬 경우 (최대 크기 초과)
-                closeConnection(client);
-            } else {
-                log.debug("Connection released, active: {}, available: {}",
-                        activeConnections.get(), availableConnections.size());
+        long now = System.nanoTime();
+        if (sizer != null) {
+            sizer.recordHoldTime(now - entry.borrowedAt);
+            // 목표 크기가 줄었으면 대기자가 없을 때 반납 대신 닫음
+            if (totalConnections.get() > sizer.getTargetSize() && bag.getWaitingThreadCount() == 0) {
+                discard(entry);
+                return;
             }
-        } else {
-            closeConnection(client);
+        }
+
+        entry.lastAccessed = now;
+        bag.requite(entry);
+        if (log.isDebugEnabled()) {
+            log.debug("Connection released, active: {}, available: {}", getActiveCount(), getAvailableCount());
         }
     }
 
@@ -187,11 +390,121 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
     }
 
     /**
-     * 연결 종료
+     * 유지 작업: 유휴 연결 제거/검증 후 최소 연결 보충
+     *
+     * 검사하는 동안 항목을 예약해 두므로 대여와 겹치지 않는다.
+     */
+    private void housekeep() {
+        try {
+            long maxIdle = TimeUnit.MILLISECONDS.toNanos(poolConfig.getMaxIdleTime());
+            int evicted = 0;
+            int invalid = 0;
+
+            for (PoolEntry entry : bag.values(ConcurrentBag.Entry.NOT_IN_USE)) {
+                if (closed.get() || !bag.reserve(entry)) {
+                    continue;
+                }
+                if (maxIdle > 0 && System.nanoTime() - entry.lastAccessed >= maxIdle
+                        && totalConnections.get() > poolConfig.getMinSize()) {
+                    discard(entry);
+                    evicted++;
+                } else if (!isIdleConnectionValid(entry) || closed.get()) {
+                    // 검증 중 풀이 닫히면 close()가 건너뛴 예약 항목이므로 여기서 종료
+                    discard(entry);
+                    invalid++;
+                } else {
+                    bag.unreserve(entry);
+                }
+            }
+
+            if (evicted > 0 || invalid > 0) {
+                log.debug("Pool housekeeping: evicted {} idle, removed {} invalid, total: {}",
+                        evicted, invalid, totalConnections.get());
+            }
+            fillPool();
+        } catch (Exception e) {
+            log.warn("Pool housekeeping failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적응형 목표 크기 재계산 후 반영
+     *
+     * 늘어나면 대기자 몫의 연결 생성을 다시 요청하고, 줄어들면 목표를 넘는 유휴 연결을 닫는다.
+     */
+    private void resize() {
+        try {
+            int previous = sizer.getTargetSize();
+            int target = sizer.resize(bag.getWaitingThreadCount(), getActiveCount(), System.nanoTime());
+            if (target == previous) {
+                return;
+            }
+
+            log.debug("Pool target size {} -> {} (demand: {}, acquire wait p99: {}us)", previous, target,
+                    sizer.getDemand(), TimeUnit.NANOSECONDS.toMicros(sizer.getAcquireWaitP99()));
+            if (target > previous) {
+                int waiting = bag.getWaitingThreadCount();
+                if (waiting > 0) {
+                    addConnections(waiting);
+                }
+                return;
+            }
+
+            for (PoolEntry entry : bag.values(ConcurrentBag.Entry.NOT_IN_USE)) {
+                if (totalConnections.get() <= target) {
+                    break;
+                }
+                if (bag.reserve(entry)) {
+                    discard(entry);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Pool resize failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적응형 크기 조절 목표 크기 (사용하지 않으면 최대 연결 수)
      */
-    private void closeConnection(TcpClient client) {
+    public int getTargetSize() {
+        return sizeLimit();
+    }
+
+    /**
+     * 유휴 연결 검증 (검증 간격이 지났으면 하트비트 전송)
+     */
+    private boolean isIdleConnectionValid(PoolEntry entry) {
+        if (!isConnectionValid(entry.client)) {
+            return false;
+        }
+
+        long interval = TimeUnit.MILLISECONDS.toNanos(poolConfig.getValidationInterval());
+        long lastUsed = Math.max(entry.lastAccessed, entry.lastValidated);
+        if (interval <= 0 || System.nanoTime() - lastUsed < interval) {
+            return true;
+        }
+
+        Supplier<Message> heartbeat = poolConfig.getHeartbeatMessageSupplier();
+        if (heartbeat != null) {
+            try {
+                entry.client.send(heartbeat.get(), poolConfig.getValidationTimeout());
+            } catch (Exception e) {
+                log.debug("Heartbeat failed on idle connection: {}", e.getMessage());
+                return false;
+            }
+        }
+        entry.lastValidated = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * 풀에서 제거하고 연결 종료
+     */
+    private void discard(PoolEntry entry) {
+        bag.remove(entry);
+        entries.remove(entry.client);
         try {
-            client.disconnect();
+            entry.client.disconnect();
         } catch (Exception e) {
             log.debug("Error closing connection: {}", e.getMessage());
         } finally {
@@ -201,12 +514,12 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
 
     @Override
     public int getAvailableCount() {
-        return availableConnections.size();
+        return bag.getCount(ConcurrentBag.Entry.NOT_IN_USE);
     }
 
     @Override
     public int getActiveCount() {
-        return activeConnections.get();
+        return bag.getCount(ConcurrentBag.Entry.IN_USE);
     }
 
     @Override
@@ -214,13 +527,20 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
         return totalConnections.get();
     }
 
+    /**
+     * 연결을 기다리는 스레드 수
+     */
+    public int getWaitingCount() {
+        return bag.getWaitingThreadCount();
+    }
+
     /**
      * 풀 상태 정보
      */
     public String getStats() {
-        return String.format("Pool[total=%d, active=%d, available=%d, max=%d]",
-                totalConnections.get(), activeConnections.get(),
-                availableConnections.size(), poolConfig.getMaxSize());
+        return String.format("Pool[total=%d, active=%d, available=%d, waiting=%d, max=%d]",
+                totalConnections.get(), getActiveCount(), getAvailableCount(), getWaitingCount(),
+                poolConfig.getMaxSize());
     }
 
     @Override
@@ -231,12 +551,47 @@ public class TcpConnectionPool implements ConnectionPool<TcpClient> {
 
         log.info("Closing connection pool...");
 
-        // 모든 가용 연결 종료
-        TcpClient client;
-        while ((client = availableConnections.poll()) != null) {
-            closeConnection(client);
+        bag.close();
+        housekeeper.shutdownNow();
+        connectionCreator.shutdown();
+
+        // 모든 가용 연결 종료 (사용 중인 연결은 반환 시 종료)
+        for (PoolEntry entry : bag.values()) {
+            if (bag.reserve(entry)) {
+                discard(entry);
+            }
         }
 
+        transport.release();
         log.info("Connection pool closed");
     }
+
+    /**
+     * 풀 항목
+     */
+    static final class PoolEntry extends ConcurrentBag.Entry {
+
+        final TcpClient client;
+
+        /**
+         * 마지막 반납 시각 (System.nanoTime)
+         */
+        volatile long lastAccessed;
+
+        /**
+         * 마지막 백그라운드 검증 시각 (System.nanoTime)
+         */
+        volatile long lastValidated;
+
+        /**
+         * 마지막 대여 시각 (적응형 크기 조절의 점유 시간 계산용)
+         */
+        long borrowedAt;
+
+        PoolEntry(TcpClient client) {
+            this.client = client;
+            this.lastAccessed = System.nanoTime();
+            this.lastValidated = lastAccessed;
+        }
+    }
 }
@@ -1,30 +1,32 @@
 package springware.mci.client.tcp;
 
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
-import io.netty.handler.codec.LengthFieldPrepender;
 import io.netty.handler.timeout.IdleStateHandler;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.config.ClientConfig;
 import springware.mci.client.core.AbstractMciClient;
+import springware.mci.client.core.InFlightRequests;
 import springware.mci.common.core.Message;
 import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.exception.LayoutException;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.layout.MessageLayout;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.transport.FlushBatchingHandler;
+import springware.mci.common.transport.TransportResources;
+import springware.mci.common.protocol.DefaultMessageCodec;
 import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.MciFrameDecoder;
+import springware.mci.common.protocol.MciMessageCodec;
+import springware.mci.common.protocol.MessageCodec;
 import springware.mci.common.protocol.ProtocolConfig;
 
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Netty 기반 TCP 클라이언트
@@ -32,50 +34,39 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class TcpClient extends AbstractMciClient {
 
-    private EventLoopGroup workerGroup;
     private Channel channel;
-    private final Map<String, CompletableFuture<Message>> pendingRequests = new ConcurrentHashMap<>();
+    private final InFlightRequests inFlightRequests;
+    private final MciMessageCodec messageCodec;
+
+    /**
+     * FIFO 매칭 시 등록/송신 순서 직렬화용 락
+     * (synchronized는 Java 21 가상 스레드가 경합 시 캐리어 스레드를 점유하므로 사용하지 않음)
+     */
+    private final ReentrantLock fifoLock = new ReentrantLock();
 
     public TcpClient(ClientConfig config) {
         super(config);
+        this.inFlightRequests = new InFlightRequests(config.getCorrelationKeyExtractor());
+        this.messageCodec = createMessageCodec();
     }
 
     public TcpClient(ClientConfig config, LayoutManager layoutManager, MessageLogger messageLogger) {
         super(config, layoutManager, messageLogger);
+        this.inFlightRequests = new InFlightRequests(config.getCorrelationKeyExtractor());
+        this.messageCodec = createMessageCodec();
+    }
+
+    private MciMessageCodec createMessageCodec() {
+        MessageCodec codec = new DefaultMessageCodec(config.getProtocolConfig(), layoutManager,
+                config.getCharset(), config.isLazyDecode());
+        // FIFO 매칭은 디코딩 실패 프레임 하나로 이후 응답이 모두 어긋나므로 연결을 종료한다
+        return new MciMessageCodec(codec, messageLogger, metrics, !inFlightRequests.isKeyed());
     }
 
     @Override
     protected void doConnect() {
-        workerGroup = new NioEventLoopGroup();
-
         try {
-            Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(workerGroup)
-                    .channel(NioSocketChannel.class)
-                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout())
-                    .option(ChannelOption.SO_KEEPALIVE, config.isKeepAlive())
-                    .option(ChannelOption.TCP_NODELAY, config.isTcpNoDelay())
-                    .handler(new ChannelInitializer<SocketChannel>() {
-                        @Override
-                        protected void initChannel(SocketChannel ch) {
-                            ChannelPipeline pipeline = ch.pipeline();
-
-                            // 유휴 상태 핸들러
-                            pipeline.addLast("idle", new IdleStateHandler(
-                                    config.getReadTimeout(),
-                                    config.getWriteTimeout(),
-                                    config.getIdleTimeout(),
-                                    TimeUnit.MILLISECONDS));
-
-                            // 프레임 디코더/인코더 추가
-                            addFrameCodec(pipeline);
-
-                            // 비즈니스 로직 핸들러
-                            pipeline.addLast("handler", new TcpClientHandler());
-                        }
-                    });
-
-            ChannelFuture future = bootstrap.connect(config.getHost(), config.getPort()).sync();
+            ChannelFuture future = bootstrap(transport()).connect(config.getHost(), config.getPort()).sync();
             channel = future.channel();
 
             log.debug("TCP connection established to {}:{}", config.getHost(), config.getPort());
@@ -84,11 +75,68 @@ public class TcpClient extends AbstractMciClient {
             Thread.currentThread().interrupt();
             throw new ConnectionException("Connection interrupted", e);
         } catch (Exception e) {
-            shutdown();
             throw new ConnectionException("Failed to connect", e);
         }
     }
 
+    /**
+     * 비동기 연결 (연결 완료를 기다리지 않고 이벤트 루프의 리스너에서 결과 통지)
+     */
+    @Override
+    protected CompletableFuture<Void> doConnectAsync() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        bootstrap(transport()).connect(config.getHost(), config.getPort())
+                .addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        channel = future.channel();
+                        log.debug("TCP connection established to {}:{}", config.getHost(), config.getPort());
+                        result.complete(null);
+                    } else {
+                        result.completeExceptionally(new ConnectionException("Failed to connect", future.cause()));
+                    }
+                });
+        return result;
+    }
+
+    private Bootstrap bootstrap(TransportResources transport) {
+        Bootstrap bootstrap = new Bootstrap();
+        if (transport.ioTransport().isNative() && config.isTcpQuickAck()) {
+            bootstrap.option(EpollChannelOption.TCP_QUICKACK, true);
+        }
+        bootstrap.group(transport.eventLoopGroup())
+                .channel(transport.ioTransport().socketChannelClass())
+                .option(ChannelOption.ALLOCATOR, transport.allocator())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout())
+                .option(ChannelOption.SO_KEEPALIVE, config.isKeepAlive())
+                .option(ChannelOption.TCP_NODELAY, config.isTcpNoDelay())
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ChannelPipeline pipeline = ch.pipeline();
+
+                        // 플러시 통합 (요청 flush를 모아서 수행하도록 파이프라인 맨 앞에 배치)
+                        if (config.isFlushConsolidation()) {
+                            pipeline.addLast("flush", new FlushBatchingHandler(
+                                    config.getFlushMaxPendingWrites(), config.getFlushMaxDelayMicros()));
+                        }
+
+                        // 유휴 상태 핸들러
+                        pipeline.addLast("idle", new IdleStateHandler(
+                                config.getReadTimeout(),
+                                config.getWriteTimeout(),
+                                config.getIdleTimeout(),
+                                TimeUnit.MILLISECONDS));
+
+                        // 프레임 디코더/인코더 추가
+                        addFrameCodec(pipeline);
+
+                        // 비즈니스 로직 핸들러
+                        pipeline.addLast("handler", new TcpClientHandler());
+                    }
+                });
+        return bootstrap;
+    }
+
     /**
      * 프레임 코덱 추가
      *
@@ -105,17 +153,17 @@ public class TcpClient extends AbstractMciClient {
      *   ┌─────────────────────────────────────────────────────────┐
      *   │  LengthFieldType 확인                                    │
      *   ├─────────────────────────────────────────────────────────┤
-     *   │  NONE           → 리턴 (고정 길이 메시지, 코덱 불필요)      │
-     *   │  BINARY_BIG_ENDIAN → 디코더 + 인코더 추가                 │
-     *   │  기타 (문자열 등)  → 디코더만 추가 (인코더는 커스텀 필요)    │
+     *   │  NONE           → 메시지 코덱만 추가 (고정 길이 메시지)     │
+     *   │  기타            → 프레임 디코더 + 메시지 코덱 추가          │
      *   └─────────────────────────────────────────────────────────┘
      *
      *   주요 컴포넌트
      *
      *   | 컴포넌트                     | 역할                                                |
      *   |------------------------------|-----------------------------------------------------|
-     *   | LengthFieldBasedFrameDecoder | 수신 데이터에서 길이 필드를 읽어 메시지 프레임 분리 |
-     *   | LengthFieldPrepender         | 송신 메시지 앞에 길이 필드 자동 추가                |
+     *   | MciFrameDecoder              | 수신 데이터에서 길이 필드를 읽어 메시지 프레임 분리 |
+     *   |                              | (숫자 문자열/BCD 길이 필드 포함)                    |
+     *   | MciMessageCodec              | 프레임 ↔ Message 변환 및 송수신 로깅                |
      *
      *   프레임 구조 예시
      *
@@ -126,49 +174,34 @@ public class TcpClient extends AbstractMciClient {
      *
      *   디코더 파라미터 의미
      *
-     *   new LengthFieldBasedFrameDecoder(
+     *   MciFrameDecoder는 ProtocolConfig의
      *       maxMessageSize,      // 최대 메시지 크기
      *       lengthFieldOffset,   // 길이 필드 시작 위치
      *       lengthFieldLength,   // 길이 필드 바이트 수 (2 or 4)
      *       lengthAdjustment,    // 길이 값 보정 (헤더 포함 여부 등)
      *       initialBytesToStrip  // 디코딩 후 제거할 바이트 수
-     *   )
-     *
-     *   코드 개선 포인트
+     *   를 송신 측 FrameEncoder와 같은 의미로 해석합니다.
      *
-     *   주석에 언급된 대로, LengthFieldType이 숫자 문자열 타입인 경우(예: "0042") 커스텀 인코더가 필요하지만 현재 구현되어 있지 않습니다.
+     *   송신 길이 필드는 MciMessageCodec이 FrameEncoder로 본문과 함께 한 버퍼에 기록합니다.
      */
     private void addFrameCodec(ChannelPipeline pipeline) {
         ProtocolConfig protocolConfig = config.getProtocolConfig();
 
         if (protocolConfig.getLengthFieldType() == LengthFieldType.NONE) {
-            // 길이 필드 없는 경우 (고정 길이 메시지), codec설치가 필요 없으니 빠져 나간다.
+            // 길이 필드 없는 경우 (고정 길이 메시지), 프레임 디코더 없이 메시지 코덱만 설치한다.
+            pipeline.addLast("codec", messageCodec);
             return;
         }
 
         // 길이 필드 기반 프레임 디코더
-        pipeline.addLast("frameDecoder", new LengthFieldBasedFrameDecoder(
-                protocolConfig.getMaxMessageSize(),
-                protocolConfig.getLengthFieldOffset(),
-                protocolConfig.getLengthFieldLength(),
-                protocolConfig.getLengthAdjustment(),
-                protocolConfig.getInitialBytesToStrip()
-        ));
-
-        // 길이 필드 프리펜더 (숫자 문자열 타입인 경우 커스텀 처리 필요)
-        if (protocolConfig.getLengthFieldType() == LengthFieldType.BINARY_BIG_ENDIAN) {
-            pipeline.addLast("frameEncoder", new LengthFieldPrepender(
-                    protocolConfig.getLengthFieldLength()
-            ));
-        }
+        pipeline.addLast("frameDecoder", new MciFrameDecoder(protocolConfig));
+        pipeline.addLast("codec", messageCodec);
     }
 
     @Override
     protected void doDisconnect() {
         // 대기 중인 요청 취소
-        pendingRequests.values().forEach(future ->
-                future.completeExceptionally(new ConnectionException("Client disconnected")));
-        pendingRequests.clear();
+        inFlightRequests.failAll(new ConnectionException("Client disconnected"));
 
         if (channel != null) {
             try {
@@ -178,164 +211,110 @@ public class TcpClient extends AbstractMciClient {
             }
             channel = null;
         }
-
-        shutdown();
     }
 
-    private void shutdown() {
-        if (workerGroup != null) {
-            workerGroup.shutdownGracefully();
-            workerGroup = null;
+    /**
+     * 재연결 완료 리스너(이벤트 루프)에서 호출되므로 종료를 기다리지 않는다
+     */
+    @Override
+    protected void discardConnection() {
+        Channel ch = channel;
+        channel = null;
+        if (ch != null) {
+            ch.close();
         }
     }
 
     @Override
     public CompletableFuture<Message> sendAsync(Message message) {
-        ensureConnected();
+        return sendAsync(message, config.getReadTimeout());
+    }
 
-        CompletableFuture<Message> future = new CompletableFuture<>();
-        pendingRequests.put(message.getMessageId(), future);
+    @Override
+    public CompletableFuture<Message> sendAsync(Message message, long timeoutMillis) {
+        ensureConnected();
 
+        Channel ch = channel;
         try {
-            // 메시지 인코딩
-            MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
-            byte[] data = layoutManager.encode(message, config.getCharset());
-
-            // 프로토콜 설정에 따른 길이 필드 추가
-            byte[] frameData = prependLengthField(data);
-
-            // 전송
-            ByteBuf buf = Unpooled.wrappedBuffer(frameData);
-            channel.writeAndFlush(buf).addListener((ChannelFutureListener) f -> {
-                if (f.isSuccess()) {
-                    // 클라이언트: writeAndFlush 완료 후 로깅
-                    messageLogger.logSend(message, layout, frameData);
-                    log.debug("Message sent: {}", message.getMessageId());
-                } else {
-                    pendingRequests.remove(message.getMessageId());
-                    future.completeExceptionally(new ConnectionException("Failed to send message", f.cause()));
-                }
-            });
+            // 인코딩은 파이프라인 코덱에서 수행하므로 레이아웃 존재 여부만 미리 확인
+            requireLayout(message);
+
+            // FIFO 매칭인 경우 등록 순서와 송신 순서가 같도록 직렬화
+            if (inFlightRequests.isKeyed()) {
+                return write(ch, message, timeoutMillis);
+            }
+            fifoLock.lock();
+            try {
+                return write(ch, message, timeoutMillis);
+            } finally {
+                fifoLock.unlock();
+            }
 
         } catch (Exception e) {
-            pendingRequests.remove(message.getMessageId());
-            future.completeExceptionally(e);
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
+    /**
+     * 대기 요청 등록 후 전송 (인코딩과 전송 로깅은 파이프라인 코덱에서 수행)
+     */
+    private CompletableFuture<Message> write(Channel ch, Message message, long timeoutMillis) {
+        CompletableFuture<Message> future = inFlightRequests.register(message, timeoutMillis, ch.eventLoop(), () -> {
+            // FIFO 매칭에서 늦게 도착할 응답이 다음 요청에 매칭되지 않도록 연결 종료 (재연결은 channelInactive에서 수행)
+            log.warn("Closing connection after response timeout: {}", message.getMessageCode());
+            ch.close();
+        });
+        trackRequest(message, future);
+
+        ch.writeAndFlush(message).addListener((ChannelFutureListener) f -> {
+            if (f.isSuccess()) {
+                log.debug("Message sent: {}", message.getMessageId());
+            } else {
+                future.completeExceptionally(new ConnectionException("Failed to send message", f.cause()));
+            }
+        });
         return future;
     }
 
-    @Override
-    protected void doSendOneWay(Message message) {
-        try {
-            MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
-            byte[] data = layoutManager.encode(message, config.getCharset());
-            byte[] frameData = prependLengthField(data);
-
-            ByteBuf buf = Unpooled.wrappedBuffer(frameData);
-            channel.writeAndFlush(buf).addListener((ChannelFutureListener) f -> {
-                if (f.isSuccess()) {
-                    messageLogger.logSend(message, layout, frameData);
-                }
-            });
-
-        } catch (Exception e) {
-            throw new ConnectionException("Failed to send message", e);
+    /**
+     * 메시지 코드의 레이아웃 조회
+     */
+    private MessageLayout requireLayout(Message message) {
+        MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + message.getMessageCode());
         }
+        return layout;
     }
 
     /**
-     * 길이 필드 추가
-     * BINARY_BIG_ENDIAN인 경우 LengthFieldPrepender가 파이프라인에서 자동으로 처리하므로 수동 추가하지 않음
+     * 응답 대기 중인 요청 수
      */
-    private byte[] prependLengthField(byte[] data) {
-        ProtocolConfig protocolConfig = config.getProtocolConfig();
-
-        // NONE이거나 BINARY_BIG_ENDIAN인 경우 (LengthFieldPrepender가 처리)
-        if (protocolConfig.getLengthFieldType() == LengthFieldType.NONE ||
-            protocolConfig.getLengthFieldType() == LengthFieldType.BINARY_BIG_ENDIAN) {
-            return data;
-        }
+    public int getInFlightCount() {
+        return inFlightRequests.size();
+    }
 
-        int lengthFieldLength = protocolConfig.getLengthFieldLength();
-        int bodyLength = data.length;
+    @Override
+    protected void doSendOneWay(Message message) {
+        try {
+            requireLayout(message);
+            channel.writeAndFlush(message);
 
-        if (protocolConfig.isLengthIncludesHeader()) {
-            bodyLength += lengthFieldLength;
-        }
-        bodyLength += protocolConfig.getLengthAdjustment();
-
-        byte[] result = new byte[lengthFieldLength + data.length];
-
-        // 길이 필드 인코딩
-        switch (protocolConfig.getLengthFieldType()) {
-            case NUMERIC_STRING:
-                String lengthStr = String.format("%0" + lengthFieldLength + "d", bodyLength);
-                System.arraycopy(lengthStr.getBytes(config.getCharset()), 0, result, 0, lengthFieldLength);
-                break;
-            case BINARY_LITTLE_ENDIAN:
-                for (int i = 0; i < lengthFieldLength; i++) {
-                    result[i] = (byte) (bodyLength & 0xFF);
-                    bodyLength >>= 8;
-                }
-                break;
-            default:
-                break;
+        } catch (Exception e) {
+            throw new ConnectionException("Failed to send message", e);
         }
-
-        System.arraycopy(data, 0, result, lengthFieldLength, data.length);
-        return result;
     }
 
     /**
-     * TCP 클라이언트 핸들러
+     * TCP 클라이언트 핸들러 (프레임 분리와 디코딩은 파이프라인 코덱에서 수행)
      */
-    private class TcpClientHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private class TcpClientHandler extends SimpleChannelInboundHandler<Message> {
 
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
-            byte[] data = new byte[msg.readableBytes()];
-            msg.readBytes(data);
-
+        protected void channelRead0(ChannelHandlerContext ctx, Message response) {
             try {
-                // 메시지 디코딩
-                ProtocolConfig protocolConfig = config.getProtocolConfig();
-                // initialBytesToStrip으로 이미 제거된 바이트를 고려하여 오프셋 계산
-                int offset = protocolConfig.getLengthFieldOffset() + protocolConfig.getLengthFieldLength()
-                        - protocolConfig.getInitialBytesToStrip();
-                offset = Math.max(0, offset);
-
-                byte[] bodyData;
-                if (offset > 0 && offset < data.length) {
-                    bodyData = new byte[data.length - offset];
-                    System.arraycopy(data, offset, bodyData, 0, bodyData.length);
-                } else {
-                    bodyData = data;
-                }
-
-                // 메시지 코드 추출 (처음 4바이트)
-                String messageCode = new String(bodyData, 0, Math.min(4, bodyData.length), config.getCharset()).trim();
-
-                MessageLayout layout = layoutManager.getLayout(messageCode);
-                Message response = layout != null
-                        ? layout.decode(bodyData, config.getCharset())
-                        : Message.builder().messageCode(messageCode).build();
-
-                response.setRawData(data);
-
-                // 로깅
-                messageLogger.logReceive(response, layout, data);
-
-                // 대기 중인 요청에 응답 전달
-                // 실제로는 요청-응답 매핑 로직 필요 (메시지 ID 또는 시퀀스 번호 기반)
-                // 여기서는 첫 번째 대기 중인 요청에 응답
-                if (!pendingRequests.isEmpty()) {
-                    String firstKey = pendingRequests.keySet().iterator().next();
-                    CompletableFuture<Message> future = pendingRequests.remove(firstKey);
-                    if (future != null) {
-                        future.complete(response);
-                    }
-                }
+                // 대기 중인 요청에 응답 전달 (연관 키 또는 송신 순서 기준)
+                inFlightRequests.complete(response);
 
             } catch (Exception e) {
                 log.error("Failed to process received message", e);
@@ -347,9 +326,7 @@ public class TcpClient extends AbstractMciClient {
             log.error("Channel exception", cause);
 
             // 모든 대기 중인 요청 실패 처리
-            pendingRequests.values().forEach(future ->
-                    future.completeExceptionally(new ConnectionException("Channel error", cause)));
-            pendingRequests.clear();
+            inFlightRequests.failAll(new ConnectionException("Channel error", cause));
 
             ctx.close();
             tryReconnect();
@@ -358,6 +335,8 @@ public class TcpClient extends AbstractMciClient {
         @Override
         public void channelInactive(ChannelHandlerContext ctx) {
             log.warn("Channel disconnected");
+            // 끊어진 연결로 보낸 요청은 응답을 받을 수 없으므로 실패 처리
+            inFlightRequests.failAll(new ConnectionException("Channel disconnected"));
             tryReconnect();
         }
     }
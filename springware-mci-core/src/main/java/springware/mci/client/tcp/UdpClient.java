@@ -1,26 +1,27 @@
 package springware.mci.client.tcp;
 
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.DatagramPacket;
-import io.netty.channel.socket.nio.NioDatagramChannel;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.client.config.ClientConfig;
 import springware.mci.client.core.AbstractMciClient;
+import springware.mci.client.core.InFlightRequests;
 import springware.mci.common.core.Message;
 import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.exception.LayoutException;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.layout.MessageLayout;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.protocol.DefaultMessageCodec;
+import springware.mci.common.protocol.MciDatagramCodec;
+import springware.mci.common.protocol.MessageCodec;
+import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.TransportResources;
 
 import java.net.InetSocketAddress;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Netty 기반 UDP 클라이언트
@@ -28,32 +29,49 @@ import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 public class UdpClient extends AbstractMciClient {
 
-    private EventLoopGroup workerGroup;
     private Channel channel;
     private InetSocketAddress remoteAddress;
-    private final Map<String, CompletableFuture<Message>> pendingRequests = new ConcurrentHashMap<>();
+    private final InFlightRequests inFlightRequests;
+    private final MciDatagramCodec messageCodec;
+
+    /**
+     * FIFO 매칭 시 등록/송신 순서 직렬화용 락
+     */
+    private final ReentrantLock fifoLock = new ReentrantLock();
 
     public UdpClient(ClientConfig config) {
         super(config);
+        this.inFlightRequests = new InFlightRequests(config.getCorrelationKeyExtractor());
+        this.messageCodec = createMessageCodec();
     }
 
     public UdpClient(ClientConfig config, LayoutManager layoutManager, MessageLogger messageLogger) {
         super(config, layoutManager, messageLogger);
+        this.inFlightRequests = new InFlightRequests(config.getCorrelationKeyExtractor());
+        this.messageCodec = createMessageCodec();
+    }
+
+    private MciDatagramCodec createMessageCodec() {
+        MessageCodec codec = new DefaultMessageCodec(ProtocolConfig.noLengthField(), layoutManager,
+                config.getCharset(), config.isLazyDecode());
+        return new MciDatagramCodec(codec, messageLogger, metrics);
     }
 
     @Override
     protected void doConnect() {
-        workerGroup = new NioEventLoopGroup();
+        TransportResources transport = transport();
         remoteAddress = new InetSocketAddress(config.getHost(), config.getPort());
 
         try {
             Bootstrap bootstrap = new Bootstrap();
-            bootstrap.group(workerGroup)
-                    .channel(NioDatagramChannel.class)
+            bootstrap.group(transport.eventLoopGroup())
+                    .channel(transport.ioTransport().datagramChannelClass())
+                    .option(ChannelOption.ALLOCATOR, transport.allocator())
                     .option(ChannelOption.SO_BROADCAST, false)
                     .handler(new ChannelInitializer<DatagramChannel>() {
                         @Override
                         protected void initChannel(DatagramChannel ch) {
+                            ch.pipeline().addLast("codec", messageCodec);
                             ch.pipeline().addLast("handler", new UdpClientHandler());
                         }
                     });
@@ -66,16 +84,13 @@ public class UdpClient extends AbstractMciClient {
             Thread.currentThread().interrupt();
             throw new ConnectionException("Connection interrupted", e);
         } catch (Exception e) {
-            shutdown();
             throw new ConnectionException("Failed to start UDP client", e);
         }
     }
 
     @Override
     protected void doDisconnect() {
-        pendingRequests.values().forEach(future ->
-                future.completeExceptionally(new ConnectionException("Client disconnected")));
-        pendingRequests.clear();
+        inFlightRequests.failAll(new ConnectionException("Client disconnected"));
 
         if (channel != null) {
             try {
@@ -85,63 +100,78 @@ public class UdpClient extends AbstractMciClient {
             }
             channel = null;
         }
-
-        shutdown();
     }
 
-    private void shutdown() {
-        if (workerGroup != null) {
-            workerGroup.shutdownGracefully();
-            workerGroup = null;
-        }
+    @Override
+    public CompletableFuture<Message> sendAsync(Message message) {
+        return sendAsync(message, config.getReadTimeout());
     }
 
     @Override
-    public CompletableFuture<Message> sendAsync(Message message) {
+    public CompletableFuture<Message> sendAsync(Message message, long timeoutMillis) {
         ensureConnected();
 
-        CompletableFuture<Message> future = new CompletableFuture<>();
-        pendingRequests.put(message.getMessageId(), future);
-
+        Channel ch = channel;
         try {
-            MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
-            byte[] data = layoutManager.encode(message, config.getCharset());
-
-            ByteBuf buf = Unpooled.wrappedBuffer(data);
-            DatagramPacket packet = new DatagramPacket(buf, remoteAddress);
-
-            channel.writeAndFlush(packet).addListener((ChannelFutureListener) f -> {
-                if (f.isSuccess()) {
-                    messageLogger.logSend(message, layout, data);
-                    log.debug("UDP message sent: {}", message.getMessageId());
-                } else {
-                    pendingRequests.remove(message.getMessageId());
-                    future.completeExceptionally(new ConnectionException("Failed to send message", f.cause()));
-                }
-            });
+            // 인코딩은 파이프라인 코덱에서 수행하므로 레이아웃 존재 여부만 미리 확인
+            requireLayout(message);
+
+            // FIFO 매칭인 경우 등록 순서와 송신 순서가 같도록 직렬화
+            if (inFlightRequests.isKeyed()) {
+                return write(ch, message, timeoutMillis);
+            }
+            fifoLock.lock();
+            try {
+                return write(ch, message, timeoutMillis);
+            } finally {
+                fifoLock.unlock();
+            }
 
         } catch (Exception e) {
-            pendingRequests.remove(message.getMessageId());
-            future.completeExceptionally(e);
+            return CompletableFuture.failedFuture(e);
         }
+    }
 
+    /**
+     * 대기 요청 등록 후 전송 (인코딩과 전송 로깅은 파이프라인 코덱에서 수행)
+     */
+    private CompletableFuture<Message> write(Channel ch, Message message, long timeoutMillis) {
+        CompletableFuture<Message> future = inFlightRequests.register(message, timeoutMillis, ch.eventLoop());
+        trackRequest(message, future);
+
+        ch.writeAndFlush(new DefaultAddressedEnvelope<>(message, remoteAddress)).addListener((ChannelFutureListener) f -> {
+            if (f.isSuccess()) {
+                log.debug("UDP message sent: {}", message.getMessageId());
+            } else {
+                future.completeExceptionally(new ConnectionException("Failed to send message", f.cause()));
+            }
+        });
         return future;
     }
 
+    /**
+     * 메시지 코드의 레이아웃 조회
+     */
+    private MessageLayout requireLayout(Message message) {
+        MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + message.getMessageCode());
+        }
+        return layout;
+    }
+
+    /**
+     * 응답 대기 중인 요청 수
+     */
+    public int getInFlightCount() {
+        return inFlightRequests.size();
+    }
+
     @Override
     protected void doSendOneWay(Message message) {
         try {
-            MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
-            byte[] data = layoutManager.encode(message, config.getCharset());
-
-            ByteBuf buf = Unpooled.wrappedBuffer(data);
-            DatagramPacket packet = new DatagramPacket(buf, remoteAddress);
-
-            channel.writeAndFlush(packet).addListener((ChannelFutureListener) f -> {
-                if (f.isSuccess()) {
-                    messageLogger.logSend(message, layout, data);
-                }
-            });
+            requireLayout(message);
+            channel.writeAndFlush(new DefaultAddressedEnvelope<>(message, remoteAddress));
 
         } catch (Exception e) {
             throw new ConnectionException("Failed to send message", e);
@@ -149,37 +179,15 @@ public class UdpClient extends AbstractMciClient {
     }
 
     /**
-     * UDP 클라이언트 핸들러
+     * UDP 클라이언트 핸들러 (디코딩은 파이프라인 코덱에서 수행)
      */
-    private class UdpClientHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+    private class UdpClientHandler extends SimpleChannelInboundHandler<AddressedEnvelope<Message, InetSocketAddress>> {
 
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
-            ByteBuf content = packet.content();
-            byte[] data = new byte[content.readableBytes()];
-            content.readBytes(data);
-
+        protected void channelRead0(ChannelHandlerContext ctx, AddressedEnvelope<Message, InetSocketAddress> envelope) {
             try {
-                // 메시지 코드 추출
-                String messageCode = new String(data, 0, Math.min(4, data.length), config.getCharset()).trim();
-
-                MessageLayout layout = layoutManager.getLayout(messageCode);
-                Message response = layout != null
-                        ? layout.decode(data, config.getCharset())
-                        : Message.builder().messageCode(messageCode).build();
-
-                response.setRawData(data);
-
-                messageLogger.logReceive(response, layout, data);
-
-                // 응답 전달
-                if (!pendingRequests.isEmpty()) {
-                    String firstKey = pendingRequests.keySet().iterator().next();
-                    CompletableFuture<Message> future = pendingRequests.remove(firstKey);
-                    if (future != null) {
-                        future.complete(response);
-                    }
-                }
+                // 응답 전달 (연관 키 또는 송신 순서 기준)
+                inFlightRequests.complete(envelope.content());
 
             } catch (Exception e) {
                 log.error("Failed to process received UDP message", e);
@@ -1,5 +1,7 @@
 package springware.mci.common.core;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -15,8 +17,14 @@ import java.util.UUID;
 @Getter
 @ToString
 @Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public class Message {
 
+    /**
+     * 기본 응답 대기 타임아웃 (밀리초)
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+
     /**
      * 메시지 고유 ID
      */
@@ -59,7 +67,7 @@ public class Message {
      * 응답 대기 타임아웃 (밀리초)
      */
     @Builder.Default
-    private long timeoutMillis = 30000;
+    private long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
 
     /**
      * 필드 값 설정
@@ -73,7 +81,7 @@ public class Message {
      */
     @SuppressWarnings("unchecked")
     public <T> T getField(String name) {
-        return (T) fields.get(name);
+        return (T) fieldValue(name);
     }
 
     /**
@@ -81,7 +89,7 @@ public class Message {
      */
     @SuppressWarnings("unchecked")
     public <T> T getField(String name, T defaultValue) {
-        Object value = fields.get(name);
+        Object value = fieldValue(name);
         return value != null ? (T) value : defaultValue;
     }
 
@@ -89,14 +97,14 @@ public class Message {
      * 필드 존재 여부 확인
      */
     public boolean hasField(String name) {
-        return fields.containsKey(name);
+        return containsField(name);
     }
 
     /**
      * 문자열 필드 값 조회
      */
     public String getString(String name) {
-        Object value = fields.get(name);
+        Object value = fieldValue(name);
         return value != null ? value.toString() : null;
     }
 
@@ -104,7 +112,7 @@ public class Message {
      * 정수 필드 값 조회
      */
     public Integer getInt(String name) {
-        Object value = fields.get(name);
+        Object value = fieldValue(name);
         if (value == null) {
             return null;
         }
@@ -118,7 +126,7 @@ public class Message {
      * Long 필드 값 조회
      */
     public Long getLong(String name) {
-        Object value = fields.get(name);
+        Object value = fieldValue(name);
         if (value == null) {
             return null;
         }
@@ -128,6 +136,20 @@ public class Message {
         return Long.parseLong(value.toString().trim());
     }
 
+    /**
+     * 필드 값 조회 (하위 클래스 확장 지점)
+     */
+    protected Object fieldValue(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * 필드 존재 여부 (하위 클래스 확장 지점)
+     */
+    protected boolean containsField(String name) {
+        return fields.containsKey(name);
+    }
+
     /**
      * 원본 데이터 설정
      */
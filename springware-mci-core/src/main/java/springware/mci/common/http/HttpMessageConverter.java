@@ -12,6 +12,7 @@ import springware.mci.common.core.TransportType;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -174,6 +175,30 @@ public class HttpMessageConverter {
         }
     }
 
+    /**
+     * 메트릭을 포함한 헬스 체크 응답 JSON 생성
+     *
+     * @param status  상태 (UP, DOWN 등)
+     * @param metrics 이름별 메트릭 스냅샷 (비어 있으면 생략)
+     * @return JSON 문자열
+     */
+    public String createHealthCheckJson(String status, Map<String, Object> metrics) {
+        if (metrics == null || metrics.isEmpty()) {
+            return createHealthCheckJson(status);
+        }
+        try {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status);
+            map.put("timestamp", System.currentTimeMillis());
+            map.put("metrics", metrics);
+
+            return objectMapper.writeValueAsString(map);
+
+        } catch (JsonProcessingException e) {
+            return "{\"status\":\"" + status + "\"}";
+        }
+    }
+
     /**
      * Charset 반환
      */
@@ -0,0 +1,370 @@
+package springware.mci.common.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.FastThreadLocal;
+import springware.common.util.DateExpression;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사전 컴파일된 고정 길이 필드 코덱
+ *
+ * 레이아웃 로딩 시 필드 목록을 필드 플랜(오프셋, 패딩 바이트, 정렬, 숫자 처리 방식) 배열로 변환하고,
+ * 인코딩/디코딩 시에는 호출자가 제공한 byte[]/ByteBuf에 직접 읽고 쓴다.
+ *
+ * ASCII 호환 문자셋에서 ASCII 값만 포함된 필드는 중간 문자열 생성 없이 처리하며,
+ * 그 외의 경우(멀티바이트 문자, Double 값 등)는 기존 문자열 기반 처리와 동일한 결과를 내도록 폴백한다.
+ */
+public final class CompiledLayout {
+
+    private static final Map<Charset, Boolean> ASCII_COMPATIBLE = new ConcurrentHashMap<>();
+
+    private static final FastThreadLocal<byte[]> SCRATCH = new FastThreadLocal<>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[1024];
+        }
+    };
+
+    /**
+     * 필드 플랜 (레이아웃 순서)
+     */
+    private final FieldPlan[] plans;
+
+    /**
+     * 필드별 시작 오프셋
+     */
+    private final int[] offsets;
+
+    /**
+     * 필드명 - 인덱스 매핑
+     */
+    private final Map<String, Integer> indexByName;
+
+    /**
+     * 전체 길이 (바이트)
+     */
+    private final int length;
+
+    private CompiledLayout(FieldPlan[] plans, int[] offsets, int length) {
+        this.plans = plans;
+        this.offsets = offsets;
+        this.length = length;
+        this.indexByName = new HashMap<>(plans.length * 2);
+        for (int i = 0; i < plans.length; i++) {
+            indexByName.put(plans[i].name, i);
+        }
+    }
+
+    /**
+     * 반복부가 없는 필드 목록을 컴파일
+     *
+     * @param fields 필드 목록
+     * @return 컴파일된 레이아웃
+     */
+    static CompiledLayout compile(List<FieldDefinition> fields) {
+        FieldPlan[] plans = new FieldPlan[fields.size()];
+        int[] offsets = new int[fields.size()];
+        int offset = 0;
+        for (int i = 0; i < plans.length; i++) {
+            FieldDefinition field = fields.get(i);
+            if (field.isRepeating()) {
+                throw new LayoutException("Repeating field cannot be compiled as fixed field: " + field.getName());
+            }
+            plans[i] = new FieldPlan(field);
+            offsets[i] = offset;
+            offset += field.getLength();
+        }
+        return new CompiledLayout(plans, offsets, offset);
+    }
+
+    /**
+     * 전체 길이 (바이트)
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * 필드 수
+     */
+    public int getFieldCount() {
+        return plans.length;
+    }
+
+    /**
+     * 필드 플랜 조회
+     */
+    FieldPlan getPlan(int index) {
+        return plans[index];
+    }
+
+    /**
+     * 필드 시작 오프셋 조회
+     */
+    int getOffset(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * 필드 인덱스 조회
+     *
+     * @param name 필드명
+     * @return 인덱스 (없으면 -1)
+     */
+    int indexOf(String name) {
+        Integer index = indexByName.get(name);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 메시지를 대상 배열에 인코딩
+     *
+     * @param message 인코딩할 메시지
+     * @param dst     대상 배열
+     * @param offset  쓰기 시작 위치
+     * @param charset 문자셋
+     * @return 기록한 바이트 수
+     */
+    public int encode(Message message, byte[] dst, int offset, Charset charset) {
+        checkBounds(dst.length, offset);
+        boolean ascii = isAsciiCompatible(charset);
+        for (int i = 0; i < plans.length; i++) {
+            FieldPlan plan = plans[i];
+            plan.encode(message.getField(plan.name), dst, offset + offsets[i], charset, ascii);
+        }
+        return length;
+    }
+
+    /**
+     * 메시지를 ByteBuf에 인코딩 (writerIndex 이동)
+     *
+     * @param message 인코딩할 메시지
+     * @param out     대상 버퍼
+     * @param charset 문자셋
+     * @return 기록한 바이트 수
+     */
+    public int encode(Message message, ByteBuf out, Charset charset) {
+        out.ensureWritable(length);
+        int writerIndex = out.writerIndex();
+        if (out.hasArray()) {
+            encode(message, out.array(), out.arrayOffset() + writerIndex, charset);
+        } else {
+            byte[] scratch = scratch(length);
+            encode(message, scratch, 0, charset);
+            out.setBytes(writerIndex, scratch, 0, length);
+        }
+        out.writerIndex(writerIndex + length);
+        return length;
+    }
+
+    /**
+     * 레코드(필드명-값 맵)를 대상 배열에 인코딩 (반복부 1건)
+     */
+    int encodeRecord(Map<String, Object> record, byte[] dst, int offset, Charset charset) {
+        checkBounds(dst.length, offset);
+        boolean ascii = isAsciiCompatible(charset);
+        for (int i = 0; i < plans.length; i++) {
+            FieldPlan plan = plans[i];
+            Object value = record != null ? record.get(plan.name) : null;
+            plan.encode(value, dst, offset + offsets[i], charset, ascii);
+        }
+        return length;
+    }
+
+    /**
+     * 레코드 단위 쓰기 객체 생성 (반복부 스트리밍 인코딩용)
+     */
+    RecordEncoder recordEncoder(byte[] dst, Charset charset) {
+        return new RecordEncoder(this, dst, charset);
+    }
+
+    /**
+     * 원본 배열의 필드를 디코딩하여 메시지에 설정
+     *
+     * @param src     원본 배열
+     * @param offset  읽기 시작 위치
+     * @param charset 문자셋
+     * @param target  값을 설정할 메시지
+     */
+    public void decodeInto(byte[] src, int offset, Charset charset, Message target) {
+        checkBounds(src.length, offset);
+        boolean ascii = isAsciiCompatible(charset);
+        for (int i = 0; i < plans.length; i++) {
+            FieldPlan plan = plans[i];
+            target.setField(plan.name, plan.decode(src, offset + offsets[i], charset, ascii));
+        }
+    }
+
+    /**
+     * 원본 배열의 레코드를 디코딩 (반복부 1건)
+     */
+    Map<String, Object> decodeRecord(byte[] src, int offset, Charset charset) {
+        checkBounds(src.length, offset);
+        boolean ascii = isAsciiCompatible(charset);
+        Map<String, Object> record = new LinkedHashMap<>(plans.length * 2);
+        for (int i = 0; i < plans.length; i++) {
+            FieldPlan plan = plans[i];
+            record.put(plan.name, plan.decode(src, offset + offsets[i], charset, ascii));
+        }
+        return record;
+    }
+
+    private void checkBounds(int arrayLength, int offset) {
+        if (offset < 0 || offset + length > arrayLength) {
+            throw new LayoutException(
+                    String.format("Buffer too small: offset %d + layout length %d > %d", offset, length, arrayLength));
+        }
+    }
+
+    /**
+     * 스레드별 작업 배열 조회 (다이렉트 버퍼 인코딩용)
+     */
+    static byte[] scratch(int minLength) {
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < minLength) {
+            scratch = new byte[Math.max(minLength, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        return scratch;
+    }
+
+    /**
+     * ASCII 호환 문자셋 여부
+     * (0x00~0x7F 문자가 같은 값의 1바이트로 인코딩되는 문자셋: UTF-8, EUC-KR, ISO-8859-1 등)
+     */
+    static boolean isAsciiCompatible(Charset charset) {
+        Boolean cached = ASCII_COMPATIBLE.get(charset);
+        if (cached != null) {
+            return cached;
+        }
+        boolean compatible = charset.canEncode();
+        for (int c = 0; compatible && c < 0x80; c++) {
+            byte[] encoded = String.valueOf((char) c).getBytes(charset);
+            compatible = encoded.length == 1 && encoded[0] == c;
+        }
+        ASCII_COMPATIBLE.put(charset, compatible);
+        return compatible;
+    }
+
+    /**
+     * 출력 배열의 레코드 위치에 필드를 바로 기록하는 쓰기 객체
+     * 레코드마다 begin/finish를 호출하며 객체는 레코드 간에 재사용한다.
+     */
+    static final class RecordEncoder implements RecordWriter {
+
+        private final CompiledLayout layout;
+        private final byte[] dst;
+        private final Charset charset;
+        private final boolean ascii;
+        private final boolean[] written;
+        private int base;
+
+        private RecordEncoder(CompiledLayout layout, byte[] dst, Charset charset) {
+            this.layout = layout;
+            this.dst = dst;
+            this.charset = charset;
+            this.ascii = isAsciiCompatible(charset);
+            this.written = new boolean[layout.plans.length];
+        }
+
+        /**
+         * 레코드 쓰기 시작
+         */
+        void begin(int offset) {
+            layout.checkBounds(dst.length, offset);
+            this.base = offset;
+            Arrays.fill(written, false);
+        }
+
+        @Override
+        public RecordWriter set(String name, Object value) {
+            int index = layout.indexOf(name);
+            if (index >= 0) {
+                layout.plans[index].encode(value, dst, base + layout.offsets[index], charset, ascii);
+                written[index] = true;
+            }
+            return this;
+        }
+
+        /**
+         * 레코드 쓰기 종료 (설정하지 않은 필드는 값 없음으로 인코딩)
+         */
+        void finish() {
+            for (int i = 0; i < written.length; i++) {
+                if (!written[i]) {
+                    layout.plans[i].encode(null, dst, base + layout.offsets[i], charset, ascii);
+                }
+            }
+        }
+    }
+
+    /**
+     * 필드 플랜
+     * 필드 하나의 인코딩/디코딩 방식을 미리 결정해 둔 객체
+     */
+    static final class FieldPlan {
+
+        final FieldDefinition field;
+        final String name;
+        final int length;
+        final FieldType type;
+        final boolean rightAligned;
+        final double scale;
+        /**
+         * 날짜/시간 표현식 평가기 (레이아웃 컴파일 시 파싱)
+         */
+        final DateExpression expression;
+        final String defaultValue;
+
+        FieldPlan(FieldDefinition field) {
+            this.field = field;
+            this.name = field.getName();
+            this.length = field.getLength();
+            this.type = field.getType();
+            this.rightAligned = type.isRightAligned();
+            this.scale = field.getDecimalPlaces() > 0 ? Math.pow(10, field.getDecimalPlaces()) : 0;
+            this.expression = parseExpression(field);
+            this.defaultValue = field.getDefaultValue();
+        }
+
+        private static DateExpression parseExpression(FieldDefinition field) {
+            try {
+                return DateExpression.parse(field.getExpression());
+            } catch (IllegalArgumentException e) {
+                throw new LayoutException("Invalid expression for field " + field.getName() + ": "
+                        + field.getExpression(), e);
+            }
+        }
+
+        /**
+         * 필드 값 인코딩
+         */
+        void encode(Object value, byte[] dst, int pos, Charset charset, boolean ascii) {
+            LayoutCodecSupport.encodeValue(value, dst, pos, length, rightAligned, expression, defaultValue,
+                    charset, ascii);
+        }
+
+        /**
+         * 필드 값 디코딩
+         */
+        Object decode(byte[] src, int pos, Charset charset, boolean ascii) {
+            switch (type) {
+                case NUMBER:
+                    return LayoutCodecSupport.decodeNumber(src, pos, length, charset, ascii, name);
+                case AMOUNT:
+                    return LayoutCodecSupport.decodeAmount(src, pos, length, scale, charset, ascii, name);
+                default:
+                    return LayoutCodecSupport.decodeString(src, pos, length, charset, ascii);
+            }
+        }
+    }
+}
@@ -15,12 +15,29 @@ public class DefaultLayoutManager implements LayoutManager {
 
     private final ConcurrentHashMap<String, MessageLayout> layouts = new ConcurrentHashMap<>();
 
+    private final boolean runtimeCodecs;
+
+    public DefaultLayoutManager() {
+        this(false);
+    }
+
+    /**
+     * @param runtimeCodecs 등록한 레이아웃마다 런타임 전용 코덱(히든 클래스)을 생성하여 연결할지 여부
+     *                      ({@link RuntimeLayoutCodecs}, 생성 전/실패 시 기존 경로로 처리)
+     */
+    public DefaultLayoutManager(boolean runtimeCodecs) {
+        this.runtimeCodecs = runtimeCodecs;
+    }
+
     @Override
     public void registerLayout(MessageLayout layout) {
         if (layout == null) {
             throw new IllegalArgumentException("Layout must not be null");
         }
         layouts.put(layout.getLayoutId(), layout);
+        if (runtimeCodecs && layout.getCodec() == null) {
+            RuntimeLayoutCodecs.attachAsync(layout);
+        }
         log.debug("Registered layout: {} (fields: {}, length: {})",
                 layout.getLayoutId(), layout.getFields().size(), layout.getTotalLength());
     }
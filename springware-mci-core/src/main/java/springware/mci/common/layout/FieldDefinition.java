@@ -145,7 +145,7 @@ public class FieldDefinition {
     }
 
     /**
-     * 반복부 1건의 길이 (자식 필드 합계)
+     * 반복부 1건의 길이 (자식 필드 합계, 중첩 반복부 길이는 제외)
      */
     public int getRepeatingRecordLength() {
         if (!isRepeating()) {
@@ -0,0 +1,248 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.exception.LayoutException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사전 컴파일된 레이아웃 번들 (바이너리)
+ *
+ * 레이아웃 디렉토리의 YAML을 빌드 시점에 하나의 바이너리 파일로 묶어 두면,
+ * 기동 시 Jackson YAML 파싱 없이 파일 하나를 메모리 매핑하여 읽을 수 있다.
+ * 번들 생성은 {@link LayoutBundleCompiler}를 사용한다.
+ *
+ * <pre>
+ * 번들   := MAGIC(int) VERSION(short) count(int) layout*
+ * layout := id(str) description(str) fieldCount(short) field*
+ * field  := name(str) length(int) type(str) flags(byte) defaultValue(str) maskPattern(str)
+ *           description(str) decimalPlaces(int) expression(str) repeatCountField(str)
+ *           childCount(short, 자식 없음 -1) field*
+ * str    := byteLength(int, null -1) UTF-8 바이트
+ * </pre>
+ */
+@Slf4j
+public final class LayoutBundle {
+
+    /**
+     * 번들 파일 확장자
+     */
+    public static final String FILE_EXTENSION = ".mlb";
+
+    /**
+     * 매직 넘버 ("MLB1")
+     */
+    static final int MAGIC = 0x4D4C4231;
+
+    /**
+     * 포맷 버전
+     */
+    static final short FORMAT_VERSION = 1;
+
+    private static final int FLAG_MASKED = 0x01;
+    private static final int FLAG_REQUIRED = 0x02;
+
+    private LayoutBundle() {
+    }
+
+    /**
+     * 번들 파일 여부 (확장자 .mlb인 일반 파일)
+     */
+    public static boolean isBundleFile(Path path) {
+        return path.getFileName() != null
+                && path.getFileName().toString().endsWith(FILE_EXTENSION)
+                && Files.isRegularFile(path);
+    }
+
+    /**
+     * 레이아웃 목록을 번들 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     *
+     * @param layouts 레이아웃 목록
+     * @param file    번들 파일 경로
+     */
+    public static void write(Collection<MessageLayout> layouts, Path file) {
+        byte[] bytes = toBytes(layouts);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new LayoutException("Failed to write layout bundle: " + file, e);
+        }
+        log.info("Wrote layout bundle: {} (layouts: {}, bytes: {})", file, layouts.size(), bytes.length);
+    }
+
+    /**
+     * 레이아웃 목록을 번들 바이트로 변환
+     */
+    public static byte[] toBytes(Collection<MessageLayout> layouts) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(layouts.size() * 1024);
+        try (DataOutputStream out = new DataOutputStream(bos)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeInt(layouts.size());
+            for (MessageLayout layout : layouts) {
+                writeString(out, layout.getLayoutId());
+                writeString(out, layout.getDescription());
+                writeFields(out, layout.getFields());
+            }
+        } catch (IOException e) {
+            throw new LayoutException("Failed to serialize layout bundle", e);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * 번들 파일을 메모리 매핑하여 레이아웃 로드
+     *
+     * @param file 번들 파일 경로
+     * @return 로드된 레이아웃 목록
+     */
+    public static List<MessageLayout> read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (IOException e) {
+            throw new LayoutException("Failed to read layout bundle: " + file, e);
+        }
+    }
+
+    /**
+     * 버퍼에서 레이아웃 로드
+     *
+     * @param buffer 번들 내용 (position부터 끝까지)
+     * @return 로드된 레이아웃 목록
+     */
+    public static List<MessageLayout> read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new LayoutException("Not a layout bundle");
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new LayoutException("Unsupported layout bundle version: " + version);
+            }
+
+            int count = buffer.getInt();
+            List<MessageLayout> layouts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                MessageLayout.Builder builder = MessageLayout.builder(readString(buffer))
+                        .description(readString(buffer));
+                for (FieldDefinition field : readFields(buffer)) {
+                    builder.field(field);
+                }
+                layouts.add(builder.build());
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new LayoutException("Corrupted layout bundle: " + buffer.remaining() + " trailing bytes");
+            }
+            return layouts;
+        } catch (BufferUnderflowException e) {
+            throw new LayoutException("Corrupted layout bundle: unexpected end of data", e);
+        }
+    }
+
+    /**
+     * 번들 파일을 로드하여 레이아웃 매니저에 등록
+     *
+     * @param file          번들 파일 경로
+     * @param layoutManager 레이아웃 매니저
+     * @return 등록된 레이아웃 수
+     */
+    public static int loadAndRegister(Path file, LayoutManager layoutManager) {
+        List<MessageLayout> layouts = read(file);
+        for (MessageLayout layout : layouts) {
+            layoutManager.registerLayout(layout);
+        }
+        log.info("Loaded {} layouts from bundle: {}", layouts.size(), file);
+        return layouts.size();
+    }
+
+    private static void writeFields(DataOutputStream out, List<FieldDefinition> fields) throws IOException {
+        out.writeShort(fields.size());
+        for (FieldDefinition field : fields) {
+            writeString(out, field.getName());
+            out.writeInt(field.getLength());
+            writeString(out, field.getType().getCode());
+            out.writeByte((field.isMasked() ? FLAG_MASKED : 0) | (field.isRequired() ? FLAG_REQUIRED : 0));
+            writeString(out, field.getDefaultValue());
+            writeString(out, field.getMaskPattern());
+            writeString(out, field.getDescription());
+            out.writeInt(field.getDecimalPlaces());
+            writeString(out, field.getExpression());
+            writeString(out, field.getRepeatCountField());
+            if (field.getChildren() == null) {
+                out.writeShort(-1);
+            } else {
+                writeFields(out, field.getChildren());
+            }
+        }
+    }
+
+    private static List<FieldDefinition> readFields(ByteBuffer buffer) {
+        int count = buffer.getShort();
+        List<FieldDefinition> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FieldDefinition.FieldDefinitionBuilder builder = FieldDefinition.builder()
+                    .name(readString(buffer))
+                    .length(buffer.getInt())
+                    .type(FieldType.fromCode(readString(buffer)));
+            int flags = buffer.get();
+            builder.masked((flags & FLAG_MASKED) != 0)
+                    .required((flags & FLAG_REQUIRED) != 0)
+                    .defaultValue(readString(buffer))
+                    .maskPattern(readString(buffer))
+                    .description(readString(buffer))
+                    .decimalPlaces(buffer.getInt())
+                    .expression(readString(buffer))
+                    .repeatCountField(readString(buffer));
+
+            // 자식 수를 미리 보고 -1이면 자식 없음
+            int mark = buffer.position();
+            if (buffer.getShort() < 0) {
+                builder.children(null);
+            } else {
+                buffer.position(mark);
+                builder.children(readFields(buffer));
+            }
+            fields.add(builder.build());
+        }
+        return fields;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
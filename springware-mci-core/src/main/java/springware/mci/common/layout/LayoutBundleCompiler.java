@@ -0,0 +1,85 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.exception.LayoutException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 레이아웃 디렉토리를 바이너리 번들로 컴파일하는 빌드 도구
+ *
+ * 기동 시 로드와 달리 잘못된 YAML이나 중복 ID가 하나라도 있으면 실패한다.
+ *
+ * 실행: java -cp demo-mci/target/demo-mci-1.0.0-SNAPSHOT.jar springware.mci.common.layout.LayoutBundleCompiler
+ *       demo-mci/src/main/resources/layouts demo-mci/target/layouts.mlb
+ */
+@Slf4j
+public final class LayoutBundleCompiler {
+
+    private LayoutBundleCompiler() {
+    }
+
+    /**
+     * 디렉토리의 YAML 레이아웃을 번들 파일로 컴파일
+     *
+     * @param directory 레이아웃 YAML 디렉토리
+     * @param bundle    출력 번들 파일
+     * @return 번들에 포함된 레이아웃 수
+     */
+    public static int compile(Path directory, Path bundle) {
+        List<MessageLayout> layouts = loadStrict(directory);
+        LayoutBundle.write(layouts, bundle);
+        return layouts.size();
+    }
+
+    /**
+     * 디렉토리의 YAML 레이아웃을 파일명 순으로 로드 (하나라도 실패하면 예외)
+     *
+     * @param directory 레이아웃 YAML 디렉토리
+     * @return 로드된 레이아웃 목록
+     */
+    static List<MessageLayout> loadStrict(Path directory) {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(YamlLayoutLoader::isLayoutFile).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new LayoutException("Failed to read layout directory: " + directory, e);
+        }
+
+        YamlLayoutLoader loader = new YamlLayoutLoader();
+        List<MessageLayout> layouts = new ArrayList<>(files.size());
+        Set<String> ids = new HashSet<>();
+        for (Path file : files) {
+            MessageLayout layout = loader.load(file);
+            if (!ids.add(layout.getLayoutId())) {
+                throw new LayoutException("Duplicate layout id " + layout.getLayoutId() + " in " + file);
+            }
+            layouts.add(layout);
+        }
+        return layouts;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: LayoutBundleCompiler <layoutDir> <bundleFile" + LayoutBundle.FILE_EXTENSION + ">");
+            System.exit(2);
+        }
+
+        try {
+            int count = compile(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.printf("Compiled %d layouts into %s%n", count, args[1]);
+        } catch (LayoutException e) {
+            log.error("Layout bundle compilation failed", e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package springware.mci.common.layout;
+
+import springware.mci.common.core.Message;
+
+import java.nio.charset.Charset;
+
+/**
+ * 레이아웃 전용 코덱
+ *
+ * 레이아웃 하나에 특화된 인코딩/디코딩 구현(생성 코드 등)이다. {@link MessageLayout#useCodec(LayoutCodec)}로
+ * 연결하면 레이아웃의 인코딩/디코딩이 이 코덱으로 대체된다. 결과는 필드 정의를 해석하는 기본 경로와
+ * 같은 바이트/값이어야 한다.
+ */
+public interface LayoutCodec {
+
+    /**
+     * 대상 레이아웃 ID
+     */
+    String getLayoutId();
+
+    /**
+     * 코덱을 만들 때 사용한 레이아웃 시그니처 ({@link MessageLayout#getSignature()})
+     */
+    String getSignature();
+
+    /**
+     * 인코딩 결과 길이
+     */
+    int getEncodedLength(Message message);
+
+    /**
+     * 메시지를 대상 배열에 인코딩
+     *
+     * @param message 인코딩할 메시지
+     * @param dst     대상 배열
+     * @param offset  쓰기 시작 위치
+     * @param charset 문자셋
+     * @return 기록한 바이트 수
+     */
+    int encode(Message message, byte[] dst, int offset, Charset charset);
+
+    /**
+     * 원본 배열에서 메시지 디코딩 (원본 데이터는 설정하지 않음)
+     *
+     * @param src     원본 배열
+     * @param offset  읽기 시작 위치
+     * @param length  데이터 길이
+     * @param charset 문자셋
+     * @return 디코딩된 메시지
+     */
+    Message decode(byte[] src, int offset, int length, Charset charset);
+}
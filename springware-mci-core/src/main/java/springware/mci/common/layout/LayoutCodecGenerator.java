@@ -0,0 +1,956 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.exception.LayoutException;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레이아웃 전용 코덱 소스 생성기 (빌드 도구)
+ *
+ * 레이아웃마다 다음 두 클래스를 생성한다.
+ * <ul>
+ *   <li>{@code <Id>Message}: 필드별 타입이 지정된 메시지 클래스 (NUMBER → Long, AMOUNT → Double, 그 외 String)</li>
+ *   <li>{@code <Id>Codec}: 필드 오프셋/길이를 상수로 펼친 {@link LayoutCodec} 구현</li>
+ * </ul>
+ * 그리고 생성된 코덱을 한 번에 등록하는 {@code GeneratedLayoutCodecs}를 생성한다.
+ * 생성 코덱은 레이아웃 시그니처를 포함하므로, YAML이 바뀐 뒤 다시 생성하지 않으면
+ * 연결되지 않고 기존 경로로 처리된다.
+ *
+ * 실행: java -cp demo-mci/target/demo-mci-1.0.0-SNAPSHOT.jar springware.mci.common.layout.LayoutCodecGenerator
+ *       demo-mci/src/main/resources/layouts target/generated-sources/layouts demo.mci.layout.generated
+ */
+@Slf4j
+public final class LayoutCodecGenerator {
+
+    /**
+     * 코덱 일괄 등록 클래스명
+     */
+    public static final String REGISTRY_CLASS = "GeneratedLayoutCodecs";
+
+    private static final String SUPPORT = "LayoutCodecSupport";
+
+    private LayoutCodecGenerator() {
+    }
+
+    /**
+     * 레이아웃 ID의 클래스명 접두어 (예: TRF1 → Trf1)
+     */
+    public static String baseName(String layoutId) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : layoutId.toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(sb.length() == 0 ? Character.toUpperCase(c) : Character.toLowerCase(c));
+            }
+        }
+        if (sb.length() == 0 || !Character.isLetter(sb.charAt(0))) {
+            sb.insert(0, 'L');
+        }
+        return sb.toString();
+    }
+
+    public static String messageClassName(String layoutId) {
+        return baseName(layoutId) + "Message";
+    }
+
+    public static String codecClassName(String layoutId) {
+        return baseName(layoutId) + "Codec";
+    }
+
+    /**
+     * 레이아웃 하나의 소스 생성
+     *
+     * @param layout      레이아웃
+     * @param packageName 생성 클래스 패키지
+     * @return 클래스명 → 소스
+     */
+    public static Map<String, String> generate(MessageLayout layout, String packageName) {
+        checkSupported(layout);
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(messageClassName(layout.getLayoutId()), new MessageSource(layout, packageName).build());
+        sources.put(codecClassName(layout.getLayoutId()),
+                new CodecSource(layout, packageName, codecClassName(layout.getLayoutId()), true).build());
+        return sources;
+    }
+
+    /**
+     * 타입 지정 메시지 없이 코덱 클래스 하나만 생성 (런타임 컴파일용)
+     *
+     * @param layout      레이아웃
+     * @param packageName 생성 클래스 패키지
+     * @param className   생성 클래스명
+     * @return 코덱 소스
+     */
+    static String generateCodec(MessageLayout layout, String packageName, String className) {
+        checkSupported(layout);
+        return new CodecSource(layout, packageName, className, false).build();
+    }
+
+    private static void checkSupported(MessageLayout layout) {
+        for (FieldDefinition field : layout.getFields()) {
+            if (field.isRepeating()) {
+                for (FieldDefinition child : field.getChildren()) {
+                    if (child.isRepeating()) {
+                        throw new LayoutException("Nested repeating field is not supported: " + child.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 코덱 일괄 등록 클래스 소스 생성
+     */
+    public static String generateRegistry(List<MessageLayout> layouts, String packageName) {
+        Source src = new Source();
+        src.line("package %s;", packageName);
+        src.blank();
+        src.line("import springware.mci.common.layout.LayoutCodec;");
+        src.line("import springware.mci.common.layout.LayoutManager;");
+        src.blank();
+        src.line("import java.util.List;");
+        src.blank();
+        src.line("/**");
+        src.line(" * 생성된 레이아웃 전용 코덱 목록");
+        src.line(" *");
+        src.line(" * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.");
+        src.line(" */");
+        src.openClass("public final class %s {", REGISTRY_CLASS);
+        src.open("private %s() {", REGISTRY_CLASS);
+        src.close();
+        src.blank();
+        src.line("/**");
+        src.line(" * 생성된 코덱 목록");
+        src.line(" */");
+        src.open("public static List<LayoutCodec> codecs() {");
+        src.line("return List.of(");
+        for (int i = 0; i < layouts.size(); i++) {
+            src.line("        new %s()%s", codecClassName(layouts.get(i).getLayoutId()),
+                    i < layouts.size() - 1 ? "," : ");");
+        }
+        if (layouts.isEmpty()) {
+            src.line(");");
+        }
+        src.close();
+        src.blank();
+        src.line("/**");
+        src.line(" * 레이아웃 매니저에 등록된 레이아웃에 코덱 연결");
+        src.line(" *");
+        src.line(" * @return 연결된 코덱 수 (레이아웃이 없거나 시그니처가 다르면 제외)");
+        src.line(" */");
+        src.open("public static int registerAll(LayoutManager layoutManager) {");
+        src.line("int registered = 0;");
+        src.open("for (LayoutCodec codec : codecs()) {");
+        src.open("if (layoutManager.hasLayout(codec.getLayoutId()) && layoutManager.registerCodec(codec)) {");
+        src.line("registered++;");
+        src.close();
+        src.close();
+        src.line("return registered;");
+        src.close();
+        src.close();
+        return src.toString();
+    }
+
+    /**
+     * 디렉토리의 YAML 레이아웃으로 소스 파일 생성
+     *
+     * @param directory   레이아웃 YAML 디렉토리
+     * @param outputDir   소스 출력 루트 디렉토리
+     * @param packageName 생성 클래스 패키지
+     * @return 생성한 레이아웃 수
+     */
+    public static int generate(Path directory, Path outputDir, String packageName) {
+        List<MessageLayout> layouts = LayoutBundleCompiler.loadStrict(directory);
+        Path packageDir = outputDir.resolve(packageName.replace('.', '/'));
+        try {
+            Files.createDirectories(packageDir);
+            for (MessageLayout layout : layouts) {
+                for (Map.Entry<String, String> entry : generate(layout, packageName).entrySet()) {
+                    Files.writeString(packageDir.resolve(entry.getKey() + ".java"), entry.getValue(),
+                            StandardCharsets.UTF_8);
+                }
+            }
+            Files.writeString(packageDir.resolve(REGISTRY_CLASS + ".java"), generateRegistry(layouts, packageName),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new LayoutException("Failed to write generated codecs: " + packageDir, e);
+        }
+        log.info("Generated codecs for {} layouts into {}", layouts.size(), packageDir);
+        return layouts.size();
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("Usage: LayoutCodecGenerator <layoutDir> <outputSourceDir> <packageName>");
+            System.exit(2);
+        }
+
+        try {
+            int count = generate(Paths.get(args[0]), Paths.get(args[1]), args[2]);
+            System.out.printf("Generated codecs for %d layouts into %s%n", count, args[1]);
+        } catch (LayoutException e) {
+            log.error("Layout codec generation failed", e);
+            System.exit(1);
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // 이름/리터럴
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * 필드명을 자바 식별자로 변환
+     */
+    static String javaName(String fieldName) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : fieldName.toCharArray()) {
+            sb.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        if (sb.length() == 0 || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+            sb.insert(0, '_');
+        }
+        String name = sb.toString();
+        return SourceVersion.isKeyword(name) ? name + "_" : name;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String itemClassName(FieldDefinition field) {
+        return capitalize(javaName(field.getName())) + "Item";
+    }
+
+    private static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7E) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * 주석에 넣을 문자열 (주석 종료 문자열 제거)
+     */
+    private static String comment(String text) {
+        return text == null ? "" : text.replace("*/", "* /").replace('\n', ' ');
+    }
+
+    private static String javaType(FieldDefinition field) {
+        switch (field.getType()) {
+            case NUMBER:
+                return "Long";
+            case AMOUNT:
+                return "Double";
+            default:
+                return "String";
+        }
+    }
+
+    private static String converter(FieldDefinition field) {
+        switch (field.getType()) {
+            case NUMBER:
+                return "asLong";
+            case AMOUNT:
+                return "asDouble";
+            default:
+                return "asString";
+        }
+    }
+
+    private static String scale(FieldDefinition field) {
+        return field.getDecimalPlaces() > 0 ? Double.toString(Math.pow(10, field.getDecimalPlaces())) : "0.0";
+    }
+
+    /**
+     * 필드 디코딩 식
+     */
+    private static String decodeExpr(FieldDefinition field, String pos) {
+        switch (field.getType()) {
+            case NUMBER:
+                return String.format("%s.decodeNumber(src, %s, %d, charset, ascii, %s)",
+                        SUPPORT, pos, field.getLength(), literal(field.getName()));
+            case AMOUNT:
+                return String.format("%s.decodeAmount(src, %s, %d, %s, charset, ascii, %s)",
+                        SUPPORT, pos, field.getLength(), scale(field), literal(field.getName()));
+            default:
+                return String.format("%s.decodeString(src, %s, %d, charset, ascii)", SUPPORT, pos, field.getLength());
+        }
+    }
+
+    /**
+     * 필드 인코딩 문
+     */
+    private static String encodeStatement(FieldDefinition field, String value, String pos, String expression) {
+        return String.format("%s.encodeValue(%s, dst, %s, %d, %s, %s, %s, charset, ascii);",
+                SUPPORT, value, pos, field.getLength(), field.getType().isRightAligned(),
+                expression, literal(field.getDefaultValue()));
+    }
+
+    private static String position(String base, int delta) {
+        return delta == 0 ? base : base + " + " + delta;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // 메시지 클래스
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * 타입 지정 메시지 클래스 소스
+     */
+    private static final class MessageSource {
+
+        private final MessageLayout layout;
+        private final String packageName;
+        private final String className;
+        private final Source src = new Source();
+
+        private MessageSource(MessageLayout layout, String packageName) {
+            this.layout = layout;
+            this.packageName = packageName;
+            this.className = messageClassName(layout.getLayoutId());
+        }
+
+        private String build() {
+            boolean repeating = layout.isHasRepeatingFields();
+            src.line("package %s;", packageName);
+            src.blank();
+            src.line("import springware.mci.common.core.Message;");
+            src.line("import springware.mci.common.layout.LayoutCodecSupport;");
+            if (repeating) {
+                src.blank();
+                src.line("import java.util.ArrayList;");
+                src.line("import java.util.LinkedHashMap;");
+                src.line("import java.util.List;");
+                src.line("import java.util.Map;");
+            }
+            src.blank();
+            src.line("/**");
+            src.line(" * %s 레이아웃 메시지%s", layout.getLayoutId(),
+                    layout.getDescription() != null ? " (" + comment(layout.getDescription()) + ")" : "");
+            src.line(" *");
+            src.line(" * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.");
+            src.line(" */");
+            src.openClass("public class %s {", className);
+            src.line("public static final String LAYOUT_ID = %s;", literal(layout.getLayoutId()));
+            src.blank();
+            properties(layout.getFields());
+
+            src.line("/**");
+            src.line(" * 범용 메시지에서 변환");
+            src.line(" */");
+            src.open("public static %s from(Message message) {", className);
+            src.line("%s typed = new %s();", className, className);
+            for (FieldDefinition field : layout.getFields()) {
+                String name = javaName(field.getName());
+                if (field.isRepeating()) {
+                    src.line("typed.%s = %s.fromList(message.getField(%s));", name, itemClassName(field),
+                            literal(field.getName()));
+                } else {
+                    src.line("typed.%s = LayoutCodecSupport.%s(message.getField(%s));", name, converter(field),
+                            literal(field.getName()));
+                }
+            }
+            src.line("return typed;");
+            src.close();
+            src.blank();
+
+            src.line("/**");
+            src.line(" * 범용 메시지로 변환 (값이 있는 필드만 설정)");
+            src.line(" */");
+            src.open("public Message toMessage() {");
+            src.line("Message message = Message.builder().messageCode(LAYOUT_ID).build();");
+            for (FieldDefinition field : layout.getFields()) {
+                String name = javaName(field.getName());
+                src.open("if (%s != null) {", name);
+                if (field.isRepeating()) {
+                    src.line("message.setField(%s, %s.toMaps(%s));", literal(field.getName()), itemClassName(field),
+                            name);
+                } else {
+                    src.line("message.setField(%s, %s);", literal(field.getName()), name);
+                }
+                src.close();
+            }
+            src.line("return message;");
+            src.close();
+
+            for (FieldDefinition field : layout.getFields()) {
+                if (field.isRepeating()) {
+                    src.blank();
+                    item(field);
+                }
+            }
+            src.close();
+            return src.toString();
+        }
+
+        private void properties(List<FieldDefinition> fields) {
+            for (FieldDefinition field : fields) {
+                String type = field.isRepeating() ? "List<" + itemClassName(field) + ">" : javaType(field);
+                src.line("/**");
+                src.line(" * %s %s", field.getDescription() != null ? comment(field.getDescription()) : field.getName(),
+                        field.isRepeating()
+                                ? "(반복부, 건수: " + field.getRepeatCountField() + ")"
+                                : "(" + field.getType().getCode() + ", " + field.getLength() + "바이트)");
+                src.line(" */");
+                src.line("private %s %s;", type, javaName(field.getName()));
+                src.blank();
+            }
+            for (FieldDefinition field : fields) {
+                String type = field.isRepeating() ? "List<" + itemClassName(field) + ">" : javaType(field);
+                String name = javaName(field.getName());
+                src.open("public %s get%s() {", type, capitalize(name));
+                src.line("return %s;", name);
+                src.close();
+                src.blank();
+                src.open("public void set%s(%s %s) {", capitalize(name), type, name);
+                src.line("this.%s = %s;", name, name);
+                src.close();
+                src.blank();
+            }
+        }
+
+        private void item(FieldDefinition field) {
+            String item = itemClassName(field);
+            src.line("/**");
+            src.line(" * %s 반복부 레코드", field.getName());
+            src.line(" */");
+            src.openClass("public static class %s {", item);
+            properties(field.getChildren());
+
+            src.open("static List<%s> fromList(Object value) {", item);
+            src.open("if (!(value instanceof List)) {");
+            src.line("return null;");
+            src.close();
+            src.line("List<%s> items = new ArrayList<>();", item);
+            src.open("for (Object element : (List<?>) value) {");
+            src.line("Map<?, ?> record = (Map<?, ?>) element;");
+            src.line("%s typed = new %s();", item, item);
+            for (FieldDefinition child : field.getChildren()) {
+                src.line("typed.%s = LayoutCodecSupport.%s(LayoutCodecSupport.recordValue(record, %s));",
+                        javaName(child.getName()), converter(child), literal(child.getName()));
+            }
+            src.line("items.add(typed);");
+            src.close();
+            src.line("return items;");
+            src.close();
+            src.blank();
+
+            src.open("static List<Map<String, Object>> toMaps(List<%s> items) {", item);
+            src.line("List<Map<String, Object>> records = new ArrayList<>(items.size());");
+            src.open("for (%s typed : items) {", item);
+            src.line("Map<String, Object> record = new LinkedHashMap<>();");
+            src.open("if (typed != null) {");
+            for (FieldDefinition child : field.getChildren()) {
+                String name = javaName(child.getName());
+                src.open("if (typed.%s != null) {", name);
+                src.line("record.put(%s, typed.%s);", literal(child.getName()), name);
+                src.close();
+            }
+            src.close();
+            src.line("records.add(record);");
+            src.close();
+            src.line("return records;");
+            src.close();
+            src.close();
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // 코덱 클래스
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * 필드 값 접근 방식 (범용 메시지 / 타입 지정 메시지)
+     */
+    private interface Access {
+
+        String get(FieldDefinition field);
+
+        String set(FieldDefinition field, String value);
+
+        String listType(FieldDefinition field);
+
+        String newRecord(FieldDefinition field);
+
+        String recordType(FieldDefinition field);
+
+        String recordGet(FieldDefinition child);
+
+        String recordSet(FieldDefinition child, String value);
+    }
+
+    /**
+     * 범용 메시지 접근 (Message 필드 맵, 반복부는 List&lt;Map&gt;)
+     */
+    private static final Access GENERIC = new Access() {
+        @Override
+        public String get(FieldDefinition field) {
+            return "message.getField(" + literal(field.getName()) + ")";
+        }
+
+        @Override
+        public String set(FieldDefinition field, String value) {
+            return "message.setField(" + literal(field.getName()) + ", " + value + ");";
+        }
+
+        @Override
+        public String listType(FieldDefinition field) {
+            return "List<Map<String, Object>>";
+        }
+
+        @Override
+        public String newRecord(FieldDefinition field) {
+            return "new LinkedHashMap<>(" + field.getChildren().size() * 2 + ")";
+        }
+
+        @Override
+        public String recordType(FieldDefinition field) {
+            return "Map<String, Object>";
+        }
+
+        @Override
+        public String recordGet(FieldDefinition child) {
+            return SUPPORT + ".recordValue(record, " + literal(child.getName()) + ")";
+        }
+
+        @Override
+        public String recordSet(FieldDefinition child, String value) {
+            return "record.put(" + literal(child.getName()) + ", " + value + ");";
+        }
+    };
+
+    /**
+     * 타입 지정 메시지 접근 (getter/setter)
+     */
+    private static final class TypedAccess implements Access {
+
+        private final MessageLayout layout;
+        private final String messageClass;
+
+        private TypedAccess(MessageLayout layout) {
+            this.layout = layout;
+            this.messageClass = messageClassName(layout.getLayoutId());
+        }
+
+        @Override
+        public String get(FieldDefinition field) {
+            // 반복 횟수 필드가 레이아웃에 없으면 기존 경로와 같이 0건으로 처리
+            return layout.hasField(field.getName())
+                    ? "message.get" + capitalize(javaName(field.getName())) + "()"
+                    : "null";
+        }
+
+        @Override
+        public String set(FieldDefinition field, String value) {
+            return "message.set" + capitalize(javaName(field.getName())) + "(" + value + ");";
+        }
+
+        @Override
+        public String listType(FieldDefinition field) {
+            return "List<" + recordType(field) + ">";
+        }
+
+        @Override
+        public String newRecord(FieldDefinition field) {
+            return "new " + recordType(field) + "()";
+        }
+
+        @Override
+        public String recordType(FieldDefinition field) {
+            return messageClass + "." + itemClassName(field);
+        }
+
+        @Override
+        public String recordGet(FieldDefinition child) {
+            return "record != null ? record.get" + capitalize(javaName(child.getName())) + "() : null";
+        }
+
+        @Override
+        public String recordSet(FieldDefinition child, String value) {
+            return "record.set" + capitalize(javaName(child.getName())) + "(" + value + ");";
+        }
+    }
+
+    /**
+     * 레이아웃 전용 코덱 클래스 소스
+     */
+    private static final class CodecSource {
+
+        private final MessageLayout layout;
+        private final String packageName;
+        private final String className;
+        private final String messageClass;
+        private final boolean repeating;
+        private final boolean typedMessage;
+        private final Source src = new Source();
+
+        /**
+         * 표현식 필드별 평가기 상수 이름
+         */
+        private final Map<FieldDefinition, String> expressions = new IdentityHashMap<>();
+
+        private CodecSource(MessageLayout layout, String packageName, String className, boolean typedMessage) {
+            this.layout = layout;
+            this.packageName = packageName;
+            this.className = className;
+            this.messageClass = messageClassName(layout.getLayoutId());
+            this.repeating = layout.isHasRepeatingFields();
+            this.typedMessage = typedMessage;
+            for (FieldDefinition field : layout.getFields()) {
+                if (field.isRepeating()) {
+                    for (FieldDefinition child : field.getChildren()) {
+                        addExpression(child, javaName(field.getName()).toUpperCase() + "_");
+                    }
+                } else {
+                    addExpression(field, "");
+                }
+            }
+        }
+
+        private void addExpression(FieldDefinition field, String prefix) {
+            if (field.getExpression() != null) {
+                expressions.put(field, prefix + javaName(field.getName()).toUpperCase() + "_EXPRESSION");
+            }
+        }
+
+        private void expressionConstant(FieldDefinition field) {
+            String constant = expressions.get(field);
+            if (constant != null) {
+                src.line("private static final DateExpression %s = DateExpression.parse(%s);", constant,
+                        literal(field.getExpression()));
+            }
+        }
+
+        private static String recordLengthConstant(FieldDefinition field) {
+            return javaName(field.getName()).toUpperCase() + "_RECORD_LENGTH";
+        }
+
+        private String build() {
+            src.line("package %s;", packageName);
+            src.blank();
+            if (!expressions.isEmpty()) {
+                src.line("import springware.common.util.DateExpression;");
+            }
+            src.line("import springware.mci.common.core.Message;");
+            src.line("import springware.mci.common.core.MessageType;");
+            src.line("import springware.mci.common.exception.LayoutException;");
+            src.line("import springware.mci.common.layout.LayoutCodec;");
+            src.line("import springware.mci.common.layout.LayoutCodecSupport;");
+            src.blank();
+            src.line("import java.nio.charset.Charset;");
+            if (repeating) {
+                src.line("import java.util.ArrayList;");
+                src.line("import java.util.Arrays;");
+                src.line("import java.util.LinkedHashMap;");
+                src.line("import java.util.List;");
+                src.line("import java.util.Map;");
+            }
+            src.blank();
+            src.line("/**");
+            src.line(" * %s 레이아웃 전용 코덱", layout.getLayoutId());
+            src.line(" *");
+            src.line(" * 필드 오프셋/길이를 상수로 펼친 인코딩/디코딩이며, 결과는 MessageLayout 기본 경로와 같다.");
+            src.line(" * LayoutCodecGenerator로 생성된 코드이므로 직접 수정하지 않는다.");
+            src.line(" */");
+            src.openClass("public final class %s implements LayoutCodec {", className);
+            src.line("public static final String LAYOUT_ID = %s;", literal(layout.getLayoutId()));
+            src.line("public static final String SIGNATURE = %s;", literal(layout.getSignature()));
+            src.blank();
+            src.line("/**");
+            src.line(" * 반복부를 제외한 길이 (바이트)");
+            src.line(" */");
+            src.line("public static final int FIXED_LENGTH = %d;", layout.getTotalLength());
+            for (FieldDefinition field : layout.getFields()) {
+                if (field.isRepeating()) {
+                    src.line("public static final int %s = %d;", recordLengthConstant(field),
+                            field.getRepeatingRecordLength());
+                }
+            }
+            if (!expressions.isEmpty()) {
+                src.blank();
+                src.line("/**");
+                src.line(" * 날짜/시간 표현식 평가기 (클래스 로딩 시 파싱)");
+                src.line(" */");
+                for (FieldDefinition field : layout.getFields()) {
+                    if (field.isRepeating()) {
+                        field.getChildren().forEach(this::expressionConstant);
+                    } else {
+                        expressionConstant(field);
+                    }
+                }
+            }
+            src.blank();
+
+            src.line("@Override");
+            src.open("public String getLayoutId() {");
+            src.line("return LAYOUT_ID;");
+            src.close();
+            src.blank();
+            src.line("@Override");
+            src.open("public String getSignature() {");
+            src.line("return SIGNATURE;");
+            src.close();
+            src.blank();
+
+            Access typed = new TypedAccess(layout);
+            src.line("@Override");
+            encodedLength("Message", GENERIC);
+            src.blank();
+            if (typedMessage) {
+                encodedLength(messageClass, typed);
+                src.blank();
+            }
+            src.line("@Override");
+            encode("Message", GENERIC);
+            src.blank();
+            if (typedMessage) {
+                encode(messageClass, typed);
+                src.blank();
+                src.open("public byte[] encode(%s message, Charset charset) {", messageClass);
+                src.line("byte[] result = new byte[getEncodedLength(message)];");
+                src.line("encode(message, result, 0, charset);");
+                src.line("return result;");
+                src.close();
+                src.blank();
+            }
+            src.line("@Override");
+            src.open("public Message decode(byte[] src, int offset, int length, Charset charset) {");
+            decodeBody(GENERIC, "Message message = Message.builder().messageCode(LAYOUT_ID)"
+                    + ".messageType(MessageType.REQUEST).build();");
+            src.close();
+            if (!typedMessage) {
+                src.close();
+                return src.toString();
+            }
+            src.blank();
+            src.open("public %s decodeTyped(byte[] src, int offset, int length, Charset charset) {", messageClass);
+            decodeBody(typed, messageClass + " message = new " + messageClass + "();");
+            src.close();
+            src.blank();
+            src.open("public %s decodeTyped(byte[] src, Charset charset) {", messageClass);
+            src.line("return decodeTyped(src, 0, src.length, charset);");
+            src.close();
+            src.close();
+            return src.toString();
+        }
+
+        private void encodedLength(String type, Access access) {
+            src.open("public int getEncodedLength(%s message) {", type);
+            StringBuilder expr = new StringBuilder("FIXED_LENGTH");
+            for (FieldDefinition field : layout.getFields()) {
+                if (field.isRepeating()) {
+                    expr.append("\n        + ").append(SUPPORT).append(".repeatCount(")
+                            .append(access.get(repeatCountField(field))).append(") * ")
+                            .append(recordLengthConstant(field));
+                }
+            }
+            src.line("return %s;", expr);
+            src.close();
+        }
+
+        private FieldDefinition repeatCountField(FieldDefinition field) {
+            FieldDefinition count = layout.getField(field.getRepeatCountField());
+            return count != null ? count : FieldDefinition.string(field.getRepeatCountField(), 0);
+        }
+
+        private void encode(String type, Access access) {
+            src.open("public int encode(%s message, byte[] dst, int offset, Charset charset) {", type);
+            src.line("int length = getEncodedLength(message);");
+            src.open("if (offset < 0 || offset + length > dst.length) {");
+            src.line("throw new LayoutException(String.format(\"Buffer too small: offset %d + layout length %d > %d\",");
+            src.line("        offset, length, dst.length));");
+            src.close();
+            src.line("boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);");
+
+            String base = "offset";
+            int delta = 0;
+            boolean posDeclared = false;
+            for (FieldDefinition field : layout.getFields()) {
+                if (!field.isRepeating()) {
+                    src.line(encodeStatement(field, access.get(field), position(base, delta), expressions.get(field)));
+                    delta += field.getLength();
+                    continue;
+                }
+
+                String name = javaName(field.getName());
+                src.blank();
+                src.line("// %s 반복부", field.getName());
+                src.line("%spos = %s;", posDeclared ? "" : "int ", position(base, delta));
+                posDeclared = true;
+                base = "pos";
+                delta = 0;
+                src.line("int %sCount = %s.repeatCount(%s);", name, SUPPORT, access.get(repeatCountField(field)));
+                if (access == GENERIC) {
+                    src.line("List<?> %sList = (List<?>) %s;", name, access.get(field));
+                } else {
+                    src.line("%s %sList = %s;", access.listType(field), name, access.get(field));
+                }
+                src.open("if (%sList != null) {", name);
+                src.open("for (int r = 0; r < %sCount && r < %sList.size(); r++) {", name, name);
+                if (access == GENERIC) {
+                    src.line("Map<?, ?> record = (Map<?, ?>) %sList.get(r);", name);
+                } else {
+                    src.line("%s record = %sList.get(r);", access.recordType(field), name);
+                }
+                int childOffset = 0;
+                for (FieldDefinition child : field.getChildren()) {
+                    src.line(encodeStatement(child, access.recordGet(child), position("pos", childOffset),
+                            expressions.get(child)));
+                    childOffset += child.getLength();
+                }
+                src.line("pos += %s;", recordLengthConstant(field));
+                src.close();
+                src.close();
+                src.blank();
+            }
+
+            if (repeating) {
+                src.line("// 건수보다 레코드가 적으면 남은 영역은 공백");
+                src.line("Arrays.fill(dst, %s, offset + length, (byte) ' ');", position(base, delta));
+            }
+            src.line("return length;");
+            src.close();
+        }
+
+        private void decodeBody(Access access, String create) {
+            src.line("boolean ascii = LayoutCodecSupport.isAsciiCompatible(charset);");
+            if (repeating) {
+                src.line("int end = offset + length;");
+            } else {
+                src.line("LayoutCodecSupport.checkLength(length, FIXED_LENGTH);");
+            }
+            src.line(create);
+
+            String base = "offset";
+            int delta = 0;
+            boolean posDeclared = false;
+            for (FieldDefinition field : layout.getFields()) {
+                if (!field.isRepeating()) {
+                    String pos = position(base, delta);
+                    if (repeating) {
+                        src.line("%s.checkField(%s, %d, end, offset, %s);", SUPPORT, pos, field.getLength(),
+                                literal(field.getName()));
+                    }
+                    src.line(access.set(field, decodeExpr(field, pos)));
+                    delta += field.getLength();
+                    continue;
+                }
+
+                String name = javaName(field.getName());
+                String recordLength = recordLengthConstant(field);
+                src.blank();
+                src.line("// %s 반복부", field.getName());
+                src.line("%spos = %s;", posDeclared ? "" : "int ", position(base, delta));
+                posDeclared = true;
+                base = "pos";
+                delta = 0;
+                src.line("int %sCount = %s.repeatCount(%s);", name, SUPPORT, access.get(repeatCountField(field)));
+                src.line("%s %sList = new ArrayList<>();", access.listType(field), name);
+                src.open("for (int r = 0; r < %sCount; r++) {", name);
+                src.open("if (pos + %s > end) {", recordLength);
+                src.line("%s.warnInsufficientRecords(r + 1, %sCount);", SUPPORT, name);
+                src.line("break;");
+                src.close();
+                src.line("%s record = %s;", access.recordType(field), access.newRecord(field));
+                int childOffset = 0;
+                for (FieldDefinition child : field.getChildren()) {
+                    src.line(access.recordSet(child, decodeExpr(child, position("pos", childOffset))));
+                    childOffset += child.getLength();
+                }
+                src.line("%sList.add(record);", name);
+                src.line("pos += %s;", recordLength);
+                src.close();
+                src.line(access.set(field, name + "List"));
+                src.blank();
+            }
+            src.line("return message;");
+        }
+    }
+
+    /**
+     * 들여쓰기 소스 버퍼
+     */
+    private static final class Source {
+
+        private final StringBuilder sb = new StringBuilder();
+        private int indent;
+
+        void line(String format, Object... args) {
+            String text = args.length == 0 ? format : String.format(format, args);
+            for (String line : text.split("\n", -1)) {
+                sb.append("    ".repeat(indent)).append(line).append('\n');
+            }
+        }
+
+        void blank() {
+            // 여는 중괄호 직후나 연속된 빈 줄은 생략
+            int length = sb.length();
+            if (length < 2 || sb.charAt(length - 2) == '\n' || sb.charAt(length - 2) == '{') {
+                return;
+            }
+            sb.append('\n');
+        }
+
+        void open(String format, Object... args) {
+            line(format, args);
+            indent++;
+        }
+
+        /**
+         * 클래스 선언 (선언 다음에 빈 줄)
+         */
+        void openClass(String format, Object... args) {
+            open(format, args);
+            sb.append('\n');
+        }
+
+        void close() {
+            // 닫는 중괄호 직전의 빈 줄 제거
+            if (sb.length() >= 2 && sb.charAt(sb.length() - 1) == '\n' && sb.charAt(sb.length() - 2) == '\n') {
+                sb.setLength(sb.length() - 1);
+            }
+            indent--;
+            line("}");
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.common.util.DateExpression;
+import springware.common.util.StringUtils;
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * 필드 단위 인코딩/디코딩 함수
+ *
+ * 컴파일된 필드 플랜과 생성된 레이아웃 코덱({@link LayoutCodecGenerator})이 함께 사용하는
+ * 정적 함수 모음이다. 생성 코드는 필드마다 오프셋/길이를 상수로 넘겨 호출하므로
+ * JIT가 필드별로 특화된 코드를 만들 수 있다.
+ *
+ * 숫자 필드(NUMBER, AMOUNT, NUMERIC_STRING)는 우측 정렬/제로 패딩, 그 외는 좌측 정렬/공백 패딩이다.
+ */
+@Slf4j
+public final class LayoutCodecSupport {
+
+    private static final String EMPTY = "";
+
+    private LayoutCodecSupport() {
+    }
+
+    /**
+     * ASCII 호환 문자셋 여부 (0x00~0x7F 문자가 같은 값의 1바이트로 인코딩되는 문자셋)
+     */
+    public static boolean isAsciiCompatible(Charset charset) {
+        return CompiledLayout.isAsciiCompatible(charset);
+    }
+
+    /**
+     * 데이터 길이 검사 (고정 길이 레이아웃)
+     */
+    public static void checkLength(int length, int layoutLength) {
+        if (length < layoutLength) {
+            throw new LayoutException(
+                    String.format("Data length %d is less than layout length %d", length, layoutLength));
+        }
+    }
+
+    /**
+     * 필드 하나를 읽을 데이터가 남아 있는지 검사 (반복부 포함 레이아웃)
+     */
+    public static void checkField(int pos, int length, int end, int base, String name) {
+        if (pos + length > end) {
+            throw new LayoutException(
+                    String.format("Insufficient data at offset %d for field %s (length %d)", pos - base, name, length));
+        }
+    }
+
+    /**
+     * 반복 횟수 값 변환 (숫자가 아니면 0)
+     */
+    public static int repeatCount(Object countValue) {
+        return countValue instanceof Number ? ((Number) countValue).intValue() : 0;
+    }
+
+    /**
+     * 반복부 레코드의 필드 값 (레코드가 없으면 null)
+     */
+    public static Object recordValue(Map<?, ?> record, String name) {
+        return record != null ? record.get(name) : null;
+    }
+
+    /**
+     * 반복부 레코드 데이터 부족 경고
+     */
+    public static void warnInsufficientRecords(int record, int repeatCount) {
+        log.warn("Insufficient data for repeating record {}/{}", record, repeatCount);
+    }
+
+    /**
+     * 문자 필드 값 변환 (생성된 메시지 클래스용)
+     */
+    public static String asString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * NUMBER 필드 값 변환 (생성된 메시지 클래스용, 빈 문자열은 null)
+     */
+    public static Long asLong(Object value) {
+        if (value == null || value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : Long.valueOf(trimmed);
+    }
+
+    /**
+     * AMOUNT 필드 값 변환 (생성된 메시지 클래스용, 빈 문자열은 null)
+     */
+    public static Double asDouble(Object value) {
+        if (value == null || value instanceof Double) {
+            return (Double) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        String trimmed = value.toString().trim();
+        return trimmed.isEmpty() ? null : Double.valueOf(trimmed);
+    }
+
+    /**
+     * 필드 값 인코딩 (값 타입에 따라 분기)
+     *
+     * @param value        필드 값 (null이면 표현식 또는 기본값)
+     * @param rightAligned 우측 정렬/제로 패딩 여부
+     * @param expression   날짜/시간 표현식 평가기 (없으면 null, 레이아웃 로딩 시 파싱)
+     * @param defaultValue 기본값 (없으면 null)
+     */
+    public static void encodeValue(Object value, byte[] dst, int pos, int length, boolean rightAligned,
+                                   DateExpression expression, String defaultValue, Charset charset, boolean ascii) {
+        if (value == null) {
+            encodeDefault(dst, pos, length, rightAligned, expression, defaultValue, charset, ascii);
+        } else if (rightAligned && isIntegral(value)) {
+            encodeLong(((Number) value).longValue(), dst, pos, length, charset, ascii);
+        } else if (value instanceof String) {
+            encodeString((String) value, dst, pos, length, rightAligned, charset, ascii);
+        } else {
+            encodeString(value.toString(), dst, pos, length, rightAligned, charset, ascii);
+        }
+    }
+
+    /**
+     * 값이 없는 필드 인코딩 (표현식 → 기본값 → 빈 문자열 순)
+     */
+    public static void encodeDefault(byte[] dst, int pos, int length, boolean rightAligned,
+                                     DateExpression expression, String defaultValue, Charset charset,
+                                     boolean ascii) {
+        String value;
+        if (expression != null) {
+            // 캐시된 평가 결과가 필드 길이와 같으면 바이트 복사로 끝난다
+            if (ascii && expression.copyAscii(dst, pos, length)) {
+                return;
+            }
+            value = expression.evaluate();
+        } else {
+            value = defaultValue != null ? defaultValue : EMPTY;
+        }
+        encodeString(value, dst, pos, length, rightAligned, charset, ascii);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * 정수 값 인코딩 (우측 정렬, 제로 패딩)
+     */
+    public static void encodeLong(long value, byte[] dst, int pos, int length, Charset charset, boolean ascii) {
+        if (!ascii || value == Long.MIN_VALUE) {
+            encodeString(Long.toString(value), dst, pos, length, true, charset, ascii);
+            return;
+        }
+
+        boolean negative = value < 0;
+        long abs = negative ? -value : value;
+        int digits = 1;
+        for (long v = abs / 10; v != 0; v /= 10) {
+            digits++;
+        }
+        int total = negative ? digits + 1 : digits;
+        if (total > length) {
+            // 자리수 초과 시 기존 처리(앞에서부터 자르기)와 동일하게 처리
+            encodeString(Long.toString(value), dst, pos, length, true, charset, true);
+            return;
+        }
+
+        int end = pos + length;
+        int p = end;
+        do {
+            dst[--p] = (byte) ('0' + (abs % 10));
+            abs /= 10;
+        } while (abs != 0);
+        if (negative) {
+            dst[--p] = '-';
+        }
+        while (p > pos) {
+            dst[--p] = '0';
+        }
+    }
+
+    /**
+     * 문자열 값 인코딩
+     */
+    public static void encodeString(String value, byte[] dst, int pos, int length, boolean rightAligned,
+                                    Charset charset, boolean ascii) {
+        int len = value.length();
+        if (ascii && isAscii(value, len)) {
+            if (rightAligned) {
+                // leftPad(value, length, '0')와 동일
+                int pad = length - len;
+                int p = pos;
+                for (int i = 0; i < pad; i++) {
+                    dst[p++] = '0';
+                }
+                int copy = Math.min(len, length);
+                for (int i = 0; i < copy; i++) {
+                    dst[p++] = (byte) value.charAt(i);
+                }
+            } else {
+                // rightPad(value, length, ' ')와 동일
+                int copy = Math.min(len, length);
+                int p = pos;
+                for (int i = 0; i < copy; i++) {
+                    dst[p++] = (byte) value.charAt(i);
+                }
+                for (int i = copy; i < length; i++) {
+                    dst[p++] = ' ';
+                }
+            }
+            return;
+        }
+
+        encodeStringSlow(value, dst, pos, length, rightAligned, charset);
+    }
+
+    /**
+     * 문자열 기반 인코딩 (멀티바이트 문자 포함 시)
+     */
+    private static void encodeStringSlow(String value, byte[] dst, int pos, int length, boolean rightAligned,
+                                         Charset charset) {
+        String padded = rightAligned
+                ? StringUtils.leftPad(value, length, '0')
+                : StringUtils.rightPad(value, length, ' ');
+        byte[] fieldBytes = padded.getBytes(charset);
+        if (fieldBytes.length > length) {
+            fieldBytes = StringUtils.truncateByBytes(padded, length, charset).getBytes(charset);
+        }
+        System.arraycopy(fieldBytes, 0, dst, pos, fieldBytes.length);
+        for (int i = fieldBytes.length; i < length; i++) {
+            dst[pos + i] = ' ';
+        }
+    }
+
+    private static boolean isAscii(String value, int len) {
+        for (int i = 0; i < len; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자 필드 디코딩 (앞뒤 공백 제거)
+     */
+    public static String decodeString(byte[] src, int pos, int length, Charset charset, boolean ascii) {
+        if (!ascii) {
+            return new String(src, pos, length, charset).trim();
+        }
+        int start = trimStart(src, pos, pos + length);
+        int end = trimEnd(src, start, pos + length);
+        return start == end ? EMPTY : new String(src, start, end - start, charset);
+    }
+
+    /**
+     * NUMBER 필드 디코딩 (빈 값이나 파싱 실패 시 0)
+     */
+    public static long decodeNumber(byte[] src, int pos, int length, Charset charset, boolean ascii, String name) {
+        if (ascii) {
+            int start = trimStart(src, pos, pos + length);
+            int end = trimEnd(src, start, pos + length);
+            if (start == end) {
+                return 0L;
+            }
+            if (isParsableLong(src, start, end)) {
+                return parseLong(src, start, end);
+            }
+        }
+        return parseNumber(new String(src, pos, length, charset), name);
+    }
+
+    /**
+     * AMOUNT 필드 디코딩 (소수점 자릿수 반영, 빈 값이나 파싱 실패 시 0.0)
+     *
+     * @param scale 10^소수점 자릿수 (소수점이 없으면 0)
+     */
+    public static double decodeAmount(byte[] src, int pos, int length, double scale, Charset charset,
+                                      boolean ascii, String name) {
+        if (ascii) {
+            int start = trimStart(src, pos, pos + length);
+            int end = trimEnd(src, start, pos + length);
+            if (start == end) {
+                return 0.0;
+            }
+            if (isParsableLong(src, start, end)) {
+                long longValue = parseLong(src, start, end);
+                return scale > 0 ? longValue / scale : (double) longValue;
+            }
+        }
+        return parseAmount(new String(src, pos, length, charset), scale, name);
+    }
+
+    /**
+     * 문자열 기반 NUMBER 파싱 (기존 처리와 동일)
+     */
+    public static long parseNumber(String rawValue, String name) {
+        String trimmed = rawValue.trim();
+        if (trimmed.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(trimmed);
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse number field {}: {}", name, rawValue);
+            return 0L;
+        }
+    }
+
+    /**
+     * 문자열 기반 AMOUNT 파싱 (기존 처리와 동일)
+     */
+    public static double parseAmount(String rawValue, double scale, String name) {
+        String trimmed = rawValue.trim();
+        if (trimmed.isEmpty()) {
+            return 0.0;
+        }
+        try {
+            long longValue = Long.parseLong(trimmed);
+            return scale > 0 ? longValue / scale : (double) longValue;
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse amount field {}: {}", name, rawValue);
+            return 0.0;
+        }
+    }
+
+    /**
+     * String.trim()과 동일하게 0x20 이하 바이트 제거 (앞)
+     */
+    private static int trimStart(byte[] src, int start, int end) {
+        while (start < end && (src[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * String.trim()과 동일하게 0x20 이하 바이트 제거 (뒤)
+     */
+    private static int trimEnd(byte[] src, int start, int end) {
+        while (end > start && (src[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * long 범위 내 부호 있는 10진수 여부
+     */
+    private static boolean isParsableLong(byte[] src, int start, int end) {
+        int p = start;
+        byte first = src[p];
+        if (first == '-' || first == '+') {
+            p++;
+        }
+        int digits = end - p;
+        if (digits <= 0 || digits > 18) {
+            // 19자리 이상은 오버플로우 가능성이 있으므로 Long.parseLong에 위임
+            return false;
+        }
+        for (; p < end; p++) {
+            byte b = src[p];
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseLong(byte[] src, int start, int end) {
+        int p = start;
+        boolean negative = false;
+        if (src[p] == '-') {
+            negative = true;
+            p++;
+        } else if (src[p] == '+') {
+            p++;
+        }
+        long value = 0;
+        for (; p < end; p++) {
+            value = value * 10 + (src[p] - '0');
+        }
+        return negative ? -value : value;
+    }
+}
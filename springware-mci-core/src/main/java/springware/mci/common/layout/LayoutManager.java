@@ -1,6 +1,8 @@
 package springware.mci.common.layout;
 
+import io.netty.buffer.ByteBuf;
 import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
 
 import java.nio.charset.Charset;
 
@@ -69,4 +71,36 @@ public interface LayoutManager {
      * @return 디코딩된 메시지
      */
     Message decode(String layoutId, byte[] data, Charset charset);
+
+    /**
+     * 메시지 디코딩 (ByteBuf, 레이아웃 자동 조회)
+     * 버퍼의 readerIndex는 변경하지 않으며 원본 데이터(rawData)는 설정하지 않는다.
+     *
+     * @param layoutId 레이아웃 ID
+     * @param data     디코딩할 데이터
+     * @param charset  문자셋
+     * @return 디코딩된 메시지
+     */
+    default Message decode(String layoutId, ByteBuf data, Charset charset) {
+        MessageLayout layout = getLayout(layoutId);
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + layoutId);
+        }
+        return layout.decode(data, charset);
+    }
+
+    /**
+     * 레이아웃 전용 코덱 등록
+     * 같은 ID의 레이아웃에 연결하며, 시그니처가 다르면 연결하지 않고 기존 경로를 유지한다.
+     *
+     * @param codec 등록할 코덱
+     * @return 연결 여부
+     */
+    default boolean registerCodec(LayoutCodec codec) {
+        MessageLayout layout = getLayout(codec.getLayoutId());
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + codec.getLayoutId());
+        }
+        return layout.useCodec(codec);
+    }
 }
@@ -0,0 +1,102 @@
+package springware.mci.common.layout;
+
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 지연 디코딩 메시지
+ *
+ * 수신 바이트와 컴파일된 레이아웃의 오프셋 테이블을 보관하고,
+ * 필드는 getField/getString/getLong 등으로 처음 조회될 때 디코딩하여 캐시한다.
+ * 라우팅이나 전달(pass-through)처럼 일부 필드만 읽는 경우 전체 디코딩 비용을 피할 수 있다.
+ *
+ * getFields() 호출 시에는 모든 필드를 디코딩한다.
+ * 비동기 상세 로깅 등 다른 스레드에서 조회될 수 있으므로 필드 접근은 동기화한다.
+ */
+public class LazyMessage extends Message {
+
+    private final CompiledLayout layout;
+    private final byte[] data;
+    private final int offset;
+    private final Charset charset;
+    private final boolean ascii;
+
+    /**
+     * 필드별 디코딩(또는 직접 설정) 여부
+     */
+    private final boolean[] materialized;
+
+    /**
+     * 디코딩된 필드 수
+     */
+    private int materializedCount;
+
+    LazyMessage(String messageCode, CompiledLayout layout, byte[] data, int offset, Charset charset) {
+        super(UUID.randomUUID().toString(), messageCode, MessageType.REQUEST, null, null,
+                new HashMap<>(), LocalDateTime.now(), DEFAULT_TIMEOUT_MILLIS);
+        this.layout = layout;
+        this.data = data;
+        this.offset = offset;
+        this.charset = charset;
+        this.ascii = CompiledLayout.isAsciiCompatible(charset);
+        this.materialized = new boolean[layout.getFieldCount()];
+    }
+
+    @Override
+    public synchronized void setField(String name, Object value) {
+        int index = layout.indexOf(name);
+        if (index >= 0 && !materialized[index]) {
+            materialized[index] = true;
+            materializedCount++;
+        }
+        super.setField(name, value);
+    }
+
+    @Override
+    public synchronized Map<String, Object> getFields() {
+        if (materializedCount < materialized.length) {
+            for (int i = 0; i < materialized.length; i++) {
+                if (!materialized[i]) {
+                    materialize(i);
+                }
+            }
+        }
+        return super.getFields();
+    }
+
+    @Override
+    protected synchronized Object fieldValue(String name) {
+        int index = layout.indexOf(name);
+        if (index >= 0 && !materialized[index]) {
+            materialize(index);
+        }
+        return super.fieldValue(name);
+    }
+
+    @Override
+    protected synchronized boolean containsField(String name) {
+        return layout.indexOf(name) >= 0 || super.containsField(name);
+    }
+
+    /**
+     * 필드 디코딩 여부 (직접 설정 포함)
+     */
+    synchronized boolean isMaterialized(String name) {
+        int index = layout.indexOf(name);
+        return index < 0 || materialized[index];
+    }
+
+    private void materialize(int index) {
+        CompiledLayout.FieldPlan plan = layout.getPlan(index);
+        Object value = plan.decode(data, offset + layout.getOffset(index), charset, ascii);
+        materialized[index] = true;
+        materializedCount++;
+        super.setField(plan.name, value);
+    }
+}
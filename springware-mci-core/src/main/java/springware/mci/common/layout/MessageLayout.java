@@ -1,18 +1,22 @@
 package springware.mci.common.layout;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import springware.common.util.DateUtils;
-import springware.common.util.StringUtils;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
 import springware.mci.common.exception.LayoutException;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32;
 
 /**
  * 메시지 레이아웃 정의
@@ -51,6 +55,33 @@ public class MessageLayout {
      */
     private final boolean hasRepeatingFields;
 
+    /**
+     * 컴파일된 고정 길이 코덱 (반복부가 없는 경우)
+     */
+    private final CompiledLayout compiledLayout;
+
+    /**
+     * 필드별 플랜 (반복부 포함 레이아웃용, 반복부 위치는 null)
+     */
+    @Getter(AccessLevel.NONE)
+    private final CompiledLayout.FieldPlan[] fieldPlans;
+
+    /**
+     * 반복부 레코드 구성 (반복부 위치만 설정, 중첩 반복부 포함)
+     */
+    @Getter(AccessLevel.NONE)
+    private final RecordGroup[] recordGroups;
+
+    /**
+     * 인코딩 결과에 영향을 주는 필드 정의의 해시 (생성 코덱 호환성 확인용)
+     */
+    private final String signature;
+
+    /**
+     * 레이아웃 전용 코덱 (없으면 필드 플랜으로 처리)
+     */
+    private volatile LayoutCodec codec;
+
     private MessageLayout(String layoutId, String description, List<FieldDefinition> fields) {
         this.layoutId = layoutId;
         this.description = description;
@@ -72,6 +103,50 @@ public class MessageLayout {
         }
         this.totalLength = offset;
         this.hasRepeatingFields = hasRepeating;
+
+        // 필드 플랜 컴파일
+        this.fieldPlans = new CompiledLayout.FieldPlan[this.fields.size()];
+        this.recordGroups = new RecordGroup[this.fields.size()];
+        for (int i = 0; i < this.fields.size(); i++) {
+            FieldDefinition field = this.fields.get(i);
+            if (field.isRepeating()) {
+                recordGroups[i] = RecordGroup.compile(field.getChildren());
+            } else {
+                fieldPlans[i] = new CompiledLayout.FieldPlan(field);
+            }
+        }
+        this.compiledLayout = hasRepeating ? null : CompiledLayout.compile(this.fields);
+        this.signature = computeSignature(this.fields);
+    }
+
+    /**
+     * 필드 정의 시그니처 계산
+     * 이름/길이/타입/기본값/표현식/소수점/반복부 구성을 반영하며, 설명/마스킹 등은 제외한다.
+     */
+    private static String computeSignature(List<FieldDefinition> fields) {
+        StringBuilder sb = new StringBuilder();
+        appendSignature(sb, fields);
+        CRC32 crc = new CRC32();
+        crc.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    private static void appendSignature(StringBuilder sb, List<FieldDefinition> fields) {
+        for (FieldDefinition field : fields) {
+            sb.append(field.getName()).append('|')
+                    .append(field.getLength()).append('|')
+                    .append(field.getType().getCode()).append('|')
+                    .append(field.getDefaultValue()).append('|')
+                    .append(field.getExpression()).append('|')
+                    .append(field.getDecimalPlaces()).append('|')
+                    .append(field.getRepeatCountField());
+            if (field.getChildren() != null) {
+                sb.append('[');
+                appendSignature(sb, field.getChildren());
+                sb.append(']');
+            }
+            sb.append(';');
+        }
     }
 
     /**
@@ -81,6 +156,28 @@ public class MessageLayout {
         return new Builder(layoutId);
     }
 
+    /**
+     * 레이아웃 전용 코덱 연결
+     * 레이아웃 ID와 시그니처가 일치하지 않으면 연결하지 않고 기존 경로를 유지한다.
+     *
+     * @param codec 연결할 코덱 (null이면 연결 해제)
+     * @return 연결 여부
+     */
+    public boolean useCodec(LayoutCodec codec) {
+        if (codec == null) {
+            this.codec = null;
+            return true;
+        }
+        if (!layoutId.equals(codec.getLayoutId()) || !signature.equals(codec.getSignature())) {
+            log.warn("Layout codec {} (signature {}) does not match layout {} (signature {}), ignored",
+                    codec.getLayoutId(), codec.getSignature(), layoutId, signature);
+            return false;
+        }
+        this.codec = codec;
+        log.debug("Layout {} uses codec {}", layoutId, codec.getClass().getName());
+        return true;
+    }
+
     /**
      * 필드 정의 조회
      */
@@ -99,46 +196,132 @@ public class MessageLayout {
      * 메시지 인코딩
      */
     public byte[] encode(Message message, Charset charset) {
+        LayoutCodec codec = codecFor(message);
+        if (codec != null) {
+            byte[] result = new byte[codec.getEncodedLength(message)];
+            codec.encode(message, result, 0, charset);
+            return result;
+        }
         if (!hasRepeatingFields) {
             return encodeSimple(message, charset);
         }
-        return encodeWithRepeating(message, charset);
+        byte[] result = new byte[calculateDynamicLength(message)];
+        encodeWithRepeating(message, result, 0, result.length, charset);
+        return result;
     }
 
     /**
-     * 단순 인코딩 (반복부 없는 경우)
+     * 인코딩 결과 길이 (반복부가 있으면 메시지의 반복 횟수 반영)
      */
-    private byte[] encodeSimple(Message message, Charset charset) {
-        byte[] result = new byte[totalLength];
-        java.util.Arrays.fill(result, (byte) ' ');
+    public int getEncodedLength(Message message) {
+        LayoutCodec codec = codecFor(message);
+        if (codec != null) {
+            return codec.getEncodedLength(message);
+        }
+        return hasRepeatingFields ? calculateDynamicLength(message) : totalLength;
+    }
 
-        for (FieldDefinition field : fields) {
-            Object value = message.getField(field.getName());
-            String strValue = formatFieldValue(field, value);
-            byte[] fieldBytes = strValue.getBytes(charset);
+    /**
+     * 메시지를 대상 배열에 인코딩
+     *
+     * @param message 인코딩할 메시지
+     * @param dst     대상 배열
+     * @param offset  쓰기 시작 위치
+     * @param charset 문자셋
+     * @return 기록한 바이트 수
+     */
+    public int encode(Message message, byte[] dst, int offset, Charset charset) {
+        LayoutCodec codec = codecFor(message);
+        if (codec != null) {
+            return codec.encode(message, dst, offset, charset);
+        }
+        if (hasRepeatingFields) {
+            int length = calculateDynamicLength(message);
+            encodeWithRepeating(message, dst, offset, length, charset);
+            return length;
+        }
+        return compiledLayout.encode(message, dst, offset, charset);
+    }
 
-            if (fieldBytes.length > field.getLength()) {
-                fieldBytes = StringUtils.truncateByBytes(strValue, field.getLength(), charset).getBytes(charset);
-            }
+    /**
+     * 메시지를 ByteBuf에 인코딩 (writerIndex 이동)
+     *
+     * @param message 인코딩할 메시지
+     * @param out     대상 버퍼
+     * @param charset 문자셋
+     * @return 기록한 바이트 수
+     */
+    public int encode(Message message, ByteBuf out, Charset charset) {
+        LayoutCodec codec = codecFor(message);
+        if (codec == null && !hasRepeatingFields) {
+            return compiledLayout.encode(message, out, charset);
+        }
 
-            System.arraycopy(fieldBytes, 0, result, field.getOffset(), fieldBytes.length);
+        // 힙 버퍼는 버퍼 배열에 바로, 다이렉트 버퍼는 스레드별 작업 배열을 거쳐 기록
+        int length = codec != null ? codec.getEncodedLength(message) : calculateDynamicLength(message);
+        out.ensureWritable(length);
+        int writerIndex = out.writerIndex();
+        if (out.hasArray()) {
+            encodeBody(codec, message, out.array(), out.arrayOffset() + writerIndex, length, charset);
+        } else {
+            byte[] scratch = CompiledLayout.scratch(length);
+            encodeBody(codec, message, scratch, 0, length, charset);
+            out.setBytes(writerIndex, scratch, 0, length);
         }
+        out.writerIndex(writerIndex + length);
+        return length;
+    }
+
+    private void encodeBody(LayoutCodec codec, Message message, byte[] dst, int offset, int length,
+                            Charset charset) {
+        if (codec != null) {
+            codec.encode(message, dst, offset, charset);
+        } else {
+            encodeWithRepeating(message, dst, offset, length, charset);
+        }
+    }
 
+    /**
+     * 메시지에 사용할 전용 코덱
+     * 반복부 값이 {@link RecordStream}이면 필드 플랜으로 바로 기록하므로 코덱을 사용하지 않는다.
+     */
+    private LayoutCodec codecFor(Message message) {
+        LayoutCodec codec = this.codec;
+        if (codec != null && hasRepeatingFields) {
+            for (int i = 0; i < recordGroups.length; i++) {
+                if (recordGroups[i] != null && message.getField(fields.get(i).getName()) instanceof RecordStream) {
+                    return null;
+                }
+            }
+        }
+        return codec;
+    }
+
+    /**
+     * 단순 인코딩 (반복부 없는 경우)
+     */
+    private byte[] encodeSimple(Message message, Charset charset) {
+        byte[] result = new byte[totalLength];
+        compiledLayout.encode(message, result, 0, charset);
         return result;
     }
 
     /**
-     * 반복부 포함 인코딩
+     * 반복부 포함 인코딩 (대상 배열에 바로 기록)
+     *
+     * @param length 인코딩 길이 ({@link #calculateDynamicLength(Message)})
      */
-    @SuppressWarnings("unchecked")
-    private byte[] encodeWithRepeating(Message message, Charset charset) {
-        // 먼저 전체 길이 계산
-        int dynamicLength = calculateDynamicLength(message);
-        byte[] result = new byte[dynamicLength];
-        java.util.Arrays.fill(result, (byte) ' ');
-
-        int currentOffset = 0;
-        for (FieldDefinition field : fields) {
+    private void encodeWithRepeating(Message message, byte[] dst, int offset, int length, Charset charset) {
+        if (offset < 0 || offset + length > dst.length) {
+            throw new LayoutException(String.format("Buffer too small: offset %d + layout length %d > %d",
+                    offset, length, dst.length));
+        }
+        Arrays.fill(dst, offset, offset + length, (byte) ' ');
+        boolean ascii = CompiledLayout.isAsciiCompatible(charset);
+
+        int currentOffset = offset;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldDefinition field = fields.get(i);
             if (field.isRepeating()) {
                 // 반복 횟수 조회
                 Object countValue = message.getField(field.getRepeatCountField());
@@ -146,53 +329,37 @@ public class MessageLayout {
 
                 // 반복부 데이터 조회
                 Object repeatingData = message.getField(field.getName());
-                List<Map<String, Object>> records = (List<Map<String, Object>>) repeatingData;
-
-                // 각 레코드 인코딩
-                for (int i = 0; i < repeatCount && records != null && i < records.size(); i++) {
-                    Map<String, Object> record = records.get(i);
-                    for (FieldDefinition childField : field.getChildren()) {
-                        Object value = record.get(childField.getName());
-                        String strValue = formatFieldValue(childField, value);
-                        byte[] fieldBytes = strValue.getBytes(charset);
-
-                        if (fieldBytes.length > childField.getLength()) {
-                            fieldBytes = StringUtils.truncateByBytes(strValue, childField.getLength(), charset).getBytes(charset);
-                        }
-
-                        System.arraycopy(fieldBytes, 0, result, currentOffset, fieldBytes.length);
-                        currentOffset += childField.getLength();
-                    }
+                RecordGroup group = recordGroups[i];
+
+                // 스트리밍 값은 매퍼가 레코드 위치에 바로 기록 (중첩 반복부가 있으면 레코드 맵으로 변환)
+                if (repeatingData instanceof RecordStream && group.isFixed()) {
+                    int written = ((RecordStream<?>) repeatingData).encode(
+                            group.getFixed(), repeatCount, dst, currentOffset, charset);
+                    currentOffset += written * group.getFixedLength();
+                    continue;
                 }
-            } else {
-                Object value = message.getField(field.getName());
-                String strValue = formatFieldValue(field, value);
-                byte[] fieldBytes = strValue.getBytes(charset);
 
-                if (fieldBytes.length > field.getLength()) {
-                    fieldBytes = StringUtils.truncateByBytes(strValue, field.getLength(), charset).getBytes(charset);
-                }
-
-                System.arraycopy(fieldBytes, 0, result, currentOffset, fieldBytes.length);
+                // 각 레코드 인코딩 (중첩 반복부 포함)
+                currentOffset = group.encode((List<?>) repeatingData, repeatCount, dst, currentOffset, charset, ascii);
+            } else {
+                fieldPlans[i].encode(message.getField(field.getName()), dst, currentOffset, charset, ascii);
                 currentOffset += field.getLength();
             }
         }
-
-        return result;
     }
 
     /**
      * 동적 길이 계산 (반복부 포함)
      */
     private int calculateDynamicLength(Message message) {
-        int length = 0;
-        for (FieldDefinition field : fields) {
-            if (field.isRepeating()) {
-                Object countValue = message.getField(field.getRepeatCountField());
-                int repeatCount = countValue instanceof Number ? ((Number) countValue).intValue() : 0;
-                length += repeatCount * field.getRepeatingRecordLength();
-            } else {
-                length += field.getLength();
+        int length = totalLength;
+        for (int i = 0; i < recordGroups.length; i++) {
+            RecordGroup group = recordGroups[i];
+            if (group != null) {
+                FieldDefinition field = fields.get(i);
+                int repeatCount = LayoutCodecSupport.repeatCount(message.getField(field.getRepeatCountField()));
+                length += group.isFixed() ? repeatCount * group.getFixedLength()
+                        : group.length((List<?>) message.getField(field.getName()), repeatCount);
             }
         }
         return length;
@@ -202,20 +369,93 @@ public class MessageLayout {
      * 메시지 디코딩
      */
     public Message decode(byte[] data, Charset charset) {
-        if (!hasRepeatingFields) {
-            return decodeSimple(data, charset);
+        Message message = decode(data, 0, data.length, charset);
+        message.setRawData(data);
+        return message;
+    }
+
+    /**
+     * 메시지 디코딩 (ByteBuf, 복사 없이 버퍼 내용을 직접 파싱)
+     * readerIndex부터 readableBytes 만큼을 디코딩하며 readerIndex는 변경하지 않는다.
+     * 원본 데이터(rawData)는 설정하지 않는다.
+     *
+     * @param data    디코딩할 버퍼 (헤더가 제거된 본문)
+     * @param charset 문자셋
+     * @return 디코딩된 메시지
+     */
+    public Message decode(ByteBuf data, Charset charset) {
+        int length = data.readableBytes();
+        if (data.hasArray()) {
+            return decode(data.array(), data.arrayOffset() + data.readerIndex(), length, charset);
         }
-        return decodeWithRepeating(data, charset);
+        // 다이렉트 버퍼는 스레드별 작업 배열로 읽어서 디코딩
+        byte[] scratch = CompiledLayout.scratch(length);
+        data.getBytes(data.readerIndex(), scratch, 0, length);
+        return decode(scratch, 0, length, charset);
     }
 
     /**
-     * 단순 디코딩 (반복부 없는 경우)
+     * 지연 디코딩
+     * 필드는 처음 조회될 때 디코딩되어 캐시된다. 반복부가 있는 레이아웃은 고정 필드를 즉시 디코딩하고,
+     * 반복부는 수신 바이트 위의 {@link RecordList}로 설정하여 조회한 레코드만 디코딩한다.
+     *
+     * @param data    디코딩할 데이터 (메시지가 참조하므로 이후 변경하지 않아야 함)
+     * @param charset 문자셋
+     * @return 디코딩된 메시지
      */
-    private Message decodeSimple(byte[] data, Charset charset) {
-        if (data.length < totalLength) {
+    public Message decodeLazy(byte[] data, Charset charset) {
+        if (hasRepeatingFields) {
+            Message message = decodeWithRepeating(data, 0, data.length, charset, true);
+            message.setRawData(data);
+            return message;
+        }
+        checkLength(data.length);
+        Message message = new LazyMessage(layoutId, compiledLayout, data, 0, charset);
+        message.setRawData(data);
+        return message;
+    }
+
+    /**
+     * 지연 디코딩 (ByteBuf)
+     * 버퍼는 메시지 처리 이후 해제될 수 있으므로 본문을 한 번 복사하여 보관한다.
+     * readerIndex는 변경하지 않으며 원본 데이터(rawData)는 설정하지 않는다.
+     *
+     * @param data    디코딩할 버퍼 (헤더가 제거된 본문)
+     * @param charset 문자셋
+     * @return 디코딩된 메시지
+     */
+    public Message decodeLazy(ByteBuf data, Charset charset) {
+        byte[] bytes = ByteBufUtil.getBytes(data);
+        if (hasRepeatingFields) {
+            return decodeWithRepeating(bytes, 0, bytes.length, charset, true);
+        }
+        checkLength(bytes.length);
+        return new LazyMessage(layoutId, compiledLayout, bytes, 0, charset);
+    }
+
+    private void checkLength(int length) {
+        if (length < totalLength) {
             throw new LayoutException(
-                    String.format("Data length %d is less than layout length %d", data.length, totalLength));
+                    String.format("Data length %d is less than layout length %d", length, totalLength));
+        }
+    }
+
+    private Message decode(byte[] data, int offset, int length, Charset charset) {
+        LayoutCodec codec = this.codec;
+        if (codec != null) {
+            return codec.decode(data, offset, length, charset);
         }
+        if (!hasRepeatingFields) {
+            return decodeSimple(data, offset, length, charset);
+        }
+        return decodeWithRepeating(data, offset, length, charset, false);
+    }
+
+    /**
+     * 단순 디코딩 (반복부 없는 경우)
+     */
+    private Message decodeSimple(byte[] data, int offset, int length, Charset charset) {
+        checkLength(length);
 
         Message.MessageBuilder builder = Message.builder()
                 .messageCode(layoutId)
@@ -223,143 +463,54 @@ public class MessageLayout {
 
         Message message = builder.build();
 
-        for (FieldDefinition field : fields) {
-            String rawValue = new String(data, field.getOffset(), field.getLength(), charset);
-            Object parsedValue = parseFieldValue(field, rawValue);
-            message.setField(field.getName(), parsedValue);
-        }
+        compiledLayout.decodeInto(data, offset, charset, message);
 
-        message.setRawData(data);
         return message;
     }
 
     /**
      * 반복부 포함 디코딩
+     *
+     * @param lazyRecords 반복부를 레코드 맵 목록 대신 {@link RecordList}로 설정할지 여부
      */
-    private Message decodeWithRepeating(byte[] data, Charset charset) {
+    private Message decodeWithRepeating(byte[] data, int offset, int length, Charset charset,
+                                        boolean lazyRecords) {
         Message.MessageBuilder builder = Message.builder()
                 .messageCode(layoutId)
                 .messageType(MessageType.REQUEST);
 
         Message message = builder.build();
 
-        int currentOffset = 0;
-        for (FieldDefinition field : fields) {
+        boolean ascii = CompiledLayout.isAsciiCompatible(charset);
+        int end = offset + length;
+        int currentOffset = offset;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldDefinition field = fields.get(i);
             if (field.isRepeating()) {
                 // 반복 횟수 조회 (이미 파싱된 필드에서)
                 Object countValue = message.getField(field.getRepeatCountField());
                 int repeatCount = countValue instanceof Number ? ((Number) countValue).intValue() : 0;
 
-                // 반복부 데이터 디코딩
-                List<Map<String, Object>> records = new ArrayList<>();
-                int recordLength = field.getRepeatingRecordLength();
-
-                for (int i = 0; i < repeatCount; i++) {
-                    if (currentOffset + recordLength > data.length) {
-                        log.warn("Insufficient data for repeating record {}/{}", i + 1, repeatCount);
-                        break;
-                    }
-
-                    Map<String, Object> record = new LinkedHashMap<>();
-                    int recordOffset = currentOffset;
-                    for (FieldDefinition childField : field.getChildren()) {
-                        String rawValue = new String(data, recordOffset, childField.getLength(), charset);
-                        Object parsedValue = parseFieldValue(childField, rawValue);
-                        record.put(childField.getName(), parsedValue);
-                        recordOffset += childField.getLength();
-                    }
-                    records.add(record);
-                    currentOffset += recordLength;
-                }
-
-                message.setField(field.getName(), records);
+                // 레코드 오프셋 색인을 한 번에 구성 (데이터가 부족하면 있는 레코드까지)
+                RecordList records = recordGroups[i].records(data, currentOffset, end, repeatCount, charset,
+                        lazyRecords);
+                message.setField(field.getName(), lazyRecords ? records : new ArrayList<>(records));
+                currentOffset = records.getEndOffset();
             } else {
-                if (currentOffset + field.getLength() > data.length) {
+                if (currentOffset + field.getLength() > end) {
                     throw new LayoutException(
                             String.format("Insufficient data at offset %d for field %s (length %d)",
-                                    currentOffset, field.getName(), field.getLength()));
+                                    currentOffset - offset, field.getName(), field.getLength()));
                 }
 
-                String rawValue = new String(data, currentOffset, field.getLength(), charset);
-                Object parsedValue = parseFieldValue(field, rawValue);
-                message.setField(field.getName(), parsedValue);
+                message.setField(field.getName(), fieldPlans[i].decode(data, currentOffset, charset, ascii));
                 currentOffset += field.getLength();
             }
         }
 
-        message.setRawData(data);
         return message;
     }
 
-    /**
-     * 필드 값 포맷팅
-     */
-    private String formatFieldValue(FieldDefinition field, Object value) {
-        String strValue;
-
-        // 표현식 처리
-        if (value == null && field.getExpression() != null) {
-            strValue = DateUtils.evaluateDateExpression(field.getExpression());
-        } else if (value == null) {
-            strValue = field.getDefaultValue() != null ? field.getDefaultValue() : "";
-        } else {
-            strValue = value.toString();
-        }
-
-        // 타입에 따른 패딩
-        if (field.getType().isRightAligned()) {
-            // 우측 정렬, 제로 패딩
-            return StringUtils.leftPad(strValue, field.getLength(), '0');
-        } else {
-            // 좌측 정렬, 공백 패딩
-            return StringUtils.rightPad(strValue, field.getLength(), ' ');
-        }
-    }
-
-    /**
-     * 필드 값 파싱
-     */
-    private Object parseFieldValue(FieldDefinition field, String rawValue) {
-        String trimmed = rawValue.trim();
-
-        switch (field.getType()) {
-            case NUMBER:
-                if (trimmed.isEmpty()) {
-                    return 0L;
-                }
-                try {
-                    return Long.parseLong(trimmed);
-                } catch (NumberFormatException e) {
-                    log.warn("Failed to parse number field {}: {}", field.getName(), rawValue);
-                    return 0L;
-                }
-
-            case AMOUNT:
-                if (trimmed.isEmpty()) {
-                    return 0.0;
-                }
-                try {
-                    long longValue = Long.parseLong(trimmed);
-                    if (field.getDecimalPlaces() > 0) {
-                        return longValue / Math.pow(10, field.getDecimalPlaces());
-                    }
-                    return (double) longValue;
-                } catch (NumberFormatException e) {
-                    log.warn("Failed to parse amount field {}: {}", field.getName(), rawValue);
-                    return 0.0;
-                }
-
-            case NUMERIC_STRING:
-            case DATE:
-            case TIME:
-            case DATETIME:
-            case STRING:
-            case VARCHAR:
-            default:
-                return trimmed;
-        }
-    }
-
     /**
      * 레이아웃 빌더
      */
@@ -0,0 +1,146 @@
+package springware.mci.common.layout;
+
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+
+/**
+ * 반복부 레코드 커서 (flyweight)
+ *
+ * 객체 하나가 레코드 위치만 옮겨 가며 수신 바이트에서 필드를 바로 읽는다.
+ * 레코드 맵을 만들지 않으므로 건수가 많은 응답을 순회할 때 할당이 조회한 필드 값으로 한정된다.
+ * 중첩 반복부는 {@link #getRecords(String)}로 현재 레코드의 하위 목록을 조회한다.
+ * <pre>
+ * RecordCursor cursor = ((RecordList) message.getField("records")).cursor();
+ * while (cursor.next()) {
+ *     total += cursor.getLong("amount");
+ * }
+ * </pre>
+ */
+public final class RecordCursor {
+
+    private final RecordList records;
+    private final RecordGroup group;
+    private final byte[] data;
+    private final int end;
+    private final Charset charset;
+    private final boolean ascii;
+
+    private int index = -1;
+    private int base;
+
+    RecordCursor(RecordList records) {
+        this.records = records;
+        this.group = records.getGroup();
+        this.data = records.getData();
+        this.end = records.getEndOffset();
+        this.charset = records.getCharset();
+        this.ascii = CompiledLayout.isAsciiCompatible(charset);
+    }
+
+    /**
+     * 다음 레코드로 이동
+     *
+     * @return 레코드가 있으면 true
+     */
+    public boolean next() {
+        if (index + 1 >= records.size()) {
+            index = records.size();
+            return false;
+        }
+        moveTo(index + 1);
+        return true;
+    }
+
+    /**
+     * N번째 레코드로 이동 (앞 레코드를 읽지 않음)
+     */
+    public RecordCursor moveTo(int index) {
+        this.base = records.recordOffset(index);
+        this.index = index;
+        return this;
+    }
+
+    /**
+     * 현재 레코드 인덱스
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * 필드 값 (필드 타입에 따라 String/Long/Double, 중첩 반복부는 {@link RecordList})
+     */
+    public Object get(String name) {
+        int i = indexOf(name);
+        if (group.getGroup(i) != null) {
+            return getRecords(name);
+        }
+        return group.getPlan(i).decode(data, fieldOffset(i), charset, ascii);
+    }
+
+    /**
+     * 필드 값을 문자열로 조회 (공백 제거)
+     */
+    public String getString(String name) {
+        int i = fixedField(name);
+        return LayoutCodecSupport.decodeString(data, fieldOffset(i), group.getPlan(i).length, charset, ascii);
+    }
+
+    /**
+     * 필드 값을 숫자로 조회 (박싱 없음)
+     */
+    public long getLong(String name) {
+        int i = fixedField(name);
+        return LayoutCodecSupport.decodeNumber(data, fieldOffset(i), group.getPlan(i).length, charset, ascii,
+                name);
+    }
+
+    /**
+     * 현재 레코드의 중첩 반복부 목록
+     */
+    public RecordList getRecords(String name) {
+        int i = indexOf(name);
+        RecordGroup nested = group.getGroup(i);
+        if (nested == null) {
+            throw new LayoutException("Not a repeating field: " + name);
+        }
+        int count = group.nestedCount(data, base, end, i, charset, ascii);
+        return nested.records(data, fieldOffset(i), end, count, charset, true);
+    }
+
+    /**
+     * 현재 레코드를 맵으로 디코딩
+     */
+    public Map<String, Object> toMap() {
+        indexOf(null);
+        return group.decode(data, base, end, charset, true);
+    }
+
+    private int fieldOffset(int i) {
+        return group.fieldOffset(data, base, end, i, charset, ascii);
+    }
+
+    private int fixedField(String name) {
+        int i = indexOf(name);
+        if (group.getPlan(i) == null) {
+            throw new LayoutException("Repeating field has no scalar value: " + name);
+        }
+        return i;
+    }
+
+    private int indexOf(String name) {
+        if (index < 0 || index >= records.size()) {
+            throw new IllegalStateException("Cursor is not positioned on a record");
+        }
+        if (name == null) {
+            return -1;
+        }
+        int i = group.indexOf(name);
+        if (i < 0) {
+            throw new LayoutException("Unknown record field: " + name);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,349 @@
+package springware.mci.common.layout;
+
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사전 컴파일된 반복부 레코드 구성
+ *
+ * 레코드에 중첩 반복부가 없으면 고정 길이 {@link CompiledLayout} 하나로 처리하고,
+ * 중첩 반복부가 있으면 고정 필드 플랜과 하위 그룹을 필드 순서대로 보관한다.
+ * 중첩 반복부의 건수 필드는 같은 레코드에서 반복부보다 앞에 있어야 한다.
+ *
+ * 고정 필드 길이 합계와 첫 중첩 반복부 이전 필드의 오프셋은 컴파일 시 계산해 두므로,
+ * 길이 계산은 반복부만 따라가고 고정 필드는 다시 순회하지 않는다.
+ */
+final class RecordGroup {
+
+    private final String[] names;
+
+    /**
+     * 필드별 플랜 (중첩 반복부 위치는 null)
+     */
+    private final CompiledLayout.FieldPlan[] plans;
+
+    /**
+     * 필드별 하위 그룹 (중첩 반복부 위치만 설정)
+     */
+    private final RecordGroup[] groups;
+
+    /**
+     * 중첩 반복부별 건수 필드 인덱스
+     */
+    private final int[] countIndexes;
+
+    /**
+     * 필드별 중첩 반복부 건수 필드 여부
+     */
+    private final boolean[] countFields;
+
+    /**
+     * 레코드 시작 기준 필드 오프셋 (첫 중첩 반복부 이후 필드는 -1)
+     */
+    private final int[] offsets;
+
+    private final Map<String, Integer> indexByName;
+
+    /**
+     * 고정 길이 레코드 코덱 (중첩 반복부가 없는 경우)
+     */
+    private final CompiledLayout fixed;
+
+    /**
+     * 중첩 반복부를 제외한 레코드 길이
+     */
+    private final int fixedLength;
+
+    private RecordGroup(List<FieldDefinition> fields) {
+        int size = fields.size();
+        this.names = new String[size];
+        this.plans = new CompiledLayout.FieldPlan[size];
+        this.groups = new RecordGroup[size];
+        this.countIndexes = new int[size];
+        this.countFields = new boolean[size];
+        this.offsets = new int[size];
+        this.indexByName = new HashMap<>(size * 2);
+
+        boolean nested = false;
+        int offset = 0;
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            FieldDefinition field = fields.get(i);
+            names[i] = field.getName();
+            indexByName.put(field.getName(), i);
+            offsets[i] = nested ? -1 : offset;
+            countIndexes[i] = -1;
+            if (field.isRepeating()) {
+                Integer countIndex = indexByName.get(field.getRepeatCountField());
+                if (countIndex == null || groups[countIndex] != null) {
+                    throw new LayoutException("Count field " + field.getRepeatCountField()
+                            + " of nested repeating field " + field.getName()
+                            + " must precede it in the same record");
+                }
+                groups[i] = new RecordGroup(field.getChildren());
+                countIndexes[i] = countIndex;
+                countFields[countIndex] = true;
+                nested = true;
+            } else {
+                plans[i] = new CompiledLayout.FieldPlan(field);
+                offset += field.getLength();
+                length += field.getLength();
+            }
+        }
+        this.fixedLength = length;
+        this.fixed = nested ? null : CompiledLayout.compile(fields);
+    }
+
+    /**
+     * 반복부 자식 필드 목록을 컴파일
+     */
+    static RecordGroup compile(List<FieldDefinition> fields) {
+        return new RecordGroup(fields);
+    }
+
+    /**
+     * 중첩 반복부 없이 고정 길이인지 여부
+     */
+    boolean isFixed() {
+        return fixed != null;
+    }
+
+    /**
+     * 고정 길이 레코드 코덱 (중첩 반복부가 있으면 null)
+     */
+    CompiledLayout getFixed() {
+        return fixed;
+    }
+
+    /**
+     * 중첩 반복부를 제외한 레코드 길이
+     */
+    int getFixedLength() {
+        return fixedLength;
+    }
+
+    int indexOf(String name) {
+        Integer index = indexByName.get(name);
+        return index != null ? index : -1;
+    }
+
+    CompiledLayout.FieldPlan getPlan(int index) {
+        return plans[index];
+    }
+
+    RecordGroup getGroup(int index) {
+        return groups[index];
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // 인코딩
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * 반복부 전체 인코딩 길이
+     *
+     * @param records 레코드 목록 (null 가능)
+     * @param count   반복 건수 (레코드가 부족한 건은 중첩 반복부 없는 길이로 계산)
+     */
+    int length(List<?> records, int count) {
+        if (fixed != null) {
+            return count * fixedLength;
+        }
+        int length = 0;
+        for (int r = 0; r < count; r++) {
+            length += length(records != null && r < records.size() ? records.get(r) : null);
+        }
+        return length;
+    }
+
+    /**
+     * 레코드 1건 인코딩 길이
+     */
+    int length(Object record) {
+        if (fixed != null || !(record instanceof Map)) {
+            return fixedLength;
+        }
+        Map<?, ?> map = (Map<?, ?>) record;
+        int length = fixedLength;
+        for (int i = 0; i < groups.length; i++) {
+            if (groups[i] != null) {
+                int count = LayoutCodecSupport.repeatCount(map.get(names[countIndexes[i]]));
+                length += groups[i].length((List<?>) map.get(names[i]), count);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 반복부 인코딩 (건수보다 레코드가 적으면 있는 레코드만 연속으로 기록)
+     *
+     * @return 다음 쓰기 위치
+     */
+    int encode(List<?> records, int count, byte[] dst, int pos, Charset charset, boolean ascii) {
+        for (int r = 0; r < count && records != null && r < records.size(); r++) {
+            pos = encode((Map<?, ?>) records.get(r), dst, pos, charset, ascii);
+        }
+        return pos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int encode(Map<?, ?> record, byte[] dst, int pos, Charset charset, boolean ascii) {
+        if (fixed != null) {
+            return pos + fixed.encodeRecord((Map<String, Object>) record, dst, pos, charset);
+        }
+        for (int i = 0; i < names.length; i++) {
+            Object value = record != null ? record.get(names[i]) : null;
+            if (groups[i] != null) {
+                Object countValue = record != null ? record.get(names[countIndexes[i]]) : null;
+                int count = LayoutCodecSupport.repeatCount(countValue);
+                pos = groups[i].encode((List<?>) value, count, dst, pos, charset, ascii);
+            } else {
+                plans[i].encode(value, dst, pos, charset, ascii);
+                pos += plans[i].length;
+            }
+        }
+        return pos;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // 디코딩
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * 반복부 레코드 목록 생성 (레코드 오프셋 색인 구성)
+     *
+     * 데이터가 건수만큼 없으면 들어 있는 레코드까지만 포함한다.
+     *
+     * @param src   원본 배열
+     * @param pos   첫 레코드 위치
+     * @param end   데이터 끝 위치
+     * @param count 반복 건수
+     * @param lazy  중첩 반복부도 {@link RecordList}로 둘지 여부 (false면 레코드 맵 목록으로 디코딩)
+     */
+    RecordList records(byte[] src, int pos, int end, int count, Charset charset, boolean lazy) {
+        if (fixed != null) {
+            int fit = fixedLength > 0 ? (end - pos) / fixedLength : count;
+            int available = Math.max(0, Math.min(count, fit));
+            if (available < count) {
+                LayoutCodecSupport.warnInsufficientRecords(available + 1, count);
+            }
+            return new RecordList(this, src, pos, available, null, charset, lazy);
+        }
+
+        boolean ascii = CompiledLayout.isAsciiCompatible(charset);
+        int capacity = fixedLength > 0 ? Math.max(0, Math.min(count, (end - pos) / fixedLength)) : count;
+        int[] recordOffsets = new int[capacity + 1];
+        int available = 0;
+        while (available < count) {
+            if (available == capacity || pos + fixedLength > end) {
+                LayoutCodecSupport.warnInsufficientRecords(available + 1, count);
+                break;
+            }
+            recordOffsets[available++] = pos;
+            pos = skip(src, pos, end, charset, ascii);
+        }
+        recordOffsets[available] = pos;
+        return new RecordList(this, src, recordOffsets[0], available, recordOffsets, charset, lazy);
+    }
+
+    /**
+     * 레코드 1건의 끝 위치 (건수 필드만 디코딩)
+     */
+    int skip(byte[] src, int pos, int end, Charset charset, boolean ascii) {
+        if (fixed != null) {
+            return pos + fixedLength;
+        }
+        Object[] counts = null;
+        for (int i = 0; i < names.length; i++) {
+            if (groups[i] != null) {
+                int count = LayoutCodecSupport.repeatCount(counts != null ? counts[countIndexes[i]] : null);
+                pos = groups[i].skipRecords(src, pos, end, count, charset, ascii);
+            } else {
+                LayoutCodecSupport.checkField(pos, plans[i].length, end, 0, names[i]);
+                if (countFields[i]) {
+                    if (counts == null) {
+                        counts = new Object[names.length];
+                    }
+                    counts[i] = plans[i].decode(src, pos, charset, ascii);
+                }
+                pos += plans[i].length;
+            }
+        }
+        return pos;
+    }
+
+    private int skipRecords(byte[] src, int pos, int end, int count, Charset charset, boolean ascii) {
+        if (fixed != null) {
+            int fit = fixedLength > 0 ? (end - pos) / fixedLength : count;
+            return pos + Math.max(0, Math.min(count, fit)) * fixedLength;
+        }
+        for (int r = 0; r < count && pos + fixedLength <= end; r++) {
+            pos = skip(src, pos, end, charset, ascii);
+        }
+        return pos;
+    }
+
+    /**
+     * 레코드 1건 디코딩
+     *
+     * @param lazy 중첩 반복부를 {@link RecordList}로 둘지 여부
+     */
+    Map<String, Object> decode(byte[] src, int pos, int end, Charset charset, boolean lazy) {
+        if (fixed != null) {
+            return fixed.decodeRecord(src, pos, charset);
+        }
+        boolean ascii = CompiledLayout.isAsciiCompatible(charset);
+        Map<String, Object> record = new LinkedHashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            if (groups[i] != null) {
+                int count = LayoutCodecSupport.repeatCount(record.get(names[countIndexes[i]]));
+                RecordList nested = groups[i].records(src, pos, end, count, charset, lazy);
+                record.put(names[i], lazy ? nested : new ArrayList<>(nested));
+                pos = nested.getEndOffset();
+            } else {
+                LayoutCodecSupport.checkField(pos, plans[i].length, end, 0, names[i]);
+                record.put(names[i], plans[i].decode(src, pos, charset, ascii));
+                pos += plans[i].length;
+            }
+        }
+        return record;
+    }
+
+    /**
+     * 레코드 내 필드 위치 (첫 중첩 반복부 이후 필드는 앞 반복부를 건너뛰어 계산)
+     */
+    int fieldOffset(byte[] src, int recordPos, int end, int index, Charset charset, boolean ascii) {
+        if (offsets[index] >= 0) {
+            return recordPos + offsets[index];
+        }
+        int pos = recordPos;
+        Object[] counts = new Object[names.length];
+        for (int i = 0; i < index; i++) {
+            if (groups[i] != null) {
+                int count = LayoutCodecSupport.repeatCount(counts[countIndexes[i]]);
+                pos = groups[i].skipRecords(src, pos, end, count, charset, ascii);
+            } else {
+                if (countFields[i]) {
+                    counts[i] = plans[i].decode(src, pos, charset, ascii);
+                }
+                pos += plans[i].length;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * 중첩 반복부 건수 (건수 필드 디코딩)
+     */
+    int nestedCount(byte[] src, int recordPos, int end, int index, Charset charset, boolean ascii) {
+        int countIndex = countIndexes[index];
+        int pos = fieldOffset(src, recordPos, end, countIndex, charset, ascii);
+        return LayoutCodecSupport.repeatCount(plans[countIndex].decode(src, pos, charset, ascii));
+    }
+}
@@ -0,0 +1,95 @@
+package springware.mci.common.layout;
+
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 수신 바이트 위의 반복부 레코드 목록 (지연 디코딩)
+ *
+ * {@link MessageLayout#decodeLazy(byte[], Charset)}가 반복부 필드 값으로 설정한다.
+ * 고정 길이 레코드는 N번째 레코드 위치를 바로 계산하고, 중첩 반복부가 있는 가변 길이 레코드는
+ * 생성 시 만든 레코드 오프셋 색인을 사용하므로 앞 레코드를 다시 읽지 않는다.
+ * {@link #get(int)}는 조회한 레코드만 맵으로 디코딩한다. 레코드 맵을 만들지 않고 순회하려면
+ * {@link #cursor()}를 사용한다.
+ */
+public final class RecordList extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+    private final RecordGroup group;
+    private final byte[] data;
+    private final int offset;
+    private final int size;
+
+    /**
+     * 레코드 시작 위치 색인 (size + 1개, 마지막은 반복부 끝 위치, 고정 길이 레코드는 null)
+     */
+    private final int[] recordOffsets;
+
+    private final Charset charset;
+    private final boolean lazy;
+
+    RecordList(RecordGroup group, byte[] data, int offset, int size, int[] recordOffsets, Charset charset,
+               boolean lazy) {
+        this.group = group;
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+        this.recordOffsets = recordOffsets;
+        this.charset = charset;
+        this.lazy = lazy;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * N번째 레코드를 맵으로 디코딩 (조회할 때마다 새로 생성)
+     */
+    @Override
+    public Map<String, Object> get(int index) {
+        return group.decode(data, recordOffset(index), getEndOffset(), charset, lazy);
+    }
+
+    /**
+     * 레코드 커서 생성 (첫 레코드 이전 위치)
+     */
+    public RecordCursor cursor() {
+        return new RecordCursor(this);
+    }
+
+    /**
+     * 중첩 반복부 없는 고정 길이 레코드인지 여부
+     */
+    public boolean isFixedLength() {
+        return recordOffsets == null;
+    }
+
+    /**
+     * 반복부 끝 위치 (원본 배열 기준)
+     */
+    int getEndOffset() {
+        return recordOffsets != null ? recordOffsets[size] : offset + size * group.getFixedLength();
+    }
+
+    int recordOffset(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Record index " + index + " out of range [0, " + size + ")");
+        }
+        return recordOffsets != null ? recordOffsets[index] : offset + index * group.getFixedLength();
+    }
+
+    RecordGroup getGroup() {
+        return group;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    Charset getCharset() {
+        return charset;
+    }
+}
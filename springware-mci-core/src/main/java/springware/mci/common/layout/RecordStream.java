@@ -0,0 +1,106 @@
+package springware.mci.common.layout;
+
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 반복부 스트리밍 인코딩 값
+ *
+ * 도메인 객체 목록과 매퍼를 반복부 필드 값으로 설정하면, 인코딩 시 레코드마다 맵을 만들지 않고
+ * 매퍼가 출력 배열의 레코드 위치에 바로 기록한다.
+ * <pre>
+ * response.setField("records", RecordStream.of(transactions, (tx, record) -&gt; record
+ *         .set("txDate", tx.getTxDate())
+ *         .set("amount", tx.getAmount())));
+ * </pre>
+ * 로깅, JSON 변환 등 목록으로 조회하는 경우에는 조회한 레코드만 맵으로 변환하는 읽기 전용
+ * {@code List<Map<String, Object>>}로 동작한다.
+ *
+ * @param <T> 원본 항목 타입
+ */
+public final class RecordStream<T> extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+    /**
+     * 항목 1건을 레코드로 기록하는 매퍼
+     */
+    @FunctionalInterface
+    public interface RecordMapper<T> {
+
+        void map(T item, RecordWriter record);
+    }
+
+    private final List<? extends T> items;
+    private final RecordMapper<? super T> mapper;
+
+    private RecordStream(List<? extends T> items, RecordMapper<? super T> mapper) {
+        this.items = items;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 스트리밍 값 생성
+     *
+     * @param items  원본 항목 (인코딩 전까지 변경하지 않아야 함)
+     * @param mapper 항목 → 레코드 매퍼
+     */
+    public static <T> RecordStream<T> of(List<? extends T> items, RecordMapper<? super T> mapper) {
+        if (items == null || mapper == null) {
+            throw new IllegalArgumentException("Items and mapper must not be null");
+        }
+        return new RecordStream<>(items, mapper);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 항목 하나를 맵 레코드로 변환 (조회할 때마다 새로 생성)
+     */
+    @Override
+    public Map<String, Object> get(int index) {
+        MapWriter writer = new MapWriter();
+        mapper.map(items.get(index), writer);
+        return writer.record;
+    }
+
+    /**
+     * 레코드를 대상 배열에 순서대로 인코딩
+     *
+     * @param layout     레코드 레이아웃
+     * @param maxRecords 최대 레코드 수 (반복 건수)
+     * @param dst        대상 배열
+     * @param offset     첫 레코드 위치
+     * @param charset    문자셋
+     * @return 기록한 레코드 수
+     */
+    int encode(CompiledLayout layout, int maxRecords, byte[] dst, int offset, Charset charset) {
+        int count = Math.min(maxRecords, items.size());
+        CompiledLayout.RecordEncoder encoder = layout.recordEncoder(dst, charset);
+        for (int r = 0; r < count; r++) {
+            encoder.begin(offset + r * layout.getLength());
+            mapper.map(items.get(r), encoder);
+            encoder.finish();
+        }
+        return count;
+    }
+
+    /**
+     * 맵 레코드 쓰기
+     */
+    private static final class MapWriter implements RecordWriter {
+
+        private final Map<String, Object> record = new LinkedHashMap<>();
+
+        @Override
+        public RecordWriter set(String name, Object value) {
+            record.put(name, value);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package springware.mci.common.layout;
+
+/**
+ * 반복부 레코드 1건 쓰기
+ *
+ * {@link RecordStream}의 매퍼에 전달되며, 인코딩 시에는 출력 배열의 레코드 위치에 바로 기록한다.
+ * 설정하지 않은 필드는 맵 레코드에 키가 없을 때와 같이 기본값 또는 공백으로 채워진다.
+ */
+public interface RecordWriter {
+
+    /**
+     * 필드 값 설정 (레이아웃에 없는 필드는 무시)
+     *
+     * @param name  필드명
+     * @param value 값
+     * @return this
+     */
+    RecordWriter set(String name, Object value);
+}
@@ -0,0 +1,395 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 레이아웃 디렉토리를 감시하여 변경된 YAML을 재적용하는 레이아웃 관리자
+ *
+ * 레이아웃은 불변 스냅샷 맵 하나로 보관하고, 변경 시 새 스냅샷을 만들어 volatile 참조를
+ * 한 번에 교체한다. 따라서 조회는 volatile 읽기 한 번이며, 처리 중인 디코딩은 교체 전
+ * 레이아웃을 끝까지 사용한다. YAML 파싱과 레이아웃 컴파일은 감시 스레드에서 수행하고,
+ * 파싱에 실패한 파일은 이전 레이아웃을 그대로 유지한다.
+ * 감시 스레드와 reload() 호출의 로드~교체 과정은 서로 직렬화하여, 늦게 끝난 이전 내용의 로드가
+ * 새 내용을 덮어쓰지 않게 한다.
+ */
+@Slf4j
+public class ReloadableLayoutManager implements LayoutManager, AutoCloseable {
+
+    /**
+     * 기본 이벤트 묶음 대기 시간 (밀리초)
+     */
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private final Path directory;
+    private final long debounceMillis;
+    private final boolean runtimeCodecs;
+    private final YamlLayoutLoader loader;
+
+    /**
+     * 파일 로드~스냅샷 교체 직렬화 잠금 (감시 스레드와 reload() 호출 간)
+     */
+    private final Object reloadLock = new Object();
+
+    /**
+     * 스냅샷 교체 잠금 (조회는 잠그지 않는다)
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * 파일 → 해당 파일에서 로드한 레이아웃 ID (writeLock 보호)
+     */
+    private final Map<Path, String> fileLayouts = new HashMap<>();
+
+    /**
+     * 등록된 레이아웃 전용 코덱 (다시 로드한 레이아웃에도 연결)
+     */
+    private final Map<String, LayoutCodec> codecs = new ConcurrentHashMap<>();
+
+    private volatile Map<String, MessageLayout> layouts = Map.of();
+    private volatile long version;
+
+    private WatchService watchService;
+    private Thread watcher;
+    private volatile boolean running;
+
+    public ReloadableLayoutManager(Path directory) {
+        this(directory, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * @param directory      레이아웃 YAML 디렉토리
+     * @param debounceMillis 연속된 파일 이벤트를 한 번의 교체로 묶는 대기 시간
+     */
+    public ReloadableLayoutManager(Path directory, long debounceMillis) {
+        this(directory, debounceMillis, false);
+    }
+
+    /**
+     * @param directory      레이아웃 YAML 디렉토리
+     * @param debounceMillis 연속된 파일 이벤트를 한 번의 교체로 묶는 대기 시간
+     * @param runtimeCodecs  로드한 레이아웃마다 런타임 전용 코덱(히든 클래스)을 생성하여 연결할지 여부
+     */
+    public ReloadableLayoutManager(Path directory, long debounceMillis, boolean runtimeCodecs) {
+        this(directory, debounceMillis, runtimeCodecs, new YamlLayoutLoader());
+    }
+
+    ReloadableLayoutManager(Path directory, long debounceMillis, boolean runtimeCodecs, YamlLayoutLoader loader) {
+        if (directory == null) {
+            throw new IllegalArgumentException("Layout directory must not be null");
+        }
+        this.directory = directory.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.runtimeCodecs = runtimeCodecs;
+        this.loader = loader;
+    }
+
+    /**
+     * 디렉토리 전체를 로드하고 감시 스레드 시작
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        reload();
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new LayoutException("Failed to watch layout directory: " + directory, e);
+        }
+
+        running = true;
+        watcher = new Thread(this::watchLoop, "layout-watcher-" + directory.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching layout directory: {}", directory);
+    }
+
+    /**
+     * 감시 스레드 중지
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close layout watch service", e);
+        }
+        watcher.interrupt();
+        log.info("Stopped watching layout directory: {}", directory);
+    }
+
+    /**
+     * 디렉토리 전체를 다시 로드하여 스냅샷 교체
+     *
+     * 디렉토리에서 사라진 파일의 레이아웃은 제거하고, 직접 등록한 레이아웃은 유지한다.
+     * 로드에 실패한 파일은 이전 레이아웃을 유지한다.
+     *
+     * @return 로드된 레이아웃 수
+     */
+    public int reload() {
+        synchronized (reloadLock) {
+            Set<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(YamlLayoutLoader::isLayoutFile)
+                        .map(path -> path.toAbsolutePath().normalize())
+                        .collect(Collectors.toSet());
+            } catch (IOException e) {
+                throw new LayoutException("Failed to read layout directory: " + directory, e);
+            }
+
+            synchronized (writeLock) {
+                files.addAll(fileLayouts.keySet());
+            }
+            return apply(files);
+        }
+    }
+
+    /**
+     * 현재 스냅샷 버전 (교체될 때마다 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 현재 스냅샷의 레이아웃 ID 목록
+     */
+    public List<String> getLayoutIds() {
+        return layouts.keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * 감시 중인 디렉토리
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void registerLayout(MessageLayout layout) {
+        if (layout == null) {
+            throw new IllegalArgumentException("Layout must not be null");
+        }
+        attachCodec(layout);
+        synchronized (writeLock) {
+            Map<String, MessageLayout> next = new HashMap<>(layouts);
+            next.put(layout.getLayoutId(), layout);
+            publish(next);
+        }
+        log.debug("Registered layout: {} (fields: {}, length: {})",
+                layout.getLayoutId(), layout.getFields().size(), layout.getTotalLength());
+    }
+
+    /**
+     * 레이아웃 전용 코덱 등록
+     * 파일 변경으로 다시 로드된 레이아웃에도 시그니처가 같으면 계속 연결된다.
+     */
+    @Override
+    public boolean registerCodec(LayoutCodec codec) {
+        codecs.put(codec.getLayoutId(), codec);
+        MessageLayout layout = getLayout(codec.getLayoutId());
+        return layout != null && layout.useCodec(codec);
+    }
+
+    @Override
+    public MessageLayout getLayout(String layoutId) {
+        return layouts.get(layoutId);
+    }
+
+    @Override
+    public boolean hasLayout(String layoutId) {
+        return layouts.containsKey(layoutId);
+    }
+
+    @Override
+    public void removeLayout(String layoutId) {
+        synchronized (writeLock) {
+            Map<String, MessageLayout> next = new HashMap<>(layouts);
+            next.remove(layoutId);
+            fileLayouts.values().removeIf(layoutId::equals);
+            publish(next);
+        }
+        log.debug("Removed layout: {}", layoutId);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            fileLayouts.clear();
+            publish(Map.of());
+        }
+        log.debug("Cleared all layouts");
+    }
+
+    @Override
+    public int size() {
+        return layouts.size();
+    }
+
+    @Override
+    public byte[] encode(Message message, Charset charset) {
+        String layoutId = message.getMessageCode();
+        MessageLayout layout = getLayout(layoutId);
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + layoutId);
+        }
+        return layout.encode(message, charset);
+    }
+
+    @Override
+    public Message decode(String layoutId, byte[] data, Charset charset) {
+        MessageLayout layout = getLayout(layoutId);
+        if (layout == null) {
+            throw new LayoutException("Layout not found: " + layoutId);
+        }
+        return layout.decode(data, charset);
+    }
+
+    private void watchLoop() {
+        while (running) {
+            try {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new HashSet<>();
+                boolean overflow = collect(key, changed);
+
+                // 편집기 저장 등으로 이어지는 이벤트를 모아 한 번에 교체
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= collect(next, changed);
+                }
+
+                if (overflow) {
+                    reload();
+                } else if (!changed.isEmpty()) {
+                    synchronized (reloadLock) {
+                        apply(changed);
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            } catch (Exception e) {
+                log.error("Layout reload failed: {}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * 감시 키의 이벤트에서 변경된 레이아웃 파일 수집
+     *
+     * @return 이벤트 유실(OVERFLOW) 여부
+     */
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                overflow = true;
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (YamlLayoutLoader.isLayoutFile(file)) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+        return overflow;
+    }
+
+    /**
+     * 변경된 파일을 컴파일한 뒤 새 스냅샷으로 교체 (reloadLock 안에서 호출)
+     *
+     * @return 로드된 레이아웃 수
+     */
+    private int apply(Set<Path> files) {
+        // 컴파일은 writeLock 밖에서 수행 (실패한 파일은 결과에서 빠져 이전 레이아웃 유지)
+        Map<Path, MessageLayout> loaded = new LinkedHashMap<>();
+        Set<Path> deleted = new HashSet<>();
+        for (Path file : files) {
+            if (!Files.exists(file)) {
+                deleted.add(file);
+                continue;
+            }
+            try {
+                MessageLayout layout = loader.load(file);
+                attachCodec(layout);
+                loaded.put(file, layout);
+            } catch (Exception e) {
+                log.warn("Failed to reload layout, keeping previous version: {}", file, e);
+            }
+        }
+
+        if (loaded.isEmpty() && deleted.isEmpty()) {
+            return 0;
+        }
+
+        synchronized (writeLock) {
+            Map<String, MessageLayout> next = new HashMap<>(layouts);
+            for (Path file : deleted) {
+                String layoutId = fileLayouts.remove(file);
+                if (layoutId != null) {
+                    next.remove(layoutId);
+                    log.info("Removed layout {} (file deleted: {})", layoutId, file.getFileName());
+                }
+            }
+            loaded.forEach((file, layout) -> {
+                String previousId = fileLayouts.put(file, layout.getLayoutId());
+                if (previousId != null && !previousId.equals(layout.getLayoutId())) {
+                    next.remove(previousId);
+                }
+                next.put(layout.getLayoutId(), layout);
+            });
+            publish(next);
+        }
+
+        log.info("Layout snapshot swapped (version: {}, loaded: {}, removed: {}, total: {})",
+                version, loaded.size(), deleted.size(), layouts.size());
+        return loaded.size();
+    }
+
+    private void attachCodec(MessageLayout layout) {
+        LayoutCodec codec = codecs.get(layout.getLayoutId());
+        if (codec != null && layout.useCodec(codec)) {
+            return;
+        }
+        if (runtimeCodecs && layout.getCodec() == null) {
+            RuntimeLayoutCodecs.attachAsync(layout);
+        }
+    }
+
+    /**
+     * 새 불변 스냅샷 공개 (writeLock 안에서 호출)
+     */
+    private void publish(Map<String, MessageLayout> next) {
+        layouts = Map.copyOf(next);
+        version++;
+    }
+}
@@ -0,0 +1,246 @@
+package springware.mci.common.layout;
+
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.exception.LayoutException;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 런타임 레이아웃 전용 코덱 생성기
+ *
+ * 빌드 단계 없이 레이아웃을 등록하는 시점에 {@link LayoutCodecGenerator}의 코덱 소스를 메모리에서
+ * 컴파일하고, {@link MethodHandles.Lookup#defineHiddenClass}로 히든 클래스로 정의한다.
+ * 히든 클래스는 이름으로 참조되지 않으므로 레이아웃을 다시 로드하면 이전 코덱과 함께 언로드된다.
+ *
+ * 컴파일은 전용 데몬 스레드에서 수행하며, 대기 중인 레이아웃을 모아 한 번에 컴파일한다.
+ * 코덱이 연결되기 전이나 생성에 실패한 경우(JRE 실행 환경 등)에는 기존 경로로 처리된다.
+ */
+@Slf4j
+public final class RuntimeLayoutCodecs {
+
+    private static final String PACKAGE = RuntimeLayoutCodecs.class.getPackageName();
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private static final LinkedBlockingQueue<Pending> PENDING = new LinkedBlockingQueue<>();
+
+    private static final ExecutorService COMPILER_THREAD = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "layout-codec-compiler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RuntimeLayoutCodecs() {
+    }
+
+    /**
+     * 런타임 컴파일 가능 여부 (JDK에서 실행 중인지)
+     */
+    public static boolean isAvailable() {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    /**
+     * 레이아웃 전용 코덱을 즉시 생성
+     *
+     * @param layout 레이아웃
+     * @return 히든 클래스 코덱
+     * @throws LayoutException 소스 생성/컴파일/클래스 정의 실패
+     */
+    public static LayoutCodec define(MessageLayout layout) {
+        return define(List.of(layout)).get(0);
+    }
+
+    /**
+     * 백그라운드에서 코덱을 생성하여 레이아웃에 연결
+     *
+     * 완료 전까지 레이아웃은 기존 경로로 처리되며, 실패하면 경고 로그만 남긴다.
+     * 이미 다른 코덱이 연결된 레이아웃에는 연결하지 않는다.
+     *
+     * @param layout 레이아웃
+     * @return 연결된 코덱 (실패 시 예외로 완료)
+     */
+    public static CompletableFuture<LayoutCodec> attachAsync(MessageLayout layout) {
+        Pending pending = new Pending(layout);
+        PENDING.add(pending);
+        COMPILER_THREAD.execute(RuntimeLayoutCodecs::drain);
+        return pending.future.whenComplete((codec, e) -> {
+            if (e != null) {
+                log.warn("Runtime codec generation failed, using interpreter for layout {}: {}",
+                        layout.getLayoutId(), e.getMessage());
+            } else if (layout.getCodec() == null) {
+                // 그 사이 빌드 시점 생성 코덱이 연결되었으면 그대로 둔다
+                layout.useCodec(codec);
+            }
+        });
+    }
+
+    /**
+     * 대기 중인 레이아웃을 모아 한 번에 컴파일
+     */
+    private static void drain() {
+        List<Pending> batch = new ArrayList<>();
+        PENDING.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<MessageLayout> layouts = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            layouts.add(pending.layout);
+        }
+        try {
+            List<LayoutCodec> codecs = define(layouts);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(codecs.get(i));
+            }
+            log.debug("Defined {} runtime layout codecs", codecs.size());
+        } catch (Exception e) {
+            for (Pending pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static List<LayoutCodec> define(List<MessageLayout> layouts) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new LayoutException("Java compiler not available (running on a JRE)");
+        }
+
+        List<JavaFileObject> sources = new ArrayList<>(layouts.size());
+        List<String> classNames = new ArrayList<>(layouts.size());
+        for (MessageLayout layout : layouts) {
+            String className = LayoutCodecGenerator.baseName(layout.getLayoutId()) + "RuntimeCodec"
+                    + SEQUENCE.incrementAndGet();
+            classNames.add(PACKAGE + "." + className);
+            sources.add(new SourceFile(PACKAGE + "." + className,
+                    LayoutCodecGenerator.generateCodec(layout, PACKAGE, className)));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Map<String, byte[]> classes;
+        try (StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8);
+             MemoryFileManager fileManager = new MemoryFileManager(standard)) {
+            List<String> options = List.of("-proc:none", "-g:none",
+                    "-classpath", System.getProperty("java.class.path"));
+            Boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, sources).call();
+            if (!Boolean.TRUE.equals(success)) {
+                throw new LayoutException("Runtime codec compilation failed: " + firstError(diagnostics));
+            }
+            classes = fileManager.classes;
+        } catch (IOException e) {
+            throw new LayoutException("Runtime codec compilation failed", e);
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<LayoutCodec> codecs = new ArrayList<>(layouts.size());
+        for (String className : classNames) {
+            byte[] bytes = classes.get(className);
+            if (bytes == null) {
+                throw new LayoutException("Runtime codec class not produced: " + className);
+            }
+            try {
+                Class<?> codecClass = lookup.defineHiddenClass(bytes, true).lookupClass();
+                codecs.add((LayoutCodec) codecClass.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new LayoutException("Failed to define runtime codec: " + className, e);
+            }
+        }
+        return codecs;
+    }
+
+    private static String firstError(DiagnosticCollector<JavaFileObject> diagnostics) {
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                return diagnostic.getMessage(null);
+            }
+        }
+        return "unknown error";
+    }
+
+    /**
+     * 컴파일 대기 레이아웃
+     */
+    private static final class Pending {
+
+        private final MessageLayout layout;
+        private final CompletableFuture<LayoutCodec> future = new CompletableFuture<>();
+
+        private Pending(MessageLayout layout) {
+            this.layout = layout;
+        }
+    }
+
+    /**
+     * 메모리 소스 파일
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        private SourceFile(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    /**
+     * 컴파일 결과 클래스를 메모리에 보관하는 파일 관리자
+     */
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        private MemoryFileManager(JavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind,
+                                                   FileObject sibling) {
+            return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension),
+                    kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return new ByteArrayOutputStream() {
+                        @Override
+                        public void close() {
+                            classes.put(className, toByteArray());
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
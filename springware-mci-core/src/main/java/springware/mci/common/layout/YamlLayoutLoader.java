@@ -84,7 +84,7 @@ public class YamlLayoutLoader {
 
         try {
             Files.walk(directory, 1)
-                    .filter(path -> path.toString().endsWith(".yaml") || path.toString().endsWith(".yml"))
+                    .filter(YamlLayoutLoader::isLayoutFile)
                     .forEach(path -> {
                         try {
                             layouts.add(load(path));
@@ -100,6 +100,14 @@ public class YamlLayoutLoader {
         return layouts;
     }
 
+    /**
+     * 레이아웃 YAML 파일 여부 (확장자 .yaml/.yml)
+     */
+    public static boolean isLayoutFile(Path path) {
+        String name = path.getFileName() != null ? path.getFileName().toString() : "";
+        return name.endsWith(".yaml") || name.endsWith(".yml");
+    }
+
     /**
      * 레이아웃 매니저에 로드 및 등록
      *
@@ -1,5 +1,6 @@
 package springware.mci.common.logging;
 
+import io.netty.buffer.ByteBuf;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.layout.MessageLayout;
@@ -68,12 +69,44 @@ public class AsyncMessageLogger implements MessageLogger {
         }
     }
 
+    @Override
+    public void logSend(Message message, MessageLayout layout, ByteBuf frame) {
+        // 1단계: 헤더는 동기 로깅 (즉시)
+        delegate.logHeader("SEND", message, frame);
+
+        // 2단계: 상세는 비동기 로깅
+        if (delegate.getLogLevel().isEnabled(LogLevel.DETAIL_MASKED)) {
+            logDetail("SEND", message, layout);
+        }
+    }
+
+    @Override
+    public void logReceive(Message message, MessageLayout layout, ByteBuf frame) {
+        // 1단계: 헤더는 동기 로깅 (즉시)
+        delegate.logHeader("RECV", message, frame);
+
+        // 2단계: 상세는 비동기 로깅
+        if (delegate.getLogLevel().isEnabled(LogLevel.DETAIL_MASKED)) {
+            logDetail("RECV", message, layout);
+        }
+    }
+
     @Override
     public void logHeader(String direction, Message message, byte[] rawData) {
         // 헤더는 항상 동기 로깅
         delegate.logHeader(direction, message, rawData);
     }
 
+    @Override
+    public void logHeader(String direction, Message message, ByteBuf frame) {
+        delegate.logHeader(direction, message, frame);
+    }
+
+    @Override
+    public boolean isRawDataRequired() {
+        return delegate.isRawDataRequired();
+    }
+
     @Override
     public void logDetail(String direction, Message message, MessageLayout layout) {
         // 상세는 비동기 로깅
@@ -1,5 +1,6 @@
 package springware.mci.common.logging;
 
+import io.netty.buffer.ByteBuf;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,14 +66,51 @@ public class DefaultMessageLogger implements MessageLogger {
         }
     }
 
+    @Override
+    public void logSend(Message message, MessageLayout layout, ByteBuf frame) {
+        if (logLevel == LogLevel.NONE) {
+            return;
+        }
+
+        logHeader("SEND", message, frame);
+
+        if (logLevel.isEnabled(LogLevel.DETAIL_MASKED)) {
+            logDetail("SEND", message, layout);
+        }
+    }
+
+    @Override
+    public void logReceive(Message message, MessageLayout layout, ByteBuf frame) {
+        if (logLevel == LogLevel.NONE) {
+            return;
+        }
+
+        logHeader("RECV", message, frame);
+
+        if (logLevel.isEnabled(LogLevel.DETAIL_MASKED)) {
+            logDetail("RECV", message, layout);
+        }
+    }
+
     @Override
     public void logHeader(String direction, Message message, byte[] rawData) {
+        logHeader(direction, message, rawData != null ? rawData.length : 0);
+    }
+
+    @Override
+    public void logHeader(String direction, Message message, ByteBuf frame) {
+        logHeader(direction, message, frame != null ? frame.readableBytes() : 0);
+    }
+
+    /**
+     * 헤더 로깅 (데이터 길이만 사용)
+     */
+    private void logHeader(String direction, Message message, int dataLength) {
         if (logLevel == LogLevel.NONE) {
             return;
         }
 
         String timestamp = LocalDateTime.now().format(TIME_FORMATTER);
-        int dataLength = rawData != null ? rawData.length : 0;
 
         messageLog.info("[{}] {} | MsgId={} | Code={} | Type={} | Len={}",
                 timestamp,
@@ -83,6 +121,14 @@ public class DefaultMessageLogger implements MessageLogger {
                 dataLength);
     }
 
+    /**
+     * 헤더 로깅에 데이터 길이만 사용하므로 원본 데이터 복사 불필요
+     */
+    @Override
+    public boolean isRawDataRequired() {
+        return false;
+    }
+
     @Override
     public void logDetail(String direction, Message message, MessageLayout layout) {
         if (!logLevel.isEnabled(LogLevel.DETAIL_MASKED)) {
@@ -1,5 +1,7 @@
 package springware.mci.common.logging;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import springware.mci.common.core.Message;
 import springware.mci.common.layout.MessageLayout;
 
@@ -17,6 +19,18 @@ public interface MessageLogger {
      */
     void logSend(Message message, MessageLayout layout, byte[] rawData);
 
+    /**
+     * 송신 메시지 로깅 (송신 프레임 버퍼)
+     * 기본 구현은 프레임을 복사하여 byte[] 버전에 위임한다.
+     *
+     * @param message  송신 메시지
+     * @param layout   메시지 레이아웃
+     * @param frame    송신 프레임 (readerIndex 변경 없음)
+     */
+    default void logSend(Message message, MessageLayout layout, ByteBuf frame) {
+        logSend(message, layout, ByteBufUtil.getBytes(frame));
+    }
+
     /**
      * 수신 메시지 로깅
      *
@@ -26,6 +40,18 @@ public interface MessageLogger {
      */
     void logReceive(Message message, MessageLayout layout, byte[] rawData);
 
+    /**
+     * 수신 메시지 로깅 (수신 프레임 버퍼)
+     * 기본 구현은 프레임을 복사하여 byte[] 버전에 위임한다.
+     *
+     * @param message  수신 메시지
+     * @param layout   메시지 레이아웃
+     * @param frame    수신 프레임 (readerIndex 변경 없음)
+     */
+    default void logReceive(Message message, MessageLayout layout, ByteBuf frame) {
+        logReceive(message, layout, ByteBufUtil.getBytes(frame));
+    }
+
     /**
      * 헤더 로깅 (1단계)
      *
@@ -35,6 +61,27 @@ public interface MessageLogger {
      */
     void logHeader(String direction, Message message, byte[] rawData);
 
+    /**
+     * 헤더 로깅 (1단계, 수신 프레임 버퍼)
+     *
+     * @param direction 방향 (SEND/RECV)
+     * @param message   메시지
+     * @param frame     원본 프레임 (readerIndex 변경 없음)
+     */
+    default void logHeader(String direction, Message message, ByteBuf frame) {
+        logHeader(direction, message, ByteBufUtil.getBytes(frame));
+    }
+
+    /**
+     * 원본 바이트 데이터 필요 여부
+     * false이면 수신 측은 프레임을 byte[]로 복사하지 않고 Message.rawData도 설정하지 않는다.
+     *
+     * @return 원본 데이터 필요 여부
+     */
+    default boolean isRawDataRequired() {
+        return true;
+    }
+
     /**
      * 상세 로깅 (2단계, 마스킹 적용)
      *
@@ -0,0 +1,152 @@
+package springware.mci.common.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 히스토그램 기반 메트릭 기록기
+ *
+ * 메시지 코드/구간마다 HdrHistogram ConcurrentHistogram(유효숫자 2자리, 자동 확장)에
+ * 나노초 단위로 기록한다. 기록은 wait-free이고, 스냅샷은 복사본에서 계산하므로
+ * 기록 스레드를 막지 않는다.
+ */
+public class DefaultMciMetrics implements MciMetrics {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final MetricStage[] STAGES = MetricStage.values();
+
+    private final String name;
+    private final Map<String, CodeMetrics> codes = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    public DefaultMciMetrics(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void record(String messageCode, MetricStage stage, long nanos) {
+        codeMetrics(messageCode).histograms[stage.ordinal()].recordValue(Math.max(nanos, 0L));
+    }
+
+    @Override
+    public void recordError(String messageCode, MetricStage stage) {
+        codeMetrics(messageCode).errors[stage.ordinal()].increment();
+    }
+
+    /**
+     * 같은 이름으로 다시 등록하면 교체한다.
+     */
+    @Override
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    @Override
+    public void incrementInFlight() {
+        int current = inFlight.incrementAndGet();
+        if (current > peakInFlight.get()) {
+            peakInFlight.accumulateAndGet(current, Math::max);
+        }
+    }
+
+    @Override
+    public void decrementInFlight() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 현재 처리 중 요청 수
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 스냅샷 (기록이 있는 메시지 코드/구간만 포함, 메시지 코드 순 정렬)
+     */
+    public MetricsSnapshot snapshot() {
+        Map<String, Map<MetricStage, MetricsSnapshot.StageSnapshot>> messages = new TreeMap<>();
+        codes.forEach((code, metrics) -> {
+            Map<MetricStage, MetricsSnapshot.StageSnapshot> stages = new EnumMap<>(MetricStage.class);
+            for (MetricStage stage : STAGES) {
+                MetricsSnapshot.StageSnapshot snapshot = metrics.snapshot(stage);
+                if (snapshot != null) {
+                    stages.put(stage, snapshot);
+                }
+            }
+            if (!stages.isEmpty()) {
+                messages.put(code, stages);
+            }
+        });
+
+        Map<String, Long> gaugeValues = new TreeMap<>();
+        gauges.forEach((gauge, value) -> gaugeValues.put(gauge, value.getAsLong()));
+
+        return MetricsSnapshot.builder()
+                .name(name)
+                .inFlight(inFlight.get())
+                .peakInFlight(peakInFlight.get())
+                .messages(messages)
+                .gauges(gaugeValues)
+                .build();
+    }
+
+    private CodeMetrics codeMetrics(String messageCode) {
+        String code = messageCode != null ? messageCode : UNKNOWN_MESSAGE_CODE;
+        CodeMetrics metrics = codes.get(code);
+        return metrics != null ? metrics : codes.computeIfAbsent(code, c -> new CodeMetrics());
+    }
+
+    /**
+     * 메시지 코드 하나의 구간별 히스토그램과 오류 건수
+     */
+    private static final class CodeMetrics {
+
+        private final ConcurrentHistogram[] histograms = new ConcurrentHistogram[STAGES.length];
+        private final LongAdder[] errors = new LongAdder[STAGES.length];
+
+        private CodeMetrics() {
+            for (int i = 0; i < STAGES.length; i++) {
+                histograms[i] = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+                errors[i] = new LongAdder();
+            }
+        }
+
+        private MetricsSnapshot.StageSnapshot snapshot(MetricStage stage) {
+            Histogram histogram = histograms[stage.ordinal()].copy();
+            long errorCount = errors[stage.ordinal()].sum();
+            if (histogram.getTotalCount() == 0 && errorCount == 0) {
+                return null;
+            }
+
+            return MetricsSnapshot.StageSnapshot.builder()
+                    .count(histogram.getTotalCount())
+                    .errors(errorCount)
+                    .mean(toMicros(histogram.getMean()))
+                    .p50(toMicros(histogram.getValueAtPercentile(50.0)))
+                    .p90(toMicros(histogram.getValueAtPercentile(90.0)))
+                    .p99(toMicros(histogram.getValueAtPercentile(99.0)))
+                    .p999(toMicros(histogram.getValueAtPercentile(99.9)))
+                    .max(toMicros(histogram.getMaxValue()))
+                    .build();
+        }
+
+        private static double toMicros(double nanos) {
+            return Math.round(nanos) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package springware.mci.common.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 히스토그램 메트릭 레지스트리
+ *
+ * 여러 서버/클라이언트가 하나의 레지스트리를 공유하면 HTTP 서버 헬스 체크 응답에
+ * 모두의 스냅샷이 함께 노출된다.
+ */
+public class DefaultMetricsRegistry implements MetricsRegistry {
+
+    private final Map<String, DefaultMciMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public DefaultMciMetrics metrics(String name) {
+        return metrics.computeIfAbsent(name, DefaultMciMetrics::new);
+    }
+
+    @Override
+    public Map<String, MetricsSnapshot> snapshot() {
+        Map<String, MetricsSnapshot> snapshots = new TreeMap<>();
+        metrics.forEach((name, m) -> snapshots.put(name, m.snapshot()));
+        return snapshots;
+    }
+}
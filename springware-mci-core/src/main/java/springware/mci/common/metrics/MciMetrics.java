@@ -0,0 +1,123 @@
+package springware.mci.common.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 서버/클라이언트 하나의 메트릭 기록 인터페이스
+ *
+ * 이벤트 루프와 업무 스레드에서 메시지마다 호출되므로 구현은 잠금 없이 기록해야 한다.
+ * 측정 시각은 {@link #now()}로 얻는다. 메트릭을 끈 경우 {@link #NOOP}이 시각 조회까지 생략한다.
+ */
+public interface MciMetrics {
+
+    /**
+     * 메시지 코드를 알 수 없는 오류(디코딩 실패 등)를 기록할 때 사용하는 코드
+     */
+    String UNKNOWN_MESSAGE_CODE = "UNKNOWN";
+
+    /**
+     * 아무것도 기록하지 않는 메트릭 (기본값)
+     */
+    MciMetrics NOOP = new MciMetrics() {
+        @Override
+        public long now() {
+            return 0L;
+        }
+
+        @Override
+        public void record(String messageCode, MetricStage stage, long nanos) {
+        }
+
+        @Override
+        public void recordError(String messageCode, MetricStage stage) {
+        }
+
+        @Override
+        public void incrementInFlight() {
+        }
+
+        @Override
+        public void decrementInFlight() {
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * 측정 기준 시각 (나노초)
+     */
+    default long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 구간 지연시간 기록
+     *
+     * @param messageCode 메시지 코드
+     * @param stage       측정 구간
+     * @param nanos       소요 시간 (나노초)
+     */
+    void record(String messageCode, MetricStage stage, long nanos);
+
+    /**
+     * 구간 오류 기록
+     */
+    void recordError(String messageCode, MetricStage stage);
+
+    /**
+     * 처리 중 요청 수 증가
+     */
+    void incrementInFlight();
+
+    /**
+     * 처리 중 요청 수 감소
+     */
+    void decrementInFlight();
+
+    /**
+     * 요청 처리 시작 (처리 중 요청 수 증가)
+     *
+     * @return 종단 간 지연시간 측정 시작 시각
+     */
+    default long requestStarted() {
+        incrementInFlight();
+        return now();
+    }
+
+    /**
+     * 요청 처리 완료 (처리 중 요청 수 감소, 종단 간 지연시간 또는 오류 기록)
+     *
+     * @param messageCode 메시지 코드
+     * @param startNanos  {@link #requestStarted()}가 반환한 시각
+     * @param success     성공 여부
+     */
+    default void requestCompleted(String messageCode, long startNanos, boolean success) {
+        decrementInFlight();
+        if (success) {
+            record(messageCode, MetricStage.END_TO_END, now() - startNanos);
+        } else {
+            recordError(messageCode, MetricStage.END_TO_END);
+        }
+    }
+
+    /**
+     * 값 게이지 등록 (조회 시점에 값을 읽음)
+     *
+     * 연결 풀 크기처럼 기록 시점이 아닌 현재 상태를 노출할 때 사용한다. 기본 구현은 무시한다.
+     *
+     * @param name  게이지 이름 (예: pool.targetSize)
+     * @param value 현재 값 조회 함수
+     */
+    default void gauge(String name, LongSupplier value) {
+    }
+
+    /**
+     * 실제로 기록하는지 여부
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
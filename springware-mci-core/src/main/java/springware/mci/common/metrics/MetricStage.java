@@ -0,0 +1,51 @@
+package springware.mci.common.metrics;
+
+/**
+ * 지연시간 측정 구간
+ */
+public enum MetricStage {
+
+    /**
+     * 프레임(또는 JSON 본문) → Message 디코딩
+     */
+    DECODE("decode"),
+
+    /**
+     * 서버 업무 핸들러 실행
+     */
+    HANDLE("handle"),
+
+    /**
+     * Message → 프레임(또는 JSON 본문) 인코딩
+     */
+    ENCODE("encode"),
+
+    /**
+     * 서버: 요청 디코딩 완료부터 응답 기록 완료까지
+     * 클라이언트: 요청 전송 시작부터 응답 수신(또는 실패)까지
+     */
+    END_TO_END("endToEnd"),
+
+    /**
+     * 클라이언트 연결 풀: 연결 획득 대기 (획득 실패는 오류로 기록)
+     */
+    POOL_ACQUIRE("poolAcquire"),
+
+    /**
+     * 클라이언트 연결 풀: 새 연결 생성 (생성 실패는 오류로 기록)
+     */
+    POOL_CREATE("poolCreate");
+
+    private final String key;
+
+    MetricStage(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 스냅샷/태그에 사용하는 키
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,28 @@
+package springware.mci.common.metrics;
+
+import java.util.Map;
+
+/**
+ * 메트릭 레지스트리
+ *
+ * 서버/클라이언트는 생성 시 자신의 ID로 {@link #metrics(String)}를 한 번 호출하여 기록기를 얻는다.
+ * 내장 구현은 메모리 히스토그램({@link DefaultMetricsRegistry})과
+ * Micrometer 어댑터({@link MicrometerMetricsRegistry})가 있다.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * 이름에 해당하는 메트릭 기록기 조회 (없으면 생성)
+     *
+     * @param name 서버/클라이언트 ID
+     */
+    MciMetrics metrics(String name);
+
+    /**
+     * 이름별 현재 메트릭 스냅샷 (HTTP 헬스 체크 응답 등에 사용)
+     * 스냅샷을 지원하지 않는 레지스트리는 빈 맵을 반환한다.
+     */
+    default Map<String, MetricsSnapshot> snapshot() {
+        return Map.of();
+    }
+}
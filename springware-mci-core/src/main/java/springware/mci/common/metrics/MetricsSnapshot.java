@@ -0,0 +1,110 @@
+package springware.mci.common.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서버/클라이언트 하나의 메트릭 스냅샷
+ *
+ * 지연시간은 마이크로초 단위이며, {@link #toMap()}은 JSON 직렬화용 중첩 맵을 만든다.
+ */
+@Getter
+@Builder
+public class MetricsSnapshot {
+
+    /**
+     * 서버/클라이언트 ID
+     */
+    private final String name;
+
+    /**
+     * 현재 처리 중 요청 수
+     */
+    private final int inFlight;
+
+    /**
+     * 최대 처리 중 요청 수
+     */
+    private final int peakInFlight;
+
+    /**
+     * 메시지 코드 → 측정 구간 → 구간 통계
+     */
+    private final Map<String, Map<MetricStage, StageSnapshot>> messages;
+
+    /**
+     * 게이지 이름 → 스냅샷 시점 값
+     */
+    @Builder.Default
+    private final Map<String, Long> gauges = Map.of();
+
+    /**
+     * 메시지 코드/구간 통계 조회 (기록이 없으면 null)
+     */
+    public StageSnapshot get(String messageCode, MetricStage stage) {
+        Map<MetricStage, StageSnapshot> stages = messages.get(messageCode);
+        return stages != null ? stages.get(stage) : null;
+    }
+
+    /**
+     * JSON 직렬화용 맵 변환
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> codes = new LinkedHashMap<>();
+        messages.forEach((code, stages) -> {
+            Map<String, Object> stageMap = new LinkedHashMap<>();
+            stages.forEach((stage, snapshot) -> stageMap.put(stage.getKey(), snapshot.toMap()));
+            codes.put(code, stageMap);
+        });
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("inFlight", inFlight);
+        map.put("peakInFlight", peakInFlight);
+        map.put("messages", codes);
+        if (!gauges.isEmpty()) {
+            map.put("gauges", gauges);
+        }
+        return map;
+    }
+
+    /**
+     * 측정 구간 통계 (지연시간 단위: 마이크로초)
+     */
+    @Getter
+    @Builder
+    public static class StageSnapshot {
+
+        /**
+         * 기록 건수
+         */
+        private final long count;
+
+        /**
+         * 오류 건수
+         */
+        private final long errors;
+
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", count);
+            map.put("errors", errors);
+            map.put("meanUs", mean);
+            map.put("p50Us", p50);
+            map.put("p90Us", p90);
+            map.put("p99Us", p99);
+            map.put("p999Us", p999);
+            map.put("maxUs", max);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package springware.mci.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Micrometer 어댑터 메트릭 레지스트리
+ *
+ * 다음 미터를 등록한다 (component 태그는 서버/클라이언트 ID).
+ * <ul>
+ *   <li>mci.latency (Timer): component, messageCode, stage</li>
+ *   <li>mci.errors (Counter): component, messageCode, stage</li>
+ *   <li>mci.inflight (Gauge): component</li>
+ *   <li>mci.gauge (Gauge): component, name ({@link MciMetrics#gauge}로 등록한 값)</li>
+ * </ul>
+ * 백분위 히스토그램 공개 여부 등은 MeterRegistry의 MeterFilter로 설정한다.
+ * micrometer-core는 선택 의존성이므로 이 클래스를 사용하는 쪽에서 추가해야 한다.
+ */
+public class MicrometerMetricsRegistry implements MetricsRegistry {
+
+    public static final String LATENCY = "mci.latency";
+    public static final String ERRORS = "mci.errors";
+    public static final String IN_FLIGHT = "mci.inflight";
+    public static final String GAUGE = "mci.gauge";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, MciMetrics> metrics = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public MciMetrics metrics(String name) {
+        return metrics.computeIfAbsent(name, MicrometerMciMetrics::new);
+    }
+
+    /**
+     * 대상 MeterRegistry
+     */
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    private class MicrometerMciMetrics implements MciMetrics {
+
+        private final String component;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<String, CodeMeters> codes = new ConcurrentHashMap<>();
+
+        private MicrometerMciMetrics(String component) {
+            this.component = component;
+            Gauge.builder(IN_FLIGHT, inFlight, AtomicInteger::get)
+                    .description("MCI requests in flight")
+                    .tag("component", component)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void record(String messageCode, MetricStage stage, long nanos) {
+            codeMeters(messageCode).timer(stage).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void recordError(String messageCode, MetricStage stage) {
+            codeMeters(messageCode).counter(stage).increment();
+        }
+
+        /**
+         * 같은 이름/태그의 게이지는 한 번만 등록되므로 처음 등록한 조회 함수가 유지된다.
+         */
+        @Override
+        public void gauge(String name, LongSupplier value) {
+            Gauge.builder(GAUGE, value, LongSupplier::getAsLong)
+                    .description("MCI component state")
+                    .tags("component", component, "name", name)
+                    .strongReference(true)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public void incrementInFlight() {
+            inFlight.incrementAndGet();
+        }
+
+        @Override
+        public void decrementInFlight() {
+            inFlight.decrementAndGet();
+        }
+
+        private CodeMeters codeMeters(String messageCode) {
+            String code = messageCode != null ? messageCode : UNKNOWN_MESSAGE_CODE;
+            CodeMeters meters = codes.get(code);
+            return meters != null ? meters : codes.computeIfAbsent(code, CodeMeters::new);
+        }
+
+        /**
+         * 메시지 코드 하나의 구간별 미터 (처음 사용할 때 등록)
+         */
+        private class CodeMeters {
+
+            private final String messageCode;
+            private final AtomicReferenceArray<Timer> timers = new AtomicReferenceArray<>(MetricStage.values().length);
+            private final AtomicReferenceArray<Counter> counters = new AtomicReferenceArray<>(MetricStage.values().length);
+
+            private CodeMeters(String messageCode) {
+                this.messageCode = messageCode;
+            }
+
+            private Timer timer(MetricStage stage) {
+                Timer timer = timers.get(stage.ordinal());
+                if (timer == null) {
+                    // 같은 이름/태그로 다시 등록하면 기존 미터가 반환되므로 경합해도 안전하다
+                    timer = Timer.builder(LATENCY)
+                            .description("MCI message latency by stage")
+                            .tags("component", component, "messageCode", messageCode, "stage", stage.getKey())
+                            .register(meterRegistry);
+                    timers.set(stage.ordinal(), timer);
+                }
+                return timer;
+            }
+
+            private Counter counter(MetricStage stage) {
+                Counter counter = counters.get(stage.ordinal());
+                if (counter == null) {
+                    counter = Counter.builder(ERRORS)
+                            .description("MCI message errors by stage")
+                            .tags("component", component, "messageCode", messageCode, "stage", stage.getKey())
+                            .register(meterRegistry);
+                    counters.set(stage.ordinal(), counter);
+                }
+                return counter;
+            }
+        }
+    }
+}
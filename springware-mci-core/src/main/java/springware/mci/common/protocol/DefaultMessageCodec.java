@@ -1,5 +1,7 @@
 package springware.mci.common.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
@@ -18,10 +20,27 @@ public class DefaultMessageCodec implements MessageCodec {
 
     private final ProtocolConfig config;
     private final LayoutManager layoutManager;
+    private final Charset charset;
+    private final boolean lazyDecode;
+    private final FrameEncoder frameEncoder;
 
     public DefaultMessageCodec(ProtocolConfig config, LayoutManager layoutManager) {
+        this(config, layoutManager, config.getCharset(), false);
+    }
+
+    /**
+     * @param config        프로토콜 설정
+     * @param layoutManager 레이아웃 관리자
+     * @param charset       본문 문자셋 (서버/클라이언트 설정의 문자셋)
+     * @param lazyDecode    프레임 디코딩 시 지연 디코딩 사용 여부
+     */
+    public DefaultMessageCodec(ProtocolConfig config, LayoutManager layoutManager,
+                               Charset charset, boolean lazyDecode) {
         this.config = config;
         this.layoutManager = layoutManager;
+        this.charset = charset;
+        this.lazyDecode = lazyDecode;
+        this.frameEncoder = new FrameEncoder(config, charset);
     }
 
     @Override
@@ -33,18 +52,8 @@ public class DefaultMessageCodec implements MessageCodec {
                 throw new ProtocolException("Layout not found: " + message.getMessageCode());
             }
 
-            // 레이아웃을 사용하여 바디 인코딩
-            byte[] body = layout.encode(message, config.getCharset());
-
-            // 길이 필드 생성
-            byte[] lengthField = encodeLengthField(body.length);
-
-            // 최종 메시지 조합
-            byte[] result = new byte[lengthField.length + body.length];
-            System.arraycopy(lengthField, 0, result, 0, lengthField.length);
-            System.arraycopy(body, 0, result, lengthField.length, body.length);
-
-            return result;
+            // 길이 필드와 바디를 하나의 배열에 바로 인코딩
+            return frameEncoder.encode(message, layout);
         } catch (ProtocolException e) {
             throw e;
         } catch (Exception e) {
@@ -52,12 +61,28 @@ public class DefaultMessageCodec implements MessageCodec {
         }
     }
 
+    /**
+     * 메시지를 할당자의 다이렉트 버퍼에 인코딩 (길이 필드 포함)
+     *
+     * @param message   인코딩할 메시지
+     * @param allocator 버퍼 할당자
+     * @return 인코딩된 프레임 (호출자가 해제 또는 전송)
+     */
+    @Override
+    public ByteBuf encode(Message message, ByteBufAllocator allocator) {
+        MessageLayout layout = layoutManager.getLayout(message.getMessageCode());
+        if (layout == null) {
+            throw new ProtocolException("Layout not found: " + message.getMessageCode());
+        }
+        return frameEncoder.encode(message, layout, allocator);
+    }
+
     @Override
     public Message decode(byte[] data) {
         try {
             // 길이 필드 파싱
             int bodyLength = decodeLengthField(data);
-            int bodyOffset = config.getLengthFieldOffset() + config.getLengthFieldLength();
+            int bodyOffset = config.getLengthFieldOffset() + frameEncoder.getLengthFieldLength();
 
             // 바디 추출
             byte[] body = new byte[bodyLength];
@@ -84,34 +109,41 @@ public class DefaultMessageCodec implements MessageCodec {
         }
     }
 
+    /**
+     * 프레임 디코더가 분리한 프레임을 메시지로 디코딩
+     *
+     * 본문은 복사 없이 슬라이스로 디코딩한다.
+     * 레이아웃이 없는 메시지 코드는 오류 대신 메시지 코드만 가진 메시지로 반환하여
+     * 핸들러 조회와 송신 순서 기준 응답 매칭이 유지되도록 한다.
+     */
     @Override
-    public ProtocolConfig getConfig() {
-        return config;
+    public Message decode(ByteBuf frame) {
+        int bodyOffset = getBodyOffset();
+        int frameLength = frame.readableBytes();
+        if (bodyOffset > frameLength) {
+            throw new ProtocolException("Frame shorter than header: " + frameLength + " bytes");
+        }
+        ByteBuf body = bodyOffset > 0
+                ? frame.slice(frame.readerIndex() + bodyOffset, frameLength - bodyOffset)
+                : frame;
+
+        String messageCode = extractMessageCode(body);
+        MessageLayout layout = layoutManager.getLayout(messageCode);
+        if (layout == null) {
+            log.warn("Layout not found for message code: {}", messageCode);
+            return Message.builder().messageCode(messageCode).build();
+        }
+        return lazyDecode ? layout.decodeLazy(body, charset) : layout.decode(body, charset);
     }
 
-    /**
-     * 길이 필드 인코딩
-     */
-    private byte[] encodeLengthField(int length) {
-        int fieldLength = config.getLengthFieldLength();
-        int valueToEncode = config.isLengthIncludesHeader()
-                ? length + fieldLength
-                : length;
-        valueToEncode += config.getLengthAdjustment();
+    @Override
+    public MessageLayout getLayout(String messageCode) {
+        return layoutManager.getLayout(messageCode);
+    }
 
-        switch (config.getLengthFieldType()) {
-            case NUMERIC_STRING:
-                return encodeNumericString(valueToEncode, fieldLength, config.getCharset());
-            case BINARY_BIG_ENDIAN:
-                return encodeBinaryBigEndian(valueToEncode, fieldLength);
-            case BINARY_LITTLE_ENDIAN:
-                return encodeBinaryLittleEndian(valueToEncode, fieldLength);
-            case BCD:
-                return encodeBcd(valueToEncode, fieldLength);
-            case NONE:
-            default:
-                return new byte[0];
-        }
+    @Override
+    public ProtocolConfig getConfig() {
+        return config;
     }
 
     /**
@@ -152,54 +184,45 @@ public class DefaultMessageCodec implements MessageCodec {
         return bodyLength;
     }
 
+    /**
+     * 프레임 내 본문 시작 위치 (initialBytesToStrip으로 이미 제거된 바이트 반영)
+     */
+    private int getBodyOffset() {
+        if (config.getLengthFieldType() == LengthFieldType.NONE) {
+            return 0;
+        }
+        int offset = config.getLengthFieldOffset() + config.getLengthFieldLength() - config.getInitialBytesToStrip();
+        return Math.max(0, offset);
+    }
+
     /**
      * 메시지 코드 추출 (헤더 레이아웃 사용)
      */
-    private String extractMessageCode(byte[] body) {
+    private String extractMessageCode(ByteBuf body) {
         if (config.getHeaderLayoutId() != null) {
             MessageLayout headerLayout = layoutManager.getLayout(config.getHeaderLayoutId());
             if (headerLayout != null && config.getBodyLayoutField() != null) {
-                Message headerMsg = headerLayout.decode(body, config.getCharset());
+                Message headerMsg = headerLayout.decode(body, charset);
                 return headerMsg.getString(config.getBodyLayoutField());
             }
         }
         // 기본: 처음 4바이트를 메시지 코드로 사용
-        return new String(body, 0, Math.min(4, body.length), config.getCharset()).trim();
-    }
-
-    // 인코딩 헬퍼 메서드들
-    private byte[] encodeNumericString(int value, int length, Charset charset) {
-        String formatted = String.format("%0" + length + "d", value);
-        return formatted.getBytes(charset);
-    }
-
-    private byte[] encodeBinaryBigEndian(int value, int length) {
-        byte[] result = new byte[length];
-        for (int i = length - 1; i >= 0; i--) {
-            result[i] = (byte) (value & 0xFF);
-            value >>= 8;
-        }
-        return result;
+        return body.toString(body.readerIndex(), Math.min(4, body.readableBytes()), charset).trim();
     }
 
-    private byte[] encodeBinaryLittleEndian(int value, int length) {
-        byte[] result = new byte[length];
-        for (int i = 0; i < length; i++) {
-            result[i] = (byte) (value & 0xFF);
-            value >>= 8;
-        }
-        return result;
-    }
-
-    private byte[] encodeBcd(int value, int length) {
-        byte[] result = new byte[length];
-        String str = String.format("%0" + (length * 2) + "d", value);
-        for (int i = 0; i < length; i++) {
-            int high = str.charAt(i * 2) - '0';
-            int low = str.charAt(i * 2 + 1) - '0';
-            result[i] = (byte) ((high << 4) | low);
+    /**
+     * 메시지 코드 추출 (헤더 레이아웃 사용)
+     */
+    private String extractMessageCode(byte[] body) {
+        if (config.getHeaderLayoutId() != null) {
+            MessageLayout headerLayout = layoutManager.getLayout(config.getHeaderLayoutId());
+            if (headerLayout != null && config.getBodyLayoutField() != null) {
+                Message headerMsg = headerLayout.decode(body, config.getCharset());
+                return headerMsg.getString(config.getBodyLayoutField());
+            }
         }
-        return result;
+        // 기본: 처음 4바이트를 메시지 코드로 사용
+        return new String(body, 0, Math.min(4, body.length), config.getCharset()).trim();
     }
 
     // 디코딩 헬퍼 메서드들
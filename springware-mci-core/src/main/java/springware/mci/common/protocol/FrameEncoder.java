@@ -0,0 +1,151 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.layout.MessageLayout;
+
+import java.nio.charset.Charset;
+
+/**
+ * 송신 프레임 인코더
+ *
+ * 길이 필드와 본문을 하나의 버퍼에 바로 기록한다.
+ * 본문 길이는 레이아웃에서 미리 계산하므로 중간 byte[]를 만들지 않고,
+ * 길이 필드는 본문 기록 후 같은 버퍼의 앞부분에 채운다.
+ */
+public class FrameEncoder {
+
+    private final ProtocolConfig config;
+    private final Charset charset;
+    private final int lengthFieldLength;
+
+    /**
+     * @param config  프로토콜 설정
+     * @param charset 본문 문자셋
+     */
+    public FrameEncoder(ProtocolConfig config, Charset charset) {
+        this.config = config;
+        this.charset = charset;
+        this.lengthFieldLength = config.getLengthFieldType() == LengthFieldType.NONE
+                ? 0 : config.getLengthFieldLength();
+    }
+
+    /**
+     * 길이 필드 없는 인코더 (UDP 데이터그램용)
+     */
+    public static FrameEncoder withoutLengthField(Charset charset) {
+        return new FrameEncoder(ProtocolConfig.noLengthField(), charset);
+    }
+
+    /**
+     * 메시지를 할당자의 다이렉트 버퍼에 프레임으로 인코딩
+     *
+     * @param message   인코딩할 메시지
+     * @param layout    메시지 레이아웃
+     * @param allocator 버퍼 할당자 (채널의 풀링 할당자)
+     * @return 인코딩된 프레임 (호출자가 해제 또는 전송)
+     */
+    public ByteBuf encode(Message message, MessageLayout layout, ByteBufAllocator allocator) {
+        int bodyLength = layout.getEncodedLength(message);
+        ByteBuf buf = allocator.directBuffer(lengthFieldLength + bodyLength);
+        try {
+            buf.writerIndex(lengthFieldLength);
+            layout.encode(message, buf, charset);
+            writeLengthField(buf, 0, buf.writerIndex() - lengthFieldLength);
+            return buf;
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 메시지를 배열 프레임으로 인코딩 (길이 필드 + 본문을 한 번에 할당)
+     *
+     * @param message 인코딩할 메시지
+     * @param layout  메시지 레이아웃
+     * @return 인코딩된 프레임
+     */
+    public byte[] encode(Message message, MessageLayout layout) {
+        int bodyLength = layout.getEncodedLength(message);
+        byte[] frame = new byte[lengthFieldLength + bodyLength];
+        layout.encode(message, frame, lengthFieldLength, charset);
+        writeLengthField(Unpooled.wrappedBuffer(frame), 0, bodyLength);
+        return frame;
+    }
+
+    /**
+     * 길이 필드 크기 (NONE이면 0)
+     */
+    public int getLengthFieldLength() {
+        return lengthFieldLength;
+    }
+
+    /**
+     * 버퍼의 지정 위치에 길이 필드 기록 (writerIndex 변경 없음)
+     *
+     * @param buf        대상 버퍼
+     * @param index      길이 필드 위치
+     * @param bodyLength 본문 길이
+     */
+    public void writeLengthField(ByteBuf buf, int index, int bodyLength) {
+        if (lengthFieldLength == 0) {
+            return;
+        }
+        int value = lengthValue(bodyLength);
+
+        switch (config.getLengthFieldType()) {
+            case NUMERIC_STRING:
+                for (int i = lengthFieldLength - 1; i >= 0; i--) {
+                    buf.setByte(index + i, '0' + value % 10);
+                    value /= 10;
+                }
+                break;
+            case BINARY_BIG_ENDIAN:
+                for (int i = lengthFieldLength - 1; i >= 0; i--) {
+                    buf.setByte(index + i, value & 0xFF);
+                    value >>= 8;
+                }
+                break;
+            case BINARY_LITTLE_ENDIAN:
+                for (int i = 0; i < lengthFieldLength; i++) {
+                    buf.setByte(index + i, value & 0xFF);
+                    value >>= 8;
+                }
+                break;
+            case BCD:
+                for (int i = lengthFieldLength - 1; i >= 0; i--) {
+                    int low = value % 10;
+                    value /= 10;
+                    int high = value % 10;
+                    value /= 10;
+                    buf.setByte(index + i, (high << 4) | low);
+                }
+                break;
+            default:
+                break;
+        }
+        checkOverflow(value);
+    }
+
+    /**
+     * 길이 필드에 기록할 값 (헤더 포함 여부와 보정값 반영)
+     */
+    private int lengthValue(int bodyLength) {
+        int value = bodyLength;
+        if (config.isLengthIncludesHeader()) {
+            value += lengthFieldLength;
+        }
+        return value + config.getLengthAdjustment();
+    }
+
+    private void checkOverflow(int remaining) {
+        if (remaining != 0) {
+            throw new ProtocolException("Frame length does not fit in " + lengthFieldLength
+                    + "-byte " + config.getLengthFieldType() + " length field");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultAddressedEnvelope;
+import io.netty.channel.socket.DatagramPacket;
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.core.Message;
+import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
+
+import java.net.InetSocketAddress;
+
+/**
+ * UDP 파이프라인 메시지 코덱
+ *
+ * 수신: DatagramPacket → AddressedEnvelope&lt;Message, InetSocketAddress&gt; (송신자 주소 유지)
+ * 송신: AddressedEnvelope&lt;Message, InetSocketAddress&gt; → DatagramPacket
+ *
+ * 데이터그램이 곧 프레임이므로 길이 필드 없는 코덱과 함께 사용한다.
+ */
+@Slf4j
+@ChannelHandler.Sharable
+public class MciDatagramCodec extends MciMessageCodec {
+
+    /**
+     * @param codec         메시지 코덱 (길이 필드 NONE)
+     * @param messageLogger 송수신 로거
+     */
+    public MciDatagramCodec(MessageCodec codec, MessageLogger messageLogger) {
+        super(codec, messageLogger);
+    }
+
+    /**
+     * @param codec         메시지 코덱 (길이 필드 NONE)
+     * @param messageLogger 송수신 로거
+     * @param metrics       디코딩/인코딩 메트릭
+     */
+    public MciDatagramCodec(MessageCodec codec, MessageLogger messageLogger, MciMetrics metrics) {
+        super(codec, messageLogger, metrics);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!(msg instanceof DatagramPacket)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        DatagramPacket packet = (DatagramPacket) msg;
+        Message message;
+        try {
+            message = decodeFrame(packet.content());
+        } catch (Exception e) {
+            metrics.recordError(MciMetrics.UNKNOWN_MESSAGE_CODE, MetricStage.DECODE);
+            log.error("Failed to decode UDP message from {}", packet.sender(), e);
+            return;
+        } finally {
+            packet.release();
+        }
+        ctx.fireChannelRead(new DefaultAddressedEnvelope<>(message, packet.recipient(), packet.sender()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof AddressedEnvelope) || !(((AddressedEnvelope<?, ?>) msg).content() instanceof Message)) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        AddressedEnvelope<Message, InetSocketAddress> envelope = (AddressedEnvelope<Message, InetSocketAddress>) msg;
+        Message message = envelope.content();
+        ByteBuf frame = encodeFrame(message, ctx, promise);
+        if (frame == null) {
+            return;
+        }
+        ctx.write(new DatagramPacket(frame, envelope.recipient(), envelope.sender()),
+                logOnSuccess(message, frame, promise));
+    }
+}
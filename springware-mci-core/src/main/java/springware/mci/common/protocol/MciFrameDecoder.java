@@ -0,0 +1,93 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+
+import java.nio.ByteOrder;
+
+/**
+ * 프로토콜 설정 기반 프레임 디코더
+ *
+ * LengthFieldBasedFrameDecoder는 바이너리 길이 필드만 해석하므로
+ * 숫자 문자열/BCD 길이 필드를 직접 해석하고,
+ * 길이 보정값과 헤더 포함 여부는 FrameEncoder와 같은 의미로 변환하여 전달한다.
+ */
+public class MciFrameDecoder extends LengthFieldBasedFrameDecoder {
+
+    private final LengthFieldType lengthFieldType;
+
+    /**
+     * @param config 프로토콜 설정 (길이 필드 타입이 NONE이 아니어야 함)
+     */
+    public MciFrameDecoder(ProtocolConfig config) {
+        super(byteOrder(config.getLengthFieldType()),
+                config.getMaxMessageSize(),
+                config.getLengthFieldOffset(),
+                config.getLengthFieldLength(),
+                frameLengthAdjustment(config),
+                config.getInitialBytesToStrip(),
+                true);
+        if (config.getLengthFieldType() == LengthFieldType.NONE) {
+            throw new IllegalArgumentException("Length field type NONE does not need a frame decoder");
+        }
+        this.lengthFieldType = config.getLengthFieldType();
+    }
+
+    @Override
+    protected long getUnadjustedFrameLength(ByteBuf buf, int offset, int length, ByteOrder order) {
+        switch (lengthFieldType) {
+            case NUMERIC_STRING:
+                return decodeNumericString(buf, offset, length);
+            case BCD:
+                return decodeBcd(buf, offset, length);
+            default:
+                return super.getUnadjustedFrameLength(buf, offset, length, order);
+        }
+    }
+
+    private static long decodeNumericString(ByteBuf buf, int offset, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = buf.getByte(offset + i);
+            if (b == ' ') {
+                continue;
+            }
+            if (b < '0' || b > '9') {
+                throw new CorruptedFrameException("Invalid numeric length field byte: 0x" + Integer.toHexString(b & 0xFF));
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    private static long decodeBcd(ByteBuf buf, int offset, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            int b = buf.getByte(offset + i) & 0xFF;
+            int high = b >> 4;
+            int low = b & 0x0F;
+            if (high > 9 || low > 9) {
+                throw new CorruptedFrameException("Invalid BCD length field byte: 0x" + Integer.toHexString(b));
+            }
+            value = value * 100 + high * 10 + low;
+        }
+        return value;
+    }
+
+    private static ByteOrder byteOrder(LengthFieldType type) {
+        return type == LengthFieldType.BINARY_LITTLE_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * 길이 필드 값을 프레임 길이로 바꾸는 Netty 보정값
+     * (FrameEncoder는 본문 길이에 헤더 크기와 보정값을 더해 기록하므로 그만큼 뺀다)
+     */
+    private static int frameLengthAdjustment(ProtocolConfig config) {
+        int adjustment = -config.getLengthAdjustment();
+        if (config.isLengthIncludesHeader()) {
+            adjustment -= config.getLengthFieldLength();
+        }
+        return adjustment;
+    }
+}
@@ -0,0 +1,175 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
+
+/**
+ * 파이프라인 메시지 코덱
+ *
+ * 수신: MciFrameDecoder가 분리한 프레임(ByteBuf)을 Message로 디코딩하여 다음 핸들러로 전달
+ * 송신: 기록된 Message를 채널 할당자의 버퍼에 프레임으로 인코딩
+ *
+ * 레이아웃 조회, 디코딩, 송수신 로깅을 파이프라인에서 한 번만 수행하므로
+ * 업무 핸들러는 Message만 주고받는다. 전송 로깅은 기록 완료 후 수행한다.
+ * 상태가 없으므로 서버/클라이언트당 하나의 인스턴스를 모든 채널이 공유한다.
+ * 메트릭이 설정되면 메시지 코드별 디코딩/인코딩 시간과 실패 건수를 기록한다.
+ *
+ * 디코딩에 실패한 프레임은 기본적으로 기록 후 버리지만, 응답을 송신 순서로 매칭하는(FIFO) 클라이언트는
+ * 프레임 하나가 빠지면 이후 응답이 모두 어긋나므로 예외를 파이프라인으로 전파하여 연결을 종료하게 한다.
+ */
+@Slf4j
+@ChannelHandler.Sharable
+public class MciMessageCodec extends ChannelDuplexHandler {
+
+    protected final MessageCodec codec;
+    protected final MessageLogger messageLogger;
+    protected final MciMetrics metrics;
+
+    /**
+     * 디코딩 실패를 exceptionCaught로 전파할지 여부 (false면 기록 후 프레임만 버림)
+     */
+    protected final boolean propagateDecodeFailure;
+
+    /**
+     * @param codec         메시지 코덱
+     * @param messageLogger 송수신 로거
+     */
+    public MciMessageCodec(MessageCodec codec, MessageLogger messageLogger) {
+        this(codec, messageLogger, MciMetrics.NOOP);
+    }
+
+    /**
+     * @param codec         메시지 코덱
+     * @param messageLogger 송수신 로거
+     * @param metrics       디코딩/인코딩 메트릭
+     */
+    public MciMessageCodec(MessageCodec codec, MessageLogger messageLogger, MciMetrics metrics) {
+        this(codec, messageLogger, metrics, false);
+    }
+
+    /**
+     * @param codec                  메시지 코덱
+     * @param messageLogger          송수신 로거
+     * @param metrics                디코딩/인코딩 메트릭
+     * @param propagateDecodeFailure 디코딩 실패 시 ProtocolException으로 exceptionCaught 발생 여부
+     */
+    public MciMessageCodec(MessageCodec codec, MessageLogger messageLogger, MciMetrics metrics,
+                           boolean propagateDecodeFailure) {
+        this.codec = codec;
+        this.messageLogger = messageLogger;
+        this.metrics = metrics;
+        this.propagateDecodeFailure = propagateDecodeFailure;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!(msg instanceof ByteBuf)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        Message message;
+        ByteBuf frame = (ByteBuf) msg;
+        try {
+            message = decodeFrame(frame);
+        } catch (Exception e) {
+            metrics.recordError(MciMetrics.UNKNOWN_MESSAGE_CODE, MetricStage.DECODE);
+            if (propagateDecodeFailure) {
+                ctx.fireExceptionCaught(new ProtocolException("Failed to decode message", e));
+                return;
+            }
+            // 잘못된 프레임 하나로 연결을 끊지 않도록 기록만 하고 버린다
+            log.error("Failed to decode message", e);
+            return;
+        } finally {
+            frame.release();
+        }
+        ctx.fireChannelRead(message);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof Message)) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        Message message = (Message) msg;
+        ByteBuf frame = encodeFrame(message, ctx, promise);
+        if (frame != null) {
+            ctx.write(frame, logOnSuccess(message, frame, promise));
+        }
+    }
+
+    /**
+     * 메시지 인코딩 (실패 시 프로미스를 실패 처리하고 null 반환)
+     */
+    protected ByteBuf encodeFrame(Message message, ChannelHandlerContext ctx, ChannelPromise promise) {
+        long start = metrics.now();
+        try {
+            ByteBuf frame = codec.encode(message, ctx.alloc());
+            metrics.record(message.getMessageCode(), MetricStage.ENCODE, metrics.now() - start);
+            return frame;
+        } catch (Exception e) {
+            metrics.recordError(message.getMessageCode(), MetricStage.ENCODE);
+            promise.setFailure(e);
+            return null;
+        }
+    }
+
+    /**
+     * 프레임 디코딩 및 수신 로깅 (원본 데이터는 로거가 필요로 하는 경우에만 복사)
+     *
+     * @param frame 수신 프레임 (해제는 호출자 책임)
+     * @return 디코딩된 메시지
+     */
+    protected Message decodeFrame(ByteBuf frame) {
+        long start = metrics.now();
+        Message message = codec.decode(frame);
+        MessageLayout layout = codec.getLayout(message.getMessageCode());
+        // 수신 코드는 상대가 임의로 보낼 수 있으므로 레이아웃이 없는 코드는 하나로 모아 메트릭 수를 제한한다
+        metrics.record(layout != null ? message.getMessageCode() : MciMetrics.UNKNOWN_MESSAGE_CODE,
+                MetricStage.DECODE, metrics.now() - start);
+
+        if (messageLogger.isRawDataRequired()) {
+            byte[] data = ByteBufUtil.getBytes(frame);
+            message.setRawData(data);
+            messageLogger.logReceive(message, layout, data);
+        } else {
+            messageLogger.logReceive(message, layout, frame);
+        }
+        return message;
+    }
+
+    /**
+     * 기록 완료 후 전송 로깅을 수행하는 프로미스 반환
+     * (전송 후 프레임이 해제되므로 로깅용으로 참조를 하나 더 유지)
+     */
+    protected ChannelPromise logOnSuccess(Message message, ByteBuf frame, ChannelPromise promise) {
+        MessageLayout layout = codec.getLayout(message.getMessageCode());
+        ByteBuf logFrame = frame.retainedDuplicate();
+        ChannelPromise sendPromise = promise.unvoid();
+        sendPromise.addListener((ChannelFutureListener) f -> {
+            try {
+                if (f.isSuccess()) {
+                    messageLogger.logSend(message, layout, logFrame);
+                }
+            } finally {
+                logFrame.release();
+            }
+        });
+        return sendPromise;
+    }
+}
@@ -1,6 +1,11 @@
 package springware.mci.common.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import springware.mci.common.core.Message;
+import springware.mci.common.layout.MessageLayout;
 
 /**
  * 메시지 인코딩/디코딩 인터페이스
@@ -23,6 +28,37 @@ public interface MessageCodec {
      */
     Message decode(byte[] data);
 
+    /**
+     * 메시지를 할당자의 버퍼에 프레임으로 인코딩
+     *
+     * @param message   인코딩할 메시지
+     * @param allocator 버퍼 할당자
+     * @return 인코딩된 프레임 (호출자가 해제 또는 전송)
+     */
+    default ByteBuf encode(Message message, ByteBufAllocator allocator) {
+        return Unpooled.wrappedBuffer(encode(message));
+    }
+
+    /**
+     * 프레임 디코더가 분리한 프레임을 메시지로 디코딩
+     *
+     * @param frame 수신 프레임 (initialBytesToStrip 적용 후, 해제는 호출자 책임)
+     * @return 디코딩된 메시지
+     */
+    default Message decode(ByteBuf frame) {
+        return decode(ByteBufUtil.getBytes(frame));
+    }
+
+    /**
+     * 메시지 코드의 레이아웃 조회 (로깅용, 레이아웃을 사용하지 않는 코덱은 null)
+     *
+     * @param messageCode 메시지 코드
+     * @return 레이아웃
+     */
+    default MessageLayout getLayout(String messageCode) {
+        return null;
+    }
+
     /**
      * 프로토콜 설정 조회
      *
@@ -100,6 +100,15 @@ public class ProtocolConfig {
                 .build();
     }
 
+    /**
+     * 길이 필드 없는 설정 (UDP 데이터그램 등 전송 계층이 경계를 구분하는 경우)
+     */
+    public static ProtocolConfig noLengthField() {
+        return ProtocolConfig.builder()
+                .lengthFieldType(LengthFieldType.NONE)
+                .build();
+    }
+
     /**
      * EUC-KR 인코딩 설정
      */
@@ -0,0 +1,146 @@
+package springware.mci.common.transport;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Future;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플러시 통합 핸들러
+ *
+ * writeAndFlush마다 발생하는 시스템 콜을 줄이기 위해 flush 요청을 모아서 한 번에 내보낸다.
+ * <ul>
+ *   <li>읽기 처리 중의 flush는 channelReadComplete 시점에 한 번만 수행</li>
+ *   <li>읽기 처리 밖의 flush(업무 스레드, 클라이언트 호출 스레드)는 maxDelayMicros 후
+ *       (0이면 이벤트 루프의 다음 작업으로) 한 번에 수행</li>
+ *   <li>대기 중인 flush가 maxPendingFlushes에 도달하면 즉시 수행</li>
+ * </ul>
+ * 채널당 하나의 인스턴스를 파이프라인 맨 앞에 추가해야 한다.
+ * Netty FlushConsolidationHandler에 지연 시간 기반 통합을 추가한 구현이다.
+ */
+public class FlushBatchingHandler extends ChannelDuplexHandler {
+
+    private final int maxPendingFlushes;
+    private final long maxDelayNanos;
+    private final Runnable flushTask;
+
+    private ChannelHandlerContext ctx;
+    private int flushPendingCount;
+    private boolean readInProgress;
+    private Future<?> nextScheduledFlush;
+
+    /**
+     * @param maxPendingFlushes 즉시 flush할 대기 flush 수
+     * @param maxDelayMicros    읽기 처리 밖의 flush 최대 지연 (마이크로초, 0이면 다음 루프 작업)
+     */
+    public FlushBatchingHandler(int maxPendingFlushes, long maxDelayMicros) {
+        if (maxPendingFlushes < 1) {
+            throw new IllegalArgumentException("maxPendingFlushes must be at least 1");
+        }
+        if (maxDelayMicros < 0) {
+            throw new IllegalArgumentException("maxDelayMicros must be non-negative");
+        }
+        this.maxPendingFlushes = maxPendingFlushes;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+        this.flushTask = () -> {
+            nextScheduledFlush = null;
+            if (flushPendingCount > 0 && !readInProgress) {
+                flushPendingCount = 0;
+                ctx.flush();
+            }
+        };
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (++flushPendingCount >= maxPendingFlushes) {
+            flushNow(ctx);
+        } else if (!readInProgress) {
+            scheduleFlush(ctx);
+        }
+        // 읽기 처리 중이면 channelReadComplete에서 flush
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        resetReadAndFlushIfNeeded(ctx);
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (!ctx.channel().isWritable()) {
+            // 쓰기 버퍼가 가득 찬 경우 대기 중인 데이터를 내보내야 다시 쓰기 가능 상태가 된다
+            flushIfNeeded(ctx);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        resetReadAndFlushIfNeeded(ctx);
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        resetReadAndFlushIfNeeded(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        resetReadAndFlushIfNeeded(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfNeeded(ctx);
+    }
+
+    private void resetReadAndFlushIfNeeded(ChannelHandlerContext ctx) {
+        readInProgress = false;
+        flushIfNeeded(ctx);
+    }
+
+    private void flushIfNeeded(ChannelHandlerContext ctx) {
+        if (flushPendingCount > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        cancelScheduledFlush();
+        flushPendingCount = 0;
+        ctx.flush();
+    }
+
+    private void scheduleFlush(ChannelHandlerContext ctx) {
+        if (nextScheduledFlush == null) {
+            nextScheduledFlush = maxDelayNanos > 0
+                    ? ctx.channel().eventLoop().schedule(flushTask, maxDelayNanos, TimeUnit.NANOSECONDS)
+                    : ctx.channel().eventLoop().submit(flushTask);
+        }
+    }
+
+    private void cancelScheduledFlush() {
+        if (nextScheduledFlush != null) {
+            nextScheduledFlush.cancel(false);
+            nextScheduledFlush = null;
+        }
+    }
+}
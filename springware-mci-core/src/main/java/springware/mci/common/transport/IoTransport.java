@@ -0,0 +1,112 @@
+package springware.mci.common.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * I/O 전송 구현 선택
+ *
+ * EPOLL은 Linux 네이티브 전송으로 엣지 트리거 방식이며 SO_REUSEPORT, TCP_QUICKACK 옵션을 지원한다.
+ * 네이티브 라이브러리를 사용할 수 없는 환경에서는 NIO로 대체한다.
+ */
+@Slf4j
+public enum IoTransport {
+
+    /**
+     * 사용 가능하면 EPOLL, 아니면 NIO
+     */
+    AUTO,
+
+    /**
+     * JDK NIO
+     */
+    NIO,
+
+    /**
+     * Linux epoll (사용 불가 시 NIO로 대체)
+     */
+    EPOLL;
+
+    /**
+     * 실제 사용할 전송 구현 (NIO 또는 EPOLL)
+     */
+    public IoTransport resolve() {
+        switch (this) {
+            case NIO:
+                return NIO;
+            case EPOLL:
+                if (Epoll.isAvailable()) {
+                    return EPOLL;
+                }
+                log.warn("Native epoll transport unavailable, falling back to NIO: {}",
+                        Epoll.unavailabilityCause().toString());
+                return NIO;
+            default:
+                return Epoll.isAvailable() ? EPOLL : NIO;
+        }
+    }
+
+    /**
+     * 이벤트 루프 그룹 생성
+     *
+     * @param threads 스레드 수 (0이면 Netty 기본값: 코어 수 × 2)
+     */
+    public EventLoopGroup newEventLoopGroup(int threads) {
+        return newEventLoopGroup(threads, null);
+    }
+
+    /**
+     * 이벤트 루프 그룹 생성
+     *
+     * @param threads       스레드 수 (0이면 Netty 기본값: 코어 수 × 2)
+     * @param threadFactory 스레드 팩토리 (null이면 기본값)
+     */
+    public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+        if (resolve() == EPOLL) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+        return new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    /**
+     * 서버 소켓 채널 클래스
+     */
+    public Class<? extends ServerChannel> serverChannelClass() {
+        return resolve() == EPOLL ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+    }
+
+    /**
+     * 클라이언트 소켓 채널 클래스
+     */
+    public Class<? extends SocketChannel> socketChannelClass() {
+        return resolve() == EPOLL ? EpollSocketChannel.class : NioSocketChannel.class;
+    }
+
+    /**
+     * 데이터그램 채널 클래스
+     */
+    public Class<? extends DatagramChannel> datagramChannelClass() {
+        return resolve() == EPOLL ? EpollDatagramChannel.class : NioDatagramChannel.class;
+    }
+
+    /**
+     * 네이티브 전용 옵션(SO_REUSEPORT, TCP_QUICKACK) 지원 여부
+     */
+    public boolean isNative() {
+        return resolve() == EPOLL;
+    }
+}
@@ -0,0 +1,180 @@
+package springware.mci.common.transport;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전송 계층 공유 자원
+ *
+ * 이벤트 루프 그룹, 풀링 ByteBuf 할당기, 타이머를 묶어 여러 클라이언트와 연결 풀이 공유한다.
+ * 연결 생성이나 재연결 시 스레드 풀을 새로 만들지 않고 채널만 생성하면 된다.
+ *
+ * 참조 카운트로 수명을 관리한다. retain()/release() 쌍으로 사용하며,
+ * 마지막 참조가 해제되면 이벤트 루프 그룹과 타이머를 종료한다.
+ * 공유 인스턴스(shared())는 종료된 뒤 다시 획득하면 새로 생성된다.
+ */
+@Slf4j
+public final class TransportResources {
+
+    private static final Object SHARED_LOCK = new Object();
+    private static final Map<IoTransport, TransportResources> SHARED = new EnumMap<>(IoTransport.class);
+
+    private final String name;
+    private final IoTransport ioTransport;
+    private final EventLoopGroup eventLoopGroup;
+    private final ByteBufAllocator allocator;
+    private final HashedWheelTimer timer;
+    private final AtomicInteger refCnt = new AtomicInteger(1);
+
+    private TransportResources(String name, int ioThreads, IoTransport ioTransport) {
+        this.name = name;
+        this.ioTransport = ioTransport;
+        this.eventLoopGroup = ioTransport.newEventLoopGroup(ioThreads, new DefaultThreadFactory(name + "-io", true));
+        this.allocator = PooledByteBufAllocator.DEFAULT;
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory(name + "-timer", true),
+                10, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 공유 자원 획득 (참조 카운트 증가)
+     * 사용이 끝나면 release()를 호출해야 한다.
+     */
+    public static TransportResources shared() {
+        return shared(IoTransport.AUTO);
+    }
+
+    /**
+     * 전송 구현별 공유 자원 획득 (참조 카운트 증가)
+     * 사용이 끝나면 release()를 호출해야 한다.
+     */
+    public static TransportResources shared(IoTransport ioTransport) {
+        IoTransport resolved = ioTransport.resolve();
+        synchronized (SHARED_LOCK) {
+            TransportResources shared = SHARED.get(resolved);
+            if (shared == null || !shared.tryRetain()) {
+                shared = new TransportResources("mci-shared-" + resolved.name().toLowerCase(), 0, resolved);
+                SHARED.put(resolved, shared);
+                log.debug("Shared transport resources created: {}", resolved);
+            }
+            return shared;
+        }
+    }
+
+    /**
+     * 전용 자원 생성 (참조 카운트 1)
+     *
+     * @param name      스레드 이름 접두사
+     * @param ioThreads I/O 스레드 수 (0이면 Netty 기본값: 코어 수 × 2)
+     */
+    public static TransportResources create(String name, int ioThreads) {
+        return create(name, ioThreads, IoTransport.AUTO);
+    }
+
+    /**
+     * 전용 자원 생성 (참조 카운트 1)
+     *
+     * @param name        스레드 이름 접두사
+     * @param ioThreads   I/O 스레드 수 (0이면 Netty 기본값: 코어 수 × 2)
+     * @param ioTransport 전송 구현
+     */
+    public static TransportResources create(String name, int ioThreads, IoTransport ioTransport) {
+        if (ioThreads < 0) {
+            throw new IllegalArgumentException("ioThreads must be non-negative");
+        }
+        return new TransportResources(name, ioThreads, ioTransport.resolve());
+    }
+
+    /**
+     * 참조 카운트 증가
+     *
+     * @throws IllegalStateException 이미 해제된 경우
+     */
+    public TransportResources retain() {
+        if (!tryRetain()) {
+            throw new IllegalStateException("Transport resources already released: " + name);
+        }
+        return this;
+    }
+
+    private boolean tryRetain() {
+        for (;;) {
+            int count = refCnt.get();
+            if (count <= 0) {
+                return false;
+            }
+            if (refCnt.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 참조 카운트 감소, 0이 되면 자원 종료
+     */
+    public void release() {
+        int count = refCnt.decrementAndGet();
+        if (count == 0) {
+            log.debug("Releasing transport resources: {}", name);
+            timer.stop();
+            eventLoopGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS);
+        } else if (count < 0) {
+            refCnt.incrementAndGet();
+            throw new IllegalStateException("Transport resources already released: " + name);
+        }
+    }
+
+    /**
+     * 전송 구현 (NIO 또는 EPOLL)
+     * 채널 클래스는 이벤트 루프 그룹과 같은 구현을 사용해야 한다.
+     */
+    public IoTransport ioTransport() {
+        return ioTransport;
+    }
+
+    /**
+     * I/O 이벤트 루프 그룹
+     */
+    public EventLoopGroup eventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    /**
+     * ByteBuf 할당기
+     */
+    public ByteBufAllocator allocator() {
+        return allocator;
+    }
+
+    /**
+     * 지연 작업용 타이머 (재연결 등)
+     * 이벤트 루프가 아닌 별도 스레드에서 실행되므로 블로킹 연결 작업을 수행할 수 있으나,
+     * 타이머 스레드는 하나이므로 그동안 다른 타이머 작업은 지연된다.
+     */
+    public Timer timer() {
+        return timer;
+    }
+
+    /**
+     * 현재 참조 수
+     */
+    public int refCnt() {
+        return refCnt.get();
+    }
+
+    /**
+     * 종료 여부
+     */
+    public boolean isReleased() {
+        return refCnt.get() <= 0;
+    }
+}
@@ -4,7 +4,10 @@ import lombok.Builder;
 import lombok.Getter;
 import springware.mci.common.core.TransportType;
 import springware.mci.common.logging.LogLevel;
+import springware.mci.common.metrics.MetricsRegistry;
 import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
+import springware.mci.server.dispatch.DispatchConfig;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -93,6 +96,57 @@ public class ServerConfig {
     @Builder.Default
     private final boolean reuseAddress = true;
 
+    /**
+     * I/O 전송 구현 (AUTO: Linux epoll 사용 가능 시 epoll, 아니면 NIO)
+     */
+    @Builder.Default
+    private final IoTransport ioTransport = IoTransport.AUTO;
+
+    /**
+     * SO_REUSEPORT 사용 여부 (epoll 전용)
+     * TCP/HTTP는 bossThreads 수만큼, UDP는 workerThreads 수만큼 같은 포트에 소켓을 바인딩하여
+     * 커널이 연결(데이터그램)을 분산하도록 한다.
+     */
+    @Builder.Default
+    private final boolean reusePort = false;
+
+    /**
+     * TCP_QUICKACK 사용 여부 (epoll 전용, 지연 ACK 비활성화)
+     */
+    @Builder.Default
+    private final boolean tcpQuickAck = false;
+
+    /**
+     * 플러시 통합 사용 여부 (TCP 전용)
+     * 메시지마다 flush하지 않고 읽기 완료 시점 또는 아래 조건에서 한 번에 flush하여 시스템 콜 수를 줄인다.
+     */
+    @Builder.Default
+    private final boolean flushConsolidation = false;
+
+    /**
+     * 즉시 flush할 대기 메시지 수 (플러시 통합 사용 시)
+     */
+    @Builder.Default
+    private final int flushMaxPendingWrites = 64;
+
+    /**
+     * 읽기 처리 밖에서 발생한 flush의 최대 지연 (마이크로초, 0이면 이벤트 루프 다음 작업에서 flush)
+     */
+    @Builder.Default
+    private final long flushMaxDelayMicros = 0;
+
+    /**
+     * 핸들러 실행 디스패치 설정 (기본: 모든 메시지를 이벤트 루프에서 실행)
+     */
+    @Builder.Default
+    private final DispatchConfig dispatchConfig = DispatchConfig.defaultConfig();
+
+    /**
+     * 메트릭 레지스트리 (null이면 메트릭을 기록하지 않음)
+     * serverId(없으면 "mci-server") 이름으로 메시지 코드별 지연시간, 처리 중 요청 수, 오류 건수를 기록한다.
+     */
+    private final MetricsRegistry metricsRegistry;
+
     /**
      * 프로토콜 설정
      */
@@ -105,6 +159,12 @@ public class ServerConfig {
     @Builder.Default
     private final Charset charset = StandardCharsets.UTF_8;
 
+    /**
+     * 지연 디코딩 사용 여부 (필드를 처음 조회할 때 디코딩)
+     */
+    @Builder.Default
+    private final boolean lazyDecode = false;
+
     /**
      * 로깅 레벨
      */
@@ -112,7 +172,7 @@ public class ServerConfig {
     private final LogLevel logLevel = LogLevel.DETAIL_MASKED;
 
     /**
-     * 레이아웃 파일 경로
+     * 레이아웃 파일 경로 (YAML 디렉토리 또는 .mlb 번들 파일)
      */
     private final String layoutPath;
 
@@ -305,5 +365,14 @@ public class ServerConfig {
         if (workerThreads < 0) {
             throw new IllegalArgumentException("Worker threads must be non-negative");
         }
+        if (dispatchConfig != null) {
+            dispatchConfig.validate();
+        }
+        if (flushMaxPendingWrites < 1) {
+            throw new IllegalArgumentException("Flush max pending writes must be at least 1");
+        }
+        if (flushMaxDelayMicros < 0) {
+            throw new IllegalArgumentException("Flush max delay must be non-negative");
+        }
     }
 }
@@ -1,16 +1,26 @@
 package springware.mci.server.core;
 
+import io.netty.bootstrap.AbstractBootstrap;
+import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.core.Message;
 import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.LayoutBundle;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.layout.YamlLayoutLoader;
 import springware.mci.common.logging.AsyncMessageLogger;
 import springware.mci.common.logging.DefaultMessageLogger;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
 import springware.mci.server.config.ServerConfig;
+import springware.mci.server.dispatch.DispatchConfig;
+import springware.mci.server.dispatch.MessageDispatcher;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -27,6 +37,13 @@ public abstract class AbstractMciServer implements MciServer {
     protected final Map<String, MessageHandler> handlers = new ConcurrentHashMap<>();
     protected MessageHandler defaultHandler;
     protected final AtomicBoolean running = new AtomicBoolean(false);
+    protected volatile MessageDispatcher dispatcher;
+    protected final MciMetrics metrics;
+
+    /**
+     * 디스패처 종료 대기 시간 (밀리초)
+     */
+    private static final long DISPATCHER_SHUTDOWN_TIMEOUT = 5000;
 
     protected AbstractMciServer(ServerConfig config) {
         this(config, new DefaultLayoutManager(), createAsyncLogger());
@@ -36,6 +53,9 @@ public abstract class AbstractMciServer implements MciServer {
         this.config = config;
         this.layoutManager = layoutManager;
         this.messageLogger = messageLogger;
+        this.metrics = config.getMetricsRegistry() != null
+                ? config.getMetricsRegistry().metrics(getServerName())
+                : MciMetrics.NOOP;
 
         // 설정 검증
         config.validate();
@@ -64,13 +84,14 @@ public abstract class AbstractMciServer implements MciServer {
     }
 
     /**
-     * 레이아웃 파일 로드
+     * 레이아웃 파일 로드 (YAML 디렉토리 또는 .mlb 번들 파일)
      */
     protected void loadLayouts(String layoutPath) {
         try {
             Path path = Paths.get(layoutPath);
-            YamlLayoutLoader loader = new YamlLayoutLoader();
-            int count = loader.loadAndRegister(path, layoutManager);
+            int count = LayoutBundle.isBundleFile(path)
+                    ? LayoutBundle.loadAndRegister(path, layoutManager)
+                    : new YamlLayoutLoader().loadAndRegister(path, layoutManager);
             log.info("Loaded {} layouts from {}", count, layoutPath);
         } catch (Exception e) {
             log.warn("Failed to load layouts from {}: {}", layoutPath, e.getMessage());
@@ -85,10 +106,12 @@ public abstract class AbstractMciServer implements MciServer {
         }
 
         try {
+            dispatcher = createDispatcher();
             doStart();
             log.info("Server started on port {}", config.getPort());
         } catch (Exception e) {
             running.set(false);
+            shutdownDispatcher();
             throw new RuntimeException("Failed to start server", e);
         }
     }
@@ -106,6 +129,9 @@ public abstract class AbstractMciServer implements MciServer {
             log.error("Error stopping server", e);
         }
 
+        // 소켓을 닫은 후 대기 중인 핸들러 작업 정리
+        shutdownDispatcher();
+
         // 비동기 로거 종료
         if (messageLogger instanceof AsyncMessageLogger) {
             ((AsyncMessageLogger) messageLogger).shutdown();
@@ -147,6 +173,78 @@ public abstract class AbstractMciServer implements MciServer {
         return handler != null ? handler : defaultHandler;
     }
 
+    /**
+     * 요청 처리 시작 기록 (처리 중 요청 수 증가)
+     *
+     * @return 종단 간 지연시간 측정 시작 시각
+     */
+    protected long onRequestStart() {
+        return metrics.requestStarted();
+    }
+
+    /**
+     * 핸들러 실행 (실행 시간과 예외 기록)
+     */
+    protected Message handle(MessageHandler handler, Message request, MessageContext context) {
+        String messageCode = request.getMessageCode();
+        long start = metrics.now();
+        try {
+            Message response = handler.handle(request, context);
+            metrics.record(messageCode, MetricStage.HANDLE, metrics.now() - start);
+            return response;
+        } catch (RuntimeException e) {
+            metrics.recordError(messageCode, MetricStage.HANDLE);
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 처리 완료 기록 (처리 중 요청 수 감소, 종단 간 지연시간 또는 오류 기록)
+     *
+     * @param startNanos {@link #onRequestStart()}가 반환한 시각
+     * @param success    응답 기록(또는 응답 없는 처리) 성공 여부
+     */
+    protected void onRequestComplete(String messageCode, long startNanos, boolean success) {
+        metrics.requestCompleted(messageCode, startNanos, success);
+    }
+
+    /**
+     * 메시지 디스패처 생성
+     */
+    private MessageDispatcher createDispatcher() {
+        DispatchConfig dispatchConfig = config.getDispatchConfig() != null
+                ? config.getDispatchConfig() : DispatchConfig.defaultConfig();
+        return new MessageDispatcher(getServerName(), dispatchConfig);
+    }
+
+    /**
+     * 디스패처 스레드와 메트릭에 사용하는 서버 이름
+     */
+    private String getServerName() {
+        return config.getServerId() != null ? config.getServerId() : "mci-server";
+    }
+
+    private void shutdownDispatcher() {
+        MessageDispatcher current = dispatcher;
+        if (current != null) {
+            current.shutdown(DISPATCHER_SHUTDOWN_TIMEOUT);
+        }
+    }
+
+    /**
+     * 메시지 디스패처 조회 (서버 시작 전에는 null)
+     */
+    public MessageDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * 메트릭 기록기 조회 (메트릭 레지스트리가 없으면 NOOP)
+     */
+    public MciMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * 레이아웃 매니저 조회
      */
@@ -161,6 +259,41 @@ public abstract class AbstractMciServer implements MciServer {
         return messageLogger;
     }
 
+    /**
+     * 서버 소켓 바인딩
+     * count가 2 이상이면 SO_REUSEPORT로 같은 포트에 여러 소켓을 바인딩한다.
+     *
+     * @param bootstrap 설정이 완료된 부트스트랩
+     * @param count     바인딩할 소켓 수
+     * @return 바인딩된 채널 목록
+     */
+    protected List<Channel> bind(AbstractBootstrap<?, ?> bootstrap, int count) throws InterruptedException {
+        List<Channel> channels = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                channels.add(bootstrap.bind(config.getHost(), config.getPort()).sync().channel());
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            closeChannels(channels);
+            throw e;
+        }
+        return channels;
+    }
+
+    /**
+     * 서버 소켓 종료
+     */
+    protected void closeChannels(List<Channel> channels) {
+        for (Channel channel : channels) {
+            try {
+                channel.close().sync();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        channels.clear();
+    }
+
     // 하위 클래스에서 구현
 
     /**
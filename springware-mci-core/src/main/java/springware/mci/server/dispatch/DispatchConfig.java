@@ -0,0 +1,67 @@
+package springware.mci.server.dispatch;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Map;
+
+/**
+ * 핸들러 실행(디스패치) 설정
+ *
+ * 기본 레인은 lanes에 지정되지 않은 모든 메시지 코드가 공유하고,
+ * lanes에 지정된 메시지 코드는 전용 레인(스레드 풀)을 사용하여 다른 코드의 지연에 영향받지 않는다.
+ * POOL 레인은 하나의 연결에서 온 요청도 병렬 처리하므로 응답 순서가 요청 순서와 달라질 수 있다.
+ * HTTP/1.1은 keep-alive 연결(파이프라이닝 포함)에서 요청 순서대로 응답해야 하므로
+ * HTTP 서버에 POOL/VIRTUAL 레인을 쓰면 응답이 다른 요청과 짝지어질 수 있어 안전하지 않다.
+ */
+@Getter
+@Builder
+public class DispatchConfig {
+
+    /**
+     * 기본 레인 설정
+     */
+    @Builder.Default
+    private final LaneConfig defaultLane = LaneConfig.inline();
+
+    /**
+     * 메시지 코드별 전용 레인 설정
+     */
+    @Singular
+    private final Map<String, LaneConfig> lanes;
+
+    /**
+     * 기본 설정 (모든 핸들러를 이벤트 루프에서 실행)
+     */
+    public static DispatchConfig defaultConfig() {
+        return DispatchConfig.builder().build();
+    }
+
+    /**
+     * 모든 핸들러를 요청마다 가상 스레드에서 실행 (Java 21 이상, 미만이면 스레드 풀)
+     *
+     * @param maxConcurrency 동시 실행 상한
+     */
+    public static DispatchConfig virtualThreads(int maxConcurrency) {
+        return DispatchConfig.builder()
+                .defaultLane(LaneConfig.virtual(maxConcurrency))
+                .build();
+    }
+
+    /**
+     * 모든 레인이 이벤트 루프에서 실행되는지 여부 (연결별 응답 순서 보장)
+     */
+    public boolean isInlineOnly() {
+        return defaultLane.getMode() == ExecutionMode.INLINE
+                && lanes.values().stream().allMatch(lane -> lane.getMode() == ExecutionMode.INLINE);
+    }
+
+    /**
+     * 설정 유효성 검증
+     */
+    public void validate() {
+        defaultLane.validate();
+        lanes.values().forEach(LaneConfig::validate);
+    }
+}
@@ -0,0 +1,90 @@
+package springware.mci.server.dispatch;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 코드별 디스패치 통계
+ */
+public class DispatchStats {
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger peakQueued = new AtomicInteger();
+
+    void onSubmit() {
+        submitted.increment();
+    }
+
+    void onEnqueue() {
+        int depth = queued.incrementAndGet();
+        peakQueued.accumulateAndGet(depth, Math::max);
+    }
+
+    void onStart() {
+        queued.decrementAndGet();
+    }
+
+    void onComplete(boolean success) {
+        if (success) {
+            completed.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    void onThrottled() {
+        throttled.increment();
+    }
+
+    /**
+     * 접수 건수
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * 정상 완료 건수
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * 예외 발생 건수
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * 실행 자리가 없어 보류하고 채널 읽기를 멈춘 건수 (dispatchOrDrop은 폐기한 건수)
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    /**
+     * 현재 대기 건수 (실행 큐 + 보류)
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * 최대 큐 대기 건수
+     */
+    public int getPeakQueueDepth() {
+        return peakQueued.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DispatchStats[submitted=%d, completed=%d, failed=%d, throttled=%d, queued=%d, peak=%d]",
+                getSubmitted(), getCompleted(), getFailed(), getThrottled(), getQueueDepth(), getPeakQueueDepth());
+    }
+}
@@ -0,0 +1,23 @@
+package springware.mci.server.dispatch;
+
+/**
+ * 핸들러 실행 방식
+ */
+public enum ExecutionMode {
+
+    /**
+     * I/O 이벤트 루프 스레드에서 바로 실행 (하트비트 등 즉시 끝나는 핸들러용)
+     */
+    INLINE,
+
+    /**
+     * 크기가 제한된 플랫폼 스레드 풀에서 실행 (블로킹 핸들러용)
+     */
+    POOL,
+
+    /**
+     * 요청마다 가상 스레드에서 실행 (JDBC, 다른 MCI 호출 등 블로킹 핸들러용, Java 21 이상)
+     * Java 21 미만에서는 POOL로 대체된다.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,81 @@
+package springware.mci.server.dispatch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메시지 코드별 실행 레인 설정
+ */
+@Getter
+@Builder
+public class LaneConfig {
+
+    /**
+     * 실행 방식
+     */
+    @Builder.Default
+    private final ExecutionMode mode = ExecutionMode.POOL;
+
+    /**
+     * 풀 스레드 수 (POOL 전용, 0이면 코어 수 × 2)
+     */
+    @Builder.Default
+    private final int threads = 0;
+
+    /**
+     * 대기 큐 크기 (POOL 전용)
+     */
+    @Builder.Default
+    private final int queueCapacity = 1024;
+
+    /**
+     * 동시 실행 상한 (VIRTUAL 전용, 초과 시 보류하고 요청 채널의 읽기를 멈춤)
+     */
+    @Builder.Default
+    private final int maxConcurrency = 10000;
+
+    /**
+     * 이벤트 루프에서 바로 실행
+     */
+    public static LaneConfig inline() {
+        return LaneConfig.builder().mode(ExecutionMode.INLINE).build();
+    }
+
+    /**
+     * 전용 스레드 풀에서 실행
+     */
+    public static LaneConfig pool(int threads, int queueCapacity) {
+        return LaneConfig.builder()
+                .mode(ExecutionMode.POOL)
+                .threads(threads)
+                .queueCapacity(queueCapacity)
+                .build();
+    }
+
+    /**
+     * 요청마다 가상 스레드에서 실행
+     *
+     * @param maxConcurrency 동시 실행 상한
+     */
+    public static LaneConfig virtual(int maxConcurrency) {
+        return LaneConfig.builder()
+                .mode(ExecutionMode.VIRTUAL)
+                .maxConcurrency(maxConcurrency)
+                .build();
+    }
+
+    /**
+     * 설정 유효성 검증
+     */
+    public void validate() {
+        if (threads < 0) {
+            throw new IllegalArgumentException("threads must be non-negative");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+    }
+}
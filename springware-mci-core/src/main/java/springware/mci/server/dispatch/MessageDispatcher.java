@@ -0,0 +1,339 @@
+package springware.mci.server.dispatch;
+
+import io.netty.channel.Channel;
+import io.netty.util.NettyRuntime;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import springware.mci.common.concurrent.VirtualThreads;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 디스패처
+ *
+ * 디코딩된 메시지의 핸들러 실행을 메시지 코드별 레인(이벤트 루프, 스레드 풀 또는 가상 스레드)으로 넘긴다.
+ * 느린 핸들러가 같은 이벤트 루프를 공유하는 다른 연결의 처리를 막지 않도록 하기 위함이다.
+ *
+ * 풀의 대기 큐가 가득 차거나 가상 스레드 동시 실행 상한에 도달하면 작업을 레인의 보류 큐에 넣고
+ * 요청이 들어온 채널의 자동 읽기(autoRead)를 끈다. 해당 연결은 소켓을 더 읽지 않으므로 TCP 흐름 제어로
+ * 송신 측에 배압이 전달되고, 같은 이벤트 루프의 다른 연결은 영향을 받지 않는다.
+ * 실행 자리가 나면 보류 작업을 넘기고, 보류 큐가 비면 멈춘 채널의 읽기를 재개한다.
+ * 핸들러는 레인이 포화되어도 이벤트 루프에서 실행하지 않는다.
+ *
+ * UDP는 모든 송신자가 데이터그램 소켓 하나를 공유하므로 읽기를 멈추면 다른 송신자와 메시지 코드까지
+ * 수신이 막히고 커널이 데이터그램을 버린다. 이런 채널은 {@link #dispatchOrDrop}으로 넘겨
+ * 포화된 레인의 초과 작업만 폐기하고 메시지 코드별 throttled 건수로 집계한다.
+ */
+@Slf4j
+public class MessageDispatcher {
+
+    private final Lane defaultLane;
+    private final Map<String, Lane> lanes;
+    private final Map<String, DispatchStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @param name   스레드 이름 접두사
+     * @param config 디스패치 설정
+     */
+    public MessageDispatcher(String name, DispatchConfig config) {
+        config.validate();
+        this.defaultLane = new Lane(name + "-biz", config.getDefaultLane());
+
+        Map<String, Lane> dedicated = new HashMap<>();
+        config.getLanes().forEach((code, laneConfig) ->
+                dedicated.put(code, new Lane(name + "-biz-" + code, laneConfig)));
+        this.lanes = dedicated;
+    }
+
+    /**
+     * 핸들러 실행 위임 (포화 시 배압을 걸 채널 없음)
+     *
+     * @param messageCode 메시지 코드
+     * @param task        핸들러 실행 및 응답 전송 작업
+     */
+    public void dispatch(String messageCode, Runnable task) {
+        dispatch(messageCode, null, task);
+    }
+
+    /**
+     * 핸들러 실행 위임
+     *
+     * @param messageCode 메시지 코드
+     * @param channel     요청이 들어온 채널 (레인 포화 시 읽기를 멈출 대상, null이면 보류만)
+     * @param task        핸들러 실행 및 응답 전송 작업
+     */
+    public void dispatch(String messageCode, Channel channel, Runnable task) {
+        dispatch(messageCode, channel, task, null);
+    }
+
+    /**
+     * 핸들러 실행 위임
+     *
+     * @param messageCode 메시지 코드
+     * @param channel     요청이 들어온 채널 (레인 포화 시 읽기를 멈출 대상, null이면 보류만)
+     * @param task        핸들러 실행 및 응답 전송 작업
+     * @param onDrop      종료로 작업을 실행하지 않고 폐기할 때 실행할 작업 (null 허용)
+     */
+    public void dispatch(String messageCode, Channel channel, Runnable task, Runnable onDrop) {
+        dispatch(messageCode, channel, task, onDrop, false);
+    }
+
+    /**
+     * 핸들러 실행 위임 (레인 포화 시 보류하지 않고 폐기)
+     * 읽기를 멈출 수 없는 채널(UDP 데이터그램 소켓 등)에 사용한다.
+     *
+     * @param messageCode 메시지 코드
+     * @param task        핸들러 실행 및 응답 전송 작업
+     * @param onDrop      포화 또는 종료로 작업을 실행하지 않고 폐기할 때 실행할 작업 (null 허용)
+     */
+    public void dispatchOrDrop(String messageCode, Runnable task, Runnable onDrop) {
+        dispatch(messageCode, null, task, onDrop, true);
+    }
+
+    private void dispatch(String messageCode, Channel channel, Runnable task, Runnable onDrop,
+                          boolean dropWhenSaturated) {
+        DispatchStats codeStats = stats.computeIfAbsent(messageCode, code -> new DispatchStats());
+        codeStats.onSubmit();
+
+        Lane lane = laneOf(messageCode);
+        if (lane.executor == null) {
+            run(messageCode, task, codeStats);
+            return;
+        }
+
+        codeStats.onEnqueue();
+        Queued queued = new Queued(() -> {
+            codeStats.onStart();
+            try {
+                run(messageCode, task, codeStats);
+            } finally {
+                lane.permits.release();
+                lane.drain();
+            }
+        }, () -> drop(messageCode, codeStats, onDrop, "dispatcher is shut down"));
+
+        if (!lane.permits.tryAcquire()) {
+            codeStats.onThrottled();
+            if (dropWhenSaturated) {
+                drop(messageCode, codeStats, onDrop, "lane is saturated");
+                return;
+            }
+            // 실행 자리가 없으면 보류하고 요청 채널의 읽기 중단 (배압)
+            lane.defer(queued, channel);
+            return;
+        }
+        lane.submit(queued);
+    }
+
+    private void drop(String messageCode, DispatchStats codeStats, Runnable onDrop, String reason) {
+        codeStats.onStart();
+        codeStats.onComplete(false);
+        log.warn("Dropping message {}: {}", messageCode, reason);
+        if (onDrop != null) {
+            onDrop.run();
+        }
+    }
+
+    private void run(String messageCode, Runnable task, DispatchStats codeStats) {
+        try {
+            task.run();
+            codeStats.onComplete(true);
+        } catch (Exception e) {
+            codeStats.onComplete(false);
+            log.error("Failed to process message: {}", messageCode, e);
+        }
+    }
+
+    private Lane laneOf(String messageCode) {
+        Lane lane = messageCode != null ? lanes.get(messageCode) : null;
+        return lane != null ? lane : defaultLane;
+    }
+
+    /**
+     * 메시지 코드의 실행 방식
+     */
+    public ExecutionMode getMode(String messageCode) {
+        return laneOf(messageCode).mode;
+    }
+
+    /**
+     * 메시지 코드별 통계 (처리 이력이 없으면 null)
+     */
+    public DispatchStats getStats(String messageCode) {
+        return stats.get(messageCode);
+    }
+
+    /**
+     * 전체 메시지 코드별 통계
+     */
+    public Map<String, DispatchStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * 종료 (대기 중인 작업은 timeoutMillis까지 처리)
+     */
+    public void shutdown(long timeoutMillis) {
+        defaultLane.shutdown();
+        lanes.values().forEach(Lane::shutdown);
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        try {
+            defaultLane.awaitTermination(deadline);
+            for (Lane lane : lanes.values()) {
+                lane.awaitTermination(deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 실행 레인
+     */
+    private static final class Lane {
+
+        private final ExecutionMode mode;
+        private final ExecutorService executor;
+
+        /**
+         * 실행 자리 (POOL은 스레드 수 + 큐 용량, VIRTUAL은 동시 실행 상한)
+         */
+        private final Semaphore permits;
+
+        /**
+         * 실행 자리가 없어 보류된 작업
+         */
+        private final Queue<Queued> deferred = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 배압으로 읽기를 멈춘 채널
+         */
+        private final Set<Channel> paused = ConcurrentHashMap.newKeySet();
+
+        private Lane(String name, LaneConfig config) {
+            ExecutionMode requested = config.getMode();
+            if (requested == ExecutionMode.VIRTUAL && !VirtualThreads.isSupported()) {
+                log.warn("Virtual threads not supported on Java {}, lane {} falls back to POOL",
+                        Runtime.version().feature(), name);
+                requested = ExecutionMode.POOL;
+            }
+            this.mode = requested;
+
+            switch (mode) {
+                case POOL:
+                    int threads = config.getThreads() > 0 ? config.getThreads() : NettyRuntime.availableProcessors() * 2;
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new DefaultThreadFactory(name, true));
+                    pool.allowCoreThreadTimeOut(true);
+                    this.executor = pool;
+                    this.permits = new Semaphore(threads + config.getQueueCapacity());
+                    break;
+                case VIRTUAL:
+                    this.executor = VirtualThreads.newThreadPerTaskExecutor(name);
+                    this.permits = new Semaphore(config.getMaxConcurrency());
+                    break;
+                default:
+                    this.executor = null;
+                    this.permits = null;
+                    break;
+            }
+        }
+
+        /**
+         * 실행 자리를 확보한 작업 제출
+         */
+        private void submit(Queued task) {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 대기 큐 크기는 permits로 제한하므로 거부는 종료된 경우뿐
+                permits.release();
+                task.onDrop().run();
+            }
+        }
+
+        /**
+         * 작업 보류 및 채널 읽기 중단
+         */
+        private void defer(Queued task, Channel channel) {
+            if (channel != null && paused.add(channel)) {
+                channel.config().setAutoRead(false);
+            }
+            deferred.offer(task);
+            // 보류하는 사이 자리가 났을 수 있으므로 직접 한 번 넘김
+            drain();
+        }
+
+        /**
+         * 보류 작업을 빈 자리에 넘기고, 보류 큐가 비면 멈춘 채널의 읽기 재개
+         */
+        private void drain() {
+            while (!deferred.isEmpty() && permits.tryAcquire()) {
+                Queued next = deferred.poll();
+                if (next == null) {
+                    permits.release();
+                    break;
+                }
+                submit(next);
+            }
+            if (deferred.isEmpty() && !paused.isEmpty()) {
+                for (Channel channel : paused) {
+                    if (paused.remove(channel)) {
+                        channel.config().setAutoRead(true);
+                    }
+                }
+            }
+        }
+
+        private void shutdown() {
+            if (executor != null) {
+                executor.shutdown();
+                // 보류 작업은 실행하지 않고 폐기
+                Queued next;
+                while ((next = deferred.poll()) != null) {
+                    next.onDrop().run();
+                }
+            }
+        }
+
+        private void awaitTermination(long deadline) throws InterruptedException {
+            if (executor == null) {
+                return;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0 || !executor.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                // 시작하지 못한 작업도 폐기 처리
+                for (Runnable never : executor.shutdownNow()) {
+                    if (never instanceof Queued queued) {
+                        queued.onDrop().run();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 레인에 넘기는 작업 (실행하지 못하고 폐기되면 onDrop 실행)
+     */
+    private record Queued(Runnable task, Runnable onDrop) implements Runnable {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+}
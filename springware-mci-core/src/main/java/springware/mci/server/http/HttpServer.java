@@ -2,9 +2,8 @@ package springware.mci.server.http;
 
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.ClientAuth;
@@ -16,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.http.HttpMessageConverter;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.transport.IoTransport;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.AbstractMciServer;
 
@@ -24,11 +24,16 @@ import javax.net.ssl.TrustManagerFactory;
 import java.io.File;
 import java.io.FileInputStream;
 import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Netty 기반 HTTP 서버
  * REST API 엔드포인트 제공
+ *
+ * HTTP/1.1 keep-alive 연결은 요청 순서대로 응답해야 하므로 디스패치 레인은 INLINE만 안전하다.
+ * POOL/VIRTUAL 레인은 같은 연결의 요청을 병렬 처리해 응답 순서가 뒤바뀔 수 있다.
  */
 @Slf4j
 public class HttpServer extends AbstractMciServer {
@@ -37,7 +42,7 @@ public class HttpServer extends AbstractMciServer {
 
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new ArrayList<>();
     private SslContext sslContext;
 
     @Getter
@@ -65,13 +70,17 @@ public class HttpServer extends AbstractMciServer {
 
     @Override
     protected void doStart() {
+        if (config.getDispatchConfig() != null && !config.getDispatchConfig().isInlineOnly()) {
+            log.warn("POOL/VIRTUAL dispatch lanes may reorder responses on HTTP/1.1 keep-alive connections; "
+                    + "use INLINE lanes for HTTP servers");
+        }
+
         int bossThreads = config.getBossThreads();
         int workerThreads = config.getWorkerThreads();
 
-        bossGroup = new NioEventLoopGroup(bossThreads);
-        workerGroup = workerThreads > 0
-                ? new NioEventLoopGroup(workerThreads)
-                : new NioEventLoopGroup();
+        IoTransport transport = config.getIoTransport().resolve();
+        bossGroup = transport.newEventLoopGroup(bossThreads);
+        workerGroup = transport.newEventLoopGroup(workerThreads);
 
         try {
             // SSL/TLS 설정
@@ -81,8 +90,9 @@ public class HttpServer extends AbstractMciServer {
             }
 
             ServerBootstrap bootstrap = new ServerBootstrap();
+            applyNativeOptions(bootstrap, transport);
             bootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(transport.serverChannelClass())
                     .option(ChannelOption.SO_BACKLOG, config.getBacklog())
                     .option(ChannelOption.SO_REUSEADDR, config.isReuseAddress())
                     .childOption(ChannelOption.SO_KEEPALIVE, config.isKeepAlive())
@@ -118,13 +128,16 @@ public class HttpServer extends AbstractMciServer {
                                     endpointRegistry,
                                     messageConverter,
                                     layoutManager,
-                                    messageLogger
+                                    messageLogger,
+                                    dispatcher,
+                                    metrics
                             ));
                         }
                     });
 
-            ChannelFuture future = bootstrap.bind(config.getHost(), config.getPort()).sync();
-            serverChannel = future.channel();
+            // SO_REUSEPORT 사용 시 boss 스레드마다 수신 소켓을 하나씩 바인딩
+            int acceptors = transport.isNative() && config.isReusePort() ? Math.max(1, bossThreads) : 1;
+            serverChannels.addAll(bind(bootstrap, acceptors));
 
             String scheme = config.isSslEnabled() ? "HTTPS" : "HTTP";
             log.info("{} server started on {}:{}", scheme, config.getHost(), config.getPort());
@@ -212,16 +225,24 @@ public class HttpServer extends AbstractMciServer {
         return builder.build();
     }
 
+    /**
+     * epoll 전용 옵션 적용
+     */
+    private void applyNativeOptions(ServerBootstrap bootstrap, IoTransport transport) {
+        if (!transport.isNative()) {
+            return;
+        }
+        if (config.isReusePort()) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        if (config.isTcpQuickAck()) {
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, true);
+        }
+    }
+
     @Override
     protected void doStop() {
-        if (serverChannel != null) {
-            try {
-                serverChannel.close().sync();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            serverChannel = null;
-        }
+        closeChannels(serverChannels);
 
         if (bossGroup != null) {
             bossGroup.shutdownGracefully();
@@ -1,7 +1,9 @@
 package springware.mci.server.http;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -12,13 +14,20 @@ import springware.mci.common.core.TransportType;
 import springware.mci.common.http.HttpMessageConverter;
 import springware.mci.common.layout.LayoutManager;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.metrics.MetricsRegistry;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.MessageContext;
 import springware.mci.server.core.MessageHandler;
+import springware.mci.server.dispatch.MessageDispatcher;
 
 import java.net.InetSocketAddress;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Netty HTTP 요청 핸들러
@@ -34,6 +43,8 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
     private final HttpMessageConverter messageConverter;
     private final LayoutManager layoutManager;
     private final MessageLogger messageLogger;
+    private final MessageDispatcher dispatcher;
+    private final MciMetrics metrics;
 
     public HttpServerHandler(
             ServerConfig config,
@@ -42,7 +53,9 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             RestEndpointRegistry endpointRegistry,
             HttpMessageConverter messageConverter,
             LayoutManager layoutManager,
-            MessageLogger messageLogger) {
+            MessageLogger messageLogger,
+            MessageDispatcher dispatcher,
+            MciMetrics metrics) {
         this.config = config;
         this.handlers = handlers;
         this.defaultHandler = defaultHandler;
@@ -50,6 +63,8 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         this.messageConverter = messageConverter;
         this.layoutManager = layoutManager;
         this.messageLogger = messageLogger;
+        this.dispatcher = dispatcher;
+        this.metrics = metrics;
     }
 
     @Override
@@ -58,18 +73,19 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         String uri = request.uri();
         String path = RestEndpointRegistry.extractPath(uri);
         HttpMethod method = request.method();
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
 
         log.debug("HTTP request: {} {} from {}", method, uri, ctx.channel().remoteAddress());
 
         // CORS Preflight 요청 처리
         if (HttpMethod.OPTIONS.equals(method) && config.isCorsEnabled()) {
-            sendCorsPreflightResponse(ctx, request);
+            sendCorsPreflightResponse(ctx);
             return;
         }
 
         // 헬스 체크 엔드포인트
         if (config.isHealthCheckEnabled() && path.equals(config.getHealthCheckPath())) {
-            sendHealthCheckResponse(ctx, request);
+            sendHealthCheckResponse(ctx, keepAlive);
             return;
         }
 
@@ -86,7 +102,7 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         }
 
         // 지원하지 않는 메서드
-        sendErrorResponse(ctx, request, HttpResponseStatus.METHOD_NOT_ALLOWED, "Method not allowed");
+        sendErrorResponse(ctx, HttpResponseStatus.METHOD_NOT_ALLOWED, "Method not allowed");
     }
 
     /**
@@ -96,7 +112,7 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         String messageCode = endpointRegistry.getMessageCode(path);
 
         if (messageCode == null) {
-            sendErrorResponse(ctx, request, HttpResponseStatus.NOT_FOUND, "Endpoint not found: " + path);
+            sendErrorResponse(ctx, HttpResponseStatus.NOT_FOUND, "Endpoint not found: " + path);
             return;
         }
 
@@ -119,17 +135,19 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             String body = content.toString(config.getCharset());
 
             if (body.isEmpty()) {
-                sendErrorResponse(ctx, request, HttpResponseStatus.BAD_REQUEST, "Request body is empty");
+                sendErrorResponse(ctx, HttpResponseStatus.BAD_REQUEST, "Request body is empty");
                 return;
             }
 
             // JSON -> Message 변환
             String messageCode = endpointRegistry.getMessageCode(path);
+            long decodeStart = metrics.now();
             Message requestMessage = messageConverter.fromJson(body, messageCode);
+            metrics.record(requestMessage.getMessageCode(), MetricStage.DECODE, metrics.now() - decodeStart);
 
             // 경로에서 메시지 코드를 못 찾은 경우 JSON에서 가져오기
             if (requestMessage.getMessageCode() == null) {
-                sendErrorResponse(ctx, request, HttpResponseStatus.BAD_REQUEST, "Message code not specified");
+                sendErrorResponse(ctx, HttpResponseStatus.BAD_REQUEST, "Message code not specified");
                 return;
             }
 
@@ -140,75 +158,101 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             processMessage(ctx, request, requestMessage);
 
         } catch (Exception e) {
+            metrics.recordError(MciMetrics.UNKNOWN_MESSAGE_CODE, MetricStage.DECODE);
             log.error("Failed to process POST request", e);
-            sendErrorResponse(ctx, request, HttpResponseStatus.BAD_REQUEST, "Invalid request: " + e.getMessage());
+            sendErrorResponse(ctx, HttpResponseStatus.BAD_REQUEST, "Invalid request: " + e.getMessage());
         }
     }
 
     /**
      * 메시지 처리 및 응답
+     * 요청 객체는 channelRead0 반환 후 해제되므로 필요한 값은 디스패치 전에 추출한다.
      */
     private void processMessage(ChannelHandlerContext ctx, FullHttpRequest request, Message requestMessage) {
-        try {
-            // 컨텍스트 생성
-            InetSocketAddress remoteAddress = (InetSocketAddress) ctx.channel().remoteAddress();
-            MessageContext context = MessageContext.builder()
-                    .channel(ctx.channel())
-                    .transportType(TransportType.HTTP)
-                    .remoteAddress(remoteAddress)
-                    .build();
-
-            // HTTP 헤더 정보 저장
-            context.setAttribute("httpMethod", request.method().name());
-            context.setAttribute("httpUri", request.uri());
-
-            // 핸들러 조회
-            MessageHandler handler = handlers.get(requestMessage.getMessageCode());
-            if (handler == null) {
-                handler = defaultHandler;
-            }
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
 
-            if (handler == null) {
-                sendErrorResponse(ctx, request, HttpResponseStatus.NOT_FOUND,
-                        "No handler for message code: " + requestMessage.getMessageCode());
-                return;
-            }
+        // 컨텍스트 생성
+        InetSocketAddress remoteAddress = (InetSocketAddress) ctx.channel().remoteAddress();
+        MessageContext context = MessageContext.builder()
+                .channel(ctx.channel())
+                .transportType(TransportType.HTTP)
+                .remoteAddress(remoteAddress)
+                .build();
+
+        // HTTP 헤더 정보 저장
+        context.setAttribute("httpMethod", request.method().name());
+        context.setAttribute("httpUri", request.uri());
 
-            // 핸들러 실행
-            Message responseMessage = handler.handle(requestMessage, context);
+        // 핸들러 조회
+        String messageCode = requestMessage.getMessageCode();
+        MessageHandler found = handlers.get(messageCode);
+        MessageHandler handler = found != null ? found : defaultHandler;
 
-            if (responseMessage != null) {
-                sendJsonResponse(ctx, request, HttpResponseStatus.OK, responseMessage);
-            } else {
-                // 응답 없음
-                sendJsonResponse(ctx, request, HttpResponseStatus.NO_CONTENT, null);
+        if (handler == null) {
+            sendErrorResponse(ctx, HttpResponseStatus.NOT_FOUND,
+                    "No handler for message code: " + messageCode);
+            return;
+        }
+
+        // 핸들러 실행 (디스패처 설정에 따라 이벤트 루프 또는 업무 스레드에서 실행)
+        long start = metrics.requestStarted();
+        dispatcher.dispatch(messageCode, ctx.channel(), () -> {
+            ChannelFuture written;
+            long handleStart = metrics.now();
+            try {
+                Message responseMessage = handler.handle(requestMessage, context);
+                metrics.record(messageCode, MetricStage.HANDLE, metrics.now() - handleStart);
+
+                if (responseMessage != null) {
+                    written = sendJsonResponse(ctx, keepAlive, HttpResponseStatus.OK, responseMessage);
+                } else {
+                    // 응답 없음
+                    written = sendJsonResponse(ctx, keepAlive, HttpResponseStatus.NO_CONTENT, null);
+                }
+
+            } catch (Exception e) {
+                metrics.recordError(messageCode, MetricStage.HANDLE);
+                log.error("Failed to process message", e);
+                written = sendErrorResponse(ctx, HttpResponseStatus.INTERNAL_SERVER_ERROR,
+                        "Internal server error: " + e.getMessage());
+                written.addListener(f -> metrics.requestCompleted(messageCode, start, false));
+                return;
             }
+            written.addListener(f -> metrics.requestCompleted(messageCode, start, f.isSuccess()));
+        }, () -> rejectDropped(ctx, messageCode, start)); // 실행되지 못하고 폐기된 경우
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to process message", e);
-            sendErrorResponse(ctx, request, HttpResponseStatus.INTERNAL_SERVER_ERROR,
-                    "Internal server error: " + e.getMessage());
+    /**
+     * 디스패처가 폐기한 요청에 503 응답 (폐기는 임의 스레드에서 통지되므로 채널 이벤트 루프에서 전송)
+     */
+    private void rejectDropped(ChannelHandlerContext ctx, String messageCode, long start) {
+        try {
+            ctx.executor().execute(() -> sendErrorResponse(ctx, HttpResponseStatus.SERVICE_UNAVAILABLE,
+                    "Server is busy or shutting down: " + messageCode)
+                    .addListener(f -> metrics.requestCompleted(messageCode, start, false)));
+        } catch (RejectedExecutionException e) {
+            // 이벤트 루프도 종료됨 - 응답은 보낼 수 없고 지표만 정리
+            metrics.requestCompleted(messageCode, start, false);
         }
     }
 
     /**
      * JSON 응답 전송
      */
-    private void sendJsonResponse(ChannelHandlerContext ctx, FullHttpRequest request,
-                                   HttpResponseStatus status, Message responseMessage) {
-        String json;
+    private ChannelFuture sendJsonResponse(ChannelHandlerContext ctx, boolean keepAlive,
+                                           HttpResponseStatus status, Message responseMessage) {
+        ByteBuf content;
         if (responseMessage != null) {
-            json = messageConverter.toJson(responseMessage);
+            long encodeStart = metrics.now();
+            content = encodeContent(ctx, messageConverter.toJson(responseMessage));
+            metrics.record(responseMessage.getMessageCode(), MetricStage.ENCODE, metrics.now() - encodeStart);
 
-            // 송신 로깅
-            byte[] responseBytes = json.getBytes(config.getCharset());
-            messageLogger.logSend(responseMessage, layoutManager.getLayout(responseMessage.getMessageCode()), responseBytes);
+            // 송신 로깅 (본문 버퍼를 그대로 전달, readerIndex 변경 없음)
+            messageLogger.logSend(responseMessage, layoutManager.getLayout(responseMessage.getMessageCode()), content);
         } else {
-            json = "";
+            content = Unpooled.EMPTY_BUFFER;
         }
 
-        ByteBuf content = Unpooled.copiedBuffer(json, config.getCharset());
-
         FullHttpResponse response = new DefaultFullHttpResponse(
                 HttpVersion.HTTP_1_1, status, content);
 
@@ -222,22 +266,19 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         }
 
         // Keep-Alive 처리
-        boolean keepAlive = HttpUtil.isKeepAlive(request);
         if (keepAlive) {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-            ctx.writeAndFlush(response);
-        } else {
-            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+            return ctx.writeAndFlush(response);
         }
+        return ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
     }
 
     /**
      * 에러 응답 전송
      */
-    private void sendErrorResponse(ChannelHandlerContext ctx, FullHttpRequest request,
-                                    HttpResponseStatus status, String message) {
+    private ChannelFuture sendErrorResponse(ChannelHandlerContext ctx, HttpResponseStatus status, String message) {
         String json = messageConverter.createErrorJson(String.valueOf(status.code()), message);
-        ByteBuf content = Unpooled.copiedBuffer(json, config.getCharset());
+        ByteBuf content = encodeContent(ctx, json);
 
         FullHttpResponse response = new DefaultFullHttpResponse(
                 HttpVersion.HTTP_1_1, status, content);
@@ -250,15 +291,17 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             addCorsHeaders(response);
         }
 
-        ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+        // 에러 응답 후에는 연결을 닫으므로 클라이언트가 연결을 재사용하지 않도록 명시
+        response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        return ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
     }
 
     /**
-     * 헬스 체크 응답 전송
+     * 헬스 체크 응답 전송 (메트릭 레지스트리가 스냅샷을 지원하면 metrics 항목 포함)
      */
-    private void sendHealthCheckResponse(ChannelHandlerContext ctx, FullHttpRequest request) {
-        String json = messageConverter.createHealthCheckJson("UP");
-        ByteBuf content = Unpooled.copiedBuffer(json, config.getCharset());
+    private void sendHealthCheckResponse(ChannelHandlerContext ctx, boolean keepAlive) {
+        String json = messageConverter.createHealthCheckJson("UP", metricsSnapshot());
+        ByteBuf content = encodeContent(ctx, json);
 
         FullHttpResponse response = new DefaultFullHttpResponse(
                 HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
@@ -271,7 +314,6 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
             addCorsHeaders(response);
         }
 
-        boolean keepAlive = HttpUtil.isKeepAlive(request);
         if (keepAlive) {
             response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
             ctx.writeAndFlush(response);
@@ -280,21 +322,42 @@ public class HttpServerHandler extends SimpleChannelInboundHandler<FullHttpReque
         }
     }
 
+    /**
+     * 서버/클라이언트 이름별 메트릭 스냅샷 (JSON 직렬화용)
+     */
+    private Map<String, Object> metricsSnapshot() {
+        MetricsRegistry registry = config.getMetricsRegistry();
+        if (registry == null) {
+            return Map.of();
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        registry.snapshot().forEach((name, metricsSnapshot) -> snapshot.put(name, metricsSnapshot.toMap()));
+        return snapshot;
+    }
+
     /**
      * CORS Preflight 응답 전송
      */
-    private void sendCorsPreflightResponse(ChannelHandlerContext ctx, FullHttpRequest request) {
+    private void sendCorsPreflightResponse(ChannelHandlerContext ctx) {
         FullHttpResponse response = new DefaultFullHttpResponse(
                 HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
 
         addCorsHeaders(response);
 
         response.headers()
-                .set(HttpHeaderNames.CONTENT_LENGTH, 0);
+                .set(HttpHeaderNames.CONTENT_LENGTH, 0)
+                .set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
 
         ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
     }
 
+    /**
+     * 응답 본문을 채널의 풀링 버퍼에 인코딩
+     */
+    private ByteBuf encodeContent(ChannelHandlerContext ctx, String text) {
+        return ByteBufUtil.encodeString(ctx.alloc(), CharBuffer.wrap(text), config.getCharset());
+    }
+
     /**
      * CORS 헤더 추가
      */
@@ -1,21 +1,22 @@
 package springware.mci.server.tcp;
 
 import io.netty.bootstrap.ServerBootstrap;
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.timeout.IdleStateHandler;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.TransportType;
 import springware.mci.common.layout.LayoutManager;
-import springware.mci.common.layout.MessageLayout;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.transport.FlushBatchingHandler;
+import springware.mci.common.transport.IoTransport;
+import springware.mci.common.protocol.DefaultMessageCodec;
 import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.MciFrameDecoder;
+import springware.mci.common.protocol.MciMessageCodec;
+import springware.mci.common.protocol.MessageCodec;
 import springware.mci.common.protocol.ProtocolConfig;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.AbstractMciServer;
@@ -23,6 +24,8 @@ import springware.mci.server.core.MessageContext;
 import springware.mci.server.core.MessageHandler;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -33,14 +36,23 @@ public class TcpServer extends AbstractMciServer {
 
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new ArrayList<>();
+    private final MciMessageCodec messageCodec;
 
     public TcpServer(ServerConfig config) {
         super(config);
+        this.messageCodec = createMessageCodec();
     }
 
     public TcpServer(ServerConfig config, LayoutManager layoutManager, MessageLogger messageLogger) {
         super(config, layoutManager, messageLogger);
+        this.messageCodec = createMessageCodec();
+    }
+
+    private MciMessageCodec createMessageCodec() {
+        MessageCodec codec = new DefaultMessageCodec(config.getProtocolConfig(), layoutManager,
+                config.getCharset(), config.isLazyDecode());
+        return new MciMessageCodec(codec, messageLogger, metrics);
     }
 
     @Override
@@ -48,15 +60,15 @@ public class TcpServer extends AbstractMciServer {
         int bossThreads = config.getBossThreads();
         int workerThreads = config.getWorkerThreads();
 
-        bossGroup = new NioEventLoopGroup(bossThreads);
-        workerGroup = workerThreads > 0
-                ? new NioEventLoopGroup(workerThreads)
-                : new NioEventLoopGroup();
+        IoTransport transport = config.getIoTransport().resolve();
+        bossGroup = transport.newEventLoopGroup(bossThreads);
+        workerGroup = transport.newEventLoopGroup(workerThreads);
 
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
+            applyNativeOptions(bootstrap, transport);
             bootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(transport.serverChannelClass())
                     .option(ChannelOption.SO_BACKLOG, config.getBacklog())
                     .option(ChannelOption.SO_REUSEADDR, config.isReuseAddress())
                     .childOption(ChannelOption.SO_KEEPALIVE, config.isKeepAlive())
@@ -66,6 +78,12 @@ public class TcpServer extends AbstractMciServer {
                         protected void initChannel(SocketChannel ch) {
                             ChannelPipeline pipeline = ch.pipeline();
 
+                            // 플러시 통합 (응답 flush를 모아서 수행하도록 파이프라인 맨 앞에 배치)
+                            if (config.isFlushConsolidation()) {
+                                pipeline.addLast("flush", new FlushBatchingHandler(
+                                        config.getFlushMaxPendingWrites(), config.getFlushMaxDelayMicros()));
+                            }
+
                             // 유휴 상태 핸들러
                             pipeline.addLast("idle", new IdleStateHandler(
                                     config.getReadTimeout(),
@@ -73,16 +91,18 @@ public class TcpServer extends AbstractMciServer {
                                     config.getIdleTimeout(),
                                     TimeUnit.MILLISECONDS));
 
-                            // 프레임 디코더 추가
+                            // 프레임 디코더 및 메시지 코덱 추가
                             addFrameDecoder(pipeline);
+                            pipeline.addLast("codec", messageCodec);
 
                             // 비즈니스 로직 핸들러
                             pipeline.addLast("handler", new TcpServerHandler());
                         }
                     });
 
-            ChannelFuture future = bootstrap.bind(config.getHost(), config.getPort()).sync();
-            serverChannel = future.channel();
+            // SO_REUSEPORT 사용 시 boss 스레드마다 수신 소켓을 하나씩 바인딩
+            int acceptors = transport.isNative() && config.isReusePort() ? Math.max(1, bossThreads) : 1;
+            serverChannels.addAll(bind(bootstrap, acceptors));
 
             log.info("TCP server started on {}:{}", config.getHost(), config.getPort());
 
@@ -102,25 +122,27 @@ public class TcpServer extends AbstractMciServer {
             return;
         }
 
-        pipeline.addLast("frameDecoder", new LengthFieldBasedFrameDecoder(
-                protocolConfig.getMaxMessageSize(),
-                protocolConfig.getLengthFieldOffset(),
-                protocolConfig.getLengthFieldLength(),
-                protocolConfig.getLengthAdjustment(),
-                protocolConfig.getInitialBytesToStrip()
-        ));
+        pipeline.addLast("frameDecoder", new MciFrameDecoder(protocolConfig));
+    }
+
+    /**
+     * epoll 전용 옵션 적용
+     */
+    private void applyNativeOptions(ServerBootstrap bootstrap, IoTransport transport) {
+        if (!transport.isNative()) {
+            return;
+        }
+        if (config.isReusePort()) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        if (config.isTcpQuickAck()) {
+            bootstrap.childOption(EpollChannelOption.TCP_QUICKACK, true);
+        }
     }
 
     @Override
     protected void doStop() {
-        if (serverChannel != null) {
-            try {
-                serverChannel.close().sync();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            serverChannel = null;
-        }
+        closeChannels(serverChannels);
 
         if (bossGroup != null) {
             bossGroup.shutdownGracefully();
@@ -134,9 +156,9 @@ public class TcpServer extends AbstractMciServer {
     }
 
     /**
-     * TCP 서버 핸들러
+     * TCP 서버 핸들러 (프레임 분리와 디코딩은 파이프라인 코덱에서 수행)
      */
-    private class TcpServerHandler extends SimpleChannelInboundHandler<ByteBuf> {
+    private class TcpServerHandler extends SimpleChannelInboundHandler<Message> {
 
         @Override
         public void channelActive(ChannelHandlerContext ctx) {
@@ -145,44 +167,9 @@ public class TcpServer extends AbstractMciServer {
         }
 
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
-            byte[] data = new byte[msg.readableBytes()];
-            msg.readBytes(data);
-
+        protected void channelRead0(ChannelHandlerContext ctx, Message request) {
             try {
-                // 1단계: 헤더 로깅 (즉시)
-                ProtocolConfig protocolConfig = config.getProtocolConfig();
-                // initialBytesToStrip으로 이미 제거된 바이트를 고려하여 오프셋 계산
-                int headerOffset = protocolConfig.getLengthFieldOffset() + protocolConfig.getLengthFieldLength()
-                        - protocolConfig.getInitialBytesToStrip();
-                headerOffset = Math.max(0, headerOffset);
-
-                byte[] bodyData;
-                if (headerOffset > 0 && headerOffset < data.length) {
-                    bodyData = new byte[data.length - headerOffset];
-                    System.arraycopy(data, headerOffset, bodyData, 0, bodyData.length);
-                } else {
-                    bodyData = data;
-                }
-
-                // 메시지 코드 추출
-                String messageCode = new String(bodyData, 0, Math.min(4, bodyData.length), config.getCharset()).trim();
-
-                // 레이아웃 조회 및 디코딩
-                MessageLayout layout = layoutManager.getLayout(messageCode);
-                Message request;
-
-                if (layout != null) {
-                    request = layout.decode(bodyData, config.getCharset());
-                } else {
-                    request = Message.builder().messageCode(messageCode).build();
-                    log.warn("Layout not found for message code: {}", messageCode);
-                }
-
-                request.setRawData(data);
-
-                // 로깅 (2단계 로깅은 비동기로 처리됨)
-                messageLogger.logReceive(request, layout, data);
+                String messageCode = request.getMessageCode();
 
                 // 컨텍스트 생성
                 InetSocketAddress remoteAddress = (InetSocketAddress) ctx.channel().remoteAddress();
@@ -192,15 +179,26 @@ public class TcpServer extends AbstractMciServer {
                         .remoteAddress(remoteAddress)
                         .build();
 
-                // 핸들러 조회 및 처리
+                // 핸들러 조회 및 처리 (디스패처 설정에 따라 이벤트 루프 또는 업무 스레드에서 실행)
                 MessageHandler handler = getHandler(messageCode);
                 if (handler != null) {
-                    Message response = handler.handle(request, context);
+                    long start = onRequestStart();
+                    dispatcher.dispatch(messageCode, ctx.channel(), () -> {
+                        Message response;
+                        try {
+                            response = handle(handler, request, context);
+                        } catch (RuntimeException e) {
+                            onRequestComplete(messageCode, start, false);
+                            throw e;
+                        }
 
-                    // 응답 전송
-                    if (response != null) {
-                        sendResponse(ctx, response, layout);
-                    }
+                        // 응답 전송 (응답 기록 완료 시 종단 간 지연시간 기록)
+                        if (response != null) {
+                            sendResponse(ctx, response, messageCode, start);
+                        } else {
+                            onRequestComplete(messageCode, start, true);
+                        }
+                    }, () -> onRequestComplete(messageCode, start, false)); // 실행되지 못하고 폐기된 경우
                 } else {
                     log.warn("No handler found for message code: {}", messageCode);
                 }
@@ -211,76 +209,15 @@ public class TcpServer extends AbstractMciServer {
         }
 
         /**
-         * 응답 메시지 전송
+         * 응답 메시지 전송 (인코딩과 전송 로깅은 파이프라인 코덱에서 수행)
          */
-        private void sendResponse(ChannelHandlerContext ctx, Message response, MessageLayout requestLayout) {
-            try {
-                // 응답 레이아웃 조회 (기본적으로 요청과 동일한 레이아웃 사용)
-                MessageLayout foundLayout = layoutManager.getLayout(response.getMessageCode());
-                final MessageLayout responseLayout = (foundLayout != null) ? foundLayout : requestLayout;
-
-                if (responseLayout != null) {
-                    byte[] responseData = layoutManager.encode(response, config.getCharset());
-                    byte[] frameData = prependLengthField(responseData);
-
-                    ByteBuf buf = Unpooled.wrappedBuffer(frameData);
-                    ctx.writeAndFlush(buf).addListener((ChannelFutureListener) f -> {
-                        if (f.isSuccess()) {
-                            // 전송 완료 후 로깅
-                            messageLogger.logSend(response, responseLayout, frameData);
-                        } else {
-                            log.error("Failed to send response", f.cause());
-                        }
-                    });
+        private void sendResponse(ChannelHandlerContext ctx, Message response, String messageCode, long start) {
+            ctx.writeAndFlush(response).addListener((ChannelFutureListener) f -> {
+                onRequestComplete(messageCode, start, f.isSuccess());
+                if (!f.isSuccess()) {
+                    log.error("Failed to send response", f.cause());
                 }
-            } catch (Exception e) {
-                log.error("Failed to send response", e);
-            }
-        }
-
-        /**
-         * 길이 필드 추가
-         */
-        private byte[] prependLengthField(byte[] data) {
-            ProtocolConfig protocolConfig = config.getProtocolConfig();
-
-            if (protocolConfig.getLengthFieldType() == LengthFieldType.NONE) {
-                return data;
-            }
-
-            int lengthFieldLength = protocolConfig.getLengthFieldLength();
-            int bodyLength = data.length;
-
-            if (protocolConfig.isLengthIncludesHeader()) {
-                bodyLength += lengthFieldLength;
-            }
-            bodyLength += protocolConfig.getLengthAdjustment();
-
-            byte[] result = new byte[lengthFieldLength + data.length];
-
-            switch (protocolConfig.getLengthFieldType()) {
-                case NUMERIC_STRING:
-                    String lengthStr = String.format("%0" + lengthFieldLength + "d", bodyLength);
-                    System.arraycopy(lengthStr.getBytes(config.getCharset()), 0, result, 0, lengthFieldLength);
-                    break;
-                case BINARY_BIG_ENDIAN:
-                    for (int i = lengthFieldLength - 1; i >= 0; i--) {
-                        result[i] = (byte) (bodyLength & 0xFF);
-                        bodyLength >>= 8;
-                    }
-                    break;
-                case BINARY_LITTLE_ENDIAN:
-                    for (int i = 0; i < lengthFieldLength; i++) {
-                        result[i] = (byte) (bodyLength & 0xFF);
-                        bodyLength >>= 8;
-                    }
-                    break;
-                default:
-                    break;
-            }
-
-            System.arraycopy(data, 0, result, lengthFieldLength, data.length);
-            return result;
+            });
         }
 
         @Override
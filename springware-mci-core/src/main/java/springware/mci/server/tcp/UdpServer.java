@@ -1,25 +1,28 @@
 package springware.mci.server.tcp;
 
 import io.netty.bootstrap.Bootstrap;
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.DatagramPacket;
-import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.util.NettyRuntime;
 import lombok.extern.slf4j.Slf4j;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.TransportType;
 import springware.mci.common.layout.LayoutManager;
-import springware.mci.common.layout.MessageLayout;
 import springware.mci.common.logging.MessageLogger;
+import springware.mci.common.protocol.DefaultMessageCodec;
+import springware.mci.common.protocol.MciDatagramCodec;
+import springware.mci.common.protocol.MessageCodec;
+import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.AbstractMciServer;
 import springware.mci.server.core.MessageContext;
 import springware.mci.server.core.MessageHandler;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Netty 기반 UDP 서버
@@ -28,38 +31,52 @@ import java.net.InetSocketAddress;
 public class UdpServer extends AbstractMciServer {
 
     private EventLoopGroup workerGroup;
-    private Channel serverChannel;
+    private final List<Channel> serverChannels = new ArrayList<>();
+    private final MciDatagramCodec messageCodec;
 
     public UdpServer(ServerConfig config) {
         super(config);
+        this.messageCodec = createMessageCodec();
     }
 
     public UdpServer(ServerConfig config, LayoutManager layoutManager, MessageLogger messageLogger) {
         super(config, layoutManager, messageLogger);
+        this.messageCodec = createMessageCodec();
+    }
+
+    private MciDatagramCodec createMessageCodec() {
+        MessageCodec codec = new DefaultMessageCodec(ProtocolConfig.noLengthField(), layoutManager,
+                config.getCharset(), config.isLazyDecode());
+        return new MciDatagramCodec(codec, messageLogger, metrics);
     }
 
     @Override
     protected void doStart() {
         int workerThreads = config.getWorkerThreads();
-        workerGroup = workerThreads > 0
-                ? new NioEventLoopGroup(workerThreads)
-                : new NioEventLoopGroup();
+        IoTransport transport = config.getIoTransport().resolve();
+        workerGroup = transport.newEventLoopGroup(workerThreads);
 
         try {
             Bootstrap bootstrap = new Bootstrap();
+            // SO_REUSEPORT 사용 시 워커 스레드마다 소켓을 바인딩하여 수신을 분산
+            int sockets = 1;
+            if (transport.isNative() && config.isReusePort()) {
+                bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+                sockets = workerThreads > 0 ? workerThreads : NettyRuntime.availableProcessors();
+            }
             bootstrap.group(workerGroup)
-                    .channel(NioDatagramChannel.class)
+                    .channel(transport.datagramChannelClass())
                     .option(ChannelOption.SO_BROADCAST, false)
                     .option(ChannelOption.SO_REUSEADDR, config.isReuseAddress())
                     .handler(new ChannelInitializer<DatagramChannel>() {
                         @Override
                         protected void initChannel(DatagramChannel ch) {
+                            ch.pipeline().addLast("codec", messageCodec);
                             ch.pipeline().addLast("handler", new UdpServerHandler());
                         }
                     });
 
-            ChannelFuture future = bootstrap.bind(config.getHost(), config.getPort()).sync();
-            serverChannel = future.channel();
+            serverChannels.addAll(bind(bootstrap, sockets));
 
             log.info("UDP server started on {}:{}", config.getHost(), config.getPort());
 
@@ -71,14 +88,7 @@ public class UdpServer extends AbstractMciServer {
 
     @Override
     protected void doStop() {
-        if (serverChannel != null) {
-            try {
-                serverChannel.close().sync();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-            serverChannel = null;
-        }
+        closeChannels(serverChannels);
 
         if (workerGroup != null) {
             workerGroup.shutdownGracefully();
@@ -87,37 +97,17 @@ public class UdpServer extends AbstractMciServer {
     }
 
     /**
-     * UDP 서버 핸들러
+     * UDP 서버 핸들러 (디코딩은 파이프라인 코덱에서 수행)
      */
-    private class UdpServerHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+    private class UdpServerHandler extends SimpleChannelInboundHandler<AddressedEnvelope<Message, InetSocketAddress>> {
 
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket packet) {
-            InetSocketAddress sender = packet.sender();
-            ByteBuf content = packet.content();
-
-            byte[] data = new byte[content.readableBytes()];
-            content.readBytes(data);
+        protected void channelRead0(ChannelHandlerContext ctx, AddressedEnvelope<Message, InetSocketAddress> envelope) {
+            InetSocketAddress sender = envelope.sender();
+            Message request = envelope.content();
 
             try {
-                // 메시지 코드 추출
-                String messageCode = new String(data, 0, Math.min(4, data.length), config.getCharset()).trim();
-
-                // 레이아웃 조회 및 디코딩
-                MessageLayout layout = layoutManager.getLayout(messageCode);
-                Message request;
-
-                if (layout != null) {
-                    request = layout.decode(data, config.getCharset());
-                } else {
-                    request = Message.builder().messageCode(messageCode).build();
-                    log.warn("Layout not found for message code: {}", messageCode);
-                }
-
-                request.setRawData(data);
-
-                // 로깅
-                messageLogger.logReceive(request, layout, data);
+                String messageCode = request.getMessageCode();
 
                 // 컨텍스트 생성
                 MessageContext context = MessageContext.builder()
@@ -126,15 +116,27 @@ public class UdpServer extends AbstractMciServer {
                         .remoteAddress(sender)
                         .build();
 
-                // 핸들러 조회 및 처리
+                // 핸들러 조회 및 처리 (디스패처 설정에 따라 이벤트 루프 또는 업무 스레드에서 실행)
                 MessageHandler handler = getHandler(messageCode);
                 if (handler != null) {
-                    Message response = handler.handle(request, context);
+                    long start = onRequestStart();
+                    // 데이터그램 소켓 하나를 모든 송신자가 공유하므로 읽기를 멈추지 않고 포화된 레인의 초과 요청만 폐기
+                    dispatcher.dispatchOrDrop(messageCode, () -> {
+                        Message response;
+                        try {
+                            response = handle(handler, request, context);
+                        } catch (RuntimeException e) {
+                            onRequestComplete(messageCode, start, false);
+                            throw e;
+                        }
 
-                    // 응답 전송
-                    if (response != null) {
-                        sendResponse(ctx, sender, response, layout);
-                    }
+                        // 응답 전송 (응답 기록 완료 시 종단 간 지연시간 기록)
+                        if (response != null) {
+                            sendResponse(ctx, sender, response, messageCode, start);
+                        } else {
+                            onRequestComplete(messageCode, start, true);
+                        }
+                    }, () -> onRequestComplete(messageCode, start, false)); // 포화 또는 종료로 폐기된 경우
                 } else {
                     log.warn("No handler found for message code: {}", messageCode);
                 }
@@ -145,31 +147,16 @@ public class UdpServer extends AbstractMciServer {
         }
 
         /**
-         * 응답 메시지 전송
+         * 응답 메시지 전송 (인코딩과 전송 로깅은 파이프라인 코덱에서 수행)
          */
-        private void sendResponse(ChannelHandlerContext ctx, InetSocketAddress recipient,
-                                  Message response, MessageLayout requestLayout) {
-            try {
-                MessageLayout foundLayout = layoutManager.getLayout(response.getMessageCode());
-                final MessageLayout responseLayout = (foundLayout != null) ? foundLayout : requestLayout;
-
-                if (responseLayout != null) {
-                    byte[] responseData = layoutManager.encode(response, config.getCharset());
-
-                    ByteBuf buf = Unpooled.wrappedBuffer(responseData);
-                    DatagramPacket packet = new DatagramPacket(buf, recipient);
-
-                    ctx.writeAndFlush(packet).addListener((ChannelFutureListener) f -> {
-                        if (f.isSuccess()) {
-                            messageLogger.logSend(response, responseLayout, responseData);
-                        } else {
-                            log.error("Failed to send UDP response", f.cause());
-                        }
-                    });
+        private void sendResponse(ChannelHandlerContext ctx, InetSocketAddress recipient, Message response,
+                                  String messageCode, long start) {
+            ctx.writeAndFlush(new DefaultAddressedEnvelope<>(response, recipient)).addListener((ChannelFutureListener) f -> {
+                onRequestComplete(messageCode, start, f.isSuccess());
+                if (!f.isSuccess()) {
+                    log.error("Failed to send UDP response", f.cause());
                 }
-            } catch (Exception e) {
-                log.error("Failed to send UDP response", e);
-            }
+            });
         }
 
         @Override
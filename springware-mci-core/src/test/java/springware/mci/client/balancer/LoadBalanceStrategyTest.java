@@ -0,0 +1,116 @@
+package springware.mci.client.balancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.client.circuitbreaker.CircuitBreaker;
+import springware.mci.client.config.Endpoint;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoadBalanceStrategy 테스트")
+class LoadBalanceStrategyTest {
+
+    private final LoadBalancerConfig config = LoadBalancerConfig.builder()
+            .readmissionWindow(1000)
+            .build();
+
+    private BalancedEndpoint endpoint(int port) {
+        return new BalancedEndpoint(Endpoint.of("127.0.0.1", port), null,
+                new CircuitBreaker("endpoint-" + port), null, config);
+    }
+
+    private static void occupy(BalancedEndpoint endpoint, int outstanding) {
+        endpoint.outstanding.addAndGet(outstanding);
+    }
+
+    @Test
+    @DisplayName("라운드 로빈은 순서대로 고르게 선택")
+    void roundRobin() {
+        List<BalancedEndpoint> endpoints = List.of(endpoint(1), endpoint(2), endpoint(3));
+        LoadBalanceStrategy strategy = LoadBalanceStrategy.roundRobin();
+
+        Map<BalancedEndpoint, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            counts.merge(strategy.select(endpoints), 1, Integer::sum);
+        }
+
+        assertThat(counts.values()).containsOnly(10);
+    }
+
+    @Test
+    @DisplayName("최소 처리 중 요청은 가장 한가한 엔드포인트 선택")
+    void leastOutstanding() {
+        BalancedEndpoint busy = endpoint(1);
+        BalancedEndpoint idle = endpoint(2);
+        BalancedEndpoint moderate = endpoint(3);
+        occupy(busy, 5);
+        occupy(moderate, 2);
+
+        LoadBalanceStrategy strategy = LoadBalanceStrategy.leastOutstanding();
+        for (int i = 0; i < 10; i++) {
+            assertThat(strategy.select(List.of(busy, idle, moderate))).isSameAs(idle);
+        }
+    }
+
+    @Test
+    @DisplayName("두 후보 비교는 가장 바쁜 엔드포인트를 선택하지 않음")
+    void powerOfTwoChoices() {
+        BalancedEndpoint busy = endpoint(1);
+        occupy(busy, 10);
+        List<BalancedEndpoint> endpoints = List.of(busy, endpoint(2), endpoint(3));
+
+        LoadBalanceStrategy strategy = LoadBalanceStrategy.powerOfTwoChoices();
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.select(endpoints)).isNotSameAs(busy);
+        }
+        assertThat(strategy.select(List.of(busy))).isSameAs(busy);
+    }
+
+    @Test
+    @DisplayName("EWMA는 지연시간이 짧은 엔드포인트를 선호하고 느린 값은 바로 반영")
+    void ewmaLatency() {
+        BalancedEndpoint fast = endpoint(1);
+        BalancedEndpoint slow = endpoint(2);
+        long now = 0;
+        for (int i = 0; i < 10; i++) {
+            now += TimeUnit.MILLISECONDS.toNanos(100);
+            fast.recordLatency(TimeUnit.MILLISECONDS.toNanos(1), now);
+            slow.recordLatency(TimeUnit.MILLISECONDS.toNanos(20), now);
+        }
+
+        LoadBalanceStrategy strategy = LoadBalanceStrategy.ewmaLatency();
+        for (int i = 0; i < 10; i++) {
+            assertThat(strategy.select(List.of(fast, slow))).isSameAs(fast);
+        }
+
+        // 느려지면 바로 반영 (peak)
+        fast.recordLatency(TimeUnit.MILLISECONDS.toNanos(50), now + 1);
+        assertThat(fast.getLatencyEwma()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(strategy.select(List.of(fast, slow))).isSameAs(slow);
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 제외되고 닫히면 최소 비중부터 재투입")
+    void ejectAndReadmit() {
+        BalancedEndpoint endpoint = endpoint(1);
+        long now = System.nanoTime();
+        assertThat(endpoint.refresh(now)).isTrue();
+        assertThat(endpoint.getWeight(now)).isEqualTo(1.0);
+
+        endpoint.getCircuitBreaker().forceOpen();
+        assertThat(endpoint.refresh(now)).isFalse();
+        assertThat(endpoint.isEjected()).isTrue();
+
+        endpoint.getCircuitBreaker().forceClosed();
+        assertThat(endpoint.refresh(now)).isTrue();
+        assertThat(endpoint.isEjected()).isFalse();
+        assertThat(endpoint.getWeight(now)).isEqualTo(BalancedEndpoint.MIN_WEIGHT);
+        assertThat(endpoint.getWeight(now + TimeUnit.MILLISECONDS.toNanos(500))).isBetween(0.5, 0.6);
+        assertThat(endpoint.getWeight(now + TimeUnit.MILLISECONDS.toNanos(1000))).isEqualTo(1.0);
+    }
+}
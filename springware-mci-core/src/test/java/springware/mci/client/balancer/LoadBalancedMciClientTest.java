@@ -0,0 +1,275 @@
+package springware.mci.client.balancer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.client.circuitbreaker.CircuitBreakerConfig;
+import springware.mci.client.circuitbreaker.CircuitBreakerState;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.config.Endpoint;
+import springware.mci.client.core.CorrelationKeyExtractor;
+import springware.mci.client.healthcheck.HealthCheckConfig;
+import springware.mci.client.pool.PoolConfig;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.server.config.ServerConfig;
+import springware.mci.server.tcp.TcpServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoadBalancedMciClient 테스트")
+class LoadBalancedMciClientTest {
+
+    private static final ProtocolConfig PROTOCOL = ProtocolConfig.builder()
+            .lengthFieldLength(4)
+            .lengthFieldType(LengthFieldType.BINARY_BIG_ENDIAN)
+            .initialBytesToStrip(4)
+            .build();
+
+    private final LayoutManager layoutManager = createLayoutManager();
+    private final List<TcpServer> servers = new ArrayList<>();
+    private final List<AtomicInteger> received = new ArrayList<>();
+    private LoadBalancedMciClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        servers.forEach(TcpServer::stop);
+    }
+
+    @Test
+    @DisplayName("라운드 로빈으로 엔드포인트에 고르게 분산")
+    void distributesRoundRobin() throws Exception {
+        List<Endpoint> endpoints = List.of(startServer(), startServer(), startServer());
+        client = new LoadBalancedMciClient(clientConfig(endpoints).build(), balancerConfig(), layoutManager,
+                new DefaultMessageLogger());
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(client.send(echo("hello"), 5000).getString("data")).isEqualTo("hello");
+        }
+
+        assertThat(received).extracting(AtomicInteger::get).containsOnly(10);
+        assertThat(client.getEndpoints()).allSatisfy(endpoint -> {
+            assertThat(endpoint.getOutstanding()).isZero();
+            assertThat(endpoint.getLatencyEwma()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("연결할 수 없는 엔드포인트는 다른 엔드포인트로 넘기고 서킷이 열리면 제외")
+    void failsOverAndEjectsDeadEndpoint() throws Exception {
+        Endpoint dead = Endpoint.of("127.0.0.1", findAvailablePort());
+        List<Endpoint> endpoints = List.of(startServer(), dead, startServer());
+        client = new LoadBalancedMciClient(clientConfig(endpoints).build(), balancerConfig(), layoutManager,
+                new DefaultMessageLogger());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(client.send(echo("hello"), 5000).getString("data")).isEqualTo("hello");
+        }
+
+        assertThat(received.get(0).get() + received.get(1).get()).isEqualTo(20);
+        BalancedEndpoint deadEndpoint = client.getEndpoints().get(1);
+        assertThat(deadEndpoint.getCircuitBreaker().getState()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(deadEndpoint.isEjected()).isTrue();
+        assertThat(client.getStats()).contains(dead + "(", "ejected=true");
+    }
+
+    @Test
+    @DisplayName("모든 엔드포인트를 사용할 수 없으면 ConnectionException")
+    void failsWhenNoEndpointAvailable() throws Exception {
+        List<Endpoint> endpoints = List.of(Endpoint.of("127.0.0.1", findAvailablePort()));
+        client = new LoadBalancedMciClient(clientConfig(endpoints).build(), balancerConfig(), layoutManager,
+                new DefaultMessageLogger());
+
+        assertThatThrownBy(() -> client.send(echo("hello"), 5000))
+                .isInstanceOf(ConnectionException.class);
+        client.getEndpoints().get(0).getCircuitBreaker().forceOpen();
+        assertThatThrownBy(() -> client.send(echo("hello"), 5000))
+                .isInstanceOf(ConnectionException.class)
+                .hasMessageContaining("No available endpoint");
+    }
+
+    @Test
+    @DisplayName("헬스 체크가 불건전으로 판단한 엔드포인트 제외")
+    void ejectsUnhealthyEndpoint() throws Exception {
+        List<Endpoint> endpoints = List.of(startServer(), startServer());
+        client = new LoadBalancedMciClient(clientConfig(endpoints)
+                .healthCheckConfig(HealthCheckConfig.builder()
+                        .intervalMillis(50)
+                        .initialDelayMillis(0)
+                        .timeoutMillis(40)
+                        .failureThreshold(1)
+                        .build())
+                .build(), balancerConfig(), layoutManager, new DefaultMessageLogger());
+        BalancedEndpoint second = client.getEndpoints().get(1);
+
+        // when - 두 번째 서버 중지
+        servers.get(1).stop();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (second.getHealthChecker().isHealthy() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        int before = received.get(1).get();
+
+        // then
+        assertThat(second.getHealthChecker().isHealthy()).isFalse();
+        for (int i = 0; i < 10; i++) {
+            assertThat(client.send(echo("hello"), 5000).getString("data")).isEqualTo("hello");
+        }
+        assertThat(second.isEjected()).isTrue();
+        assertThat(received.get(1).get()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("연관 키 매칭과 헬스 체크를 함께 쓰면서 하트비트 공급자가 없으면 거부")
+    void rejectsKeyedHealthCheckWithoutHeartbeat() throws Exception {
+        ClientConfig config = clientConfig(List.of(startServer()))
+                .correlationKeyExtractor(CorrelationKeyExtractor.field("data"))
+                .healthCheckConfig(HealthCheckConfig.builder().intervalMillis(50).timeoutMillis(40).build())
+                .build();
+        LoadBalancerConfig withoutHeartbeat = LoadBalancerConfig.builder()
+                .poolConfig(PoolConfig.builder().minSize(1).maxSize(2).acquireTimeout(300).build())
+                .build();
+
+        assertThatThrownBy(() -> new LoadBalancedMciClient(config, withoutHeartbeat, layoutManager,
+                new DefaultMessageLogger()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("heartbeatMessageSupplier");
+    }
+
+    @Test
+    @DisplayName("연관 키를 담은 하트비트로 헬스 체크하면 엔드포인트 유지")
+    void keyedHealthCheckWithHeartbeat() throws Exception {
+        AtomicInteger sequence = new AtomicInteger();
+        List<Endpoint> endpoints = List.of(startServer(), startServer());
+        client = new LoadBalancedMciClient(clientConfig(endpoints)
+                .correlationKeyExtractor(CorrelationKeyExtractor.field("data"))
+                .healthCheckConfig(HealthCheckConfig.builder()
+                        .intervalMillis(50)
+                        .initialDelayMillis(0)
+                        .timeoutMillis(40)
+                        .failureThreshold(1)
+                        .build())
+                .build(), LoadBalancerConfig.builder()
+                .poolConfig(PoolConfig.builder().minSize(1).maxSize(2).acquireTimeout(300).build())
+                .heartbeatMessageSupplier(() -> echo("ping" + sequence.incrementAndGet()))
+                .build(), layoutManager, new DefaultMessageLogger());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sequence.get() < 6 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(client.getEndpoints()).allSatisfy(endpoint -> {
+            assertThat(endpoint.getHealthChecker().isHealthy()).isTrue();
+            assertThat(endpoint.isEjected()).isFalse();
+        });
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.send(echo("req" + i), 5000).getString("data")).isEqualTo("req" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("엔드포인트가 없으면 host/port 하나를 사용")
+    void singleEndpointFromHostAndPort() throws Exception {
+        Endpoint endpoint = startServer();
+        ClientConfig config = clientConfig(null)
+                .host(endpoint.host())
+                .port(endpoint.port())
+                .build();
+        client = new LoadBalancedMciClient(config, balancerConfig(), layoutManager, new DefaultMessageLogger());
+
+        assertThat(client.send(echo("single"), 5000).getString("data")).isEqualTo("single");
+        assertThat(client.getEndpoints()).extracting(BalancedEndpoint::getEndpoint).containsExactly(endpoint);
+        assertThat(client.isConnected()).isTrue();
+    }
+
+    private ClientConfig.ClientConfigBuilder clientConfig(List<Endpoint> endpoints) {
+        return ClientConfig.builder()
+                .clientId("lb-client")
+                .endpoints(endpoints)
+                .protocolConfig(PROTOCOL)
+                .connectTimeout(1000)
+                .retryEnabled(false)
+                .circuitBreakerConfig(CircuitBreakerConfig.builder()
+                        .failureThreshold(2)
+                        .openTimeout(60000)
+                        .build());
+    }
+
+    private static LoadBalancerConfig balancerConfig() {
+        return LoadBalancerConfig.builder()
+                .poolConfig(PoolConfig.builder()
+                        .minSize(1)
+                        .maxSize(2)
+                        .acquireTimeout(300)
+                        .build())
+                .heartbeatMessageSupplier(() -> echo("ping"))
+                .build();
+    }
+
+    private Endpoint startServer() throws IOException {
+        AtomicInteger count = new AtomicInteger();
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .build();
+        TcpServer server = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        server.registerHandler("ECH1", (request, context) -> {
+            if (!request.getString("data").startsWith("ping")) {
+                count.incrementAndGet();
+            }
+            Message response = Message.builder()
+                    .messageCode("ECH1")
+                    .messageType(MessageType.RESPONSE)
+                    .build();
+            response.setField("msgCode", "ECH1");
+            response.setField("data", request.getString("data"));
+            return response;
+        });
+        server.start();
+        servers.add(server);
+        received.add(count);
+        return Endpoint.of("127.0.0.1", serverConfig.getPort());
+    }
+
+    private static Message echo(String data) {
+        Message request = Message.builder().messageCode("ECH1").build();
+        request.setField("msgCode", "ECH1");
+        request.setField("data", data);
+        return request;
+    }
+
+    private static LayoutManager createLayoutManager() {
+        LayoutManager layoutManager = new DefaultLayoutManager();
+        layoutManager.registerLayout(MessageLayout.builder("ECH1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("data", 10))
+                .build());
+        return layoutManager;
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
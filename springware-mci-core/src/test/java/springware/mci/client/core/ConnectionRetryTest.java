@@ -5,9 +5,13 @@ import org.junit.jupiter.api.Test;
 import springware.mci.client.config.ClientConfig;
 import springware.mci.common.core.Message;
 import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.transport.TransportResources;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -180,12 +184,124 @@ class ConnectionRetryTest {
         assertThat(config.getRetryBackoffMultiplier()).isEqualTo(1.5);
     }
 
+    @Test
+    @DisplayName("느린 재연결이 공유 타이머를 점유하지 않음")
+    void slowReconnectDoesNotBlockSharedTimer() throws Exception {
+        // given - 같은 전송 자원(타이머)을 공유하는 두 클라이언트
+        TransportResources transport = TransportResources.create("reconnect-test", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger slowAttempts = new AtomicInteger(0);
+        try {
+            TestMciClient slow = new TestMciClient(reconnectConfig(transport), () -> {
+                if (slowAttempts.incrementAndGet() > 1) {
+                    // 응답 없는 상대로의 연결 (connectTimeout 동안 대기)
+                    await(release);
+                }
+            });
+            TestMciClient healthy = new TestMciClient(reconnectConfig(transport), () -> { });
+            slow.connect();
+            healthy.connect();
+
+            // when
+            slow.tryReconnect();
+            healthy.tryReconnect();
+
+            // then
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!healthy.isConnected() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(healthy.isConnected()).isTrue();
+            assertThat(slowAttempts.get()).isEqualTo(2);
+            assertThat(slow.state.get()).isEqualTo(ConnectionState.RECONNECTING);
+
+            release.countDown();
+            deadline = System.currentTimeMillis() + 2000;
+            while (!slow.isConnected() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(slow.isConnected()).isTrue();
+        } finally {
+            release.countDown();
+            transport.release();
+        }
+    }
+
+    @Test
+    @DisplayName("재연결 중 연결 해제되면 새 연결을 정리하고 전송 자원을 다시 획득하지 않음")
+    void disconnectDuringReconnectReleasesTransport() throws Exception {
+        // given
+        TransportResources transport = TransportResources.create("reconnect-test", 1);
+        CountDownLatch reconnecting = new CountDownLatch(1);
+        CountDownLatch disconnected = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger(0);
+        AtomicReference<TestMciClient> holder = new AtomicReference<>();
+        AtomicReference<Exception> reacquireFailure = new AtomicReference<>();
+        try {
+            TestMciClient client = new TestMciClient(reconnectConfig(transport), () -> {
+                if (attempts.incrementAndGet() > 1) {
+                    reconnecting.countDown();
+                    await(disconnected);
+                    // 연결 해제 후 연결 구현이 전송 자원을 조회하는 경우
+                    try {
+                        holder.get().transport();
+                    } catch (ConnectionException e) {
+                        reacquireFailure.set(e);
+                    }
+                }
+            });
+            holder.set(client);
+            client.connect();
+
+            // when
+            client.tryReconnect();
+            await(reconnecting);
+            assertThat(transport.refCnt()).isEqualTo(2);
+            client.disconnect();
+            disconnected.countDown();
+
+            // then
+            long deadline = System.currentTimeMillis() + 2000;
+            while (client.discarded.get() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(client.discarded.get()).isEqualTo(1);
+            assertThat(reacquireFailure.get()).isInstanceOf(ConnectionException.class);
+            assertThat(client.state.get()).isEqualTo(ConnectionState.DISCONNECTED);
+            assertThat(transport.refCnt()).isEqualTo(1);
+        } finally {
+            disconnected.countDown();
+            transport.release();
+        }
+    }
+
+    private static ClientConfig reconnectConfig(TransportResources transport) {
+        return ClientConfig.builder()
+                .clientId("test-client")
+                .host("localhost")
+                .port(9999)
+                .retryEnabled(false)
+                .reconnectAttempts(1)
+                .reconnectDelay(50)
+                .transportResources(transport)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     /**
      * 테스트용 MCI 클라이언트 구현
      */
     private static class TestMciClient extends AbstractMciClient {
 
         private final Runnable connectAction;
+        private final AtomicInteger discarded = new AtomicInteger(0);
 
         TestMciClient(ClientConfig config, Runnable connectAction) {
             super(config);
@@ -202,6 +318,11 @@ class ConnectionRetryTest {
             // no-op
         }
 
+        @Override
+        protected void discardConnection() {
+            discarded.incrementAndGet();
+        }
+
         @Override
         protected void doSendOneWay(Message message) {
             // no-op
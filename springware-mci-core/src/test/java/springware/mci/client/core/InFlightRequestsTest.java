@@ -0,0 +1,211 @@
+package springware.mci.client.core;
+
+import io.netty.channel.DefaultEventLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.exception.TimeoutException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InFlightRequests Tests")
+class InFlightRequestsTest {
+
+    private DefaultEventLoop eventLoop;
+
+    @BeforeEach
+    void setUp() {
+        eventLoop = new DefaultEventLoop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("연관 키 기반으로 순서가 바뀐 응답도 요청에 매칭")
+    void keyedOutOfOrder() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+
+        CompletableFuture<Message> first = inFlight.register(message("0000000001"), 0, eventLoop);
+        CompletableFuture<Message> second = inFlight.register(message("0000000002"), 0, eventLoop);
+        assertThat(inFlight.size()).isEqualTo(2);
+
+        Message secondResponse = message("0000000002");
+        Message firstResponse = message("0000000001");
+        assertThat(inFlight.complete(secondResponse)).isTrue();
+        assertThat(inFlight.complete(firstResponse)).isTrue();
+
+        assertThat(first.get()).isSameAs(firstResponse);
+        assertThat(second.get()).isSameAs(secondResponse);
+        assertThat(inFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("숫자 연관 키는 제로 패딩 여부나 타입과 무관하게 매칭 (N 필드는 Long으로 디코딩)")
+    void numericKeyNormalized() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+
+        CompletableFuture<Message> padded = inFlight.register(message("0000000123"), 0, eventLoop);
+        CompletableFuture<Message> plain = inFlight.register(message("456"), 0, eventLoop);
+
+        Message paddedResponse = Message.builder().messageCode("TEST").build();
+        paddedResponse.setField("seqNo", 123L);
+        Message plainResponse = message("0000000456");
+        assertThat(inFlight.complete(paddedResponse)).isTrue();
+        assertThat(inFlight.complete(plainResponse)).isTrue();
+
+        assertThat(padded.get()).isSameAs(paddedResponse);
+        assertThat(plain.get()).isSameAs(plainResponse);
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 연관 키는 공백만 제거하고 그대로 비교")
+    void nonNumericKeyKeptAsIs() {
+        CorrelationKeyExtractor extractor = CorrelationKeyExtractor.field("seqNo");
+
+        assertThat(extractor.extract(message(" 00AB12 "))).isEqualTo("00AB12");
+        assertThat(extractor.extract(message("-0012"))).isEqualTo("-0012");
+        assertThat(extractor.extract(message("0000"))).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("연관 키 추출기가 없으면 송신 순서대로 매칭")
+    void fifoMatching() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests(null);
+
+        CompletableFuture<Message> first = inFlight.register(message("A"), 0, eventLoop);
+        CompletableFuture<Message> second = inFlight.register(message("B"), 0, eventLoop);
+
+        Message response1 = message("X");
+        Message response2 = message("Y");
+        inFlight.complete(response1);
+        inFlight.complete(response2);
+
+        assertThat(first.get()).isSameAs(response1);
+        assertThat(second.get()).isSameAs(response2);
+    }
+
+    @Test
+    @DisplayName("매칭되지 않는 응답은 무시")
+    void unmatchedResponse() {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+        inFlight.register(message("0000000001"), 0, eventLoop);
+
+        assertThat(inFlight.complete(message("0000000099"))).isFalse();
+        assertThat(inFlight.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃 시 TimeoutException으로 완료되고 테이블에서 제거")
+    void timeout() {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+
+        CompletableFuture<Message> future = inFlight.register(message("0000000001"), 50, eventLoop);
+
+        assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(inFlight.size()).isZero();
+        // 타임아웃 이후 도착한 응답은 매칭되지 않음
+        assertThat(inFlight.complete(message("0000000001"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("FIFO 매칭에서 타임아웃된 요청은 대기열에서 제거")
+    void fifoTimeoutRemovesEntry() {
+        InFlightRequests inFlight = new InFlightRequests(null);
+
+        CompletableFuture<Message> future = inFlight.register(message("A"), 50, eventLoop);
+
+        assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(inFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("FIFO 매칭에서 타임아웃 시 연결 종료 작업 실행")
+    void fifoTimeoutRunsCallback() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests(null);
+        CountDownLatch closed = new CountDownLatch(1);
+
+        CompletableFuture<Message> future = inFlight.register(message("A"), 50, eventLoop, closed::countDown);
+
+        assertThat(closed.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(future).isCompletedExceptionally();
+        assertThat(inFlight.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("연관 키 매칭에서는 타임아웃 시 연결 종료 작업을 실행하지 않음")
+    void keyedTimeoutSkipsCallback() {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+        AtomicBoolean closed = new AtomicBoolean();
+
+        CompletableFuture<Message> future = inFlight.register(message("0000000001"), 50, eventLoop,
+                () -> closed.set(true));
+
+        assertThatThrownBy(() -> future.get(2, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    @DisplayName("응답으로 완료된 요청은 타임아웃 작업을 실행하지 않음")
+    void completedBeforeTimeoutSkipsCallback() throws Exception {
+        InFlightRequests inFlight = new InFlightRequests(null);
+        AtomicBoolean closed = new AtomicBoolean();
+
+        CompletableFuture<Message> future = inFlight.register(message("A"), 50, eventLoop, () -> closed.set(true));
+        inFlight.complete(message("X"));
+        Thread.sleep(150);
+
+        assertThat(future.get().getString("seqNo")).isEqualTo("X");
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    @DisplayName("연관 키가 없거나 중복되면 ProtocolException")
+    void invalidKey() {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+        inFlight.register(message("0000000001"), 0, eventLoop);
+
+        assertThatThrownBy(() -> inFlight.register(message("0000000001"), 0, eventLoop))
+                .isInstanceOf(ProtocolException.class);
+        assertThatThrownBy(() -> inFlight.register(message("  "), 0, eventLoop))
+                .isInstanceOf(ProtocolException.class);
+        assertThat(inFlight.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("failAll 호출 시 대기 중인 모든 요청 실패 처리")
+    void failAll() {
+        InFlightRequests inFlight = new InFlightRequests(CorrelationKeyExtractor.field("seqNo"));
+        CompletableFuture<Message> first = inFlight.register(message("0000000001"), 0, eventLoop);
+        CompletableFuture<Message> second = inFlight.register(message("0000000002"), 0, eventLoop);
+
+        inFlight.failAll(new ConnectionException("closed"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(inFlight.size()).isZero();
+    }
+
+    private Message message(String seqNo) {
+        Message message = Message.builder().messageCode("TEST").build();
+        message.setField("seqNo", seqNo);
+        return message;
+    }
+}
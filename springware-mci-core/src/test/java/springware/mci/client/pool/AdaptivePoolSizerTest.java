@@ -0,0 +1,97 @@
+package springware.mci.client.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptivePoolSizer 테스트")
+class AdaptivePoolSizerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final PoolConfig config = PoolConfig.builder()
+            .minSize(2)
+            .maxSize(20)
+            .adaptiveSizing(true)
+            .targetAcquireWait(10)
+            .build();
+
+    @Test
+    @DisplayName("대기 시간이 목표를 넘으면 리틀의 법칙 수요까지 증가")
+    void growsToDemandWhenQueueing() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(config, 0);
+
+        // 1초 동안 100건 x 평균 45ms 점유 = 평균 4.5개 사용 중, 여유분 포함 6개
+        for (int i = 0; i < 100; i++) {
+            sizer.recordHoldTime(TimeUnit.MILLISECONDS.toNanos(45));
+            sizer.recordAcquireWait(TimeUnit.MILLISECONDS.toNanos(i < 90 ? 1 : 30));
+        }
+
+        assertThat(sizer.resize(0, 0, SECOND)).isEqualTo(6);
+        assertThat(sizer.getDemand()).isEqualTo(6);
+        assertThat(sizer.getAcquireWaitP99()).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(sizer.getGrows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 스레드가 있으면 수요가 적어도 하나씩 증가하고 최대 크기를 넘지 않음")
+    void growsByOneWhileWaiting() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(config, 0);
+
+        int target = sizer.getTargetSize();
+        for (int i = 1; i <= 30; i++) {
+            target = sizer.resize(1, 0, i * SECOND);
+        }
+
+        assertThat(target).isEqualTo(20);
+        assertThat(sizer.getGrows()).isEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("대기 없이 수요가 줄면 비율만큼 감소하되 수요와 최소 크기 아래로는 줄지 않음")
+    void shrinksGradually() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(config, 0);
+        for (int i = 1; i <= 18; i++) {
+            sizer.resize(1, 0, i * SECOND);
+        }
+        assertThat(sizer.getTargetSize()).isEqualTo(20);
+
+        // 평균 9.5개 사용 중 -> 여유분 포함 12개 아래로는 줄지 않음
+        int previous = 20;
+        for (int i = 19; i <= 40; i++) {
+            for (int n = 0; n < 100; n++) {
+                sizer.recordHoldTime(TimeUnit.MILLISECONDS.toNanos(95));
+            }
+            int target = sizer.resize(0, 0, i * SECOND);
+            assertThat(target).isBetween(previous - 2, previous);
+            previous = target;
+        }
+        assertThat(previous).isEqualTo(12);
+
+        // 사용이 멈추면 최소 크기까지
+        for (int i = 41; i <= 80; i++) {
+            previous = sizer.resize(0, 0, i * SECOND);
+        }
+        assertThat(previous).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아직 반납되지 않은 사용 중 연결 수 아래로는 줄이지 않음")
+    void keepsConnectionsInUse() {
+        AdaptivePoolSizer sizer = new AdaptivePoolSizer(config, 0);
+        for (int i = 1; i <= 8; i++) {
+            sizer.resize(1, 0, i * SECOND);
+        }
+        assertThat(sizer.getTargetSize()).isEqualTo(10);
+
+        for (int i = 9; i <= 30; i++) {
+            sizer.resize(0, 7, i * SECOND);
+        }
+
+        assertThat(sizer.getTargetSize()).isEqualTo(7);
+        assertThat(sizer.getDemand()).isEqualTo(7);
+    }
+}
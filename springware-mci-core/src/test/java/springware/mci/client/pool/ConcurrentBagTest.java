@@ -0,0 +1,75 @@
+package springware.mci.client.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrentBag 테스트")
+class ConcurrentBagTest {
+
+    private static final class Item extends ConcurrentBag.Entry {
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 최근 반납한 항목을 다시 대여")
+    void threadLocalReuse() throws Exception {
+        ConcurrentBag<Item> bag = new ConcurrentBag<>(waiting -> { });
+        Item first = new Item();
+        Item second = new Item();
+        bag.add(first);
+        bag.add(second);
+
+        Item borrowed = bag.borrow(100, TimeUnit.MILLISECONDS);
+        Item other = bag.borrow(100, TimeUnit.MILLISECONDS);
+        bag.requite(other);
+
+        assertThat(bag.borrow(100, TimeUnit.MILLISECONDS)).isSameAs(other);
+        assertThat(borrowed).isNotSameAs(other);
+        assertThat(bag.getCount(ConcurrentBag.Entry.IN_USE)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목이 없으면 생성을 요청하고 추가된 항목을 넘겨받음")
+    void handoffToWaiter() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        ConcurrentBag<Item> bag = new ConcurrentBag<>(waiting -> requests.incrementAndGet());
+
+        CompletableFuture<Item> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bag.borrow(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (bag.getWaitingThreadCount() == 0) {
+            Thread.sleep(1);
+        }
+        Item item = new Item();
+        bag.add(item);
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(item);
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(item.getState()).isEqualTo(ConcurrentBag.Entry.IN_USE);
+    }
+
+    @Test
+    @DisplayName("예약된 항목은 대여되지 않고 타임아웃이면 null")
+    void reservedNotBorrowed() throws Exception {
+        ConcurrentBag<Item> bag = new ConcurrentBag<>(waiting -> { });
+        Item item = new Item();
+        bag.add(item);
+
+        assertThat(bag.reserve(item)).isTrue();
+        assertThat(bag.borrow(10, TimeUnit.MILLISECONDS)).isNull();
+
+        bag.unreserve(item);
+        assertThat(bag.borrow(10, TimeUnit.MILLISECONDS)).isSameAs(item);
+        assertThat(bag.remove(item)).isTrue();
+        assertThat(bag.size()).isZero();
+    }
+}
@@ -2,14 +2,22 @@ package springware.mci.client.pool;
 
 import org.junit.jupiter.api.*;
 import springware.mci.client.config.ClientConfig;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
 import springware.mci.common.exception.ConnectionException;
+import springware.mci.common.metrics.DefaultMetricsRegistry;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.metrics.MetricsSnapshot;
 
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -298,4 +306,310 @@ class TcpConnectionPoolTest {
         pool.release(client);
         pool.close();
     }
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 획득해도 최대 연결 수를 넘지 않음")
+    void neverExceedsMaxSizeUnderContention() throws Exception {
+        // given
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(0)
+                .maxSize(4)
+                .acquireTimeout(10000)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(), poolConfig);
+
+        int threadCount = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 20; j++) {
+                    var client = pool.acquire();
+                    maxObserved.accumulateAndGet(pool.getPoolSize(), Math::max);
+                    pool.release(client);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(4);
+        assertThat(pool.getPoolSize()).isLessThanOrEqualTo(4);
+        assertThat(pool.getActiveCount()).isZero();
+        assertThat(pool.getWaitingCount()).isZero();
+
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("대기 중인 스레드는 다른 스레드가 반환한 연결을 넘겨받음")
+    void waiterReceivesReleasedConnection() throws Exception {
+        // given
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(1)
+                .maxSize(1)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(), poolConfig);
+        var client = pool.acquire();
+
+        // when
+        CompletableFuture<Object> waiter = CompletableFuture.supplyAsync(() -> pool.acquire(5000));
+        while (pool.getWaitingCount() == 0) {
+            Thread.sleep(1);
+        }
+        pool.release(client);
+
+        // then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(client);
+        assertThat(pool.getPoolSize()).isEqualTo(1);
+
+        pool.release((TcpClient) waiter.get());
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("끊어진 연결 반환 시 제거 후 새 연결로 대체")
+    void replacesDisconnectedConnection() {
+        // given
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(1)
+                .maxSize(1)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(), poolConfig);
+        var client = pool.acquire();
+
+        // when
+        client.disconnect();
+        pool.release(client);
+        pool.release(client); // 중복 반환은 무시
+
+        // then - 최소 연결 수만큼 바로 보충 요청
+        assertThat(pool.getPoolSize()).isEqualTo(1);
+        var replacement = pool.acquire();
+        assertThat(replacement).isNotSameAs(client);
+        assertThat(replacement.isConnected()).isTrue();
+        assertThat(pool.getPoolSize()).isEqualTo(1);
+
+        pool.release(replacement);
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("최대 유휴 시간이 지난 연결은 최소 연결 수까지 제거")
+    void evictsIdleConnectionsDownToMinSize() throws Exception {
+        // given
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(1)
+                .maxSize(3)
+                .maxIdleTime(100)
+                .validationInterval(0)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(), poolConfig);
+        List<TcpClient> clients = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            clients.add(pool.acquire());
+        }
+        clients.forEach(pool::release);
+        assertThat(pool.getPoolSize()).isEqualTo(3);
+
+        // when
+        awaitPoolSize(pool, 1);
+
+        // then
+        assertThat(pool.getAvailableCount()).isEqualTo(1);
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("백그라운드 검증에서 끊어진 유휴 연결을 제거하고 최소 연결 수를 미리 보충")
+    void validatesIdleConnectionsAndRefills() throws Exception {
+        // given
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(2)
+                .maxSize(3)
+                .validationInterval(50)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(registry), poolConfig);
+        TcpClient broken = pool.acquire();
+        pool.release(broken);
+
+        // when - 유휴 상태에서 연결이 끊어짐
+        broken.disconnect();
+        awaitCreatedCount(registry, 3);
+        awaitAvailableCount(pool, 2);
+
+        // then
+        TcpClient first = pool.acquire();
+        TcpClient second = pool.acquire();
+        assertThat(first).isNotSameAs(broken);
+        assertThat(second).isNotSameAs(broken);
+        assertThat(first.isConnected()).isTrue();
+        assertThat(second.isConnected()).isTrue();
+        assertThat(pool.getPoolSize()).isEqualTo(2);
+
+        pool.release(first);
+        pool.release(second);
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("하트비트 응답이 없으면 유휴 연결 교체")
+    void replacesConnectionWhenHeartbeatFails() throws Exception {
+        // given - 테스트 서버는 응답하지 않음
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(1)
+                .maxSize(1)
+                .validationInterval(50)
+                .validationTimeout(50)
+                .heartbeatMessageSupplier(() -> Message.builder()
+                        .messageCode("PING")
+                        .messageType(MessageType.REQUEST)
+                        .build())
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(registry), poolConfig);
+        TcpClient original = pool.acquire();
+        pool.release(original);
+
+        // when
+        awaitCreatedCount(registry, 2);
+
+        // then
+        assertThat(original.isConnected()).isFalse();
+        assertThat(pool.getPoolSize()).isEqualTo(1);
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("연결 획득 대기와 생성 시간을 메트릭으로 기록")
+    void recordsPoolMetrics() {
+        // given
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(2)
+                .maxSize(2)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(registry), poolConfig);
+
+        // when
+        TcpClient client = pool.acquire();
+        TcpClient other = pool.acquire();
+        assertThatThrownBy(() -> pool.acquire(50)).isInstanceOf(ConnectionException.class);
+
+        // then
+        MetricsSnapshot snapshot = registry.snapshot().get("test-client");
+        assertThat(snapshot.get(TcpConnectionPool.METRIC_CODE, MetricStage.POOL_CREATE).getCount()).isEqualTo(2);
+        MetricsSnapshot.StageSnapshot acquire = snapshot.get(TcpConnectionPool.METRIC_CODE, MetricStage.POOL_ACQUIRE);
+        assertThat(acquire.getCount()).isEqualTo(2);
+        assertThat(acquire.getErrors()).isEqualTo(1);
+
+        pool.release(client);
+        pool.release(other);
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("적응형 크기 조절: 대기가 생기면 목표 크기를 늘리고 한가하면 최소 크기까지 줄임")
+    void adaptiveSizingGrowsAndShrinks() throws Exception {
+        // given
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        PoolConfig poolConfig = PoolConfig.builder()
+                .minSize(1)
+                .maxSize(4)
+                .adaptiveSizing(true)
+                .sizingInterval(20)
+                .build();
+        TcpConnectionPool pool = new TcpConnectionPool(createConfig(registry), poolConfig);
+        assertThat(pool.getTargetSize()).isEqualTo(1);
+
+        // when - 4개 스레드가 동시에 연결을 잡고 있음
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch acquired = new CountDownLatch(4);
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 4; i++) {
+                executor.execute(() -> {
+                    TcpClient client = pool.acquire(5000);
+                    acquired.countDown();
+                    try {
+                        done.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    pool.release(client);
+                });
+            }
+
+            // then - 목표 크기가 최대까지 늘어 모두 획득
+            assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(pool.getTargetSize()).isEqualTo(4);
+            assertThat(pool.getPoolSize()).isEqualTo(4);
+            done.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // then - 사용이 없으면 최소 크기까지 줄이고 남는 연결을 닫음
+        awaitPoolSize(pool, 1);
+        assertThat(pool.getTargetSize()).isEqualTo(1);
+        Map<String, Long> gauges = registry.snapshot().get("test-client").getGauges();
+        assertThat(gauges).containsEntry("pool.targetSize", 1L).containsEntry("pool.size", 1L);
+        assertThat(gauges.get("pool.grows")).isEqualTo(3L);
+        assertThat(gauges.get("pool.shrinks")).isPositive();
+
+        pool.close();
+    }
+
+    private ClientConfig createConfig(DefaultMetricsRegistry registry) {
+        return ClientConfig.builder()
+                .clientId("test-client")
+                .host("localhost")
+                .port(testPort)
+                .connectTimeout(5000)
+                .retryEnabled(false)
+                .metricsRegistry(registry)
+                .build();
+    }
+
+    private static void awaitPoolSize(TcpConnectionPool pool, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getPoolSize() != size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pool.getPoolSize()).isEqualTo(size);
+    }
+
+    private static void awaitAvailableCount(TcpConnectionPool pool, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (pool.getAvailableCount() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(pool.getAvailableCount()).isEqualTo(count);
+    }
+
+    private static void awaitCreatedCount(DefaultMetricsRegistry registry, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (createdCount(registry) < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(createdCount(registry)).isEqualTo(count);
+    }
+
+    private static long createdCount(DefaultMetricsRegistry registry) {
+        MetricsSnapshot.StageSnapshot created = registry.metrics("test-client").snapshot()
+                .get(TcpConnectionPool.METRIC_CODE, MetricStage.POOL_CREATE);
+        return created != null ? created.getCount() : 0;
+    }
 }
@@ -0,0 +1,199 @@
+package springware.mci.common.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.common.util.DateUtils;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컴파일된 고정 길이 코덱 테스트
+ */
+@DisplayName("컴파일된 레이아웃 코덱 테스트")
+class CompiledLayoutTest {
+
+    private static final Charset UTF8 = StandardCharsets.UTF_8;
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private MessageLayout layout;
+
+    @BeforeEach
+    void setUp() {
+        layout = MessageLayout.builder("TST1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field("seqNo", 6, FieldType.NUMERIC_STRING)
+                .field(FieldDefinition.number("count", 5))
+                .field(FieldDefinition.builder().name("amount").length(10).type(FieldType.AMOUNT)
+                        .decimalPlaces(2).build())
+                .field(FieldDefinition.builder().name("rspCode").length(4).defaultValue("0000").build())
+                .field(FieldDefinition.string("memo", 10))
+                .build();
+    }
+
+    private Message message() {
+        Message message = Message.builder().messageCode("TST1").build();
+        message.setField("msgCode", "TST1");
+        message.setField("seqNo", "123");
+        message.setField("count", 42);
+        message.setField("amount", 1234567L);
+        message.setField("memo", "hello");
+        return message;
+    }
+
+    @Test
+    @DisplayName("숫자 필드는 제로 패딩, 문자 필드는 공백 패딩으로 인코딩")
+    void encodePadding() {
+        byte[] encoded = layout.encode(message(), UTF8);
+
+        assertThat(new String(encoded, UTF8)).isEqualTo("TST1" + "000123" + "00042" + "0001234567" + "0000" + "hello     ");
+        assertThat(layout.getCompiledLayout().getLength()).isEqualTo(39);
+    }
+
+    @Test
+    @DisplayName("음수와 자리수 초과 숫자는 기존 문자열 처리와 동일하게 인코딩")
+    void encodeNegativeAndOverflow() {
+        Message message = message();
+        message.setField("count", -5L);
+        message.setField("amount", 123456789012L);
+
+        String encoded = new String(layout.encode(message, UTF8), UTF8);
+
+        assertThat(encoded.substring(10, 15)).isEqualTo("000-5");
+        assertThat(encoded.substring(15, 25)).isEqualTo("1234567890");
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자는 문자셋 기준 바이트 길이로 잘라서 인코딩")
+    void encodeMultibyte() {
+        Message message = message();
+        message.setField("memo", "가나다라마");
+
+        byte[] utf8 = layout.encode(message, UTF8);
+
+        assertThat(new String(utf8, 29, 10, UTF8)).isEqualTo("가나다 ");
+        assertThat(layout.decode(utf8, UTF8).getString("memo")).isEqualTo("가나다");
+
+        message.setField("memo", "가나");
+        byte[] eucKr = layout.encode(message, EUC_KR);
+
+        assertThat(new String(eucKr, 29, 10, EUC_KR)).isEqualTo("가나      ");
+        assertThat(layout.decode(eucKr, EUC_KR).getString("memo")).isEqualTo("가나");
+    }
+
+    @Test
+    @DisplayName("호출자 배열의 지정 위치에 인코딩")
+    void encodeIntoArrayAtOffset() {
+        byte[] target = new byte[4 + layout.getTotalLength()];
+        Arrays.fill(target, (byte) 'X');
+
+        int written = layout.encode(message(), target, 4, UTF8);
+
+        assertThat(written).isEqualTo(layout.getTotalLength());
+        assertThat(new String(target, 0, 4, UTF8)).isEqualTo("XXXX");
+        assertThat(Arrays.copyOfRange(target, 4, target.length)).isEqualTo(layout.encode(message(), UTF8));
+    }
+
+    @Test
+    @DisplayName("다이렉트 ByteBuf에 인코딩 시 writerIndex 이동")
+    void encodeIntoDirectBuffer() {
+        ByteBuf buffer = Unpooled.directBuffer(8);
+        try {
+            buffer.writeInt(layout.getTotalLength());
+            layout.encode(message(), buffer, UTF8);
+
+            assertThat(buffer.readableBytes()).isEqualTo(4 + layout.getTotalLength());
+            byte[] body = new byte[layout.getTotalLength()];
+            buffer.getBytes(4, body);
+            assertThat(body).isEqualTo(layout.encode(message(), UTF8));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    @DisplayName("배열 크기가 부족하면 LayoutException")
+    void encodeBufferTooSmall() {
+        byte[] target = new byte[layout.getTotalLength() - 1];
+
+        assertThatThrownBy(() -> layout.encode(message(), target, 0, UTF8))
+                .isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("숫자/금액 필드 디코딩")
+    void decodeNumbers() {
+        Message decoded = layout.decode(layout.encode(message(), UTF8), UTF8);
+
+        assertThat(decoded.<Object>getField("seqNo")).isEqualTo("000123");
+        assertThat(decoded.<Object>getField("count")).isEqualTo(42L);
+        assertThat(decoded.<Object>getField("amount")).isEqualTo(12345.67);
+        assertThat(decoded.<Object>getField("rspCode")).isEqualTo("0000");
+        assertThat(decoded.<Object>getField("memo")).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("빈 값과 잘못된 숫자는 0으로 디코딩")
+    void decodeBlankAndInvalid() {
+        String data = "TST1" + "      " + "  -7 " + "12a4567890" + "    " + "          ";
+
+        Message decoded = layout.decode(data.getBytes(UTF8), UTF8);
+
+        assertThat(decoded.<Object>getField("seqNo")).isEqualTo("");
+        assertThat(decoded.<Object>getField("count")).isEqualTo(-7L);
+        assertThat(decoded.<Object>getField("amount")).isEqualTo(0.0);
+        assertThat(decoded.<Object>getField("memo")).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("ByteBuf 슬라이스를 복사 없이 디코딩")
+    void decodeByteBufSlice() {
+        byte[] body = layout.encode(message(), UTF8);
+        ByteBuf heap = Unpooled.buffer();
+        ByteBuf direct = Unpooled.directBuffer();
+        try {
+            for (ByteBuf frame : new ByteBuf[]{heap, direct}) {
+                frame.writeInt(body.length).writeBytes(body);
+                ByteBuf slice = frame.slice(4, body.length);
+
+                Message decoded = layout.decode(slice, UTF8);
+
+                assertThat(decoded.<Object>getField("count")).isEqualTo(42L);
+                assertThat(decoded.<Object>getField("memo")).isEqualTo("hello");
+                assertThat(decoded.getRawData()).isNull();
+                assertThat(slice.readerIndex()).isZero();
+            }
+        } finally {
+            heap.release();
+            direct.release();
+        }
+    }
+
+    @Test
+    @DisplayName("날짜 표현식 필드는 값이 없으면 평가 결과로 인코딩, 잘못된 패턴은 레이아웃 생성 시 예외")
+    void encodeExpression() {
+        MessageLayout stamped = MessageLayout.builder("EXPR")
+                .field(FieldDefinition.builder().name("txDate").length(8).expression("${DATE:yyyyMMdd}").build())
+                .field(FieldDefinition.builder().name("padded").length(10).expression("${DATE:yyyyMMdd}").build())
+                .build();
+
+        String today = DateUtils.today();
+        byte[] encoded = stamped.encode(Message.builder().messageCode("EXPR").build(), UTF8);
+        assertThat(new String(encoded, UTF8)).isEqualTo(today + today + "  ");
+
+        assertThatThrownBy(() -> MessageLayout.builder("BAD")
+                .field(FieldDefinition.builder().name("txDate").length(8).expression("${DATE:yyyyMMdd{}").build())
+                .build())
+                .isInstanceOf(LayoutException.class)
+                .hasMessageContaining("txDate");
+    }
+}
@@ -0,0 +1,134 @@
+package springware.mci.common.layout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이너리 레이아웃 번들 테스트
+ */
+@DisplayName("레이아웃 번들 테스트")
+class LayoutBundleTest {
+
+    @TempDir
+    Path dir;
+
+    private static MessageLayout historyLayout() {
+        return MessageLayout.builder("TXH1")
+                .description("거래내역 응답")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.builder().name("txDate").length(8).type(FieldType.DATE)
+                        .expression("${DATE:yyyyMMdd}").build())
+                .field(FieldDefinition.masked("accountNo", 12, FieldType.STRING))
+                .field(FieldDefinition.builder().name("rspCode").length(4).defaultValue("0000").required(true).build())
+                .field(FieldDefinition.number("recordCount", 3))
+                .field(FieldDefinition.repeating("records", "recordCount", List.of(
+                        FieldDefinition.string("txType", 2),
+                        FieldDefinition.builder().name("amount").length(10).type(FieldType.AMOUNT)
+                                .decimalPlaces(2).build())))
+                .build();
+    }
+
+    @Test
+    @DisplayName("번들 저장 후 로드하면 필드 정의가 그대로 복원")
+    void roundTrip() {
+        MessageLayout original = historyLayout();
+        Path bundle = dir.resolve("layouts.mlb");
+
+        LayoutBundle.write(List.of(original), bundle);
+        List<MessageLayout> loaded = LayoutBundle.read(bundle);
+
+        assertThat(loaded).hasSize(1);
+        MessageLayout restored = loaded.get(0);
+        assertThat(restored.getLayoutId()).isEqualTo("TXH1");
+        assertThat(restored.getDescription()).isEqualTo("거래내역 응답");
+        assertThat(restored.getFields()).hasSize(original.getFields().size());
+
+        FieldDefinition txDate = restored.getField("txDate");
+        assertThat(txDate.getType()).isEqualTo(FieldType.DATE);
+        assertThat(txDate.getExpression()).isEqualTo("${DATE:yyyyMMdd}");
+        assertThat(restored.getField("accountNo").isMasked()).isTrue();
+        assertThat(restored.getField("rspCode").isRequired()).isTrue();
+        assertThat(restored.getField("rspCode").getDefaultValue()).isEqualTo("0000");
+
+        FieldDefinition records = restored.getField("records");
+        assertThat(records.isRepeating()).isTrue();
+        assertThat(records.getChildren()).extracting(FieldDefinition::getName).containsExactly("txType", "amount");
+        assertThat(records.getChildren().get(1).getDecimalPlaces()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("번들에서 로드한 레이아웃은 원본과 같은 바이트로 인코딩")
+    void sameEncoding() {
+        MessageLayout original = historyLayout();
+        MessageLayout restored = LayoutBundle.read(ByteBuffer.wrap(LayoutBundle.toBytes(List.of(original)))).get(0);
+
+        Message message = Message.builder().messageCode("TXH1").build();
+        message.setField("msgCode", "TXH1");
+        message.setField("txDate", "20260101");
+        message.setField("accountNo", "110123456789");
+        message.setField("recordCount", 2);
+        message.setField("records", List.of(
+                Map.of("txType", "01", "amount", 1000L),
+                Map.of("txType", "02", "amount", 250L)));
+
+        byte[] expected = original.encode(message, StandardCharsets.UTF_8);
+        assertThat(Arrays.equals(restored.encode(message, StandardCharsets.UTF_8), expected)).isTrue();
+    }
+
+    @Test
+    @DisplayName("YAML 디렉토리를 컴파일한 번들을 레이아웃 매니저에 등록")
+    void compileDirectory() throws Exception {
+        Files.writeString(dir.resolve("AAA1.yaml"), "id: AAA1\nfields:\n  - name: msgCode\n    length: 4\n");
+        Files.writeString(dir.resolve("BBB1.yml"), "id: BBB1\nfields:\n  - name: count\n    length: 5\n    type: N\n");
+        Path bundle = dir.resolve("out/layouts.mlb");
+
+        assertThat(LayoutBundleCompiler.compile(dir, bundle)).isEqualTo(2);
+        assertThat(LayoutBundle.isBundleFile(bundle)).isTrue();
+
+        LayoutManager manager = new DefaultLayoutManager();
+        assertThat(LayoutBundle.loadAndRegister(bundle, manager)).isEqualTo(2);
+        assertThat(manager.getLayout("BBB1").getField("count").getType()).isEqualTo(FieldType.NUMBER);
+    }
+
+    @Test
+    @DisplayName("컴파일 시 잘못된 YAML이나 중복 ID가 있으면 실패")
+    void compileFailsOnInvalidInput() throws Exception {
+        Files.writeString(dir.resolve("AAA1.yaml"), "id: AAA1\nfields:\n  - name: msgCode\n    length: 4\n");
+        Files.writeString(dir.resolve("copy.yaml"), "id: AAA1\nfields:\n  - name: msgCode\n    length: 4\n");
+
+        assertThatThrownBy(() -> LayoutBundleCompiler.compile(dir, dir.resolve("layouts.mlb")))
+                .isInstanceOf(LayoutException.class)
+                .hasMessageContaining("Duplicate layout id AAA1");
+
+        Files.writeString(dir.resolve("copy.yaml"), "id: AAA2\nfields: [ broken");
+        assertThatThrownBy(() -> LayoutBundleCompiler.compile(dir, dir.resolve("layouts.mlb")))
+                .isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("손상된 번들은 LayoutException")
+    void corruptedBundle() {
+        byte[] bytes = LayoutBundle.toBytes(List.of(historyLayout()));
+
+        assertThatThrownBy(() -> LayoutBundle.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 3))))
+                .isInstanceOf(LayoutException.class)
+                .hasMessageContaining("unexpected end");
+        assertThatThrownBy(() -> LayoutBundle.read(ByteBuffer.wrap("not a bundle".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(LayoutException.class)
+                .hasMessageContaining("Not a layout bundle");
+    }
+}
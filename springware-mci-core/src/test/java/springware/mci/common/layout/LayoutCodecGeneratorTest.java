@@ -0,0 +1,232 @@
+package springware.mci.common.layout;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 레이아웃 전용 코덱 생성기 테스트
+ *
+ * 생성된 소스를 컴파일하여 기본 경로(필드 플랜)와 같은 결과를 내는지 확인한다.
+ */
+@DisplayName("레이아웃 코덱 생성기 테스트")
+class LayoutCodecGeneratorTest {
+
+    private static final String PACKAGE = "test.generated";
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @TempDir
+    Path dir;
+
+    private MessageLayout history;
+    private MessageLayout transfer;
+
+    @BeforeEach
+    void setUp() {
+        history = historyLayout();
+        transfer = MessageLayout.builder("TRF1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.builder().name("txDate").length(8).type(FieldType.DATE)
+                        .expression("${DATE:yyyyMMdd}").build())
+                .field("seqNo", 10, FieldType.NUMERIC_STRING)
+                .field(FieldDefinition.builder().name("rspCode").length(4).defaultValue("0000").build())
+                .field(FieldDefinition.number("amount", 15))
+                .field(FieldDefinition.builder().name("fee").length(10).type(FieldType.AMOUNT)
+                        .decimalPlaces(2).build())
+                .field(FieldDefinition.string("memo", 20))
+                .build();
+    }
+
+    private static MessageLayout historyLayout() {
+        return MessageLayout.builder("TXH-2")
+                .description("거래내역 응답")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("accountNo", 12))
+                .field(FieldDefinition.number("recordCount", 3))
+                .field(FieldDefinition.repeating("records", "recordCount", List.of(
+                        FieldDefinition.string("txType", 2),
+                        FieldDefinition.number("amount", 10),
+                        FieldDefinition.string("memo", 10))))
+                .field(FieldDefinition.string("trailer", 4))
+                .build();
+    }
+
+    private Message transferMessage() {
+        Message message = Message.builder().messageCode("TRF1").build();
+        message.setField("msgCode", "TRF1");
+        message.setField("seqNo", "123");
+        message.setField("amount", 1500000L);
+        message.setField("fee", "250");
+        message.setField("memo", "월세 입금");
+        return message;
+    }
+
+    private Message historyMessage(int recordCount, int actualRecords) {
+        Message message = Message.builder().messageCode("TXH-2").build();
+        message.setField("msgCode", "TXH2");
+        message.setField("accountNo", "110123456789");
+        message.setField("recordCount", recordCount);
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < actualRecords; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("txType", i % 2 == 0 ? "01" : "02");
+            record.put("amount", 1000L * (i + 1));
+            record.put("memo", "메모" + i);
+            records.add(record);
+        }
+        message.setField("records", records);
+        message.setField("trailer", "END");
+        return message;
+    }
+
+    /**
+     * 생성 소스를 컴파일하여 코덱 인스턴스 생성
+     */
+    private LayoutCodec compile(MessageLayout layout) throws Exception {
+        Path sources = dir.resolve("src");
+        Path packageDir = sources.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(packageDir);
+        List<String> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry : LayoutCodecGenerator.generate(layout, PACKAGE).entrySet()) {
+            Path file = packageDir.resolve(entry.getKey() + ".java");
+            Files.writeString(file, entry.getValue(), StandardCharsets.UTF_8);
+            files.add(file.toString());
+        }
+
+        Path classes = dir.resolve("classes");
+        Files.createDirectories(classes);
+        List<String> args = new ArrayList<>(List.of("-encoding", "UTF-8", "-proc:none", "-d", classes.toString(),
+                "-classpath", System.getProperty("java.class.path")));
+        args.addAll(files);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertThat(compiler.run(null, null, null, args.toArray(new String[0]))).isZero();
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        Class<?> codecClass = loader.loadClass(PACKAGE + "." + LayoutCodecGenerator.codecClassName(layout.getLayoutId()));
+        return (LayoutCodec) codecClass.getDeclaredConstructor().newInstance();
+    }
+
+    @Test
+    @DisplayName("고정 길이 레이아웃: 인코딩/디코딩 결과가 기본 경로와 동일")
+    void fixedLayoutMatchesInterpreter() throws Exception {
+        LayoutCodec codec = compile(transfer);
+
+        for (Charset charset : List.of(StandardCharsets.UTF_8, EUC_KR)) {
+            byte[] expected = transfer.encode(transferMessage(), charset);
+            byte[] actual = new byte[codec.getEncodedLength(transferMessage())];
+            codec.encode(transferMessage(), actual, 0, charset);
+            assertThat(actual).isEqualTo(expected);
+
+            Message decoded = codec.decode(expected, 0, expected.length, charset);
+            assertThat(decoded.getFields()).isEqualTo(transfer.decode(expected, charset).getFields());
+            assertThat(decoded.getField("fee", 0.0)).isEqualTo(2.5);
+        }
+
+        assertThatThrownBy(() -> codec.decode(new byte[10], 0, 10, StandardCharsets.UTF_8))
+                .isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("반복부 레이아웃: 레코드 수가 건수보다 적은 경우까지 기본 경로와 동일")
+    void repeatingLayoutMatchesInterpreter() throws Exception {
+        LayoutCodec codec = compile(history);
+
+        for (int[] counts : new int[][]{{0, 0}, {3, 3}, {5, 2}}) {
+            Message message = historyMessage(counts[0], counts[1]);
+            byte[] expected = history.encode(message, EUC_KR);
+            byte[] actual = new byte[codec.getEncodedLength(message)];
+            codec.encode(message, actual, 0, EUC_KR);
+            assertThat(actual).isEqualTo(expected);
+
+            Message decoded = codec.decode(expected, 0, expected.length, EUC_KR);
+            assertThat(decoded.getFields()).isEqualTo(history.decode(expected, EUC_KR).getFields());
+        }
+    }
+
+    @Test
+    @DisplayName("레이아웃에 코덱을 연결하면 인코딩/디코딩이 코덱으로 처리")
+    void useCodec() throws Exception {
+        LayoutCodec codec = compile(history);
+        LayoutManager manager = new DefaultLayoutManager();
+        manager.registerLayout(history);
+
+        byte[] interpreted = manager.encode(historyMessage(2, 2), StandardCharsets.UTF_8);
+        assertThat(manager.registerCodec(codec)).isTrue();
+        assertThat(history.getCodec()).isSameAs(codec);
+
+        assertThat(manager.encode(historyMessage(2, 2), StandardCharsets.UTF_8)).isEqualTo(interpreted);
+        Message decoded = manager.decode("TXH-2", interpreted, StandardCharsets.UTF_8);
+        assertThat(decoded.getRawData()).isSameAs(interpreted);
+        assertThat(decoded.<List<?>>getField("records")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("시그니처가 다른 코덱은 연결하지 않음")
+    void rejectsStaleCodec() throws Exception {
+        LayoutCodec codec = compile(history);
+        MessageLayout changed = MessageLayout.builder("TXH-2")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("accountNo", 20))
+                .build();
+
+        assertThat(changed.useCodec(codec)).isFalse();
+        assertThat(changed.getCodec()).isNull();
+        // 설명/마스킹은 인코딩과 무관하므로 시그니처에 영향이 없다
+        assertThat(historyLayout().getSignature()).isEqualTo(codec.getSignature());
+    }
+
+    @Test
+    @DisplayName("타입 지정 메시지 클래스로 인코딩/디코딩")
+    void typedMessage() throws Exception {
+        LayoutCodec codec = compile(history);
+        Class<?> messageClass = codec.getClass().getClassLoader()
+                .loadClass(PACKAGE + "." + LayoutCodecGenerator.messageClassName("TXH-2"));
+
+        Object typed = messageClass.getMethod("from", Message.class).invoke(null, historyMessage(3, 3));
+        assertThat(messageClass.getMethod("getAccountNo").invoke(typed)).isEqualTo("110123456789");
+        assertThat(messageClass.getMethod("getRecordCount").invoke(typed)).isEqualTo(3L);
+
+        byte[] encoded = (byte[]) codec.getClass().getMethod("encode", messageClass, Charset.class)
+                .invoke(codec, typed, StandardCharsets.UTF_8);
+        assertThat(encoded).isEqualTo(history.encode(historyMessage(3, 3), StandardCharsets.UTF_8));
+
+        Object decoded = codec.getClass().getMethod("decodeTyped", byte[].class, Charset.class)
+                .invoke(codec, encoded, StandardCharsets.UTF_8);
+        List<?> records = (List<?>) messageClass.getMethod("getRecords").invoke(decoded);
+        assertThat(records).hasSize(3);
+        assertThat(records.get(2).getClass().getMethod("getAmount").invoke(records.get(2))).isEqualTo(3000L);
+
+        Message message = (Message) messageClass.getMethod("toMessage").invoke(decoded);
+        assertThat(message.getMessageCode()).isEqualTo("TXH-2");
+        assertThat(message.getFields()).isEqualTo(history.decode(encoded, StandardCharsets.UTF_8).getFields());
+    }
+
+    @Test
+    @DisplayName("레이아웃 ID와 필드명을 자바 식별자로 변환")
+    void names() {
+        assertThat(LayoutCodecGenerator.baseName("TXH-2")).isEqualTo("Txh2");
+        assertThat(LayoutCodecGenerator.baseName("001")).isEqualTo("L001");
+        assertThat(LayoutCodecGenerator.javaName("class")).isEqualTo("class_");
+        assertThat(LayoutCodecGenerator.javaName("tx-date")).isEqualTo("tx_date");
+    }
+}
@@ -0,0 +1,109 @@
+package springware.mci.common.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연 디코딩 메시지 테스트
+ */
+@DisplayName("지연 디코딩 메시지 테스트")
+class LazyMessageTest {
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private MessageLayout layout;
+    private byte[] data;
+
+    @BeforeEach
+    void setUp() {
+        layout = MessageLayout.builder("BAL1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field("seqNo", 10, FieldType.NUMERIC_STRING)
+                .field(FieldDefinition.string("accountNo", 20))
+                .field(FieldDefinition.number("balance", 15))
+                .build();
+
+        Message message = Message.builder().messageCode("BAL1").build();
+        message.setField("msgCode", "BAL1");
+        message.setField("seqNo", "1");
+        message.setField("accountNo", "1101234567890");
+        message.setField("balance", 50000L);
+        data = layout.encode(message, CHARSET);
+    }
+
+    @Test
+    @DisplayName("조회한 필드만 디코딩")
+    void decodeOnAccess() {
+        LazyMessage message = (LazyMessage) layout.decodeLazy(data, CHARSET);
+
+        assertThat(message.getMessageCode()).isEqualTo("BAL1");
+        assertThat(message.getMessageType()).isEqualTo(MessageType.REQUEST);
+        assertThat(message.isMaterialized("accountNo")).isFalse();
+
+        assertThat(message.getString("accountNo")).isEqualTo("1101234567890");
+        assertThat(message.getLong("balance")).isEqualTo(50000L);
+
+        assertThat(message.isMaterialized("accountNo")).isTrue();
+        assertThat(message.isMaterialized("seqNo")).isFalse();
+        assertThat(message.hasField("seqNo")).isTrue();
+        assertThat(message.hasField("unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("getFields 호출 시 전체 필드를 즉시 디코딩과 동일하게 구성")
+    void getFieldsMaterializesAll() {
+        Message lazy = layout.decodeLazy(data, CHARSET);
+        Message eager = layout.decode(data, CHARSET);
+
+        assertThat(lazy.getFields()).isEqualTo(eager.getFields());
+        assertThat(((LazyMessage) lazy).isMaterialized("seqNo")).isTrue();
+    }
+
+    @Test
+    @DisplayName("직접 설정한 값은 디코딩 값보다 우선")
+    void setFieldOverridesDecodedValue() {
+        Message message = layout.decodeLazy(data, CHARSET);
+
+        message.setField("balance", 1L);
+
+        assertThat(message.getLong("balance")).isEqualTo(1L);
+        assertThat(message.getFields()).containsEntry("balance", 1L);
+    }
+
+    @Test
+    @DisplayName("ByteBuf 지연 디코딩은 버퍼 해제 후에도 조회 가능")
+    void decodeLazyFromByteBuf() {
+        ByteBuf buffer = Unpooled.directBuffer().writeBytes(data);
+        Message message = layout.decodeLazy(buffer, CHARSET);
+        buffer.release();
+
+        assertThat(message.getString("accountNo")).isEqualTo("1101234567890");
+        assertThat(message.getRawData()).isNull();
+    }
+
+    @Test
+    @DisplayName("반복부가 있는 레이아웃은 즉시 디코딩")
+    void repeatingLayoutDecodesEagerly() {
+        MessageLayout repeating = MessageLayout.builder("TXH2")
+                .field(FieldDefinition.number("count", 2))
+                .field(FieldDefinition.repeating("records", "count",
+                        List.of(FieldDefinition.string("memo", 4))))
+                .build();
+
+        Message message = repeating.decodeLazy("01ABCD".getBytes(CHARSET), CHARSET);
+
+        assertThat(message).isNotInstanceOf(LazyMessage.class);
+        assertThat(message.<List<?>>getField("records")).hasSize(1);
+    }
+}
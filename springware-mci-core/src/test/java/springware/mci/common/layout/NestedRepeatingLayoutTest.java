@@ -0,0 +1,214 @@
+package springware.mci.common.layout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 중첩 반복부 테스트 - 카드 명세서 조회 시나리오
+ */
+@DisplayName("중첩 반복부 테스트")
+class NestedRepeatingLayoutTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    // 헤더: 메시지코드(4) + 카드수(2)
+    // 카드: 카드번호(16) + 이용건수(3) + 이용내역(N * 22) + 합계(12)
+    // 이용내역: 가맹점(10) + 금액(12)
+    private final MessageLayout layout = MessageLayout.builder("CST2")
+            .field(FieldDefinition.string("msgCode", 4))
+            .field(FieldDefinition.number("cardCount", 2))
+            .field(FieldDefinition.repeating("cards", "cardCount", List.of(
+                    FieldDefinition.string("cardNo", 16),
+                    FieldDefinition.number("itemCount", 3),
+                    FieldDefinition.repeating("items", "itemCount", List.of(
+                            FieldDefinition.string("merchant", 10),
+                            FieldDefinition.number("amount", 12))),
+                    FieldDefinition.number("total", 12))))
+            .field(FieldDefinition.string("trailer", 4))
+            .build();
+
+    private static Map<String, Object> item(String merchant, long amount) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("merchant", merchant);
+        item.put("amount", amount);
+        return item;
+    }
+
+    private static Map<String, Object> card(String cardNo, int items) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        long total = 0;
+        for (int i = 0; i < items; i++) {
+            list.add(item("가맹점" + i, 1000L * (i + 1)));
+            total += 1000L * (i + 1);
+        }
+        Map<String, Object> card = new LinkedHashMap<>();
+        card.put("cardNo", cardNo);
+        card.put("itemCount", (long) items);
+        card.put("items", list);
+        card.put("total", total);
+        return card;
+    }
+
+    @SafeVarargs
+    private static Message message(Map<String, Object>... cards) {
+        Message message = Message.builder().messageCode("CST2").build();
+        message.setField("msgCode", "CST2");
+        message.setField("cardCount", cards.length);
+        message.setField("cards", List.of(cards));
+        message.setField("trailer", "END");
+        return message;
+    }
+
+    @Test
+    @DisplayName("중첩 반복부 길이 계산과 인코딩/디코딩 왕복")
+    void roundTrip() {
+        Message message = message(card("1111222233334444", 2), card("5555666677778888", 0),
+                card("9999000011112222", 3));
+
+        byte[] data = layout.encode(message, EUC_KR);
+
+        // 6 + 카드 3건 고정부(31 * 3) + 이용내역 5건(22 * 5) + 4
+        assertThat(data).hasSize(6 + 31 * 3 + 22 * 5 + 4);
+        assertThat(layout.getEncodedLength(message)).isEqualTo(data.length);
+
+        Message decoded = layout.decode(data, EUC_KR);
+        assertThat(decoded.getString("trailer")).isEqualTo("END");
+        List<Map<String, Object>> cards = decoded.getField("cards");
+        assertThat(cards).hasSize(3);
+        assertThat(cards.get(0)).containsEntry("total", 3000L);
+        assertThat(cards.get(1).get("items")).isEqualTo(List.of());
+        assertThat(cards.get(2).get("items")).isEqualTo(List.of(
+                item("가맹점0", 1000L), item("가맹점1", 2000L), item("가맹점2", 3000L)));
+        assertThat(cards.get(2)).containsEntry("total", 6000L);
+
+        assertThat(layout.encode(decoded, EUC_KR)).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("지연 디코딩: 오프셋 색인으로 N번째 카드와 하위 이용내역을 바로 조회")
+    void lazyRandomAccess() {
+        Message message = message(card("1111222233334444", 3), card("5555666677778888", 1),
+                card("9999000011112222", 2));
+        byte[] data = layout.encode(message, EUC_KR);
+
+        Message lazy = layout.decodeLazy(data, EUC_KR);
+        RecordList cards = lazy.getField("cards");
+
+        assertThat(cards.isFixedLength()).isFalse();
+        assertThat(lazy.getString("trailer")).isEqualTo("END");
+        assertThat(lazy.getFields()).isEqualTo(layout.decode(data, EUC_KR).getFields());
+
+        RecordCursor cursor = cards.cursor().moveTo(2);
+        assertThat(cursor.getString("cardNo")).isEqualTo("9999000011112222");
+        assertThat(cursor.getLong("total")).isEqualTo(3000L);
+
+        RecordList items = cursor.getRecords("items");
+        assertThat(items.isFixedLength()).isTrue();
+        assertThat(items).hasSize(2);
+        assertThat(items.cursor().moveTo(1).getLong("amount")).isEqualTo(2000L);
+
+        cursor.moveTo(0);
+        assertThat(cursor.getLong("total")).isEqualTo(6000L);
+        assertThat(cursor.toMap()).isEqualTo(cards.get(0));
+        assertThatThrownBy(() -> cursor.getLong("items")).isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("스트리밍 값도 중첩 반복부 레이아웃으로 인코딩")
+    void streamEncodesNested() {
+        List<Map<String, Object>> cards = List.of(card("1111222233334444", 2), card("5555666677778888", 1));
+        Message expected = message(cards.get(0), cards.get(1));
+
+        Message streamed = message(cards.get(0), cards.get(1));
+        streamed.setField("cards", RecordStream.of(cards, (card, record) -> card.forEach(record::set)));
+
+        assertThat(layout.encode(streamed, EUC_KR)).isEqualTo(layout.encode(expected, EUC_KR));
+    }
+
+    @Test
+    @DisplayName("데이터가 건수보다 짧으면 있는 레코드만 조회")
+    void insufficientRecords() {
+        MessageLayout noTrailer = MessageLayout.builder("CST2")
+                .field(FieldDefinition.number("cardCount", 2))
+                .field(FieldDefinition.repeating("cards", "cardCount", List.of(
+                        FieldDefinition.number("itemCount", 3),
+                        FieldDefinition.repeating("items", "itemCount", List.of(
+                                FieldDefinition.number("amount", 5))))))
+                .build();
+        Message message = Message.builder().messageCode("CST2").build();
+        message.setField("cardCount", 2);
+        message.setField("cards", List.of(
+                Map.of("itemCount", 2, "items", List.of(Map.of("amount", 1), Map.of("amount", 2))),
+                Map.of("itemCount", 1, "items", List.of(Map.of("amount", 3)))));
+        byte[] full = noTrailer.encode(message, StandardCharsets.UTF_8);
+
+        RecordList cards = noTrailer.decodeLazy(Arrays.copyOf(full, full.length - 8), StandardCharsets.UTF_8)
+                .getField("cards");
+        assertThat(cards).hasSize(1);
+        assertThat(cards.get(0).get("items")).isEqualTo(List.of(Map.of("amount", 1L), Map.of("amount", 2L)));
+    }
+
+    @Test
+    @DisplayName("YAML 레이아웃의 중첩 children 로드")
+    void loadNestedYaml() {
+        String yaml = String.join("\n",
+                "id: CST2",
+                "fields:",
+                "  - name: cardCount",
+                "    length: 2",
+                "    type: N",
+                "  - name: cards",
+                "    length: 0",
+                "    repeatCountField: cardCount",
+                "    children:",
+                "      - name: itemCount",
+                "        length: 3",
+                "        type: N",
+                "      - name: items",
+                "        length: 0",
+                "        repeatCountField: itemCount",
+                "        children:",
+                "          - name: amount",
+                "            length: 5",
+                "            type: N",
+                "");
+        MessageLayout loaded = new YamlLayoutLoader()
+                .load(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+
+        Message message = Message.builder().messageCode("CST2").build();
+        message.setField("cardCount", 1);
+        message.setField("cards", List.of(Map.of("itemCount", 2,
+                "items", List.of(Map.of("amount", 10), Map.of("amount", 20)))));
+
+        assertThat(new String(loaded.encode(message, StandardCharsets.UTF_8), StandardCharsets.UTF_8))
+                .isEqualTo("01" + "002" + "00010" + "00020");
+    }
+
+    @Test
+    @DisplayName("중첩 반복부의 건수 필드가 뒤에 있으면 예외")
+    void countFieldMustPrecede() {
+        assertThatThrownBy(() -> MessageLayout.builder("BAD")
+                .field(FieldDefinition.number("count", 2))
+                .field(FieldDefinition.repeating("outer", "count", List.of(
+                        FieldDefinition.repeating("inner", "innerCount", List.of(
+                                FieldDefinition.string("value", 2))),
+                        FieldDefinition.number("innerCount", 2))))
+                .build())
+                .isInstanceOf(LayoutException.class)
+                .hasMessageContaining("innerCount");
+    }
+}
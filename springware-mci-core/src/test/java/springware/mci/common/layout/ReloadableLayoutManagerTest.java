@@ -0,0 +1,196 @@
+package springware.mci.common.layout;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 리로드 레이아웃 관리자 테스트
+ */
+@DisplayName("핫 리로드 레이아웃 관리자 테스트")
+class ReloadableLayoutManagerTest {
+
+    @TempDir
+    Path dir;
+
+    private ReloadableLayoutManager manager;
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    private static String yaml(String id, int memoLength) {
+        return "id: " + id + "\n"
+                + "fields:\n"
+                + "  - name: msgCode\n"
+                + "    length: 4\n"
+                + "    type: S\n"
+                + "  - name: memo\n"
+                + "    length: " + memoLength + "\n"
+                + "    type: S\n";
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        // 임시 파일에 쓴 뒤 이동하여 감시 스레드가 쓰다 만 파일을 읽지 않게 한다
+        Path tmp = dir.resolve(fileName + ".tmp");
+        Files.writeString(tmp, content, StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within timeout");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("시작 시 디렉토리의 레이아웃을 모두 로드")
+    void loadsOnStart() throws Exception {
+        write("AAA1.yaml", yaml("AAA1", 10));
+        write("BBB1.yml", yaml("BBB1", 5));
+        Files.writeString(dir.resolve("README.txt"), "not a layout");
+
+        manager = new ReloadableLayoutManager(dir, 50);
+        manager.start();
+
+        assertThat(manager.getLayoutIds()).containsExactly("AAA1", "BBB1");
+        assertThat(manager.getLayout("AAA1").getTotalLength()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("파일 수정 시 새 레이아웃으로 교체되고 이전 인스턴스는 그대로 유지")
+    void swapsOnModify() throws Exception {
+        write("AAA1.yaml", yaml("AAA1", 10));
+        manager = new ReloadableLayoutManager(dir, 50);
+        manager.start();
+
+        MessageLayout before = manager.getLayout("AAA1");
+        long version = manager.getVersion();
+
+        write("AAA1.yaml", yaml("AAA1", 20));
+        await(() -> manager.getLayout("AAA1").getTotalLength() == 24);
+
+        assertThat(manager.getVersion()).isGreaterThan(version);
+        // 교체 전에 얻은 레이아웃은 변하지 않는다 (처리 중인 디코딩 보호)
+        assertThat(before.getTotalLength()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("새 파일은 추가되고 삭제된 파일의 레이아웃은 제거")
+    void createAndDelete() throws Exception {
+        manager = new ReloadableLayoutManager(dir, 50);
+        manager.start();
+        assertThat(manager.size()).isZero();
+
+        write("CCC1.yaml", yaml("CCC1", 3));
+        await(() -> manager.hasLayout("CCC1"));
+
+        Files.delete(dir.resolve("CCC1.yaml"));
+        await(() -> !manager.hasLayout("CCC1"));
+    }
+
+    @Test
+    @DisplayName("잘못된 YAML은 무시하고 이전 레이아웃 유지")
+    void keepsPreviousOnParseFailure() throws Exception {
+        write("AAA1.yaml", yaml("AAA1", 10));
+        manager = new ReloadableLayoutManager(dir);
+        manager.reload();
+        MessageLayout before = manager.getLayout("AAA1");
+
+        write("AAA1.yaml", "id: AAA1\nfields: [ broken");
+        manager.reload();
+
+        assertThat(manager.getLayout("AAA1")).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("직접 등록한 레이아웃은 전체 리로드 후에도 유지")
+    void keepsProgrammaticLayouts() throws Exception {
+        write("AAA1.yaml", yaml("AAA1", 10));
+        manager = new ReloadableLayoutManager(dir);
+        manager.registerLayout(MessageLayout.builder("MAN1")
+                .field(FieldDefinition.string("msgCode", 4))
+                .build());
+
+        manager.reload();
+        Files.delete(dir.resolve("AAA1.yaml"));
+        manager.reload();
+
+        assertThat(manager.getLayoutIds()).containsExactly("MAN1");
+    }
+
+    @Test
+    @DisplayName("파일의 레이아웃 ID가 바뀌면 이전 ID는 제거")
+    void renamedLayoutId() throws Exception {
+        write("layout.yaml", yaml("OLD1", 10));
+        manager = new ReloadableLayoutManager(dir);
+        manager.reload();
+
+        write("layout.yaml", yaml("NEW1", 10));
+        manager.reload();
+
+        assertThat(manager.getLayoutIds()).containsExactly("NEW1");
+    }
+
+    @Test
+    @DisplayName("동시 리로드 시 먼저 시작한 느린 로드가 새 내용을 덮어쓰지 않음")
+    void concurrentReloadKeepsNewest() throws Exception {
+        write("AAA1.yaml", yaml("AAA1", 10));
+        CountDownLatch slowLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        YamlLayoutLoader loader = new YamlLayoutLoader() {
+            @Override
+            public MessageLayout load(Path filePath) {
+                MessageLayout layout = super.load(filePath);
+                if (loads.incrementAndGet() == 1) {
+                    // 이전 내용을 읽은 뒤 지연
+                    slowLoadStarted.countDown();
+                    try {
+                        releaseSlowLoad.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return layout;
+            }
+        };
+        manager = new ReloadableLayoutManager(dir, 50, false, loader);
+
+        Thread slow = new Thread(manager::reload);
+        slow.start();
+        assertThat(slowLoadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        write("AAA1.yaml", yaml("AAA1", 20));
+        Thread fast = new Thread(manager::reload);
+        fast.start();
+        Thread.sleep(200);
+
+        releaseSlowLoad.countDown();
+        slow.join(5000);
+        fast.join(5000);
+
+        assertThat(manager.getLayout("AAA1").getTotalLength()).isEqualTo(24);
+    }
+}
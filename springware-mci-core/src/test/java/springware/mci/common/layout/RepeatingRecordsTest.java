@@ -0,0 +1,211 @@
+package springware.mci.common.layout;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.LayoutException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 반복부 스트리밍 인코딩/커서 디코딩 테스트
+ */
+@DisplayName("반복부 스트리밍 테스트")
+class RepeatingRecordsTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private final MessageLayout layout = MessageLayout.builder("TXH2")
+            .field(FieldDefinition.string("msgCode", 4))
+            .field(FieldDefinition.number("recordCount", 3))
+            .field(FieldDefinition.repeating("records", "recordCount", List.of(
+                    FieldDefinition.string("txType", 2),
+                    FieldDefinition.number("amount", 10),
+                    FieldDefinition.builder().name("status").length(2).defaultValue("OK").build(),
+                    FieldDefinition.string("memo", 10))))
+            .field(FieldDefinition.string("trailer", 4))
+            .build();
+
+    private static final class Tx {
+        private final String type;
+        private final long amount;
+        private final String memo;
+
+        private Tx(String type, long amount, String memo) {
+            this.type = type;
+            this.amount = amount;
+            this.memo = memo;
+        }
+    }
+
+    private static List<Tx> transactions(int count) {
+        List<Tx> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new Tx(i % 2 == 0 ? "01" : "02", 1000L * (i + 1), "메모" + i));
+        }
+        return list;
+    }
+
+    private static Message message(int recordCount, Object records) {
+        Message message = Message.builder().messageCode("TXH2").build();
+        message.setField("msgCode", "TXH2");
+        message.setField("recordCount", recordCount);
+        message.setField("records", records);
+        message.setField("trailer", "END");
+        return message;
+    }
+
+    private static RecordStream<Tx> stream(List<Tx> items) {
+        // status는 설정하지 않아 기본값으로 채워진다
+        return RecordStream.of(items, (tx, record) -> record
+                .set("txType", tx.type)
+                .set("amount", tx.amount)
+                .set("memo", tx.memo)
+                .set("unknown", "ignored"));
+    }
+
+    private static List<Map<String, Object>> maps(List<Tx> items) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (Tx tx : items) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("txType", tx.type);
+            record.put("amount", tx.amount);
+            record.put("memo", tx.memo);
+            records.add(record);
+        }
+        return records;
+    }
+
+    @Test
+    @DisplayName("스트리밍 인코딩 결과가 레코드 맵 목록과 동일 (건수보다 많거나 적은 경우 포함)")
+    void streamEncodesSameAsMaps() {
+        for (int[] counts : new int[][]{{0, 0}, {3, 3}, {5, 2}, {2, 5}}) {
+            List<Tx> items = transactions(counts[1]);
+            byte[] expected = layout.encode(message(counts[0], maps(items)), EUC_KR);
+
+            assertThat(layout.encode(message(counts[0], stream(items)), EUC_KR)).isEqualTo(expected);
+
+            byte[] dst = new byte[expected.length + 3];
+            assertThat(layout.encode(message(counts[0], stream(items)), dst, 3, EUC_KR)).isEqualTo(expected.length);
+            assertThat(new String(dst, 3, expected.length, EUC_KR)).isEqualTo(new String(expected, EUC_KR));
+
+            ByteBuf heap = Unpooled.buffer(4);
+            ByteBuf direct = Unpooled.directBuffer(4);
+            try {
+                layout.encode(message(counts[0], stream(items)), heap, EUC_KR);
+                layout.encode(message(counts[0], stream(items)), direct, EUC_KR);
+                assertThat(heap.nioBuffer()).isEqualTo(ByteBuffer.wrap(expected));
+                assertThat(direct.nioBuffer()).isEqualTo(ByteBuffer.wrap(expected));
+            } finally {
+                heap.release();
+                direct.release();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("전용 코덱이 연결되어 있어도 스트리밍 값은 필드 플랜으로 인코딩")
+    void streamBypassesCodec() {
+        List<Tx> items = transactions(3);
+        byte[] expected = layout.encode(message(3, maps(items)), EUC_KR);
+        assertThat(layout.useCodec(RuntimeLayoutCodecs.define(layout))).isTrue();
+
+        assertThat(layout.getEncodedLength(message(3, stream(items)))).isEqualTo(expected.length);
+        assertThat(layout.encode(message(3, stream(items)), EUC_KR)).isEqualTo(expected);
+        assertThat(layout.encode(message(3, maps(items)), EUC_KR)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("스트리밍 값을 목록으로 조회하면 레코드 맵으로 변환")
+    void streamAsList() {
+        RecordStream<Tx> stream = stream(transactions(2));
+
+        assertThat(stream).hasSize(2);
+        assertThat(stream.get(1)).containsEntry("amount", 2000L).containsEntry("memo", "메모1");
+    }
+
+    @Test
+    @DisplayName("대상 배열이 작으면 예외")
+    void bufferTooSmall() {
+        Message message = message(3, stream(transactions(3)));
+
+        assertThatThrownBy(() -> layout.encode(message, new byte[10], 0, StandardCharsets.UTF_8))
+                .isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("지연 디코딩: 반복부는 RecordList로 조회한 레코드만 디코딩")
+    void lazyDecodeRecordList() {
+        byte[] data = layout.encode(message(4, maps(transactions(4))), EUC_KR);
+
+        Message eager = layout.decode(data, EUC_KR);
+        Message lazy = layout.decodeLazy(data, EUC_KR);
+
+        assertThat((Object) lazy.getField("records")).isInstanceOf(RecordList.class);
+        assertThat(lazy.getFields()).isEqualTo(eager.getFields());
+        assertThat(lazy.getString("trailer")).isEqualTo("END");
+        assertThat(lazy.getRawData()).isSameAs(data);
+
+        ByteBuf buffer = Unpooled.wrappedBuffer(data);
+        assertThat(layout.decodeLazy(buffer, EUC_KR).getFields()).isEqualTo(eager.getFields());
+    }
+
+    @Test
+    @DisplayName("커서: 레코드 순회와 N번째 레코드 바로 이동")
+    void cursor() {
+        byte[] data = layout.encode(message(4, maps(transactions(4))), EUC_KR);
+        RecordList records = layout.decodeLazy(data, EUC_KR).getField("records");
+        RecordCursor cursor = records.cursor();
+
+        long total = 0;
+        int count = 0;
+        while (cursor.next()) {
+            total += cursor.getLong("amount");
+            count++;
+        }
+        assertThat(count).isEqualTo(4);
+        assertThat(total).isEqualTo(10_000L);
+        assertThat(cursor.next()).isFalse();
+
+        cursor.moveTo(2);
+        assertThat(cursor.getString("memo")).isEqualTo("메모2");
+        assertThat(cursor.get("amount")).isEqualTo(3000L);
+        assertThat(cursor.getString("status")).isEqualTo("OK");
+        assertThat(cursor.toMap()).isEqualTo(records.get(2));
+
+        assertThatThrownBy(() -> cursor.moveTo(4)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> cursor.get("unknown")).isInstanceOf(LayoutException.class);
+    }
+
+    @Test
+    @DisplayName("데이터가 건수보다 짧으면 있는 레코드만 조회")
+    void lazyDecodeInsufficientRecords() {
+        MessageLayout noTrailer = MessageLayout.builder("TXH2")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.number("recordCount", 3))
+                .field(FieldDefinition.repeating("records", "recordCount", List.of(
+                        FieldDefinition.string("txType", 2),
+                        FieldDefinition.number("amount", 10))))
+                .build();
+        Message message = message(3, maps(transactions(3)));
+        byte[] full = noTrailer.encode(message, StandardCharsets.UTF_8);
+
+        RecordList records = noTrailer.decodeLazy(Arrays.copyOf(full, full.length - 5), StandardCharsets.UTF_8)
+                .getField("records");
+        assertThat(records).hasSize(2);
+        assertThat(records).isEqualTo(noTrailer.decode(full, StandardCharsets.UTF_8)
+                .<List<Map<String, Object>>>getField("records").subList(0, 2));
+    }
+}
@@ -0,0 +1,126 @@
+package springware.mci.common.layout;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 런타임 레이아웃 전용 코덱 테스트
+ */
+@DisplayName("런타임 레이아웃 코덱 테스트")
+class RuntimeLayoutCodecsTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    private static MessageLayout historyLayout() {
+        return MessageLayout.builder("TXH2")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.builder().name("txDate").length(8).type(FieldType.DATE)
+                        .expression("${DATE:yyyyMMdd}").build())
+                .field(FieldDefinition.number("recordCount", 3))
+                .field(FieldDefinition.repeating("records", "recordCount", List.of(
+                        FieldDefinition.string("txType", 2),
+                        FieldDefinition.number("amount", 10),
+                        FieldDefinition.builder().name("fee").length(8).type(FieldType.AMOUNT)
+                                .decimalPlaces(2).build(),
+                        FieldDefinition.string("memo", 10))))
+                .build();
+    }
+
+    private static Message historyMessage(int recordCount) {
+        Message message = Message.builder().messageCode("TXH2").build();
+        message.setField("msgCode", "TXH2");
+        message.setField("recordCount", recordCount);
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (int i = 0; i < recordCount; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("txType", "0" + (i % 2 + 1));
+            record.put("amount", 1000L * (i + 1));
+            record.put("fee", "150");
+            record.put("memo", "메모" + i);
+            records.add(record);
+        }
+        message.setField("records", records);
+        return message;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition not met within timeout");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    @DisplayName("히든 클래스 코덱이 기본 경로와 같은 결과를 생성")
+    void defineMatchesInterpreter() {
+        MessageLayout layout = historyLayout();
+        LayoutCodec codec = RuntimeLayoutCodecs.define(layout);
+
+        assertThat(codec.getClass().isHidden()).isTrue();
+        assertThat(codec.getSignature()).isEqualTo(layout.getSignature());
+
+        for (int count : new int[]{0, 1, 7}) {
+            Message message = historyMessage(count);
+            byte[] expected = layout.encode(message, EUC_KR);
+            byte[] actual = new byte[codec.getEncodedLength(message)];
+            codec.encode(message, actual, 0, EUC_KR);
+            assertThat(actual).isEqualTo(expected);
+            assertThat(codec.decode(expected, 0, expected.length, EUC_KR).getFields())
+                    .isEqualTo(layout.decode(expected, EUC_KR).getFields());
+        }
+    }
+
+    @Test
+    @DisplayName("런타임 코덱 옵션: 등록한 레이아웃에 백그라운드로 코덱 연결")
+    void defaultLayoutManagerAttachesCodec() throws Exception {
+        LayoutManager manager = new DefaultLayoutManager(true);
+        MessageLayout layout = historyLayout();
+        manager.registerLayout(layout);
+
+        // 연결 전에도 기본 경로로 처리된다
+        byte[] interpreted = manager.encode(historyMessage(3), StandardCharsets.UTF_8);
+
+        await(() -> layout.getCodec() != null);
+        assertThat(layout.getCodec().getClass().isHidden()).isTrue();
+        assertThat(manager.encode(historyMessage(3), StandardCharsets.UTF_8)).isEqualTo(interpreted);
+        assertThat(manager.decode("TXH2", interpreted, StandardCharsets.UTF_8).<List<?>>getField("records"))
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("이미 연결된 코덱은 런타임 코덱으로 바꾸지 않음")
+    void keepsExistingCodec() throws Exception {
+        MessageLayout layout = historyLayout();
+        LayoutCodec existing = RuntimeLayoutCodecs.define(layout);
+        layout.useCodec(existing);
+
+        RuntimeLayoutCodecs.attachAsync(layout).get(30, TimeUnit.SECONDS);
+        assertThat(layout.getCodec()).isSameAs(existing);
+    }
+
+    @Test
+    @DisplayName("기본 생성자는 런타임 코덱을 생성하지 않음")
+    void disabledByDefault() {
+        LayoutManager manager = new DefaultLayoutManager();
+        MessageLayout layout = historyLayout();
+        manager.registerLayout(layout);
+
+        assertThat(layout.getCodec()).isNull();
+    }
+}
@@ -0,0 +1,132 @@
+package springware.mci.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DefaultMetricsRegistry 테스트")
+class DefaultMetricsRegistryTest {
+
+    @Test
+    @DisplayName("이름별로 같은 기록기를 반환")
+    void sameMetricsPerName() {
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+
+        assertThat(registry.metrics("server")).isSameAs(registry.metrics("server"));
+        assertThat(registry.metrics("server")).isNotSameAs(registry.metrics("client"));
+        assertThat(registry.snapshot()).containsOnlyKeys("client", "server");
+    }
+
+    @Test
+    @DisplayName("메시지 코드/구간별 지연시간과 오류 건수 집계 (마이크로초)")
+    void recordsPerCodeAndStage() {
+        DefaultMciMetrics metrics = new DefaultMetricsRegistry().metrics("server");
+
+        for (int i = 1; i <= 100; i++) {
+            metrics.record("BAL1", MetricStage.HANDLE, TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        metrics.record("BAL1", MetricStage.DECODE, 2_000);
+        metrics.recordError("BAL1", MetricStage.HANDLE);
+        metrics.recordError(null, MetricStage.DECODE);
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        MetricsSnapshot.StageSnapshot handle = snapshot.get("BAL1", MetricStage.HANDLE);
+        assertThat(handle.getCount()).isEqualTo(100);
+        assertThat(handle.getErrors()).isEqualTo(1);
+        assertThat(handle.getP50()).isBetween(49.0, 51.0);
+        assertThat(handle.getMax()).isBetween(99.0, 101.0);
+        assertThat(snapshot.get("BAL1", MetricStage.DECODE).getP50()).isBetween(1.9, 2.1);
+        assertThat(snapshot.get("BAL1", MetricStage.ENCODE)).isNull();
+
+        MetricsSnapshot.StageSnapshot unknown = snapshot.get(MciMetrics.UNKNOWN_MESSAGE_CODE, MetricStage.DECODE);
+        assertThat(unknown.getCount()).isZero();
+        assertThat(unknown.getErrors()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 요청 수와 최대값")
+    void inFlightGauge() {
+        DefaultMciMetrics metrics = new DefaultMciMetrics("client");
+
+        metrics.incrementInFlight();
+        metrics.incrementInFlight();
+        metrics.decrementInFlight();
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getInFlight()).isEqualTo(1);
+        assertThat(snapshot.getPeakInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게이지는 스냅샷 시점 값을 읽음")
+    void gauges() {
+        DefaultMciMetrics metrics = new DefaultMciMetrics("client");
+        AtomicLong size = new AtomicLong(3);
+        metrics.gauge("pool.size", size::get);
+
+        assertThat(metrics.snapshot().getGauges()).containsEntry("pool.size", 3L);
+        size.set(5);
+        assertThat(metrics.snapshot().getGauges()).containsEntry("pool.size", 5L);
+        assertThat(metrics.snapshot().toMap()).containsKey("gauges");
+        assertThat(new DefaultMciMetrics("server").snapshot().toMap()).doesNotContainKey("gauges");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 기록")
+    void concurrentRecording() throws Exception {
+        DefaultMciMetrics metrics = new DefaultMciMetrics("server");
+        int threads = 4;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        metrics.record(i % 2 == 0 ? "BAL1" : "TRF1", MetricStage.END_TO_END, 1_000 + i);
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.get("BAL1", MetricStage.END_TO_END).getCount()
+                + snapshot.get("TRF1", MetricStage.END_TO_END).getCount()).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화용 맵 변환")
+    @SuppressWarnings("unchecked")
+    void toMap() {
+        DefaultMciMetrics metrics = new DefaultMciMetrics("server");
+        metrics.record("BAL1", MetricStage.END_TO_END, 5_000);
+
+        Map<String, Object> map = metrics.snapshot().toMap();
+
+        assertThat(map).containsKeys("inFlight", "peakInFlight", "messages");
+        Map<String, Object> stages = (Map<String, Object>) ((Map<String, Object>) map.get("messages")).get("BAL1");
+        assertThat(stages).containsOnlyKeys("endToEnd");
+        assertThat((Map<String, Object>) stages.get("endToEnd"))
+                .containsEntry("count", 1L)
+                .containsKeys("p50Us", "p99Us", "maxUs");
+    }
+
+    @Test
+    @DisplayName("NOOP은 시각 조회와 기록을 생략")
+    void noop() {
+        assertThat(MciMetrics.NOOP.isEnabled()).isFalse();
+        assertThat(MciMetrics.NOOP.now()).isZero();
+    }
+}
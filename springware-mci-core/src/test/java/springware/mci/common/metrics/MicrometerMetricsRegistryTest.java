@@ -0,0 +1,59 @@
+package springware.mci.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MicrometerMetricsRegistry 테스트")
+class MicrometerMetricsRegistryTest {
+
+    @Test
+    @DisplayName("구간별 Timer, 오류 Counter, 처리 중 Gauge 등록")
+    void registersMeters() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MciMetrics metrics = new MicrometerMetricsRegistry(meterRegistry).metrics("bank-server");
+
+        metrics.record("BAL1", MetricStage.HANDLE, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.record("BAL1", MetricStage.HANDLE, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordError("BAL1", MetricStage.END_TO_END);
+        metrics.incrementInFlight();
+
+        assertThat(meterRegistry.get(MicrometerMetricsRegistry.LATENCY)
+                .tags("component", "bank-server", "messageCode", "BAL1", "stage", "handle")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerMetricsRegistry.LATENCY).timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(8.0);
+        assertThat(meterRegistry.get(MicrometerMetricsRegistry.ERRORS)
+                .tags("messageCode", "BAL1", "stage", "endToEnd")
+                .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(MicrometerMetricsRegistry.IN_FLIGHT)
+                .tag("component", "bank-server")
+                .gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("게이지는 이름 태그로 등록")
+    void registersGauge() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MciMetrics metrics = new MicrometerMetricsRegistry(meterRegistry).metrics("bank-client");
+
+        metrics.gauge("pool.targetSize", () -> 4L);
+
+        assertThat(meterRegistry.get(MicrometerMetricsRegistry.GAUGE)
+                .tags("component", "bank-client", "name", "pool.targetSize")
+                .gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 지원하지 않음 (MeterRegistry로 조회)")
+    void noSnapshot() {
+        MicrometerMetricsRegistry registry = new MicrometerMetricsRegistry(new SimpleMeterRegistry());
+        registry.metrics("client").record("BAL1", MetricStage.ENCODE, 1_000);
+
+        assertThat(registry.snapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.MessageLayout;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 메시지 코덱 테스트
+ */
+@DisplayName("DefaultMessageCodec 테스트")
+class DefaultMessageCodecTest {
+
+    /**
+     * 길이 필드 없음 (lengthFieldLength는 기본값 4 유지)
+     */
+    private static final ProtocolConfig NONE = ProtocolConfig.builder()
+            .lengthFieldType(LengthFieldType.NONE)
+            .build();
+
+    private LayoutManager layoutManager;
+
+    @BeforeEach
+    void setUp() {
+        layoutManager = new DefaultLayoutManager();
+        layoutManager.registerLayout(MessageLayout.builder("ECHO")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("data", 6))
+                .build());
+    }
+
+    private static Message echo(String data) {
+        Message message = Message.builder().messageCode("ECHO").build();
+        message.setField("msgCode", "ECHO");
+        message.setField("data", data);
+        return message;
+    }
+
+    @Test
+    @DisplayName("길이 필드 NONE이면 바이트 배열 디코딩 시 lengthFieldLength만큼 건너뛰지 않음")
+    void decodeBytesWithoutLengthField() {
+        DefaultMessageCodec codec = new DefaultMessageCodec(NONE, layoutManager);
+
+        Message decoded = codec.decode("ECHOhello ".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decoded.getMessageCode()).isEqualTo("ECHO");
+        assertThat(decoded.getString("data")).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("길이 필드 NONE 인코딩/디코딩 왕복 (바이트 배열과 ByteBuf)")
+    void roundTripWithoutLengthField() {
+        DefaultMessageCodec codec = new DefaultMessageCodec(NONE, layoutManager);
+
+        byte[] encoded = codec.encode(echo("hi"));
+        assertThat(new String(encoded, StandardCharsets.UTF_8)).isEqualTo("ECHOhi    ");
+        assertThat(codec.decode(encoded).getString("data")).isEqualTo("hi");
+
+        ByteBuf frame = Unpooled.wrappedBuffer(encoded);
+        try {
+            assertThat(codec.decode(frame).getString("data")).isEqualTo("hi");
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("길이 필드가 있으면 길이 필드 다음부터 본문으로 디코딩")
+    void decodeBytesWithLengthField() {
+        DefaultMessageCodec codec = new DefaultMessageCodec(ProtocolConfig.builder().build(), layoutManager);
+
+        Message decoded = codec.decode("0010ECHOhello ".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(decoded.getString("data")).isEqualTo("hello");
+    }
+}
@@ -0,0 +1,114 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.MessageLayout;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 송신 프레임 인코더 테스트
+ */
+@DisplayName("FrameEncoder 테스트")
+class FrameEncoderTest {
+
+    private static final Charset UTF8 = StandardCharsets.UTF_8;
+
+    private MessageLayout layout;
+    private Message message;
+
+    @BeforeEach
+    void setUp() {
+        layout = MessageLayout.builder("ECHO")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("data", 6))
+                .build();
+
+        message = Message.builder().messageCode("ECHO").build();
+        message.setField("msgCode", "ECHO");
+        message.setField("data", "hello");
+    }
+
+    private FrameEncoder encoder(LengthFieldType type, int length, boolean includesHeader) {
+        return new FrameEncoder(ProtocolConfig.builder()
+                .lengthFieldType(type)
+                .lengthFieldLength(length)
+                .lengthIncludesHeader(includesHeader)
+                .build(), UTF8);
+    }
+
+    @Test
+    @DisplayName("길이 필드와 본문을 하나의 다이렉트 버퍼에 기록")
+    void encodeIntoDirectBuffer() {
+        ByteBuf frame = encoder(LengthFieldType.BINARY_BIG_ENDIAN, 4, false)
+                .encode(message, layout, PooledByteBufAllocator.DEFAULT);
+        try {
+            assertThat(frame.isDirect()).isTrue();
+            assertThat(frame.readableBytes()).isEqualTo(14);
+            assertThat(frame.getInt(0)).isEqualTo(10);
+            assertThat(frame.toString(4, 10, UTF8)).isEqualTo("ECHOhello ");
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼 인코딩과 배열 인코딩 결과가 동일")
+    void bufferMatchesArray() {
+        FrameEncoder encoder = encoder(LengthFieldType.NUMERIC_STRING, 4, false);
+
+        ByteBuf frame = encoder.encode(message, layout, PooledByteBufAllocator.DEFAULT);
+        try {
+            assertThat(ByteBufUtil.getBytes(frame)).isEqualTo(encoder.encode(message, layout));
+            assertThat(frame.toString(UTF8)).isEqualTo("0010ECHOhello ");
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("길이에 헤더 포함 시 길이 필드 크기를 더함")
+    void lengthIncludesHeader() {
+        byte[] frame = encoder(LengthFieldType.BINARY_LITTLE_ENDIAN, 2, true).encode(message, layout);
+
+        assertThat(frame[0]).isEqualTo((byte) 12);
+        assertThat(frame[1]).isEqualTo((byte) 0);
+    }
+
+    @Test
+    @DisplayName("BCD 길이 필드 인코딩")
+    void bcdLengthField() {
+        byte[] frame = encoder(LengthFieldType.BCD, 2, false).encode(message, layout);
+
+        assertThat(frame[0]).isEqualTo((byte) 0x00);
+        assertThat(frame[1]).isEqualTo((byte) 0x10);
+    }
+
+    @Test
+    @DisplayName("길이 필드에 담을 수 없는 길이는 ProtocolException")
+    void lengthOverflow() {
+        FrameEncoder encoder = encoder(LengthFieldType.NUMERIC_STRING, 1, false);
+
+        assertThatThrownBy(() -> encoder.encode(message, layout, PooledByteBufAllocator.DEFAULT))
+                .isInstanceOf(ProtocolException.class);
+    }
+
+    @Test
+    @DisplayName("길이 필드 없는 인코더는 본문만 기록")
+    void withoutLengthField() {
+        byte[] frame = FrameEncoder.withoutLengthField(UTF8).encode(message, layout);
+
+        assertThat(new String(frame, UTF8)).isEqualTo("ECHOhello ");
+    }
+}
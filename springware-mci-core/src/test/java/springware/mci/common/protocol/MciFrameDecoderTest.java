@@ -0,0 +1,101 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 프로토콜 설정 기반 프레임 디코더 테스트
+ */
+@DisplayName("MciFrameDecoder 테스트")
+class MciFrameDecoderTest {
+
+    private static ByteBuf ascii(String text) {
+        return Unpooled.copiedBuffer(text, StandardCharsets.US_ASCII);
+    }
+
+    private static String readFrame(EmbeddedChannel channel) {
+        ByteBuf frame = channel.readInbound();
+        try {
+            return frame.toString(StandardCharsets.US_ASCII);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    @DisplayName("숫자 문자열 길이 필드로 분할 수신된 프레임 조립")
+    void numericStringAcrossReads() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(ProtocolConfig.builder()
+                .lengthFieldType(LengthFieldType.NUMERIC_STRING)
+                .lengthFieldLength(4)
+                .initialBytesToStrip(4)
+                .build()));
+
+        channel.writeInbound(ascii("0010ECHO"));
+        assertThat((Object) channel.readInbound()).isNull();
+
+        channel.writeInbound(ascii("hello 0004PING"));
+        assertThat(readFrame(channel)).isEqualTo("ECHOhello ");
+        assertThat(readFrame(channel)).isEqualTo("PING");
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    @DisplayName("BCD 길이 필드 해석")
+    void bcdLengthField() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(ProtocolConfig.builder()
+                .lengthFieldType(LengthFieldType.BCD)
+                .lengthFieldLength(2)
+                .initialBytesToStrip(2)
+                .build()));
+
+        ByteBuf frame = Unpooled.buffer();
+        frame.writeByte(0x00).writeByte(0x18);
+        frame.writeCharSequence("ECHOhello world!", StandardCharsets.US_ASCII);
+        frame.writeCharSequence("..", StandardCharsets.US_ASCII);
+        channel.writeInbound(frame);
+
+        assertThat(readFrame(channel)).isEqualTo("ECHOhello world!..");
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("헤더 포함 길이와 보정값은 FrameEncoder와 같은 의미로 해석")
+    void matchesFrameEncoderSemantics() {
+        ProtocolConfig config = ProtocolConfig.builder()
+                .lengthFieldType(LengthFieldType.BINARY_LITTLE_ENDIAN)
+                .lengthFieldLength(2)
+                .lengthIncludesHeader(true)
+                .lengthAdjustment(3)
+                .build();
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(config));
+
+        ByteBuf frame = Unpooled.buffer();
+        frame.writeShortLE(4 + 2 + 3);
+        frame.writeCharSequence("PING", StandardCharsets.US_ASCII);
+        channel.writeInbound(frame);
+
+        ByteBuf decoded = channel.readInbound();
+        assertThat(decoded.readableBytes()).isEqualTo(6);
+        decoded.release();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 길이 필드는 프레임 오류")
+    void invalidNumericLength() {
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(ProtocolConfig.numericLength4()));
+
+        assertThatThrownBy(() -> channel.writeInbound(ascii("00X4PING")))
+                .isInstanceOf(DecoderException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package springware.mci.common.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.DefaultAddressedEnvelope;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DatagramPacket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.core.Message;
+import springware.mci.common.exception.ProtocolException;
+import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.metrics.DefaultMetricsRegistry;
+import springware.mci.common.metrics.MciMetrics;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.metrics.MetricsSnapshot;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파이프라인 메시지 코덱 테스트
+ */
+@DisplayName("MciMessageCodec 테스트")
+class MciMessageCodecTest {
+
+    private static final ProtocolConfig PROTOCOL = ProtocolConfig.builder()
+            .lengthFieldType(LengthFieldType.NUMERIC_STRING)
+            .lengthFieldLength(4)
+            .initialBytesToStrip(4)
+            .build();
+
+    private LayoutManager layoutManager;
+
+    @BeforeEach
+    void setUp() {
+        layoutManager = new DefaultLayoutManager();
+        layoutManager.registerLayout(MessageLayout.builder("ECHO")
+                .field(FieldDefinition.string("msgCode", 4))
+                .field(FieldDefinition.string("data", 6))
+                .build());
+    }
+
+    private EmbeddedChannel channel() {
+        MessageCodec codec = new DefaultMessageCodec(PROTOCOL, layoutManager, StandardCharsets.UTF_8, false);
+        return new EmbeddedChannel(new MciFrameDecoder(PROTOCOL), new MciMessageCodec(codec, new DefaultMessageLogger()));
+    }
+
+    private static Message echo(String data) {
+        Message message = Message.builder().messageCode("ECHO").build();
+        message.setField("msgCode", "ECHO");
+        message.setField("data", data);
+        return message;
+    }
+
+    @Test
+    @DisplayName("송신 메시지를 길이 필드 포함 프레임으로 인코딩하고 수신 프레임을 메시지로 디코딩")
+    void roundTrip() {
+        EmbeddedChannel channel = channel();
+
+        assertThat(channel.writeOutbound(echo("hello"))).isTrue();
+        ByteBuf frame = channel.readOutbound();
+        assertThat(frame.toString(StandardCharsets.UTF_8)).isEqualTo("0010ECHOhello ");
+
+        channel.writeInbound(frame);
+        Message decoded = channel.readInbound();
+        assertThat(decoded.getMessageCode()).isEqualTo("ECHO");
+        assertThat(decoded.getString("data")).isEqualTo("hello");
+        assertThat(channel.finish()).isFalse();
+    }
+
+    @Test
+    @DisplayName("레이아웃이 없는 메시지 코드는 코드만 가진 메시지로 전달")
+    void unknownLayout() {
+        EmbeddedChannel channel = channel();
+
+        channel.writeInbound(Unpooled.copiedBuffer("0004XXXX", StandardCharsets.UTF_8));
+
+        Message decoded = channel.readInbound();
+        assertThat(decoded.getMessageCode()).isEqualTo("XXXX");
+        assertThat(decoded.getFields()).isEmpty();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("레이아웃이 없는 수신 코드의 디코딩 메트릭은 UNKNOWN으로 기록")
+    void unknownLayoutMetricsUseUnknownCode() {
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        MessageCodec codec = new DefaultMessageCodec(PROTOCOL, layoutManager, StandardCharsets.UTF_8, false);
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(PROTOCOL),
+                new MciMessageCodec(codec, new DefaultMessageLogger(), registry.metrics("codec")));
+
+        channel.writeInbound(Unpooled.copiedBuffer("0004XXXX", StandardCharsets.UTF_8));
+        channel.writeInbound(Unpooled.copiedBuffer("0004YYYY", StandardCharsets.UTF_8));
+        channel.writeInbound(Unpooled.copiedBuffer("0010ECHOhello ", StandardCharsets.UTF_8));
+
+        MetricsSnapshot snapshot = registry.snapshot().get("codec");
+        assertThat(snapshot.get(MciMetrics.UNKNOWN_MESSAGE_CODE, MetricStage.DECODE).getCount()).isEqualTo(2);
+        assertThat(snapshot.get("ECHO", MetricStage.DECODE).getCount()).isEqualTo(1);
+        assertThat(snapshot.get("XXXX", MetricStage.DECODE)).isNull();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("레이아웃이 없는 메시지 송신은 기록 실패")
+    void encodeFailure() {
+        EmbeddedChannel channel = channel();
+
+        Message message = Message.builder().messageCode("NONE").build();
+        assertThat(channel.writeOneOutbound(message).isSuccess()).isFalse();
+        assertThat((Object) channel.readOutbound()).isNull();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 프레임은 기본적으로 버리고 연결 유지")
+    void decodeFailureDropsFrame() {
+        EmbeddedChannel channel = channel();
+
+        channel.writeInbound(Unpooled.copiedBuffer("0006ECHOhi", StandardCharsets.UTF_8));
+
+        assertThat((Object) channel.readInbound()).isNull();
+        channel.checkException();
+        assertThat(channel.isActive()).isTrue();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 전파 설정 시 ProtocolException으로 exceptionCaught 발생")
+    void decodeFailurePropagates() {
+        MessageCodec codec = new DefaultMessageCodec(PROTOCOL, layoutManager, StandardCharsets.UTF_8, false);
+        EmbeddedChannel channel = new EmbeddedChannel(new MciFrameDecoder(PROTOCOL),
+                new MciMessageCodec(codec, new DefaultMessageLogger(), MciMetrics.NOOP, true));
+
+        assertThatThrownBy(() -> channel.writeInbound(Unpooled.copiedBuffer("0006ECHOhi", StandardCharsets.UTF_8)))
+                .isInstanceOf(ProtocolException.class);
+        assertThat((Object) channel.readInbound()).isNull();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("UDP 코덱은 송신자 주소를 유지")
+    void datagramRoundTrip() {
+        MessageCodec codec = new DefaultMessageCodec(ProtocolConfig.noLengthField(), layoutManager,
+                StandardCharsets.UTF_8, false);
+        EmbeddedChannel channel = new EmbeddedChannel(new MciDatagramCodec(codec, new DefaultMessageLogger()));
+        InetSocketAddress peer = new InetSocketAddress("127.0.0.1", 9999);
+
+        channel.writeOutbound(new DefaultAddressedEnvelope<>(echo("hi"), peer));
+        DatagramPacket packet = channel.readOutbound();
+        assertThat(packet.recipient()).isEqualTo(peer);
+        assertThat(packet.content().toString(StandardCharsets.UTF_8)).isEqualTo("ECHOhi    ");
+
+        channel.writeInbound(new DatagramPacket(packet.content(), null, peer));
+        AddressedEnvelope<Message, InetSocketAddress> received = channel.readInbound();
+        assertThat(received.sender()).isEqualTo(peer);
+        assertThat(received.content().getString("data")).isEqualTo("hi");
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,109 @@
+package springware.mci.common.transport;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FlushBatchingHandler 테스트")
+class FlushBatchingHandlerTest {
+
+    // EmbeddedChannel은 write 시점에 대기 작업을 실행하므로 write와 flush를 분리하여 검증한다
+
+    @Test
+    @DisplayName("읽기 처리 중 응답 flush는 읽기 완료 시 한 번으로 통합")
+    void consolidatesDuringRead() {
+        FlushCounter counter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(counter, new FlushBatchingHandler(64, 0), new EchoHandler());
+
+        channel.writeInbound("a", "b", "c");
+
+        assertThat(counter.flushes).isEqualTo(1);
+        assertThat(channel.outboundMessages()).hasSize(3);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("읽기 처리 밖의 flush는 이벤트 루프 다음 작업에서 한 번으로 통합")
+    void consolidatesOutsideRead() {
+        FlushCounter counter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(counter, new FlushBatchingHandler(64, 0));
+
+        channel.pipeline().write("a");
+        channel.pipeline().write("b");
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+        assertThat(counter.flushes).isZero();
+
+        channel.runPendingTasks();
+        assertThat(counter.flushes).isEqualTo(1);
+        assertThat(channel.outboundMessages()).hasSize(2);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("대기 flush 수가 상한에 도달하면 즉시 flush")
+    void flushesAtMaxPending() {
+        FlushCounter counter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(counter, new FlushBatchingHandler(2, 0));
+
+        channel.pipeline().writeAndFlush("a");
+        channel.pipeline().writeAndFlush("b");
+
+        assertThat(counter.flushes).isEqualTo(1);
+        assertThat(channel.outboundMessages()).hasSize(2);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지정되면 지연 후 flush")
+    void flushesAfterDelay() throws Exception {
+        FlushCounter counter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(counter, new FlushBatchingHandler(64, 500));
+
+        channel.pipeline().writeAndFlush("a");
+        channel.runPendingTasks();
+        assertThat(counter.flushes).isZero();
+
+        TimeUnit.MILLISECONDS.sleep(5);
+        channel.runScheduledPendingTasks();
+        assertThat(counter.flushes).isEqualTo(1);
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("채널 종료 시 대기 중인 데이터 flush")
+    void flushesOnClose() {
+        FlushCounter counter = new FlushCounter();
+        EmbeddedChannel channel = new EmbeddedChannel(counter, new FlushBatchingHandler(64, 1_000_000));
+
+        channel.pipeline().writeAndFlush("a");
+        channel.close();
+
+        assertThat(counter.flushes).isEqualTo(1);
+        channel.finishAndReleaseAll();
+    }
+
+    private static class FlushCounter extends ChannelOutboundHandlerAdapter {
+        private int flushes;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes++;
+            ctx.flush();
+        }
+    }
+
+    private static class EchoHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.writeAndFlush(msg);
+        }
+    }
+}
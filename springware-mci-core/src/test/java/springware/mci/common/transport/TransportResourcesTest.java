@@ -0,0 +1,85 @@
+package springware.mci.common.transport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransportResources Tests")
+class TransportResourcesTest {
+
+    @Test
+    @DisplayName("공유 자원은 참조 중에는 같은 인스턴스를 반환")
+    void sharedInstanceIsReused() {
+        TransportResources first = TransportResources.shared();
+        TransportResources second = TransportResources.shared();
+        try {
+            assertThat(second).isSameAs(first);
+            assertThat(second.eventLoopGroup()).isSameAs(first.eventLoopGroup());
+        } finally {
+            second.release();
+            first.release();
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 참조 해제 시 종료되고, 다시 획득하면 새로 생성")
+    void sharedInstanceRecreatedAfterRelease() {
+        TransportResources first = TransportResources.shared();
+        first.release();
+
+        assertThat(first.isReleased()).isTrue();
+        assertThat(first.eventLoopGroup().isShuttingDown()).isTrue();
+
+        TransportResources second = TransportResources.shared();
+        try {
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.isReleased()).isFalse();
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test
+    @DisplayName("해제된 자원은 retain/release 불가")
+    void retainAfterRelease() {
+        TransportResources resources = TransportResources.create("test", 1);
+        resources.release();
+
+        assertThatThrownBy(resources::retain).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(resources::release).isInstanceOf(IllegalStateException.class);
+        assertThat(resources.refCnt()).isZero();
+    }
+
+    @Test
+    @DisplayName("참조 카운트가 남아 있으면 종료하지 않음")
+    void releaseKeepsResourcesWhileReferenced() {
+        TransportResources resources = TransportResources.create("test", 1);
+        resources.retain();
+
+        resources.release();
+        assertThat(resources.isReleased()).isFalse();
+        assertThat(resources.eventLoopGroup().isShuttingDown()).isFalse();
+
+        resources.release();
+        assertThat(resources.isReleased()).isTrue();
+    }
+
+    @Test
+    @DisplayName("타이머로 지연 작업 실행")
+    void timerRunsTask() throws Exception {
+        TransportResources resources = TransportResources.create("test", 1);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            resources.timer().newTimeout(timeout -> latch.countDown(), 10, TimeUnit.MILLISECONDS);
+
+            assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            resources.release();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package springware.mci.server.dispatch;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import springware.mci.common.concurrent.VirtualThreads;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessageDispatcher 테스트")
+class MessageDispatcherTest {
+
+    private MessageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("INLINE 레인은 호출 스레드에서 실행")
+    void inlineRunsOnCaller() {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.defaultConfig());
+
+        Thread[] executed = new Thread[1];
+        dispatcher.dispatch("HBT1", () -> executed[0] = Thread.currentThread());
+
+        assertThat(executed[0]).isSameAs(Thread.currentThread());
+        assertThat(dispatcher.getMode("HBT1")).isEqualTo(ExecutionMode.INLINE);
+        assertThat(dispatcher.getStats("HBT1").getCompleted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POOL 레인은 별도 스레드에서 실행하고 전용 레인은 코드별로 분리")
+    void poolRunsOffCaller() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(2, 16))
+                .lane("HBT1", LaneConfig.inline())
+                .build());
+
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        dispatcher.dispatch("BAL1", () -> threadName.complete(Thread.currentThread().getName()));
+
+        assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("test-biz").isNotEqualTo(Thread.currentThread().getName());
+        assertThat(dispatcher.getMode("BAL1")).isEqualTo(ExecutionMode.POOL);
+        assertThat(dispatcher.getMode("HBT1")).isEqualTo(ExecutionMode.INLINE);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 보류하고 요청 채널의 읽기를 멈춘 뒤 자리가 나면 재개 (배압)")
+    void throttlesWhenQueueFull() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 1))
+                .lane("HBT1", LaneConfig.inline())
+                .build());
+        EmbeddedChannel busy = new EmbeddedChannel();
+        EmbeddedChannel idle = new EmbeddedChannel();
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch("BAL1", busy, () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 워커 1개가 바쁘고 큐 1칸을 채운 뒤의 요청은 보류 (호출 스레드에서 실행하지 않음)
+        dispatcher.dispatch("BAL1", busy, () -> { });
+        CompletableFuture<Thread> deferred = new CompletableFuture<>();
+        dispatcher.dispatch("BAL1", busy, () -> deferred.complete(Thread.currentThread()));
+
+        assertThat(deferred).isNotDone();
+        assertThat(busy.config().isAutoRead()).isFalse();
+        assertThat(dispatcher.getStats("BAL1").getThrottled()).isEqualTo(1);
+        assertThat(dispatcher.getStats("BAL1").getQueueDepth()).isEqualTo(2);
+
+        // 다른 채널의 INLINE 하트비트는 즉시 처리
+        Thread[] heartbeat = new Thread[1];
+        dispatcher.dispatch("HBT1", idle, () -> heartbeat[0] = Thread.currentThread());
+        assertThat(heartbeat[0]).isSameAs(Thread.currentThread());
+        assertThat(idle.config().isAutoRead()).isTrue();
+
+        release.countDown();
+        assertThat(deferred.get(5, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+        waitUntil(() -> busy.config().isAutoRead());
+        assertThat(busy.config().isAutoRead()).isTrue();
+        assertThat(dispatcher.getStats("BAL1").getPeakQueueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("dispatchOrDrop은 레인이 포화되면 보류하지 않고 폐기 후 throttled로 집계")
+    void dropsWhenSaturated() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 1))
+                .build());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch queued = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+        dispatcher.dispatchOrDrop("BAL1", () -> {
+            started.countDown();
+            await(release);
+        }, dropped::incrementAndGet);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 워커 1개 실행, 큐 1칸 사용, 이후 요청은 폐기
+        dispatcher.dispatchOrDrop("BAL1", queued::countDown, dropped::incrementAndGet);
+        dispatcher.dispatchOrDrop("BAL1", ran::incrementAndGet, dropped::incrementAndGet);
+        dispatcher.dispatchOrDrop("BAL1", ran::incrementAndGet, dropped::incrementAndGet);
+
+        assertThat(dropped.get()).isEqualTo(2);
+        DispatchStats stats = dispatcher.getStats("BAL1");
+        assertThat(stats.getThrottled()).isEqualTo(2);
+        assertThat(stats.getFailed()).isEqualTo(2);
+        assertThat(stats.getQueueDepth()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(queued.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 레인은 가상 스레드에서 실행 (Java 21 미만은 POOL로 대체)")
+    void virtualLane() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.virtualThreads(100));
+
+        CompletableFuture<Thread> executed = new CompletableFuture<>();
+        dispatcher.dispatch("TRF1", () -> executed.complete(Thread.currentThread()));
+
+        Thread thread = executed.get(5, TimeUnit.SECONDS);
+        assertThat(thread).isNotSameAs(Thread.currentThread());
+        if (VirtualThreads.isSupported()) {
+            assertThat(dispatcher.getMode("TRF1")).isEqualTo(ExecutionMode.VIRTUAL);
+            assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+        } else {
+            assertThat(dispatcher.getMode("TRF1")).isEqualTo(ExecutionMode.POOL);
+            assertThat(VirtualThreads.isVirtual(thread)).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 레인 동시 실행 상한 초과 시 보류")
+    void virtualLaneBounded() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.builder().mode(ExecutionMode.VIRTUAL).maxConcurrency(1).queueCapacity(1).threads(1).build())
+                .build());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch("TRF1", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Java 21: 동시 실행 상한 1 초과, Java 17(POOL 대체): 큐 1칸 사용
+        if (!VirtualThreads.isSupported()) {
+            dispatcher.dispatch("TRF1", () -> { });
+        }
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CompletableFuture<Thread> executed = new CompletableFuture<>();
+        dispatcher.dispatch("TRF1", channel, () -> executed.complete(Thread.currentThread()));
+
+        assertThat(executed).isNotDone();
+        assertThat(channel.config().isAutoRead()).isFalse();
+        assertThat(dispatcher.getStats("TRF1").getThrottled()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(executed.get(5, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+        waitUntil(() -> channel.config().isAutoRead());
+        assertThat(channel.config().isAutoRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 시 보류된 작업은 실행하지 않고 실패로 집계")
+    void dropsDeferredOnShutdown() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 1))
+                .build());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch("BAL1", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch("BAL1", () -> { });
+        AtomicInteger ran = new AtomicInteger();
+        dispatcher.dispatch("BAL1", ran::incrementAndGet);
+
+        release.countDown();
+        dispatcher.shutdown(1000);
+
+        DispatchStats stats = dispatcher.getStats("BAL1");
+        assertThat(stats.getCompleted() + stats.getFailed()).isEqualTo(3);
+        assertThat(stats.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("보류/대기 중 폐기되거나 종료 후 거부된 작업은 폐기 작업을 실행")
+    void runsOnDropForDiscardedTasks() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 1))
+                .build());
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+        dispatcher.dispatch("BAL1", null, () -> {
+            started.countDown();
+            await(release);
+        }, dropped::incrementAndGet);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // 대기 큐 1칸 + 보류 1건
+        dispatcher.dispatch("BAL1", null, ran::incrementAndGet, dropped::incrementAndGet);
+        dispatcher.dispatch("BAL1", null, ran::incrementAndGet, dropped::incrementAndGet);
+
+        // 실행 중인 작업이 끝나지 않으면 대기 작업도 시작하지 못하고 폐기
+        dispatcher.shutdown(100);
+        assertThat(ran.get()).isZero();
+        assertThat(dropped.get()).isEqualTo(2);
+
+        dispatcher.dispatch("BAL1", null, ran::incrementAndGet, dropped::incrementAndGet);
+        assertThat(ran.get()).isZero();
+        assertThat(dropped.get()).isEqualTo(3);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("핸들러 예외는 실패 건수로 집계")
+    void failureCounted() throws Exception {
+        dispatcher = new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 16))
+                .build());
+
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(2);
+        dispatcher.dispatch("TRF1", () -> {
+            done.countDown();
+            throw new IllegalStateException("boom");
+        });
+        dispatcher.dispatch("TRF1", () -> {
+            ran.incrementAndGet();
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.shutdown(1000);
+
+        DispatchStats stats = dispatcher.getStats("TRF1");
+        assertThat(ran.get()).isEqualTo(1);
+        assertThat(stats.getSubmitted()).isEqualTo(2);
+        assertThat(stats.getFailed()).isEqualTo(1);
+        assertThat(stats.getCompleted()).isEqualTo(1);
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(dispatcher.getStats()).containsKey("TRF1");
+    }
+
+    @Test
+    @DisplayName("잘못된 레인 설정은 거부")
+    void invalidLane() {
+        assertThatThrownBy(() -> new MessageDispatcher("test", DispatchConfig.builder()
+                .defaultLane(LaneConfig.pool(1, 0))
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 레인이 INLINE일 때만 응답 순서 보장 설정으로 판단")
+    void inlineOnly() {
+        assertThat(DispatchConfig.defaultConfig().isInlineOnly()).isTrue();
+        assertThat(DispatchConfig.virtualThreads(10).isInlineOnly()).isFalse();
+        assertThat(DispatchConfig.builder()
+                .lane("SLOW", LaneConfig.pool(2, 10))
+                .build()
+                .isInlineOnly()).isFalse();
+    }
+}
@@ -4,8 +4,13 @@ import org.junit.jupiter.api.*;
 import springware.mci.common.core.Message;
 import springware.mci.common.core.MessageType;
 import springware.mci.common.core.TransportType;
+import springware.mci.common.metrics.DefaultMetricsRegistry;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.metrics.MetricsSnapshot;
 import springware.mci.server.config.ServerConfig;
 import springware.mci.server.core.MessageContext;
+import springware.mci.server.dispatch.DispatchConfig;
+import springware.mci.server.dispatch.LaneConfig;
 
 import java.io.IOException;
 import java.net.ServerSocket;
@@ -14,6 +19,11 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,10 +34,12 @@ class HttpServerTest {
     private static HttpServer server;
     private static int testPort;
     private static HttpClient httpClient;
+    private static DefaultMetricsRegistry metricsRegistry;
 
     @BeforeAll
     static void setUpAll() throws Exception {
         testPort = findAvailablePort();
+        metricsRegistry = new DefaultMetricsRegistry();
 
         ServerConfig config = ServerConfig.builder()
                 .serverId("test-http-server")
@@ -36,6 +48,7 @@ class HttpServerTest {
                 .corsEnabled(true)
                 .healthCheckEnabled(true)
                 .healthCheckPath("/health")
+                .metricsRegistry(metricsRegistry)
                 .build();
 
         server = new HttpServer(config);
@@ -278,6 +291,109 @@ class HttpServerTest {
         assertThat(response.statusCode()).isEqualTo(405);
     }
 
+    // ==================== Metrics Tests ====================
+
+    @Test
+    @Order(45)
+    @DisplayName("처리한 요청의 메트릭이 헬스 체크 응답에 포함")
+    void healthCheckIncludesMetrics() throws Exception {
+        // given
+        HttpRequest post = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + testPort + "/api/test"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"messageCode\":\"TEST\",\"fields\":{}}"))
+                .build();
+        httpClient.send(post, HttpResponse.BodyHandlers.ofString());
+
+        HttpRequest health = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + testPort + "/health"))
+                .GET()
+                .build();
+
+        // when
+        HttpResponse<String> response = httpClient.send(health, HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertThat(metricsRegistry.metrics("test-http-server").snapshot()
+                .get("TEST", MetricStage.HANDLE).getCount()).isPositive();
+        assertThat(response.body())
+                .contains("\"metrics\":{\"test-http-server\":")
+                .contains("\"TEST\":{\"decode\":")
+                .contains("\"endToEnd\":");
+    }
+
+    @Test
+    @Order(46)
+    @DisplayName("디스패처가 폐기한 요청은 503 응답, 처리 중 요청 수를 되돌리고 실패로 기록")
+    void droppedRequestSettlesInFlight() throws Exception {
+        // given - 워커 1개, 큐 1칸 (세 번째 요청은 보류)
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        ServerConfig config = ServerConfig.builder()
+                .serverId("drop-http-server")
+                .port(findAvailablePort())
+                .transportType(TransportType.HTTP)
+                .metricsRegistry(registry)
+                .dispatchConfig(DispatchConfig.builder()
+                        .defaultLane(LaneConfig.pool(1, 1))
+                        .build())
+                .build();
+        HttpServer dropServer = new HttpServer(config);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        dropServer.registerHandler("TEST", (request, context) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Message.builder().messageCode("TEST_RES").messageType(MessageType.RESPONSE).build();
+        });
+        dropServer.registerEndpoint("/api/test", "TEST");
+        dropServer.start();
+
+        try {
+            HttpRequest post = HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + config.getPort() + "/api/test"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"messageCode\":\"TEST\",\"fields\":{}}"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            responses.add(httpClient.sendAsync(post, HttpResponse.BodyHandlers.ofString()));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            responses.add(httpClient.sendAsync(post, HttpResponse.BodyHandlers.ofString()));
+            responses.add(httpClient.sendAsync(post, HttpResponse.BodyHandlers.ofString()));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (dropServer.getDispatcher().getStats("TEST").getQueueDepth() < 2
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // when - 실행 중인 작업이 끝나지 않은 채 디스패처 종료 (대기/보류 작업 폐기)
+            dropServer.getDispatcher().shutdown(100);
+            release.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                statuses.add(response.get(10, TimeUnit.SECONDS).statusCode());
+            }
+
+            // then
+            deadline = System.currentTimeMillis() + 5000;
+            while (registry.metrics("drop-http-server").snapshot().getInFlight() > 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            MetricsSnapshot snapshot = registry.metrics("drop-http-server").snapshot();
+            assertThat(statuses).filteredOn(status -> status == 503).hasSize(2);
+            assertThat(snapshot.getInFlight()).isZero();
+            assertThat(snapshot.get("TEST", MetricStage.END_TO_END).getErrors()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            dropServer.stop();
+        }
+    }
+
     // ==================== Endpoint Registry Tests ====================
 
     @Test
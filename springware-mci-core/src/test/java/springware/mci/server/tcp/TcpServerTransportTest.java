@@ -0,0 +1,375 @@
+package springware.mci.server.tcp;
+
+import io.netty.channel.epoll.Epoll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import springware.mci.client.config.ClientConfig;
+import springware.mci.client.tcp.TcpClient;
+import springware.mci.common.core.Message;
+import springware.mci.common.core.MessageType;
+import springware.mci.common.exception.TimeoutException;
+import springware.mci.common.layout.DefaultLayoutManager;
+import springware.mci.common.layout.FieldDefinition;
+import springware.mci.common.layout.LayoutManager;
+import springware.mci.common.layout.MessageLayout;
+import springware.mci.common.logging.DefaultMessageLogger;
+import springware.mci.common.metrics.DefaultMetricsRegistry;
+import springware.mci.common.metrics.MetricStage;
+import springware.mci.common.metrics.MetricsRegistry;
+import springware.mci.common.metrics.MetricsSnapshot;
+import springware.mci.common.protocol.LengthFieldType;
+import springware.mci.common.protocol.ProtocolConfig;
+import springware.mci.common.transport.IoTransport;
+import springware.mci.server.config.ServerConfig;
+import springware.mci.server.dispatch.DispatchConfig;
+import springware.mci.server.dispatch.LaneConfig;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("TCP 서버 전송 구현 테스트")
+class TcpServerTransportTest {
+
+    private static final ProtocolConfig PROTOCOL = ProtocolConfig.builder()
+            .lengthFieldLength(4)
+            .lengthFieldType(LengthFieldType.BINARY_BIG_ENDIAN)
+            .initialBytesToStrip(4)
+            .build();
+
+    @ParameterizedTest
+    @EnumSource(value = IoTransport.class, names = {"NIO", "EPOLL"})
+    @DisplayName("전송 구현별 요청/응답 처리")
+    void echoOverTransport(IoTransport ioTransport) throws Exception {
+        assumeTrue(ioTransport != IoTransport.EPOLL || Epoll.isAvailable(), "epoll not available");
+
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .ioTransport(ioTransport)
+                .tcpQuickAck(true)
+                .build();
+
+        assertThat(roundTrip(serverConfig, ioTransport)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("SO_REUSEPORT 사용 시 boss 스레드 수만큼 같은 포트에 바인딩")
+    void reusePortBindsMultipleAcceptors() throws Exception {
+        assumeTrue(Epoll.isAvailable(), "epoll not available");
+
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .ioTransport(IoTransport.EPOLL)
+                .reusePort(true)
+                .bossThreads(2)
+                .build();
+
+        assertThat(roundTrip(serverConfig, IoTransport.NIO)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("플러시 통합 사용 시 요청/응답 처리")
+    void flushConsolidation() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .flushConsolidation(true)
+                .flushMaxDelayMicros(50)
+                .build();
+
+        assertThat(roundTrip(serverConfig, IoTransport.AUTO, true)).isEqualTo("hello");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = LengthFieldType.class, names = {"NUMERIC_STRING", "BINARY_LITTLE_ENDIAN", "BCD"})
+    @DisplayName("길이 필드 타입별 요청/응답 처리 (파이프라인 코덱)")
+    void echoOverLengthFieldType(LengthFieldType lengthFieldType) throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(ProtocolConfig.builder()
+                        .lengthFieldLength(4)
+                        .lengthFieldType(lengthFieldType)
+                        .build())
+                .build();
+
+        assertThat(roundTrip(serverConfig, IoTransport.AUTO)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("메트릭 레지스트리 설정 시 서버/클라이언트 구간별 지연시간 기록")
+    void recordsMetrics() throws Exception {
+        DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+        ServerConfig serverConfig = ServerConfig.builder()
+                .serverId("echo-server")
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .metricsRegistry(registry)
+                .build();
+
+        assertThat(roundTrip(serverConfig, IoTransport.AUTO, false, registry)).isEqualTo("hello");
+
+        MetricsSnapshot server = registry.snapshot().get("echo-server");
+        assertThat(server.getInFlight()).isZero();
+        assertThat(server.getPeakInFlight()).isEqualTo(1);
+        for (MetricStage stage : new MetricStage[]{MetricStage.DECODE, MetricStage.HANDLE,
+                MetricStage.ENCODE, MetricStage.END_TO_END}) {
+            assertThat(server.get("ECH1", stage).getCount()).as(stage.name()).isEqualTo(1);
+        }
+
+        MetricsSnapshot client = registry.snapshot().get("echo-client");
+        assertThat(client.getInFlight()).isZero();
+        assertThat(client.get("ECH1", MetricStage.ENCODE).getCount()).isEqualTo(1);
+        assertThat(client.get("ECH1", MetricStage.DECODE).getCount()).isEqualTo(1);
+        assertThat(client.get("ECH1", MetricStage.END_TO_END).getCount()).isEqualTo(1);
+        assertThat(client.get("ECH1", MetricStage.HANDLE)).isNull();
+    }
+
+    @Test
+    @DisplayName("레인이 포화되어도 같은 이벤트 루프의 다른 연결 INLINE 하트비트는 처리")
+    void saturatedLaneDoesNotBlockEventLoop() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .workerThreads(1)
+                .dispatchConfig(DispatchConfig.builder()
+                        .defaultLane(LaneConfig.pool(1, 1))
+                        .lane("HBT1", LaneConfig.inline())
+                        .build())
+                .build();
+        LayoutManager layoutManager = echoLayouts();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handled = new AtomicInteger();
+        TcpServer server = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        server.registerHandler("ECH1", (request, context) -> {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+            return null;
+        });
+        server.registerHandler("HBT1", (request, context) -> echoResponse("HBT1", request));
+        server.start();
+
+        try (TcpClient busy = new TcpClient(echoClientConfig(serverConfig), layoutManager, new DefaultMessageLogger());
+             TcpClient heartbeat = new TcpClient(echoClientConfig(serverConfig), layoutManager, new DefaultMessageLogger())) {
+            busy.connect();
+            heartbeat.connect();
+
+            // 워커 1개 실행, 큐 1칸, 나머지는 보류 (busy 연결의 읽기 중단)
+            for (int i = 0; i < 3; i++) {
+                busy.sendOneWay(echoRequest("ECH1", "slow"));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(heartbeat.send(echoRequest("HBT1", "ping"), 2000).getString("data")).isEqualTo("ping");
+            assertThat(handled.get()).isZero();
+
+            release.countDown();
+            waitUntil(() -> handled.get() == 3);
+            assertThat(handled.get()).isEqualTo(3);
+        } finally {
+            release.countDown();
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("서버 재시작 후 클라이언트 비동기 재연결")
+    void reconnectsAfterServerRestart() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .build();
+        LayoutManager layoutManager = echoLayouts();
+        TcpServer server = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        server.registerHandler("ECH1", (request, context) -> echoResponse("ECH1", request));
+        server.start();
+
+        ClientConfig clientConfig = ClientConfig.builder()
+                .host("127.0.0.1")
+                .port(serverConfig.getPort())
+                .protocolConfig(PROTOCOL)
+                .retryEnabled(false)
+                .reconnectAttempts(50)
+                .reconnectDelay(50)
+                .build();
+        TcpServer restarted = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        restarted.registerHandler("ECH1", (request, context) -> echoResponse("ECH1", request));
+        try (TcpClient client = new TcpClient(clientConfig, layoutManager, new DefaultMessageLogger())) {
+            client.connect();
+            server.stop();
+            waitUntil(() -> !client.isConnected());
+
+            restarted.start();
+            waitUntil(client::isConnected);
+
+            assertThat(client.isConnected()).isTrue();
+            assertThat(client.send(echoRequest("ECH1", "again"), 5000).getString("data")).isEqualTo("again");
+        } finally {
+            restarted.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("FIFO 매칭 응답 타임아웃 시 연결을 끊어 늦은 응답이 다음 요청에 매칭되지 않음")
+    void fifoTimeoutClosesConnection() throws Exception {
+        ServerConfig serverConfig = ServerConfig.builder()
+                .port(findAvailablePort())
+                .host("127.0.0.1")
+                .protocolConfig(PROTOCOL)
+                .build();
+        LayoutManager layoutManager = echoLayouts();
+        TcpServer server = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        server.registerHandler("ECH1", (request, context) -> {
+            if ("slow".equals(request.getString("data"))) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return echoResponse("ECH1", request);
+        });
+        server.start();
+
+        ClientConfig clientConfig = ClientConfig.builder()
+                .host("127.0.0.1")
+                .port(serverConfig.getPort())
+                .protocolConfig(PROTOCOL)
+                .retryEnabled(false)
+                .reconnectAttempts(50)
+                .reconnectDelay(100)
+                .build();
+        try (TcpClient client = new TcpClient(clientConfig, layoutManager, new DefaultMessageLogger())) {
+            client.connect();
+
+            assertThatThrownBy(() -> client.sendAsync(echoRequest("ECH1", "slow"), 100).join())
+                    .hasCauseInstanceOf(TimeoutException.class);
+            waitUntil(() -> !client.isConnected());
+            assertThat(client.isConnected()).isFalse();
+
+            waitUntil(client::isConnected);
+            assertThat(client.send(echoRequest("ECH1", "fast"), 2000).getString("data")).isEqualTo("fast");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("AUTO는 epoll 사용 가능 여부에 따라 결정")
+    void autoResolves() {
+        IoTransport expected = Epoll.isAvailable() ? IoTransport.EPOLL : IoTransport.NIO;
+
+        assertThat(IoTransport.AUTO.resolve()).isEqualTo(expected);
+        assertThat(IoTransport.NIO.resolve()).isEqualTo(IoTransport.NIO);
+        assertThat(IoTransport.NIO.isNative()).isFalse();
+    }
+
+    private String roundTrip(ServerConfig serverConfig, IoTransport clientTransport) {
+        return roundTrip(serverConfig, clientTransport, false);
+    }
+
+    private String roundTrip(ServerConfig serverConfig, IoTransport clientTransport, boolean clientFlushConsolidation) {
+        return roundTrip(serverConfig, clientTransport, clientFlushConsolidation, null);
+    }
+
+    private String roundTrip(ServerConfig serverConfig, IoTransport clientTransport, boolean clientFlushConsolidation,
+                             MetricsRegistry clientMetrics) {
+        LayoutManager layoutManager = echoLayouts();
+
+        TcpServer server = new TcpServer(serverConfig, layoutManager, new DefaultMessageLogger());
+        server.registerHandler("ECH1", (request, context) -> echoResponse("ECH1", request));
+        server.start();
+
+        ClientConfig clientConfig = ClientConfig.builder()
+                .clientId("echo-client")
+                .host("127.0.0.1")
+                .port(serverConfig.getPort())
+                .protocolConfig(serverConfig.getProtocolConfig())
+                .ioTransport(clientTransport)
+                .flushConsolidation(clientFlushConsolidation)
+                .retryEnabled(false)
+                .metricsRegistry(clientMetrics)
+                .build();
+
+        try (TcpClient client = new TcpClient(clientConfig, layoutManager, new DefaultMessageLogger())) {
+            client.connect();
+            return client.send(echoRequest("ECH1", "hello"), 5000).getString("data");
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static LayoutManager echoLayouts() {
+        LayoutManager layoutManager = new DefaultLayoutManager();
+        for (String code : new String[]{"ECH1", "HBT1"}) {
+            layoutManager.registerLayout(MessageLayout.builder(code)
+                    .field(FieldDefinition.string("msgCode", 4))
+                    .field(FieldDefinition.string("data", 10))
+                    .build());
+        }
+        return layoutManager;
+    }
+
+    private static ClientConfig echoClientConfig(ServerConfig serverConfig) {
+        return ClientConfig.builder()
+                .host("127.0.0.1")
+                .port(serverConfig.getPort())
+                .protocolConfig(serverConfig.getProtocolConfig())
+                .retryEnabled(false)
+                .build();
+    }
+
+    private static Message echoRequest(String code, String data) {
+        Message request = Message.builder().messageCode(code).build();
+        request.setField("msgCode", code);
+        request.setField("data", data);
+        return request;
+    }
+
+    private static Message echoResponse(String code, Message request) {
+        Message response = Message.builder()
+                .messageCode(code)
+                .messageType(MessageType.RESPONSE)
+                .build();
+        response.setField("msgCode", code);
+        response.setField("data", request.getString("data"));
+        return response;
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}